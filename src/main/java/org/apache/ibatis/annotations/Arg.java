@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2023 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -105,4 +105,15 @@ public @interface Arg {
    * @since 3.5.0
    */
   String columnPrefix() default "";
+
+  /**
+   * Returns whether repeated values of the column are replaced by a single instance within a result set.
+   * <p>
+   * Applies to immutable values such as strings, numbers and {@code java.time} values.
+   *
+   * @return {@code true} if values are deduplicated; {@code false} if otherwise
+   *
+   * @since 3.6.0
+   */
+  boolean deduplicate() default false;
 }
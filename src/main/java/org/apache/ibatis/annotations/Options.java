@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2024 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -133,6 +133,26 @@ public @interface Options {
    */
   String resultSets() default "";
 
+  /**
+   * Returns whether rows are mapped to objects in parallel while the result set is being read.
+   * <p>
+   * Applies to result maps without nested result maps, nested queries or discriminators.
+   *
+   * @return {@code true} if rows are mapped in parallel; {@code false} if otherwise
+   *
+   * @since 3.6.0
+   */
+  boolean parallelMapping() default false;
+
+  /**
+   * Returns the estimated number of bytes that the results of a list query may hold in memory.
+   *
+   * @return the result memory budget in bytes, {@code 0} if unlimited; {@code -1} to use the global setting
+   *
+   * @since 3.6.0
+   */
+  long resultMemoryBudget() default -1;
+
   /**
    * @return A database id that correspond this options
    *
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2025 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -23,10 +23,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Flow;
 
 import org.apache.ibatis.annotations.Flush;
 import org.apache.ibatis.annotations.MapKey;
 import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.executor.result.ColumnarResult;
 import org.apache.ibatis.mapping.MappedStatement;
 import org.apache.ibatis.mapping.SqlCommandType;
 import org.apache.ibatis.mapping.StatementType;
@@ -36,6 +38,7 @@ import org.apache.ibatis.reflection.TypeParameterResolver;
 import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.ResultHandler;
 import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.session.RowHandler;
 import org.apache.ibatis.session.SqlSession;
 
 /**
@@ -76,12 +79,19 @@ public class MapperMethod {
         if (method.returnsVoid() && method.hasResultHandler()) {
           executeWithResultHandler(sqlSession, args);
           result = null;
+        } else if (method.returnsVoid() && method.hasRowHandler()) {
+          executeWithRowHandler(sqlSession, args);
+          result = null;
+        } else if (method.returnsColumns()) {
+          result = executeForColumns(sqlSession, args);
         } else if (method.returnsMany()) {
           result = executeForMany(sqlSession, args);
         } else if (method.returnsMap()) {
           result = executeForMap(sqlSession, args);
         } else if (method.returnsCursor()) {
           result = executeForCursor(sqlSession, args);
+        } else if (method.returnsPublisher()) {
+          result = executeForPublisher(sqlSession, args);
         } else {
           Object param = method.convertArgsToSqlCommandParam(args);
           result = sqlSession.selectOne(command.getName(), param);
@@ -137,6 +147,12 @@ public class MapperMethod {
     }
   }
 
+  private void executeWithRowHandler(SqlSession sqlSession, Object[] args) {
+    Object param = method.convertArgsToSqlCommandParam(args);
+    RowBounds rowBounds = method.hasRowBounds() ? method.extractRowBounds(args) : RowBounds.DEFAULT;
+    sqlSession.selectRows(command.getName(), param, rowBounds, method.extractRowHandler(args));
+  }
+
   private <E> Object executeForMany(SqlSession sqlSession, Object[] args) {
     List<E> result;
     Object param = method.convertArgsToSqlCommandParam(args);
@@ -156,6 +172,12 @@ public class MapperMethod {
     return result;
   }
 
+  private ColumnarResult executeForColumns(SqlSession sqlSession, Object[] args) {
+    Object param = method.convertArgsToSqlCommandParam(args);
+    RowBounds rowBounds = method.hasRowBounds() ? method.extractRowBounds(args) : RowBounds.DEFAULT;
+    return sqlSession.selectColumns(command.getName(), param, rowBounds);
+  }
+
   private <T> Cursor<T> executeForCursor(SqlSession sqlSession, Object[] args) {
     Cursor<T> result;
     Object param = method.convertArgsToSqlCommandParam(args);
@@ -168,6 +190,18 @@ public class MapperMethod {
     return result;
   }
 
+  private <T> Flow.Publisher<T> executeForPublisher(SqlSession sqlSession, Object[] args) {
+    Flow.Publisher<T> result;
+    Object param = method.convertArgsToSqlCommandParam(args);
+    if (method.hasRowBounds()) {
+      RowBounds rowBounds = method.extractRowBounds(args);
+      result = sqlSession.selectPublisher(command.getName(), param, rowBounds);
+    } else {
+      result = sqlSession.selectPublisher(command.getName(), param);
+    }
+    return result;
+  }
+
   private <E> Object convertToDeclaredCollection(Configuration config, List<E> list) {
     Object collection = config.getObjectFactory().create(method.getReturnType());
     MetaObject metaObject = config.newMetaObject(collection);
@@ -274,10 +308,13 @@ public class MapperMethod {
     private final boolean returnsMap;
     private final boolean returnsVoid;
     private final boolean returnsCursor;
+    private final boolean returnsPublisher;
+    private final boolean returnsColumns;
     private final boolean returnsOptional;
     private final Class<?> returnType;
     private final String mapKey;
     private final Integer resultHandlerIndex;
+    private final Integer rowHandlerIndex;
     private final Integer rowBoundsIndex;
     private final ParamNameResolver paramNameResolver;
 
@@ -293,11 +330,14 @@ public class MapperMethod {
       this.returnsVoid = void.class.equals(this.returnType);
       this.returnsMany = configuration.getObjectFactory().isCollection(this.returnType) || this.returnType.isArray();
       this.returnsCursor = Cursor.class.equals(this.returnType);
+      this.returnsPublisher = Flow.Publisher.class.equals(this.returnType);
+      this.returnsColumns = ColumnarResult.class.equals(this.returnType);
       this.returnsOptional = Optional.class.equals(this.returnType);
       this.mapKey = getMapKey(method);
       this.returnsMap = this.mapKey != null;
       this.rowBoundsIndex = getUniqueParamIndex(method, RowBounds.class);
       this.resultHandlerIndex = getUniqueParamIndex(method, ResultHandler.class);
+      this.rowHandlerIndex = getUniqueParamIndex(method, RowHandler.class);
       this.paramNameResolver = new ParamNameResolver(configuration, method, mapperInterface);
     }
 
@@ -321,6 +361,21 @@ public class MapperMethod {
       return hasResultHandler() ? (ResultHandler) args[resultHandlerIndex] : null;
     }
 
+    /**
+     * return whether the method has a {@link RowHandler} parameter.
+     *
+     * @return return {@code true}, if the method has a {@link RowHandler} parameter
+     *
+     * @since 3.6.0
+     */
+    public boolean hasRowHandler() {
+      return rowHandlerIndex != null;
+    }
+
+    public RowHandler extractRowHandler(Object[] args) {
+      return hasRowHandler() ? (RowHandler) args[rowHandlerIndex] : null;
+    }
+
     public Class<?> getReturnType() {
       return returnType;
     }
@@ -341,6 +396,28 @@ public class MapperMethod {
       return returnsCursor;
     }
 
+    /**
+     * return whether return type is {@code java.util.concurrent.Flow.Publisher}.
+     *
+     * @return return {@code true}, if return type is {@code java.util.concurrent.Flow.Publisher}
+     *
+     * @since 3.6.0
+     */
+    public boolean returnsPublisher() {
+      return returnsPublisher;
+    }
+
+    /**
+     * return whether return type is {@link ColumnarResult}.
+     *
+     * @return return {@code true}, if the rows can be collected column by column
+     *
+     * @since 3.6.0
+     */
+    public boolean returnsColumns() {
+      return returnsColumns;
+    }
+
     /**
      * return whether return type is {@code java.util.Optional}.
      *
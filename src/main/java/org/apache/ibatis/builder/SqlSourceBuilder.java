@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2025 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -39,6 +39,9 @@ public class SqlSourceBuilder {
   }
 
   public static String removeExtraWhitespaces(String original) {
+    if (!hasExtraWhitespaces(original)) {
+      return original;
+    }
     StringTokenizer tokenizer = new StringTokenizer(original);
     StringBuilder builder = new StringBuilder();
     boolean hasMoreTokens = tokenizer.hasMoreTokens();
@@ -52,4 +55,16 @@ public class SqlSourceBuilder {
     return builder.toString();
   }
 
+  private static boolean hasExtraWhitespaces(String sql) {
+    char previous = ' ';
+    for (int i = 0; i < sql.length(); i++) {
+      char c = sql.charAt(i);
+      if (c == '\t' || c == '\n' || c == '\r' || c == '\f' || c == ' ' && previous == ' ') {
+        return true;
+      }
+      previous = c;
+    }
+    return previous == ' ';
+  }
+
 }
@@ -0,0 +1,78 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.builder.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The annotation that declares the SQL returned by an SQL provider method as cacheable, so that the provider method is
+ * not invoked and its SQL not parsed again for each execution.
+ * <p>
+ * Without a {@link #key()}, the SQL is cached per class of the parameter object. Otherwise the key method is invoked
+ * with the same arguments as the provider method, and the SQL is cached per class of the parameter object and key. A
+ * {@code null} key disables the cache for that execution.
+ * <p>
+ * <b>How to use:</b>
+ *
+ * <pre>{@code
+ * public interface UserMapper {
+ *
+ *   @SelectProvider(type = SqlProvider.class, method = "selectByName")
+ *   List<User> selectByName(String name);
+ *
+ *   public static class SqlProvider {
+ *     @CacheableSql(key = "selectByNameKey")
+ *     public static String selectByName(String name) {
+ *       return new SQL().SELECT("id, name").FROM("users").WHERE(name == null ? "name IS NULL" : "name = #{name}")
+ *           .toString();
+ *     }
+ *
+ *     public static Object selectByNameKey(String name) {
+ *       return name == null;
+ *     }
+ *   }
+ *
+ * }
+ * }</pre>
+ *
+ * @since 3.6.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface CacheableSql {
+
+  /**
+   * Returns the name of the method that computes the key of the SQL. The method is declared by the SQL provider type
+   * and has the same parameter types as the provider method.
+   *
+   * @return the name of the key method, or an empty string to cache the SQL per class of the parameter object only
+   */
+  String key() default "";
+
+  /**
+   * Returns the maximum number of SQL sources cached for the provider method. The least recently used one is evicted
+   * beyond it.
+   *
+   * @return the maximum number of SQL sources
+   */
+  int size() default 64;
+
+}
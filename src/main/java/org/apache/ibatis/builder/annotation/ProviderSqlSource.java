@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2025 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -16,9 +16,14 @@
 package org.apache.ibatis.builder.annotation;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.apache.ibatis.annotations.Lang;
@@ -44,6 +49,12 @@ public class ProviderSqlSource implements SqlSource {
   private final Class<?>[] providerMethodParameterTypes;
   private final ProviderContext providerContext;
   private final Integer providerContextIndex;
+  private final MethodHandle providerMethodHandle;
+  // the parameter types of the provider method, primitive types being boxed
+  private final Class<?>[] providerMethodArgumentTypes;
+  private final Method keyMethod;
+  private final MethodHandle keyMethodHandle;
+  private final Map<Object, SqlSource> sqlSourceCache;
 
   /**
    * This constructor will remove at a future version.
@@ -158,6 +169,14 @@ public class ProviderSqlSource implements SqlSource {
     }
     this.providerContext = candidateProviderContext;
     this.providerContextIndex = candidateProviderContextIndex;
+    this.providerMethodHandle = unreflect(this.providerMethod);
+    this.providerMethodArgumentTypes = Arrays.stream(this.providerMethodParameterTypes)
+        .map(type -> MethodType.methodType(type).wrap().returnType()).toArray(Class<?>[]::new);
+
+    CacheableSql cacheableSql = this.providerMethod.getAnnotation(CacheableSql.class);
+    this.keyMethod = cacheableSql == null ? null : getKeyMethod(cacheableSql);
+    this.keyMethodHandle = this.keyMethod == null ? null : unreflect(this.keyMethod);
+    this.sqlSourceCache = cacheableSql == null ? null : newSqlSourceCache(cacheableSql.size());
   }
 
   @Override
@@ -168,32 +187,32 @@ public class ProviderSqlSource implements SqlSource {
 
   private SqlSource createSqlSource(Object parameterObject) {
     try {
-      String sql;
+      Object[] args;
       if (parameterObject instanceof Map) {
         int bindParameterCount = providerMethodParameterTypes.length - (providerContext == null ? 0 : 1);
         if (bindParameterCount == 1
             && providerMethodParameterTypes[Integer.valueOf(0).equals(providerContextIndex) ? 1 : 0]
                 .isAssignableFrom(parameterObject.getClass())) {
-          sql = invokeProviderMethod(extractProviderMethodArguments(parameterObject));
+          args = extractProviderMethodArguments(parameterObject);
         } else {
           @SuppressWarnings("unchecked")
           Map<String, Object> params = (Map<String, Object>) parameterObject;
-          sql = invokeProviderMethod(extractProviderMethodArguments(params, paramNameResolver.getNames()));
+          args = extractProviderMethodArguments(params, paramNameResolver.getNames());
         }
       } else {
         switch (providerMethodParameterTypes.length) {
           case 0:
-            sql = invokeProviderMethod();
+            args = new Object[0];
             break;
           case 1:
             if (providerContext == null) {
-              sql = invokeProviderMethod(parameterObject);
+              args = new Object[] { parameterObject };
             } else {
-              sql = invokeProviderMethod(providerContext);
+              args = new Object[] { providerContext };
             }
             break;
           case 2:
-            sql = invokeProviderMethod(extractProviderMethodArguments(parameterObject));
+            args = extractProviderMethodArguments(parameterObject);
             break;
           default:
             throw new BuilderException("Cannot invoke SqlProvider method '" + providerMethod
@@ -202,7 +221,23 @@ public class ProviderSqlSource implements SqlSource {
         }
       }
       Class<?> parameterType = parameterObject == null ? Object.class : parameterObject.getClass();
-      return languageDriver.createSqlSource(configuration, sql, parameterType, paramNameResolver);
+      Object cacheKey = getCacheKey(parameterType, args);
+      if (cacheKey == null) {
+        return languageDriver.createSqlSource(configuration, invokeProviderMethod(args), parameterType,
+            paramNameResolver);
+      }
+      synchronized (sqlSourceCache) {
+        SqlSource sqlSource = sqlSourceCache.get(cacheKey);
+        if (sqlSource != null) {
+          return sqlSource;
+        }
+      }
+      SqlSource sqlSource = languageDriver.createSqlSource(configuration, invokeProviderMethod(args), parameterType,
+          paramNameResolver);
+      synchronized (sqlSourceCache) {
+        sqlSourceCache.put(cacheKey, sqlSource);
+      }
+      return sqlSource;
     } catch (BuilderException e) {
       throw e;
     } catch (Exception e) {
@@ -211,6 +246,20 @@ public class ProviderSqlSource implements SqlSource {
     }
   }
 
+  /**
+   * Returns the key of the SQL source in the cache, {@code null} if it must not be cached.
+   */
+  private Object getCacheKey(Class<?> parameterType, Object[] args) throws Exception {
+    if (sqlSourceCache == null) {
+      return null;
+    }
+    if (keyMethod == null) {
+      return parameterType;
+    }
+    Object key = invoke(keyMethod, keyMethodHandle, args);
+    return key == null ? null : Arrays.asList(parameterType, key);
+  }
+
   private Throwable extractRootCause(Exception e) {
     Throwable cause = e;
     while (cause.getCause() != null) {
@@ -241,13 +290,85 @@ public class ProviderSqlSource implements SqlSource {
     return args;
   }
 
-  private String invokeProviderMethod(Object... args) throws Exception {
+  private String invokeProviderMethod(Object[] args) throws Exception {
+    CharSequence sql = (CharSequence) invoke(providerMethod, providerMethodHandle, args);
+    return sql != null ? sql.toString() : null;
+  }
+
+  private Object invoke(Method method, MethodHandle methodHandle, Object[] args) throws Exception {
     Object targetObject = null;
-    if (!Modifier.isStatic(providerMethod.getModifiers())) {
+    if (!Modifier.isStatic(method.getModifiers())) {
       targetObject = providerType.getDeclaredConstructor().newInstance();
     }
-    CharSequence sql = (CharSequence) providerMethod.invoke(targetObject, args);
-    return sql != null ? sql.toString() : null;
+    if (methodHandle == null || !isApplicable(args)) {
+      // reports invalid arguments as before
+      return method.invoke(targetObject, args);
+    }
+    try {
+      return (Object) methodHandle.invokeExact(targetObject, args);
+    } catch (Throwable t) {
+      throw new InvocationTargetException(t);
+    }
+  }
+
+  private boolean isApplicable(Object[] args) {
+    if (args.length != providerMethodArgumentTypes.length) {
+      return false;
+    }
+    for (int i = 0; i < args.length; i++) {
+      if (args[i] == null ? providerMethodParameterTypes[i].isPrimitive()
+          : !providerMethodArgumentTypes[i].isInstance(args[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns a method handle invoked with the target object, ignored by a static method, and the arguments as an array,
+   * {@code null} if the method is not accessible to a method handle.
+   */
+  private static MethodHandle unreflect(Method method) {
+    MethodHandle methodHandle;
+    try {
+      methodHandle = MethodHandles.publicLookup().unreflect(method).asFixedArity();
+    } catch (IllegalAccessException e) {
+      return null;
+    }
+    if (Modifier.isStatic(method.getModifiers())) {
+      methodHandle = MethodHandles.dropArguments(methodHandle, 0, Object.class);
+    }
+    int parameterCount = method.getParameterCount();
+    return methodHandle.asType(MethodType.genericMethodType(parameterCount + 1)).asSpreader(Object[].class,
+        parameterCount);
+  }
+
+  private Method getKeyMethod(CacheableSql cacheableSql) {
+    if (cacheableSql.size() <= 0) {
+      throw new BuilderException("Error creating SqlSource for SqlProvider. The cache size of SqlProvider method ("
+          + providerType.getName() + "." + providerMethod.getName() + ") must be positive.");
+    }
+    if (cacheableSql.key().isEmpty()) {
+      return null;
+    }
+    try {
+      return providerType.getMethod(cacheableSql.key(), providerMethodParameterTypes);
+    } catch (NoSuchMethodException e) {
+      throw new BuilderException("Error creating SqlSource for SqlProvider. Key method '" + cacheableSql.key()
+          + "' with the parameter types of SqlProvider method (" + providerType.getName() + "."
+          + providerMethod.getName() + ") not found in SqlProvider '" + providerType.getName() + "'.", e);
+    }
+  }
+
+  private static Map<Object, SqlSource> newSqlSourceCache(int maxSize) {
+    return new LinkedHashMap<>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Object, SqlSource> eldest) {
+        return size() > maxSize;
+      }
+    };
   }
 
   private Class<?> getProviderType(Configuration configuration, Annotation providerAnnotation, Method mapperMethod)
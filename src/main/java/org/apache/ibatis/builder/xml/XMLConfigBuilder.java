@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2024 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -44,6 +44,8 @@ import org.apache.ibatis.session.AutoMappingUnknownColumnBehavior;
 import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.LocalCacheScope;
+import org.apache.ibatis.session.PaginationDialect;
+import org.apache.ibatis.session.ResultBudgetExceededBehavior;
 import org.apache.ibatis.transaction.TransactionFactory;
 import org.apache.ibatis.type.JdbcType;
 
@@ -272,6 +274,16 @@ public class XMLConfigBuilder extends BaseBuilder {
     configuration.setDefaultExecutorType(ExecutorType.valueOf(props.getProperty("defaultExecutorType", "SIMPLE")));
     configuration.setDefaultStatementTimeout(integerValueOf(props.getProperty("defaultStatementTimeout"), null));
     configuration.setDefaultFetchSize(integerValueOf(props.getProperty("defaultFetchSize"), null));
+    configuration.setCursorPrefetchSize(integerValueOf(props.getProperty("cursorPrefetchSize"), null));
+    configuration.setResultOrderedCheckSize(integerValueOf(props.getProperty("resultOrderedCheckSize"), null));
+    configuration
+        .setParameterMetaDataCacheSize(integerValueOf(props.getProperty("parameterMetaDataCacheSize"), 256));
+    configuration.setRenderedSqlCacheSize(integerValueOf(props.getProperty("renderedSqlCacheSize"), 64));
+    configuration.setResultSetLayoutCacheSize(integerValueOf(props.getProperty("resultSetLayoutCacheSize"), 256));
+    configuration.setResultMemoryBudget(longValueOf(props.getProperty("resultMemoryBudget"), null));
+    configuration.setResultBudgetExceededBehavior(
+        ResultBudgetExceededBehavior.valueOf(props.getProperty("resultBudgetExceededBehavior", "FAIL")));
+    configuration.setPaginationDialect(PaginationDialect.valueOf(props.getProperty("paginationDialect", "NONE")));
     configuration.setDefaultResultSetType(resolveResultSetType(props.getProperty("defaultResultSetType")));
     configuration.setMapUnderscoreToCamelCase(booleanValueOf(props.getProperty("mapUnderscoreToCamelCase"), false));
     configuration.setSafeRowBoundsEnabled(booleanValueOf(props.getProperty("safeRowBoundsEnabled"), false));
@@ -292,6 +304,9 @@ public class XMLConfigBuilder extends BaseBuilder {
         booleanValueOf(props.getProperty("argNameBasedConstructorAutoMapping"), false));
     configuration.setDefaultSqlProviderType(resolveClass(props.getProperty("defaultSqlProviderType")));
     configuration.setNullableOnForEach(booleanValueOf(props.getProperty("nullableOnForEach"), false));
+    configuration.setUseCompiledRowMappers(booleanValueOf(props.getProperty("useCompiledRowMappers"), false));
+    configuration
+        .setDeduplicateAutoMappedValues(booleanValueOf(props.getProperty("deduplicateAutoMappedValues"), false));
   }
 
   private void environmentsElement(XNode context) throws Exception {
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2025 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -15,6 +15,11 @@
  */
 package org.apache.ibatis.cursor;
 
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * Cursor contract to handle fetching items lazily using an Iterator. Cursors are a perfect fit to handle millions of
  * items queries that would not normally fit in memory. If you use collections in resultMaps then cursor SQL queries
@@ -41,6 +46,31 @@ public interface Cursor<T> extends AutoCloseable, Iterable<T> {
    */
   int getCurrentIndex();
 
+  /**
+   * Creates a {@link Spliterator} over the cursor items. The spliterator is ordered and its size is unknown because
+   * items are fetched lazily.
+   *
+   * @return a spliterator over the cursor items
+   *
+   * @since 3.6.0
+   */
+  @Override
+  default Spliterator<T> spliterator() {
+    return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED);
+  }
+
+  /**
+   * Returns a sequential {@link Stream} over the cursor items. The iterator is retrieved when the terminal operation
+   * starts, and closing the stream closes the cursor.
+   *
+   * @return a sequential stream over the cursor items
+   *
+   * @since 3.6.0
+   */
+  default Stream<T> stream() {
+    return StreamSupport.stream(this::spliterator, Spliterator.ORDERED, false).onClose(this::close);
+  }
+
   /**
    * Closes the cursor.
    */
@@ -0,0 +1,186 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.cursor.defaults;
+
+import java.util.Iterator;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.apache.ibatis.cursor.Cursor;
+
+/**
+ * A {@link Flow.Publisher} that emits the items of a {@link Cursor}. The query is executed when the subscriber requests
+ * the first item and rows are mapped only as they are requested, on the thread that calls
+ * {@link Flow.Subscription#request(long)}. The cursor, and therefore the result set and the statement, is closed when
+ * all items have been emitted, when an error occurs, when the subscription is cancelled or when the subscriber throws
+ * from {@link Flow.Subscriber#onNext(Object)}.
+ * <p>
+ * This publisher supports a single subscriber. As the cursor is bound to the session that opened it, the session must
+ * not be used concurrently while the subscriber requests items.
+ *
+ * @since 3.6.0
+ */
+public class CursorPublisher<T> implements Flow.Publisher<T> {
+
+  private final Supplier<Cursor<T>> cursorSupplier;
+  private final AtomicBoolean subscribed = new AtomicBoolean();
+
+  public CursorPublisher(Supplier<Cursor<T>> cursorSupplier) {
+    this.cursorSupplier = cursorSupplier;
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super T> subscriber) {
+    if (subscriber == null) {
+      throw new NullPointerException("The subscriber must not be null");
+    }
+    if (!subscribed.compareAndSet(false, true)) {
+      subscriber.onSubscribe(new Flow.Subscription() {
+        @Override
+        public void request(long n) {
+          // ignore
+        }
+
+        @Override
+        public void cancel() {
+          // ignore
+        }
+      });
+      subscriber.onError(new IllegalStateException("This publisher supports only one subscriber"));
+      return;
+    }
+    CursorSubscription subscription = new CursorSubscription(subscriber);
+    subscriber.onSubscribe(subscription);
+  }
+
+  private class CursorSubscription implements Flow.Subscription {
+
+    private final Flow.Subscriber<? super T> subscriber;
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+    private volatile boolean cancelled;
+    private volatile Throwable invalidRequest;
+
+    // only accessed by the thread that holds wip
+    private Cursor<T> cursor;
+    private Iterator<T> iterator;
+    private boolean done;
+
+    CursorSubscription(Flow.Subscriber<? super T> subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    @Override
+    public void request(long n) {
+      if (n <= 0) {
+        invalidRequest = new IllegalArgumentException(
+            "The number of requested items must be positive but was " + n + " (Reactive Streams rule 3.9)");
+      } else {
+        requested.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+      }
+      drain();
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+      drain();
+    }
+
+    private void drain() {
+      if (wip.getAndIncrement() != 0) {
+        // another call is emitting, it will see the new state
+        return;
+      }
+      int missed = 1;
+      do {
+        emit();
+        missed = wip.addAndGet(-missed);
+      } while (missed != 0);
+    }
+
+    private void emit() {
+      if (done) {
+        return;
+      }
+      if (cancelled) {
+        finish();
+        return;
+      }
+      if (invalidRequest != null) {
+        finish();
+        subscriber.onError(invalidRequest);
+        return;
+      }
+      long emitted = 0;
+      long demand = requested.get();
+      try {
+        while (emitted < demand) {
+          if (cancelled) {
+            finish();
+            return;
+          }
+          if (iterator == null) {
+            cursor = cursorSupplier.get();
+            iterator = cursor.iterator();
+          }
+          if (!iterator.hasNext()) {
+            finish();
+            subscriber.onComplete();
+            return;
+          }
+          if (!onNext(iterator.next())) {
+            return;
+          }
+          emitted++;
+          if (emitted == demand) {
+            demand = requested.addAndGet(-emitted);
+            emitted = 0;
+          }
+        }
+      } catch (Throwable t) {
+        finish();
+        subscriber.onError(t);
+      }
+    }
+
+    /**
+     * Emits an item. A subscriber that throws violates Reactive Streams rule 2.13, its subscription is then cancelled
+     * and it is not signalled again.
+     */
+    private boolean onNext(T item) {
+      try {
+        subscriber.onNext(item);
+        return true;
+      } catch (Throwable t) {
+        cancelled = true;
+        finish();
+        return false;
+      }
+    }
+
+    private void finish() {
+      done = true;
+      if (cursor != null) {
+        cursor.close();
+      }
+    }
+  }
+
+}
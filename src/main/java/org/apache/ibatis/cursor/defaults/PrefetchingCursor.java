@@ -0,0 +1,230 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.cursor.defaults;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.executor.ExecutorException;
+
+/**
+ * A cursor that fetches and maps the items of another cursor on a background thread, so that reading from the database
+ * overlaps with the processing done by the consumer. Mapped items are handed over through a bounded queue.
+ * <p>
+ * The underlying cursor is only touched by the producer thread, which also closes it once it stops. Closing this
+ * cursor makes the producer stop after the item it is fetching and waits until it has closed the underlying cursor, so
+ * a pending read from the driver delays the close, up to the statement timeout if one is set. The producer is not
+ * interrupted, as embedded drivers may close their files when a reading thread is interrupted. The session that
+ * created the cursor must not be used for other statements while the cursor is being consumed. This implementation is
+ * not thread safe on the consumer side.
+ *
+ * @since 3.6.0
+ */
+public class PrefetchingCursor<T> implements Cursor<T> {
+
+  private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+  private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+  private static final Object NULL_ITEM = new Object();
+  private static final Object END_OF_CURSOR = new Object();
+
+  private final Cursor<T> delegate;
+  private final BlockingQueue<Object> queue;
+  private final int initialIndex;
+  private final AtomicBoolean delegateClosed = new AtomicBoolean();
+
+  private final PrefetchingIterator iterator = new PrefetchingIterator();
+  private boolean iteratorRetrieved;
+
+  private Thread producer;
+  private volatile boolean closed;
+  private boolean consumed;
+  private int consumedCount;
+
+  public PrefetchingCursor(Cursor<T> delegate, int prefetchSize) {
+    if (prefetchSize < 1) {
+      throw new IllegalArgumentException("The prefetch size must be greater than zero but was " + prefetchSize);
+    }
+    this.delegate = delegate;
+    this.queue = new ArrayBlockingQueue<>(prefetchSize);
+    this.initialIndex = delegate.getCurrentIndex();
+  }
+
+  @Override
+  public boolean isOpen() {
+    return producer != null && !closed && !consumed;
+  }
+
+  @Override
+  public boolean isConsumed() {
+    return consumed;
+  }
+
+  @Override
+  public int getCurrentIndex() {
+    return initialIndex + consumedCount;
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    if (iteratorRetrieved) {
+      throw new IllegalStateException("Cannot open more than one iterator on a Cursor");
+    }
+    if (closed || consumed) {
+      throw new IllegalStateException("A Cursor is already closed.");
+    }
+    iteratorRetrieved = true;
+    producer = new Thread(this::produce, "mybatis-cursor-prefetch-" + THREAD_COUNTER.incrementAndGet());
+    producer.setDaemon(true);
+    producer.start();
+    return iterator;
+  }
+
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    if (producer == null) {
+      closeDelegate();
+      return;
+    }
+    // the producer sees the flag when it offers its next item and releases the result set before it stops
+    queue.clear();
+    boolean interrupted = false;
+    while (producer.isAlive()) {
+      try {
+        producer.join();
+      } catch (InterruptedException e) {
+        // the underlying cursor must not be left to a running producer
+        interrupted = true;
+      }
+    }
+    queue.clear();
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void closeDelegate() {
+    if (delegateClosed.compareAndSet(false, true)) {
+      delegate.close();
+    }
+  }
+
+  private void produce() {
+    try {
+      Iterator<T> source = delegate.iterator();
+      while (!closed && source.hasNext()) {
+        T item = source.next();
+        if (!put(item == null ? NULL_ITEM : item)) {
+          return;
+        }
+      }
+      put(END_OF_CURSOR);
+    } catch (Throwable t) {
+      put(new ProducerFailure(t));
+    } finally {
+      closeDelegate();
+    }
+  }
+
+  private boolean put(Object item) {
+    try {
+      while (!closed) {
+        if (queue.offer(item, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+          return true;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return false;
+  }
+
+  private static class ProducerFailure {
+    private final Throwable cause;
+
+    ProducerFailure(Throwable cause) {
+      this.cause = cause;
+    }
+  }
+
+  protected class PrefetchingIterator implements Iterator<T> {
+
+    /**
+     * Holder for the next element taken from the queue, {@code null} if none has been taken yet.
+     */
+    private Object next;
+
+    @Override
+    public boolean hasNext() {
+      if (next == null && !consumed && !closed) {
+        next = take();
+      }
+      if (next == END_OF_CURSOR) {
+        consumed = true;
+        next = null;
+      } else if (next instanceof ProducerFailure) {
+        Throwable cause = ((ProducerFailure) next).cause;
+        next = null;
+        close();
+        if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+          throw (Error) cause;
+        }
+        throw new ExecutorException("Error prefetching cursor items. Cause: " + cause, cause);
+      }
+      return next != null;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      Object item = next;
+      next = null;
+      consumedCount++;
+      return item == NULL_ITEM ? null : (T) item;
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException("Cannot remove element from Cursor");
+    }
+
+    private Object take() {
+      try {
+        return queue.take();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        close();
+        throw new ExecutorException("Interrupted while waiting for the next cursor item.", e);
+      }
+    }
+  }
+}
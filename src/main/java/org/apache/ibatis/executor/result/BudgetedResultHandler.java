@@ -0,0 +1,139 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.result;
+
+import java.util.List;
+
+import org.apache.ibatis.executor.ExecutorException;
+import org.apache.ibatis.reflection.factory.ObjectFactory;
+import org.apache.ibatis.session.ResultBudgetExceededBehavior;
+import org.apache.ibatis.session.ResultContext;
+
+/**
+ * A {@link DefaultResultHandler} that estimates the size of the results while the rows are mapped, and fails the query
+ * or spills the results to disk once they exceed a memory budget.
+ * <p>
+ * Results of nested result maps are handed to this handler before their nested objects are filled, so their estimate
+ * is refined once all rows are mapped, when {@link #getResultList()} is called. Such results cannot be spilled.
+ *
+ * @since 3.6.0
+ *
+ * @see org.apache.ibatis.session.Configuration#setResultMemoryBudget(Long)
+ */
+public class BudgetedResultHandler extends DefaultResultHandler {
+
+  private final String statementId;
+  private final long memoryBudget;
+  private final ResultBudgetExceededBehavior exceededBehavior;
+  private final boolean spillable;
+  private long estimatedSize;
+  private SpilledResultList<Object> spilledResults;
+
+  /**
+   * @param objectFactory
+   *          the object factory creating the in-memory list
+   * @param statementId
+   *          the id of the statement, reported when the budget is exceeded
+   * @param memoryBudget
+   *          the estimated number of bytes the results may hold in memory
+   * @param exceededBehavior
+   *          the behavior when the budget is exceeded
+   * @param spillable
+   *          whether the results are complete when they are handed to this handler, so that they can be serialized
+   */
+  public BudgetedResultHandler(ObjectFactory objectFactory, String statementId, long memoryBudget,
+      ResultBudgetExceededBehavior exceededBehavior, boolean spillable) {
+    super(objectFactory);
+    this.statementId = statementId;
+    this.memoryBudget = memoryBudget;
+    this.exceededBehavior = exceededBehavior;
+    this.spillable = spillable;
+  }
+
+  @Override
+  public void handleResult(ResultContext<?> context) {
+    if (spilledResults != null) {
+      spilledResults.append(context.getResultObject());
+      return;
+    }
+    estimatedSize += ResultSizeEstimator.estimate(context.getResultObject());
+    if (estimatedSize <= memoryBudget) {
+      super.handleResult(context);
+      return;
+    }
+    checkExceededBehavior(context.getResultCount());
+    List<Object> inMemoryResults = super.getResultList();
+    spilledResults = new SpilledResultList<>();
+    for (Object result : inMemoryResults) {
+      spilledResults.append(result);
+    }
+    inMemoryResults.clear();
+    spilledResults.append(context.getResultObject());
+  }
+
+  private void checkExceededBehavior(int resultCount) {
+    if (exceededBehavior != ResultBudgetExceededBehavior.SPILL) {
+      throw new ExecutorException("The results of statement '" + statementId + "' exceed the result memory budget of "
+          + memoryBudget + " bytes after " + resultCount
+          + " rows. Narrow the query, or use a cursor or a result handler.");
+    }
+    if (!spillable) {
+      throw new ExecutorException("The results of statement '" + statementId + "' exceed the result memory budget of "
+          + memoryBudget + " bytes after " + resultCount
+          + " rows, and cannot be spilled to disk because the result map has nested result maps or nested queries.");
+    }
+  }
+
+  /**
+   * Releases the results of a query that failed, deleting the file they were spilled to.
+   */
+  public void discard() {
+    if (spilledResults != null) {
+      spilledResults.discard();
+    }
+    super.getResultList().clear();
+  }
+
+  /**
+   * Returns whether the results have been spilled to disk.
+   *
+   * @return {@code true} if the results have been spilled
+   */
+  public boolean isSpilled() {
+    return spilledResults != null;
+  }
+
+  @Override
+  public List<Object> getResultList() {
+    if (spilledResults != null) {
+      spilledResults.complete();
+      return spilledResults;
+    }
+    List<Object> results = super.getResultList();
+    if (!spillable) {
+      // the nested objects are filled now
+      estimatedSize = 0;
+      for (Object result : results) {
+        estimatedSize += ResultSizeEstimator.estimate(result);
+      }
+      if (estimatedSize > memoryBudget) {
+        checkExceededBehavior(results.size());
+      }
+    }
+    return results;
+  }
+
+}
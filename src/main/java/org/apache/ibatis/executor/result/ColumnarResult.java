@@ -0,0 +1,375 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.result;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import org.apache.ibatis.type.ResultByColumnName;
+import org.apache.ibatis.type.TypeHandler;
+
+/**
+ * The rows of a query stored column by column: a {@code long[]}, {@code int[]}, {@code double[]} or {@code Object[]}
+ * per column instead of an object per row. Columns are indexed from 0 in the order of the select list.
+ * <p>
+ * Values of primitive columns are stored unboxed. A SQL {@code NULL} is stored as {@code 0} and can be told apart with
+ * {@link #isNull(int, int)}. The arrays returned by the getters are not copied.
+ *
+ * @since 3.6.0
+ *
+ * @see ColumnarResultHandler
+ */
+public class ColumnarResult {
+
+  // rows are appended to fixed size chunks so that growing a column never copies it
+  static final int CHUNK_SIZE = 4096;
+
+  private final List<String> columnNames;
+  private final Column[] columns;
+  private int rowCount;
+  private boolean completed;
+
+  ColumnarResult(List<String> columnNames, Column[] columns) {
+    this.columnNames = Collections.unmodifiableList(new ArrayList<>(columnNames));
+    this.columns = columns;
+  }
+
+  void addRow(ResultSet rs) throws SQLException {
+    for (int i = 0; i < columns.length; i++) {
+      columns[i].read(rs, i + 1, rowCount);
+    }
+    rowCount++;
+  }
+
+  void complete() {
+    if (!completed) {
+      for (Column column : columns) {
+        column.complete(rowCount);
+      }
+      completed = true;
+    }
+  }
+
+  public int getRowCount() {
+    return rowCount;
+  }
+
+  public int getColumnCount() {
+    return columns.length;
+  }
+
+  public List<String> getColumnNames() {
+    return columnNames;
+  }
+
+  /**
+   * Returns the index of a column, ignoring case.
+   *
+   * @param columnName
+   *          the column name
+   *
+   * @return the 0-based index of the column
+   *
+   * @throws IllegalArgumentException
+   *           if the result has no such column
+   */
+  public int getColumnIndex(String columnName) {
+    for (int i = 0; i < columnNames.size(); i++) {
+      if (columnNames.get(i).toUpperCase(Locale.ENGLISH).equals(columnName.toUpperCase(Locale.ENGLISH))) {
+        return i;
+      }
+    }
+    throw new IllegalArgumentException("There is no column named '" + columnName + "' in " + columnNames);
+  }
+
+  /**
+   * Returns the type values of a column are stored as.
+   *
+   * @param column
+   *          the 0-based column index
+   *
+   * @return {@code long.class}, {@code int.class}, {@code double.class} or {@code Object.class}
+   */
+  public Class<?> getColumnType(int column) {
+    return columns[column].getType();
+  }
+
+  public long[] getLongs(int column) {
+    return ((LongColumn) getColumn(column, long.class)).values;
+  }
+
+  public long[] getLongs(String columnName) {
+    return getLongs(getColumnIndex(columnName));
+  }
+
+  public int[] getInts(int column) {
+    return ((IntColumn) getColumn(column, int.class)).values;
+  }
+
+  public int[] getInts(String columnName) {
+    return getInts(getColumnIndex(columnName));
+  }
+
+  public double[] getDoubles(int column) {
+    return ((DoubleColumn) getColumn(column, double.class)).values;
+  }
+
+  public double[] getDoubles(String columnName) {
+    return getDoubles(getColumnIndex(columnName));
+  }
+
+  /**
+   * Returns the values of a column as objects. Values of primitive columns are boxed, {@code null} where the value is
+   * SQL {@code NULL}.
+   *
+   * @param column
+   *          the 0-based column index
+   *
+   * @return the values
+   */
+  public Object[] getObjects(int column) {
+    complete();
+    return columns[column].toObjects(rowCount);
+  }
+
+  public Object[] getObjects(String columnName) {
+    return getObjects(getColumnIndex(columnName));
+  }
+
+  /**
+   * Returns whether a value is SQL {@code NULL}.
+   *
+   * @param column
+   *          the 0-based column index
+   * @param row
+   *          the 0-based row index
+   *
+   * @return {@code true} if the value is SQL {@code NULL}
+   */
+  public boolean isNull(int column, int row) {
+    if (row < 0 || row >= rowCount) {
+      throw new IndexOutOfBoundsException("Row " + row + " is out of bounds for " + rowCount + " rows");
+    }
+    complete();
+    return columns[column].isNull(row);
+  }
+
+  private Column getColumn(int column, Class<?> type) {
+    complete();
+    Column result = columns[column];
+    if (result.getType() != type) {
+      throw new IllegalStateException(
+          "Column '" + columnNames.get(column) + "' is stored as " + result.getType() + ", not as " + type);
+    }
+    return result;
+  }
+
+  abstract static class Column {
+    private BitSet nulls;
+
+    abstract Class<?> getType();
+
+    abstract void read(ResultSet rs, int columnIndex, int row) throws SQLException;
+
+    abstract void complete(int rowCount);
+
+    abstract Object get(int row);
+
+    void setNull(int row) {
+      if (nulls == null) {
+        nulls = new BitSet();
+      }
+      nulls.set(row);
+    }
+
+    boolean isNull(int row) {
+      return nulls != null && nulls.get(row);
+    }
+
+    Object[] toObjects(int rowCount) {
+      Object[] objects = new Object[rowCount];
+      for (int i = 0; i < rowCount; i++) {
+        objects[i] = isNull(i) ? null : get(i);
+      }
+      return objects;
+    }
+  }
+
+  static final class LongColumn extends Column {
+    private final List<long[]> chunks = new ArrayList<>();
+    private long[] values;
+
+    @Override
+    Class<?> getType() {
+      return long.class;
+    }
+
+    @Override
+    void read(ResultSet rs, int columnIndex, int row) throws SQLException {
+      long value = rs.getLong(columnIndex);
+      if (value == 0L && rs.wasNull()) {
+        setNull(row);
+      }
+      if (row % CHUNK_SIZE == 0) {
+        chunks.add(new long[CHUNK_SIZE]);
+      }
+      chunks.get(row / CHUNK_SIZE)[row % CHUNK_SIZE] = value;
+    }
+
+    @Override
+    void complete(int rowCount) {
+      values = new long[rowCount];
+      for (int i = 0; i < chunks.size(); i++) {
+        System.arraycopy(chunks.get(i), 0, values, i * CHUNK_SIZE, Math.min(CHUNK_SIZE, rowCount - i * CHUNK_SIZE));
+      }
+      chunks.clear();
+    }
+
+    @Override
+    Object get(int row) {
+      return values[row];
+    }
+  }
+
+  static final class IntColumn extends Column {
+    private final List<int[]> chunks = new ArrayList<>();
+    private int[] values;
+
+    @Override
+    Class<?> getType() {
+      return int.class;
+    }
+
+    @Override
+    void read(ResultSet rs, int columnIndex, int row) throws SQLException {
+      int value = rs.getInt(columnIndex);
+      if (value == 0 && rs.wasNull()) {
+        setNull(row);
+      }
+      if (row % CHUNK_SIZE == 0) {
+        chunks.add(new int[CHUNK_SIZE]);
+      }
+      chunks.get(row / CHUNK_SIZE)[row % CHUNK_SIZE] = value;
+    }
+
+    @Override
+    void complete(int rowCount) {
+      values = new int[rowCount];
+      for (int i = 0; i < chunks.size(); i++) {
+        System.arraycopy(chunks.get(i), 0, values, i * CHUNK_SIZE, Math.min(CHUNK_SIZE, rowCount - i * CHUNK_SIZE));
+      }
+      chunks.clear();
+    }
+
+    @Override
+    Object get(int row) {
+      return values[row];
+    }
+  }
+
+  static final class DoubleColumn extends Column {
+    private final List<double[]> chunks = new ArrayList<>();
+    private double[] values;
+
+    @Override
+    Class<?> getType() {
+      return double.class;
+    }
+
+    @Override
+    void read(ResultSet rs, int columnIndex, int row) throws SQLException {
+      double value = rs.getDouble(columnIndex);
+      if (value == 0.0d && rs.wasNull()) {
+        setNull(row);
+      }
+      if (row % CHUNK_SIZE == 0) {
+        chunks.add(new double[CHUNK_SIZE]);
+      }
+      chunks.get(row / CHUNK_SIZE)[row % CHUNK_SIZE] = value;
+    }
+
+    @Override
+    void complete(int rowCount) {
+      values = new double[rowCount];
+      for (int i = 0; i < chunks.size(); i++) {
+        System.arraycopy(chunks.get(i), 0, values, i * CHUNK_SIZE, Math.min(CHUNK_SIZE, rowCount - i * CHUNK_SIZE));
+      }
+      chunks.clear();
+    }
+
+    @Override
+    Object get(int row) {
+      return values[row];
+    }
+  }
+
+  static final class ObjectColumn extends Column {
+    private final TypeHandler<?> typeHandler;
+    // set if the type handler reads by column name
+    private final String columnName;
+    private final List<Object[]> chunks = new ArrayList<>();
+    private Object[] values;
+
+    ObjectColumn(TypeHandler<?> typeHandler, String columnName) {
+      this.typeHandler = typeHandler;
+      this.columnName = typeHandler.getClass().isAnnotationPresent(ResultByColumnName.class) ? columnName : null;
+    }
+
+    @Override
+    Class<?> getType() {
+      return Object.class;
+    }
+
+    @Override
+    void read(ResultSet rs, int columnIndex, int row) throws SQLException {
+      if (row % CHUNK_SIZE == 0) {
+        chunks.add(new Object[CHUNK_SIZE]);
+      }
+      chunks.get(row / CHUNK_SIZE)[row % CHUNK_SIZE] = columnName == null ? typeHandler.getResult(rs, columnIndex)
+          : typeHandler.getResult(rs, columnName);
+    }
+
+    @Override
+    void complete(int rowCount) {
+      values = new Object[rowCount];
+      for (int i = 0; i < chunks.size(); i++) {
+        System.arraycopy(chunks.get(i), 0, values, i * CHUNK_SIZE, Math.min(CHUNK_SIZE, rowCount - i * CHUNK_SIZE));
+      }
+      chunks.clear();
+    }
+
+    @Override
+    boolean isNull(int row) {
+      return values[row] == null;
+    }
+
+    @Override
+    Object get(int row) {
+      return values[row];
+    }
+
+    @Override
+    Object[] toObjects(int rowCount) {
+      return values;
+    }
+  }
+
+}
@@ -0,0 +1,138 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.result;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.ibatis.executor.ExecutorException;
+import org.apache.ibatis.executor.resultset.ResultSetWrapper;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.ObjectTypeHandler;
+import org.apache.ibatis.type.TypeHandler;
+
+/**
+ * Collects the rows of a query into a {@link ColumnarResult}. The columns are read straight from the result set: the
+ * result map of the statement, the object factory and per row objects are not used.
+ * <p>
+ * The type a column is stored as is either given, in the order of the select list, or derived from its JDBC type:
+ * {@code BIGINT} columns are stored as {@code long}, {@code INTEGER}, {@code SMALLINT} and {@code TINYINT} columns as
+ * {@code int}, {@code DOUBLE}, {@code FLOAT} and {@code REAL} columns as {@code double}, and other columns as objects
+ * read by the type handler registered for their Java type.
+ *
+ * <pre>
+ * ColumnarResultHandler handler = new ColumnarResultHandler(long.class, double.class);
+ * sqlSession.select("selectAmounts", handler);
+ * double[] amounts = handler.getResult().getDoubles("amount");
+ * </pre>
+ *
+ * @since 3.6.0
+ */
+public class ColumnarResultHandler implements RawResultHandler {
+
+  private final Class<?>[] columnTypes;
+  private ColumnarResult result;
+
+  /**
+   * Creates a handler.
+   *
+   * @param columnTypes
+   *          the types the leading columns are stored as: {@code long.class}, {@code int.class}, {@code double.class},
+   *          an object type read by its type handler or {@code null} to derive the type from the JDBC type
+   */
+  public ColumnarResultHandler(Class<?>... columnTypes) {
+    this.columnTypes = columnTypes;
+  }
+
+  /**
+   * Appends the rows of a result set, from its current position, to the result.
+   */
+  @Override
+  public void handleResultSet(ResultSetWrapper rsw, int limit) throws SQLException {
+    if (result == null) {
+      result = createResult(rsw);
+    } else if (result.getColumnCount() != rsw.getColumnNames().size()) {
+      throw new ExecutorException("All result sets must have " + result.getColumnCount()
+          + " columns to be collected into a ColumnarResult, found " + rsw.getColumnNames().size() + ".");
+    }
+    final ResultSet rs = rsw.getResultSet();
+    int count = 0;
+    while (count < limit && !rs.isClosed() && rs.next()) {
+      result.addRow(rs);
+      count++;
+    }
+  }
+
+  private ColumnarResult createResult(ResultSetWrapper rsw) {
+    final List<String> columnNames = rsw.getColumnNames();
+    final List<JdbcType> jdbcTypes = rsw.getJdbcTypes();
+    final ColumnarResult.Column[] columns = new ColumnarResult.Column[columnNames.size()];
+    for (int i = 0; i < columns.length; i++) {
+      Class<?> type = i < columnTypes.length ? columnTypes[i] : null;
+      if (type == null) {
+        type = getStorageType(jdbcTypes.get(i));
+      }
+      if (type == long.class) {
+        columns[i] = new ColumnarResult.LongColumn();
+      } else if (type == int.class) {
+        columns[i] = new ColumnarResult.IntColumn();
+      } else if (type == double.class) {
+        columns[i] = new ColumnarResult.DoubleColumn();
+      } else {
+        TypeHandler<?> typeHandler = rsw.getTypeHandler(type, columnNames.get(i));
+        columns[i] = new ColumnarResult.ObjectColumn(typeHandler == null ? ObjectTypeHandler.INSTANCE : typeHandler,
+            columnNames.get(i));
+      }
+    }
+    return new ColumnarResult(columnNames, columns);
+  }
+
+  private static Class<?> getStorageType(JdbcType jdbcType) {
+    if (jdbcType == null) {
+      return Object.class;
+    }
+    switch (jdbcType) {
+      case BIGINT:
+        return long.class;
+      case INTEGER:
+      case SMALLINT:
+      case TINYINT:
+        return int.class;
+      case DOUBLE:
+      case FLOAT:
+      case REAL:
+        return double.class;
+      default:
+        return Object.class;
+    }
+  }
+
+  /**
+   * Returns the collected rows.
+   *
+   * @return the result, without columns if the statement returned no result set
+   */
+  public ColumnarResult getResult() {
+    if (result == null) {
+      result = new ColumnarResult(Collections.emptyList(), new ColumnarResult.Column[0]);
+    }
+    result.complete();
+    return result;
+  }
+
+}
@@ -0,0 +1,56 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.result;
+
+import java.sql.SQLException;
+
+import org.apache.ibatis.executor.ExecutorException;
+import org.apache.ibatis.executor.resultset.ResultSetWrapper;
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+
+/**
+ * A result handler that reads the result sets of a statement itself, in place of the rows mapped by the result maps of
+ * the statement. Only top level result sets are passed to it; a statement that maps nested result sets or cursor
+ * output parameters cannot be used with it.
+ *
+ * @since 3.6.0
+ */
+public interface RawResultHandler extends ResultHandler<Object> {
+
+  /**
+   * Reads the rows of a result set, from its current position.
+   *
+   * @param rsw
+   *          the result set
+   * @param limit
+   *          the maximum number of rows to read
+   *
+   * @throws SQLException
+   *           if the result set cannot be read
+   */
+  void handleResultSet(ResultSetWrapper rsw, int limit) throws SQLException;
+
+  /**
+   * Always throws, a raw result handler does not handle mapped objects.
+   */
+  @Override
+  default void handleResult(ResultContext<?> resultContext) {
+    throw new ExecutorException(
+        getClass().getSimpleName() + " reads the result sets of a statement, it cannot handle mapped objects.");
+  }
+
+}
@@ -0,0 +1,163 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.result;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Estimates the number of bytes that a result object holds on the heap. The estimate walks the fields of the object
+ * down to a few levels, using sizes typical of a 64-bit JVM. It is meant to be cheap enough to run for every row, not
+ * to be exact: shared references are counted each time they are reached, and classes of the JDK other than strings,
+ * numbers, arrays, collections and maps count as a fixed size.
+ *
+ * @since 3.6.0
+ */
+final class ResultSizeEstimator {
+
+  private static final int OBJECT_HEADER = 16;
+  private static final int REFERENCE = 8;
+  private static final int MAX_DEPTH = 3;
+
+  private static final ClassValue<Layout> LAYOUTS = new ClassValue<>() {
+    @Override
+    protected Layout computeValue(Class<?> type) {
+      return new Layout(type);
+    }
+  };
+
+  private ResultSizeEstimator() {
+    // Prevent Instantiation of Static Class
+  }
+
+  static long estimate(Object value) {
+    return estimate(value, 0);
+  }
+
+  private static long estimate(Object value, int depth) {
+    if (value == null) {
+      return 0;
+    }
+    if (value instanceof String) {
+      return OBJECT_HEADER + 24L + ((String) value).length();
+    }
+    if (value instanceof BigDecimal) {
+      return OBJECT_HEADER + 56L + ((BigDecimal) value).unscaledValue().bitLength() / 8;
+    }
+    if (value instanceof BigInteger) {
+      return OBJECT_HEADER + 40L + ((BigInteger) value).bitLength() / 8;
+    }
+    Class<?> type = value.getClass();
+    if (type.isArray()) {
+      return estimateArray(value, type.getComponentType(), depth);
+    }
+    if (value instanceof Collection) {
+      Collection<?> collection = (Collection<?>) value;
+      long size = OBJECT_HEADER + 32L + (long) collection.size() * REFERENCE;
+      if (depth < MAX_DEPTH) {
+        for (Object element : collection) {
+          size += estimate(element, depth + 1);
+        }
+      }
+      return size;
+    }
+    if (value instanceof Map) {
+      Map<?, ?> map = (Map<?, ?>) value;
+      long size = OBJECT_HEADER + 48L + map.size() * 40L;
+      if (depth < MAX_DEPTH) {
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+          size += estimate(entry.getKey(), depth + 1) + estimate(entry.getValue(), depth + 1);
+        }
+      }
+      return size;
+    }
+    Layout layout = LAYOUTS.get(type);
+    long size = layout.shallowSize;
+    if (depth < MAX_DEPTH) {
+      for (Field field : layout.referenceFields) {
+        try {
+          size += estimate(field.get(value), depth + 1);
+        } catch (IllegalAccessException e) {
+          // Counted as a reference only
+        }
+      }
+    }
+    return size;
+  }
+
+  private static long estimateArray(Object array, Class<?> componentType, int depth) {
+    if (componentType.isPrimitive()) {
+      return OBJECT_HEADER + (long) Array.getLength(array) * primitiveSize(componentType);
+    }
+    Object[] elements = (Object[]) array;
+    long size = OBJECT_HEADER + (long) elements.length * REFERENCE;
+    if (depth < MAX_DEPTH) {
+      for (Object element : elements) {
+        size += estimate(element, depth + 1);
+      }
+    }
+    return size;
+  }
+
+  private static int primitiveSize(Class<?> type) {
+    if (type == long.class || type == double.class) {
+      return 8;
+    }
+    if (type == int.class || type == float.class) {
+      return 4;
+    }
+    if (type == short.class || type == char.class) {
+      return 2;
+    }
+    return 1;
+  }
+
+  private static final class Layout {
+
+    private final long shallowSize;
+    private final List<Field> referenceFields = new ArrayList<>();
+
+    Layout(Class<?> type) {
+      long size = OBJECT_HEADER;
+      boolean jdkType = type.getName().startsWith("java.");
+      for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+        for (Field field : current.getDeclaredFields()) {
+          if (Modifier.isStatic(field.getModifiers())) {
+            continue;
+          }
+          Class<?> fieldType = field.getType();
+          if (fieldType.isPrimitive()) {
+            size += primitiveSize(fieldType);
+          } else {
+            size += REFERENCE;
+            if (!jdkType && field.trySetAccessible()) {
+              referenceFields.add(field);
+            }
+          }
+        }
+      }
+      this.shallowSize = size;
+    }
+  }
+
+}
@@ -0,0 +1,189 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.result;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.apache.ibatis.executor.resultset.ResultSetWrapper;
+import org.apache.ibatis.session.RowAccessor;
+import org.apache.ibatis.session.RowHandler;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.ObjectTypeHandler;
+import org.apache.ibatis.type.ResultByColumnName;
+import org.apache.ibatis.type.TypeHandler;
+
+/**
+ * Passes the rows of a query to a {@link RowHandler} through a single {@link RowAccessor} per result set, so that no
+ * object is created per row.
+ *
+ * @since 3.6.0
+ */
+public class RowStreamResultHandler implements RawResultHandler {
+
+  private final RowHandler rowHandler;
+  private int rowCount;
+  private boolean stopped;
+
+  public RowStreamResultHandler(RowHandler rowHandler) {
+    this.rowHandler = rowHandler;
+  }
+
+  @Override
+  public void handleResultSet(ResultSetWrapper rsw, int limit) throws SQLException {
+    final ResultSet rs = rsw.getResultSet();
+    final Accessor accessor = new Accessor(rsw);
+    int count = 0;
+    while (!stopped && count < limit && !rs.isClosed() && rs.next()) {
+      rowCount++;
+      count++;
+      rowHandler.handleRow(accessor);
+    }
+  }
+
+  /**
+   * Returns the number of rows handled.
+   *
+   * @return the row count
+   */
+  public int getRowCount() {
+    return rowCount;
+  }
+
+  private final class Accessor implements RowAccessor {
+    private final ResultSetWrapper rsw;
+    private final ResultSet rs;
+    private final List<String> columnNames;
+    // the type handlers of the Java types of the columns, resolved on first use
+    private final TypeHandler<?>[] typeHandlers;
+    // the type last requested for each column, and its type handler
+    private final Class<?>[] requestedTypes;
+    private final TypeHandler<?>[] requestedTypeHandlers;
+
+    Accessor(ResultSetWrapper rsw) {
+      this.rsw = rsw;
+      this.rs = rsw.getResultSet();
+      this.columnNames = rsw.getColumnNames();
+      this.typeHandlers = new TypeHandler<?>[columnNames.size()];
+      this.requestedTypes = new Class<?>[columnNames.size()];
+      this.requestedTypeHandlers = new TypeHandler<?>[columnNames.size()];
+    }
+
+    @Override
+    public int getColumnCount() {
+      return columnNames.size();
+    }
+
+    @Override
+    public List<String> getColumnNames() {
+      return columnNames;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+      return columnNames.get(column);
+    }
+
+    @Override
+    public JdbcType getJdbcType(int column) {
+      return rsw.getJdbcTypes().get(column);
+    }
+
+    @Override
+    public int getRowNumber() {
+      return rowCount;
+    }
+
+    @Override
+    public int getInt(int column) throws SQLException {
+      return rs.getInt(checkColumn(column) + 1);
+    }
+
+    @Override
+    public long getLong(int column) throws SQLException {
+      return rs.getLong(checkColumn(column) + 1);
+    }
+
+    @Override
+    public double getDouble(int column) throws SQLException {
+      return rs.getDouble(checkColumn(column) + 1);
+    }
+
+    @Override
+    public boolean getBoolean(int column) throws SQLException {
+      return rs.getBoolean(checkColumn(column) + 1);
+    }
+
+    @Override
+    public String getString(int column) throws SQLException {
+      return rs.getString(checkColumn(column) + 1);
+    }
+
+    @Override
+    public Object getObject(int column) throws SQLException {
+      TypeHandler<?> typeHandler = typeHandlers[checkColumn(column)];
+      if (typeHandler == null) {
+        typeHandler = resolveTypeHandler(Object.class, column);
+        typeHandlers[column] = typeHandler;
+      }
+      return getResult(typeHandler, column);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getObject(int column, Class<T> type) throws SQLException {
+      TypeHandler<?> typeHandler = requestedTypeHandlers[checkColumn(column)];
+      if (requestedTypes[column] != type) {
+        typeHandler = resolveTypeHandler(type, column);
+        requestedTypes[column] = type;
+        requestedTypeHandlers[column] = typeHandler;
+      }
+      return (T) getResult(typeHandler, column);
+    }
+
+    private Object getResult(TypeHandler<?> typeHandler, int column) throws SQLException {
+      if (typeHandler.getClass().isAnnotationPresent(ResultByColumnName.class)) {
+        return typeHandler.getResult(rs, columnNames.get(column));
+      }
+      return typeHandler.getResult(rs, column + 1);
+    }
+
+    private TypeHandler<?> resolveTypeHandler(Class<?> type, int column) {
+      TypeHandler<?> typeHandler = rsw.getTypeHandler(type, columnNames.get(column));
+      return typeHandler == null ? ObjectTypeHandler.INSTANCE : typeHandler;
+    }
+
+    @Override
+    public boolean wasNull() throws SQLException {
+      return rs.wasNull();
+    }
+
+    @Override
+    public void stop() {
+      stopped = true;
+    }
+
+    private int checkColumn(int column) {
+      if (column < 0 || column >= columnNames.size()) {
+        throw new IndexOutOfBoundsException(
+            "Column " + column + " is out of bounds for " + columnNames.size() + " columns");
+      }
+      return column;
+    }
+  }
+
+}
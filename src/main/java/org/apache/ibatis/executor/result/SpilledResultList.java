@@ -0,0 +1,181 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.result;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+import org.apache.ibatis.cache.decorators.SerializedCache.CustomObjectInputStream;
+import org.apache.ibatis.executor.ExecutorException;
+
+/**
+ * A read-only list whose elements are serialized to a temporary file. Elements are appended while the rows are mapped;
+ * once all rows are mapped, the file is memory-mapped and each access deserializes a new copy of the element.
+ * <p>
+ * The file is split in segments of up to 1 GB that are mapped separately, so that an element never spans two
+ * segments. The file is unlinked as soon as it is created where the file system allows it, and deleted when its channel
+ * is closed otherwise. Serializing the list itself copies all elements into an {@link ArrayList}, which is why the
+ * second level cache does not store it.
+ *
+ * @param <E>
+ *          the element type
+ *
+ * @since 3.6.0
+ */
+public final class SpilledResultList<E> extends AbstractList<E> implements RandomAccess, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  static final int SEGMENT_SIZE = 1 << 30;
+
+  private final transient FileChannel channel;
+  private final transient ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+  private transient long[] offsets = new long[1024];
+  private transient int[] lengths = new int[1024];
+  private transient int size;
+  private transient long position;
+  private transient MappedByteBuffer[] segments;
+
+  SpilledResultList() {
+    try {
+      Path file = Files.createTempFile("mybatis-results", null);
+      this.channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+          StandardOpenOption.DELETE_ON_CLOSE);
+      try {
+        Files.deleteIfExists(file);
+      } catch (IOException e) {
+        // deleted when the channel is closed
+      }
+    } catch (IOException e) {
+      throw new ExecutorException("Could not create a temporary file to spill results.  Cause: " + e, e);
+    }
+  }
+
+  void append(Object element) {
+    if (segments != null) {
+      throw new IllegalStateException("The list is complete.");
+    }
+    if (element != null && !(element instanceof Serializable)) {
+      throw new ExecutorException("Results cannot be spilled to disk because " + element.getClass().getName()
+          + " is not serializable. Make it serializable, or use a cursor or a result handler.");
+    }
+    try {
+      buffer.reset();
+      try (ObjectOutputStream out = new ObjectOutputStream(buffer)) {
+        out.writeObject(element);
+      }
+      int length = buffer.size();
+      if (length > SEGMENT_SIZE) {
+        throw new ExecutorException("A result of " + length + " bytes is too large to be spilled to disk.");
+      }
+      long segmentEnd = (position / SEGMENT_SIZE + 1) * SEGMENT_SIZE;
+      if (position + length > segmentEnd) {
+        position = segmentEnd;
+      }
+      ByteBuffer bytes = ByteBuffer.wrap(buffer.toByteArray(), 0, length);
+      while (bytes.hasRemaining()) {
+        channel.write(bytes, position + bytes.position());
+      }
+      if (size == offsets.length) {
+        offsets = Arrays.copyOf(offsets, size * 2);
+        lengths = Arrays.copyOf(lengths, size * 2);
+      }
+      offsets[size] = position;
+      lengths[size++] = length;
+      position += length;
+    } catch (IOException e) {
+      throw new ExecutorException("Could not spill a result to disk.  Cause: " + e, e);
+    }
+  }
+
+  /**
+   * Ends the appending of elements and maps the file for reading.
+   */
+  void complete() {
+    if (segments != null) {
+      return;
+    }
+    try (FileChannel readChannel = channel) {
+      long fileSize = position;
+      int segmentCount = (int) ((fileSize + SEGMENT_SIZE - 1) / SEGMENT_SIZE);
+      MappedByteBuffer[] mapped = new MappedByteBuffer[segmentCount];
+      for (int i = 0; i < segmentCount; i++) {
+        long start = (long) i * SEGMENT_SIZE;
+        mapped[i] = readChannel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(SEGMENT_SIZE, fileSize - start));
+      }
+      segments = mapped;
+    } catch (IOException e) {
+      throw new ExecutorException("Could not map spilled results.  Cause: " + e, e);
+    }
+  }
+
+  /**
+   * Closes the file of a list that will not be completed, which deletes it.
+   */
+  void discard() {
+    try {
+      channel.close();
+    } catch (IOException e) {
+      // ignore
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public E get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+    if (segments == null) {
+      throw new IllegalStateException("The list is not complete.");
+    }
+    long start = offsets[index];
+    int length = lengths[index];
+    ByteBuffer segment = segments[(int) (start / SEGMENT_SIZE)].duplicate();
+    segment.position((int) (start % SEGMENT_SIZE));
+    byte[] bytes = new byte[length];
+    segment.get(bytes);
+    try (CustomObjectInputStream in = new CustomObjectInputStream(new ByteArrayInputStream(bytes))) {
+      return (E) in.readObject();
+    } catch (IOException | ClassNotFoundException e) {
+      throw new ExecutorException("Could not read a spilled result.  Cause: " + e, e);
+    }
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  private Object writeReplace() throws ObjectStreamException {
+    return new ArrayList<>(this);
+  }
+
+}
@@ -0,0 +1,1581 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.resultset;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLType;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TimeZone;
+
+/**
+ * A forward-only, read-only {@link ResultSet} that lets rows be mapped on a thread other than the one that reads the
+ * JDBC result set.
+ * <p>
+ * A recording instance maps the first row of a result set: it reads the columns from the JDBC result set and records
+ * each getter, with its type or calendar argument, that the type handlers call. The following rows are read ahead with
+ * exactly these getters, and replaying instances return the values read for them, so values are only ever converted by
+ * the driver. Any other access to a recording instance, e.g. to a stream, makes its reads not replayable; the rows are
+ * then mapped on the reading thread.
+ * <p>
+ * A type handler may read a row differently from the first one, e.g. read another column when a value is NULL. Each
+ * column is therefore also read ahead with the getter for its JDBC type, and with {@code getObject} when the first row
+ * did not read it. A getter that still misses the plan is answered from the values read for its column when they are
+ * NULL or of the type that the getter returns. Such a miss is reported by {@link #hasMissedPlan()} so that the rows not
+ * read ahead yet can be mapped on the reading thread.
+ *
+ * @since 3.6.0
+ */
+final class BufferedRowsResultSet implements ResultSet {
+
+  private final Columns columns;
+  // the result set that reads are recorded from, null when replaying
+  private final ResultSet source;
+  private final List<Read> recordedReads;
+  private boolean replayable = true;
+  // the reads and the rows that are replayed, null when recording
+  private final ReadPlan plan;
+  private final List<Object[]> rows;
+  private int rowIndex = -1;
+  private Object[] row;
+  private boolean wasNull;
+  private boolean missedPlan;
+  private boolean closed;
+
+  private BufferedRowsResultSet(Columns columns, ResultSet source, ReadPlan plan, List<Object[]> rows) {
+    this.columns = columns;
+    this.source = source;
+    this.recordedReads = source == null ? null : new ArrayList<>();
+    this.plan = plan;
+    this.rows = rows;
+  }
+
+  /**
+   * Returns a result set that reads the current row of a JDBC result set and records the getters called.
+   */
+  static BufferedRowsResultSet recording(Columns columns, ResultSet source) {
+    return new BufferedRowsResultSet(columns, source, null, null);
+  }
+
+  /**
+   * Returns a result set over rows read ahead with a read plan.
+   */
+  static BufferedRowsResultSet replaying(Columns columns, ReadPlan plan, List<Object[]> rows) {
+    return new BufferedRowsResultSet(columns, null, plan, rows);
+  }
+
+  /**
+   * Returns the plan to read the following rows with the getters recorded so far.
+   *
+   * @return the read plan, {@code null} if a value was read in a way that cannot be replayed
+   */
+  ReadPlan getReadPlan() {
+    return replayable ? new ReadPlan(recordedReads, columns) : null;
+  }
+
+  /**
+   * Returns whether a replayed row was read with a getter that the first row was not read with.
+   */
+  boolean hasMissedPlan() {
+    return missedPlan;
+  }
+
+  private Object read(int columnIndex, Getter getter, Class<?> type, Calendar cal) throws SQLException {
+    if (closed) {
+      throw new SQLException("The result set is closed.");
+    }
+    final Object value;
+    if (source != null) {
+      final Read read = new Read(columnIndex, getter, type, cal == null ? null : cal.getTimeZone());
+      value = read.readFrom(source, cal);
+      if (!recordedReads.contains(read)) {
+        recordedReads.add(read);
+      }
+    } else {
+      if (row == null) {
+        throw new SQLException("The result set has no current row.");
+      }
+      final int index = plan.indexOf(columnIndex, getter, type, cal);
+      if (index < 0) {
+        missedPlan = true;
+        value = plan.readMissed(row, columnIndex, getter, type, cal);
+      } else {
+        value = row[index];
+      }
+    }
+    wasNull = value == null;
+    return value;
+  }
+
+  private ResultSet unbuffered() throws SQLException {
+    if (source == null) {
+      throw new SQLFeatureNotSupportedException(
+          "Rows mapped in parallel can only be read with the getters used for the first row.");
+    }
+    replayable = false;
+    return source;
+  }
+
+  @Override
+  public boolean next() throws SQLException {
+    if (source != null) {
+      return unbuffered().next();
+    }
+    if (closed) {
+      throw new SQLException("The result set is closed.");
+    }
+    if (++rowIndex < rows.size()) {
+      row = rows.get(rowIndex);
+      return true;
+    }
+    row = null;
+    return false;
+  }
+
+  @Override
+  public void close() throws SQLException {
+    // a recording result set does not own its source
+    closed = true;
+  }
+
+  @Override
+  public boolean isClosed() throws SQLException {
+    return closed;
+  }
+
+  @Override
+  public boolean wasNull() throws SQLException {
+    return wasNull;
+  }
+
+  @Override
+  public ResultSetMetaData getMetaData() throws SQLException {
+    return source != null ? source.getMetaData() : columns;
+  }
+
+  @Override
+  public int findColumn(String columnLabel) throws SQLException {
+    return columns.findColumn(columnLabel);
+  }
+
+  @Override
+  public Statement getStatement() throws SQLException {
+    return columns.statement;
+  }
+
+  @Override
+  public int getType() throws SQLException {
+    return TYPE_FORWARD_ONLY;
+  }
+
+  @Override
+  public int getConcurrency() throws SQLException {
+    return CONCUR_READ_ONLY;
+  }
+
+  @Override
+  public SQLWarning getWarnings() throws SQLException {
+    return null;
+  }
+
+  @Override
+  public void clearWarnings() throws SQLException {
+    // no warnings
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> type) throws SQLException {
+    if (type.isInstance(this)) {
+      return type.cast(this);
+    }
+    throw new SQLException("Buffered rows are not a wrapper for " + type.getName() + ".");
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> type) throws SQLException {
+    return type.isInstance(this);
+  }
+
+  @Override
+  public String getString(int columnIndex) throws SQLException {
+    return (String) read(columnIndex, Getter.STRING, null, null);
+  }
+
+  @Override
+  public String getString(String columnLabel) throws SQLException {
+    return getString(findColumn(columnLabel));
+  }
+
+  @Override
+  public String getNString(int columnIndex) throws SQLException {
+    return (String) read(columnIndex, Getter.NSTRING, null, null);
+  }
+
+  @Override
+  public String getNString(String columnLabel) throws SQLException {
+    return getNString(findColumn(columnLabel));
+  }
+
+  @Override
+  public boolean getBoolean(int columnIndex) throws SQLException {
+    final Object value = read(columnIndex, Getter.BOOLEAN, null, null);
+    return value != null && (Boolean) value;
+  }
+
+  @Override
+  public boolean getBoolean(String columnLabel) throws SQLException {
+    return getBoolean(findColumn(columnLabel));
+  }
+
+  @Override
+  public byte getByte(int columnIndex) throws SQLException {
+    final Object value = read(columnIndex, Getter.BYTE, null, null);
+    return value == null ? 0 : (Byte) value;
+  }
+
+  @Override
+  public byte getByte(String columnLabel) throws SQLException {
+    return getByte(findColumn(columnLabel));
+  }
+
+  @Override
+  public short getShort(int columnIndex) throws SQLException {
+    final Object value = read(columnIndex, Getter.SHORT, null, null);
+    return value == null ? 0 : (Short) value;
+  }
+
+  @Override
+  public short getShort(String columnLabel) throws SQLException {
+    return getShort(findColumn(columnLabel));
+  }
+
+  @Override
+  public int getInt(int columnIndex) throws SQLException {
+    final Object value = read(columnIndex, Getter.INT, null, null);
+    return value == null ? 0 : (Integer) value;
+  }
+
+  @Override
+  public int getInt(String columnLabel) throws SQLException {
+    return getInt(findColumn(columnLabel));
+  }
+
+  @Override
+  public long getLong(int columnIndex) throws SQLException {
+    final Object value = read(columnIndex, Getter.LONG, null, null);
+    return value == null ? 0L : (Long) value;
+  }
+
+  @Override
+  public long getLong(String columnLabel) throws SQLException {
+    return getLong(findColumn(columnLabel));
+  }
+
+  @Override
+  public float getFloat(int columnIndex) throws SQLException {
+    final Object value = read(columnIndex, Getter.FLOAT, null, null);
+    return value == null ? 0F : (Float) value;
+  }
+
+  @Override
+  public float getFloat(String columnLabel) throws SQLException {
+    return getFloat(findColumn(columnLabel));
+  }
+
+  @Override
+  public double getDouble(int columnIndex) throws SQLException {
+    final Object value = read(columnIndex, Getter.DOUBLE, null, null);
+    return value == null ? 0D : (Double) value;
+  }
+
+  @Override
+  public double getDouble(String columnLabel) throws SQLException {
+    return getDouble(findColumn(columnLabel));
+  }
+
+  @Override
+  public BigDecimal getBigDecimal(int columnIndex) throws SQLException {
+    return (BigDecimal) read(columnIndex, Getter.BIG_DECIMAL, null, null);
+  }
+
+  @Override
+  public BigDecimal getBigDecimal(String columnLabel) throws SQLException {
+    return getBigDecimal(findColumn(columnLabel));
+  }
+
+  @Override
+  public byte[] getBytes(int columnIndex) throws SQLException {
+    return (byte[]) read(columnIndex, Getter.BYTES, null, null);
+  }
+
+  @Override
+  public byte[] getBytes(String columnLabel) throws SQLException {
+    return getBytes(findColumn(columnLabel));
+  }
+
+  @Override
+  public Date getDate(int columnIndex) throws SQLException {
+    return (Date) read(columnIndex, Getter.DATE, null, null);
+  }
+
+  @Override
+  public Date getDate(String columnLabel) throws SQLException {
+    return getDate(findColumn(columnLabel));
+  }
+
+  @Override
+  public Date getDate(int columnIndex, Calendar cal) throws SQLException {
+    return (Date) read(columnIndex, Getter.DATE, null, cal);
+  }
+
+  @Override
+  public Date getDate(String columnLabel, Calendar cal) throws SQLException {
+    return getDate(findColumn(columnLabel), cal);
+  }
+
+  @Override
+  public Time getTime(int columnIndex) throws SQLException {
+    return (Time) read(columnIndex, Getter.TIME, null, null);
+  }
+
+  @Override
+  public Time getTime(String columnLabel) throws SQLException {
+    return getTime(findColumn(columnLabel));
+  }
+
+  @Override
+  public Time getTime(int columnIndex, Calendar cal) throws SQLException {
+    return (Time) read(columnIndex, Getter.TIME, null, cal);
+  }
+
+  @Override
+  public Time getTime(String columnLabel, Calendar cal) throws SQLException {
+    return getTime(findColumn(columnLabel), cal);
+  }
+
+  @Override
+  public Timestamp getTimestamp(int columnIndex) throws SQLException {
+    return (Timestamp) read(columnIndex, Getter.TIMESTAMP, null, null);
+  }
+
+  @Override
+  public Timestamp getTimestamp(String columnLabel) throws SQLException {
+    return getTimestamp(findColumn(columnLabel));
+  }
+
+  @Override
+  public Timestamp getTimestamp(int columnIndex, Calendar cal) throws SQLException {
+    return (Timestamp) read(columnIndex, Getter.TIMESTAMP, null, cal);
+  }
+
+  @Override
+  public Timestamp getTimestamp(String columnLabel, Calendar cal) throws SQLException {
+    return getTimestamp(findColumn(columnLabel), cal);
+  }
+
+  @Override
+  public Object getObject(int columnIndex) throws SQLException {
+    return read(columnIndex, Getter.OBJECT, null, null);
+  }
+
+  @Override
+  public Object getObject(String columnLabel) throws SQLException {
+    return getObject(findColumn(columnLabel));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
+    return (T) read(columnIndex, Getter.OBJECT, Objects.requireNonNull(type), null);
+  }
+
+  @Override
+  public <T> T getObject(String columnLabel, Class<T> type) throws SQLException {
+    return getObject(findColumn(columnLabel), type);
+  }
+
+  // everything else is read from the source while recording, and not supported when replaying
+
+  @Override
+  public boolean absolute(int rows) throws SQLException {
+    return unbuffered().absolute(rows);
+  }
+
+  @Override
+  public void afterLast() throws SQLException {
+    unbuffered().afterLast();
+  }
+
+  @Override
+  public void beforeFirst() throws SQLException {
+    unbuffered().beforeFirst();
+  }
+
+  @Override
+  public void cancelRowUpdates() throws SQLException {
+    unbuffered().cancelRowUpdates();
+  }
+
+  @Override
+  public void deleteRow() throws SQLException {
+    unbuffered().deleteRow();
+  }
+
+  @Override
+  public boolean first() throws SQLException {
+    return unbuffered().first();
+  }
+
+  @Override
+  public Array getArray(String columnLabel) throws SQLException {
+    return unbuffered().getArray(columnLabel);
+  }
+
+  @Override
+  public Array getArray(int columnIndex) throws SQLException {
+    return unbuffered().getArray(columnIndex);
+  }
+
+  @Override
+  public InputStream getAsciiStream(String columnLabel) throws SQLException {
+    return unbuffered().getAsciiStream(columnLabel);
+  }
+
+  @Override
+  public InputStream getAsciiStream(int columnIndex) throws SQLException {
+    return unbuffered().getAsciiStream(columnIndex);
+  }
+
+  @Deprecated
+  @Override
+  public BigDecimal getBigDecimal(String columnLabel, int scale) throws SQLException {
+    return unbuffered().getBigDecimal(columnLabel, scale);
+  }
+
+  @Deprecated
+  @Override
+  public BigDecimal getBigDecimal(int columnIndex, int scale) throws SQLException {
+    return unbuffered().getBigDecimal(columnIndex, scale);
+  }
+
+  @Override
+  public InputStream getBinaryStream(String columnLabel) throws SQLException {
+    return unbuffered().getBinaryStream(columnLabel);
+  }
+
+  @Override
+  public InputStream getBinaryStream(int columnIndex) throws SQLException {
+    return unbuffered().getBinaryStream(columnIndex);
+  }
+
+  @Override
+  public Blob getBlob(String columnLabel) throws SQLException {
+    return unbuffered().getBlob(columnLabel);
+  }
+
+  @Override
+  public Blob getBlob(int columnIndex) throws SQLException {
+    return unbuffered().getBlob(columnIndex);
+  }
+
+  @Override
+  public Reader getCharacterStream(String columnLabel) throws SQLException {
+    return unbuffered().getCharacterStream(columnLabel);
+  }
+
+  @Override
+  public Reader getCharacterStream(int columnIndex) throws SQLException {
+    return unbuffered().getCharacterStream(columnIndex);
+  }
+
+  @Override
+  public Clob getClob(String columnLabel) throws SQLException {
+    return unbuffered().getClob(columnLabel);
+  }
+
+  @Override
+  public Clob getClob(int columnIndex) throws SQLException {
+    return unbuffered().getClob(columnIndex);
+  }
+
+  @Override
+  public String getCursorName() throws SQLException {
+    return unbuffered().getCursorName();
+  }
+
+  @Override
+  public int getFetchDirection() throws SQLException {
+    return unbuffered().getFetchDirection();
+  }
+
+  @Override
+  public int getFetchSize() throws SQLException {
+    return unbuffered().getFetchSize();
+  }
+
+  @Override
+  public int getHoldability() throws SQLException {
+    return unbuffered().getHoldability();
+  }
+
+  @Override
+  public Reader getNCharacterStream(String columnLabel) throws SQLException {
+    return unbuffered().getNCharacterStream(columnLabel);
+  }
+
+  @Override
+  public Reader getNCharacterStream(int columnIndex) throws SQLException {
+    return unbuffered().getNCharacterStream(columnIndex);
+  }
+
+  @Override
+  public NClob getNClob(String columnLabel) throws SQLException {
+    return unbuffered().getNClob(columnLabel);
+  }
+
+  @Override
+  public NClob getNClob(int columnIndex) throws SQLException {
+    return unbuffered().getNClob(columnIndex);
+  }
+
+  @Override
+  public Object getObject(String columnLabel, Map<String, Class<?>> map) throws SQLException {
+    return unbuffered().getObject(columnLabel, map);
+  }
+
+  @Override
+  public Object getObject(int columnIndex, Map<String, Class<?>> map) throws SQLException {
+    return unbuffered().getObject(columnIndex, map);
+  }
+
+  @Override
+  public Ref getRef(String columnLabel) throws SQLException {
+    return unbuffered().getRef(columnLabel);
+  }
+
+  @Override
+  public Ref getRef(int columnIndex) throws SQLException {
+    return unbuffered().getRef(columnIndex);
+  }
+
+  @Override
+  public int getRow() throws SQLException {
+    return unbuffered().getRow();
+  }
+
+  @Override
+  public RowId getRowId(String columnLabel) throws SQLException {
+    return unbuffered().getRowId(columnLabel);
+  }
+
+  @Override
+  public RowId getRowId(int columnIndex) throws SQLException {
+    return unbuffered().getRowId(columnIndex);
+  }
+
+  @Override
+  public SQLXML getSQLXML(String columnLabel) throws SQLException {
+    return unbuffered().getSQLXML(columnLabel);
+  }
+
+  @Override
+  public SQLXML getSQLXML(int columnIndex) throws SQLException {
+    return unbuffered().getSQLXML(columnIndex);
+  }
+
+  @Override
+  public URL getURL(String columnLabel) throws SQLException {
+    return unbuffered().getURL(columnLabel);
+  }
+
+  @Override
+  public URL getURL(int columnIndex) throws SQLException {
+    return unbuffered().getURL(columnIndex);
+  }
+
+  @Deprecated
+  @Override
+  public InputStream getUnicodeStream(String columnLabel) throws SQLException {
+    return unbuffered().getUnicodeStream(columnLabel);
+  }
+
+  @Deprecated
+  @Override
+  public InputStream getUnicodeStream(int columnIndex) throws SQLException {
+    return unbuffered().getUnicodeStream(columnIndex);
+  }
+
+  @Override
+  public void insertRow() throws SQLException {
+    unbuffered().insertRow();
+  }
+
+  @Override
+  public boolean isAfterLast() throws SQLException {
+    return unbuffered().isAfterLast();
+  }
+
+  @Override
+  public boolean isBeforeFirst() throws SQLException {
+    return unbuffered().isBeforeFirst();
+  }
+
+  @Override
+  public boolean isFirst() throws SQLException {
+    return unbuffered().isFirst();
+  }
+
+  @Override
+  public boolean isLast() throws SQLException {
+    return unbuffered().isLast();
+  }
+
+  @Override
+  public boolean last() throws SQLException {
+    return unbuffered().last();
+  }
+
+  @Override
+  public void moveToCurrentRow() throws SQLException {
+    unbuffered().moveToCurrentRow();
+  }
+
+  @Override
+  public void moveToInsertRow() throws SQLException {
+    unbuffered().moveToInsertRow();
+  }
+
+  @Override
+  public boolean previous() throws SQLException {
+    return unbuffered().previous();
+  }
+
+  @Override
+  public void refreshRow() throws SQLException {
+    unbuffered().refreshRow();
+  }
+
+  @Override
+  public boolean relative(int rows) throws SQLException {
+    return unbuffered().relative(rows);
+  }
+
+  @Override
+  public boolean rowDeleted() throws SQLException {
+    return unbuffered().rowDeleted();
+  }
+
+  @Override
+  public boolean rowInserted() throws SQLException {
+    return unbuffered().rowInserted();
+  }
+
+  @Override
+  public boolean rowUpdated() throws SQLException {
+    return unbuffered().rowUpdated();
+  }
+
+  @Override
+  public void setFetchDirection(int direction) throws SQLException {
+    unbuffered().setFetchDirection(direction);
+  }
+
+  @Override
+  public void setFetchSize(int rows) throws SQLException {
+    unbuffered().setFetchSize(rows);
+  }
+
+  @Override
+  public void updateArray(String columnLabel, Array x) throws SQLException {
+    unbuffered().updateArray(columnLabel, x);
+  }
+
+  @Override
+  public void updateArray(int columnIndex, Array x) throws SQLException {
+    unbuffered().updateArray(columnIndex, x);
+  }
+
+  @Override
+  public void updateAsciiStream(String columnLabel, InputStream x, int length) throws SQLException {
+    unbuffered().updateAsciiStream(columnLabel, x, length);
+  }
+
+  @Override
+  public void updateAsciiStream(String columnLabel, InputStream x, long length) throws SQLException {
+    unbuffered().updateAsciiStream(columnLabel, x, length);
+  }
+
+  @Override
+  public void updateAsciiStream(String columnLabel, InputStream x) throws SQLException {
+    unbuffered().updateAsciiStream(columnLabel, x);
+  }
+
+  @Override
+  public void updateAsciiStream(int columnIndex, InputStream x, int length) throws SQLException {
+    unbuffered().updateAsciiStream(columnIndex, x, length);
+  }
+
+  @Override
+  public void updateAsciiStream(int columnIndex, InputStream x, long length) throws SQLException {
+    unbuffered().updateAsciiStream(columnIndex, x, length);
+  }
+
+  @Override
+  public void updateAsciiStream(int columnIndex, InputStream x) throws SQLException {
+    unbuffered().updateAsciiStream(columnIndex, x);
+  }
+
+  @Override
+  public void updateBigDecimal(String columnLabel, BigDecimal x) throws SQLException {
+    unbuffered().updateBigDecimal(columnLabel, x);
+  }
+
+  @Override
+  public void updateBigDecimal(int columnIndex, BigDecimal x) throws SQLException {
+    unbuffered().updateBigDecimal(columnIndex, x);
+  }
+
+  @Override
+  public void updateBinaryStream(String columnLabel, InputStream x, int length) throws SQLException {
+    unbuffered().updateBinaryStream(columnLabel, x, length);
+  }
+
+  @Override
+  public void updateBinaryStream(String columnLabel, InputStream x, long length) throws SQLException {
+    unbuffered().updateBinaryStream(columnLabel, x, length);
+  }
+
+  @Override
+  public void updateBinaryStream(String columnLabel, InputStream x) throws SQLException {
+    unbuffered().updateBinaryStream(columnLabel, x);
+  }
+
+  @Override
+  public void updateBinaryStream(int columnIndex, InputStream x, int length) throws SQLException {
+    unbuffered().updateBinaryStream(columnIndex, x, length);
+  }
+
+  @Override
+  public void updateBinaryStream(int columnIndex, InputStream x, long length) throws SQLException {
+    unbuffered().updateBinaryStream(columnIndex, x, length);
+  }
+
+  @Override
+  public void updateBinaryStream(int columnIndex, InputStream x) throws SQLException {
+    unbuffered().updateBinaryStream(columnIndex, x);
+  }
+
+  @Override
+  public void updateBlob(String columnLabel, InputStream x, long length) throws SQLException {
+    unbuffered().updateBlob(columnLabel, x, length);
+  }
+
+  @Override
+  public void updateBlob(String columnLabel, InputStream x) throws SQLException {
+    unbuffered().updateBlob(columnLabel, x);
+  }
+
+  @Override
+  public void updateBlob(String columnLabel, Blob x) throws SQLException {
+    unbuffered().updateBlob(columnLabel, x);
+  }
+
+  @Override
+  public void updateBlob(int columnIndex, InputStream x, long length) throws SQLException {
+    unbuffered().updateBlob(columnIndex, x, length);
+  }
+
+  @Override
+  public void updateBlob(int columnIndex, InputStream x) throws SQLException {
+    unbuffered().updateBlob(columnIndex, x);
+  }
+
+  @Override
+  public void updateBlob(int columnIndex, Blob x) throws SQLException {
+    unbuffered().updateBlob(columnIndex, x);
+  }
+
+  @Override
+  public void updateBoolean(String columnLabel, boolean x) throws SQLException {
+    unbuffered().updateBoolean(columnLabel, x);
+  }
+
+  @Override
+  public void updateBoolean(int columnIndex, boolean x) throws SQLException {
+    unbuffered().updateBoolean(columnIndex, x);
+  }
+
+  @Override
+  public void updateByte(String columnLabel, byte x) throws SQLException {
+    unbuffered().updateByte(columnLabel, x);
+  }
+
+  @Override
+  public void updateByte(int columnIndex, byte x) throws SQLException {
+    unbuffered().updateByte(columnIndex, x);
+  }
+
+  @Override
+  public void updateBytes(String columnLabel, byte[] x) throws SQLException {
+    unbuffered().updateBytes(columnLabel, x);
+  }
+
+  @Override
+  public void updateBytes(int columnIndex, byte[] x) throws SQLException {
+    unbuffered().updateBytes(columnIndex, x);
+  }
+
+  @Override
+  public void updateCharacterStream(String columnLabel, Reader x, int length) throws SQLException {
+    unbuffered().updateCharacterStream(columnLabel, x, length);
+  }
+
+  @Override
+  public void updateCharacterStream(String columnLabel, Reader x, long length) throws SQLException {
+    unbuffered().updateCharacterStream(columnLabel, x, length);
+  }
+
+  @Override
+  public void updateCharacterStream(String columnLabel, Reader x) throws SQLException {
+    unbuffered().updateCharacterStream(columnLabel, x);
+  }
+
+  @Override
+  public void updateCharacterStream(int columnIndex, Reader x, int length) throws SQLException {
+    unbuffered().updateCharacterStream(columnIndex, x, length);
+  }
+
+  @Override
+  public void updateCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+    unbuffered().updateCharacterStream(columnIndex, x, length);
+  }
+
+  @Override
+  public void updateCharacterStream(int columnIndex, Reader x) throws SQLException {
+    unbuffered().updateCharacterStream(columnIndex, x);
+  }
+
+  @Override
+  public void updateClob(String columnLabel, Reader x, long length) throws SQLException {
+    unbuffered().updateClob(columnLabel, x, length);
+  }
+
+  @Override
+  public void updateClob(String columnLabel, Reader x) throws SQLException {
+    unbuffered().updateClob(columnLabel, x);
+  }
+
+  @Override
+  public void updateClob(String columnLabel, Clob x) throws SQLException {
+    unbuffered().updateClob(columnLabel, x);
+  }
+
+  @Override
+  public void updateClob(int columnIndex, Reader x, long length) throws SQLException {
+    unbuffered().updateClob(columnIndex, x, length);
+  }
+
+  @Override
+  public void updateClob(int columnIndex, Reader x) throws SQLException {
+    unbuffered().updateClob(columnIndex, x);
+  }
+
+  @Override
+  public void updateClob(int columnIndex, Clob x) throws SQLException {
+    unbuffered().updateClob(columnIndex, x);
+  }
+
+  @Override
+  public void updateDate(String columnLabel, Date x) throws SQLException {
+    unbuffered().updateDate(columnLabel, x);
+  }
+
+  @Override
+  public void updateDate(int columnIndex, Date x) throws SQLException {
+    unbuffered().updateDate(columnIndex, x);
+  }
+
+  @Override
+  public void updateDouble(String columnLabel, double x) throws SQLException {
+    unbuffered().updateDouble(columnLabel, x);
+  }
+
+  @Override
+  public void updateDouble(int columnIndex, double x) throws SQLException {
+    unbuffered().updateDouble(columnIndex, x);
+  }
+
+  @Override
+  public void updateFloat(String columnLabel, float x) throws SQLException {
+    unbuffered().updateFloat(columnLabel, x);
+  }
+
+  @Override
+  public void updateFloat(int columnIndex, float x) throws SQLException {
+    unbuffered().updateFloat(columnIndex, x);
+  }
+
+  @Override
+  public void updateInt(String columnLabel, int x) throws SQLException {
+    unbuffered().updateInt(columnLabel, x);
+  }
+
+  @Override
+  public void updateInt(int columnIndex, int x) throws SQLException {
+    unbuffered().updateInt(columnIndex, x);
+  }
+
+  @Override
+  public void updateLong(String columnLabel, long length) throws SQLException {
+    unbuffered().updateLong(columnLabel, length);
+  }
+
+  @Override
+  public void updateLong(int columnIndex, long length) throws SQLException {
+    unbuffered().updateLong(columnIndex, length);
+  }
+
+  @Override
+  public void updateNCharacterStream(String columnLabel, Reader x, long length) throws SQLException {
+    unbuffered().updateNCharacterStream(columnLabel, x, length);
+  }
+
+  @Override
+  public void updateNCharacterStream(String columnLabel, Reader x) throws SQLException {
+    unbuffered().updateNCharacterStream(columnLabel, x);
+  }
+
+  @Override
+  public void updateNCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+    unbuffered().updateNCharacterStream(columnIndex, x, length);
+  }
+
+  @Override
+  public void updateNCharacterStream(int columnIndex, Reader x) throws SQLException {
+    unbuffered().updateNCharacterStream(columnIndex, x);
+  }
+
+  @Override
+  public void updateNClob(String columnLabel, Reader x, long length) throws SQLException {
+    unbuffered().updateNClob(columnLabel, x, length);
+  }
+
+  @Override
+  public void updateNClob(String columnLabel, Reader x) throws SQLException {
+    unbuffered().updateNClob(columnLabel, x);
+  }
+
+  @Override
+  public void updateNClob(String columnLabel, NClob x) throws SQLException {
+    unbuffered().updateNClob(columnLabel, x);
+  }
+
+  @Override
+  public void updateNClob(int columnIndex, Reader x, long length) throws SQLException {
+    unbuffered().updateNClob(columnIndex, x, length);
+  }
+
+  @Override
+  public void updateNClob(int columnIndex, Reader x) throws SQLException {
+    unbuffered().updateNClob(columnIndex, x);
+  }
+
+  @Override
+  public void updateNClob(int columnIndex, NClob x) throws SQLException {
+    unbuffered().updateNClob(columnIndex, x);
+  }
+
+  @Override
+  public void updateNString(String columnLabel, String x) throws SQLException {
+    unbuffered().updateNString(columnLabel, x);
+  }
+
+  @Override
+  public void updateNString(int columnIndex, String x) throws SQLException {
+    unbuffered().updateNString(columnIndex, x);
+  }
+
+  @Override
+  public void updateNull(String columnLabel) throws SQLException {
+    unbuffered().updateNull(columnLabel);
+  }
+
+  @Override
+  public void updateNull(int columnIndex) throws SQLException {
+    unbuffered().updateNull(columnIndex);
+  }
+
+  @Override
+  public void updateObject(String columnLabel, Object x, int scaleOrLength) throws SQLException {
+    unbuffered().updateObject(columnLabel, x, scaleOrLength);
+  }
+
+  @Override
+  public void updateObject(String columnLabel, Object x) throws SQLException {
+    unbuffered().updateObject(columnLabel, x);
+  }
+
+  @Override
+  public void updateObject(int columnIndex, Object x, int scaleOrLength) throws SQLException {
+    unbuffered().updateObject(columnIndex, x, scaleOrLength);
+  }
+
+  @Override
+  public void updateObject(int columnIndex, Object x) throws SQLException {
+    unbuffered().updateObject(columnIndex, x);
+  }
+
+  @Override
+  public void updateRef(String columnLabel, Ref x) throws SQLException {
+    unbuffered().updateRef(columnLabel, x);
+  }
+
+  @Override
+  public void updateRef(int columnIndex, Ref x) throws SQLException {
+    unbuffered().updateRef(columnIndex, x);
+  }
+
+  @Override
+  public void updateRow() throws SQLException {
+    unbuffered().updateRow();
+  }
+
+  @Override
+  public void updateRowId(String columnLabel, RowId x) throws SQLException {
+    unbuffered().updateRowId(columnLabel, x);
+  }
+
+  @Override
+  public void updateRowId(int columnIndex, RowId x) throws SQLException {
+    unbuffered().updateRowId(columnIndex, x);
+  }
+
+  @Override
+  public void updateSQLXML(String columnLabel, SQLXML x) throws SQLException {
+    unbuffered().updateSQLXML(columnLabel, x);
+  }
+
+  @Override
+  public void updateSQLXML(int columnIndex, SQLXML x) throws SQLException {
+    unbuffered().updateSQLXML(columnIndex, x);
+  }
+
+  @Override
+  public void updateShort(String columnLabel, short x) throws SQLException {
+    unbuffered().updateShort(columnLabel, x);
+  }
+
+  @Override
+  public void updateShort(int columnIndex, short x) throws SQLException {
+    unbuffered().updateShort(columnIndex, x);
+  }
+
+  @Override
+  public void updateString(String columnLabel, String x) throws SQLException {
+    unbuffered().updateString(columnLabel, x);
+  }
+
+  @Override
+  public void updateString(int columnIndex, String x) throws SQLException {
+    unbuffered().updateString(columnIndex, x);
+  }
+
+  @Override
+  public void updateTime(String columnLabel, Time x) throws SQLException {
+    unbuffered().updateTime(columnLabel, x);
+  }
+
+  @Override
+  public void updateTime(int columnIndex, Time x) throws SQLException {
+    unbuffered().updateTime(columnIndex, x);
+  }
+
+  @Override
+  public void updateTimestamp(String columnLabel, Timestamp x) throws SQLException {
+    unbuffered().updateTimestamp(columnLabel, x);
+  }
+
+  @Override
+  public void updateTimestamp(int columnIndex, Timestamp x) throws SQLException {
+    unbuffered().updateTimestamp(columnIndex, x);
+  }
+
+  private enum Getter {
+    STRING(String.class), NSTRING(String.class), BOOLEAN(Boolean.class), BYTE(Byte.class), SHORT(Short.class),
+    INT(Integer.class), LONG(Long.class), FLOAT(Float.class), DOUBLE(Double.class), BIG_DECIMAL(BigDecimal.class),
+    BYTES(byte[].class), DATE(Date.class), TIME(Time.class), TIMESTAMP(Timestamp.class), OBJECT(null);
+
+    // the type of the values returned, null for OBJECT as it depends on the column or the type argument
+    private final Class<?> valueType;
+
+    Getter(Class<?> valueType) {
+      this.valueType = valueType;
+    }
+  }
+
+  /**
+   * A getter called on a column, with its type or the time zone of its calendar.
+   */
+  private static final class Read {
+    private final int columnIndex;
+    private final Getter getter;
+    private final Class<?> type;
+    private final TimeZone timeZone;
+    // reused by the reading thread, as type handlers do with their calendars
+    private Calendar calendar;
+
+    Read(int columnIndex, Getter getter, Class<?> type, TimeZone timeZone) {
+      this.columnIndex = columnIndex;
+      this.getter = getter;
+      this.type = type;
+      this.timeZone = timeZone;
+    }
+
+    boolean matches(Getter getter, Class<?> type, Calendar cal) {
+      return this.getter == getter && this.type == type
+          && (cal == null ? timeZone == null : timeZone != null && timeZone.getID().equals(cal.getTimeZone().getID()));
+    }
+
+    Object readAhead(ResultSet rs) throws SQLException {
+      if (timeZone != null && calendar == null) {
+        calendar = Calendar.getInstance(timeZone);
+      }
+      return readFrom(rs, calendar);
+    }
+
+    Object readFrom(ResultSet rs, Calendar cal) throws SQLException {
+      final Object value;
+      switch (getter) {
+        case STRING:
+          return rs.getString(columnIndex);
+        case NSTRING:
+          return rs.getNString(columnIndex);
+        case BOOLEAN:
+          value = rs.getBoolean(columnIndex);
+          break;
+        case BYTE:
+          value = rs.getByte(columnIndex);
+          break;
+        case SHORT:
+          value = rs.getShort(columnIndex);
+          break;
+        case INT:
+          value = rs.getInt(columnIndex);
+          break;
+        case LONG:
+          value = rs.getLong(columnIndex);
+          break;
+        case FLOAT:
+          value = rs.getFloat(columnIndex);
+          break;
+        case DOUBLE:
+          value = rs.getDouble(columnIndex);
+          break;
+        case BIG_DECIMAL:
+          return rs.getBigDecimal(columnIndex);
+        case BYTES:
+          return rs.getBytes(columnIndex);
+        case DATE:
+          return cal == null ? rs.getDate(columnIndex) : rs.getDate(columnIndex, cal);
+        case TIME:
+          return cal == null ? rs.getTime(columnIndex) : rs.getTime(columnIndex, cal);
+        case TIMESTAMP:
+          return cal == null ? rs.getTimestamp(columnIndex) : rs.getTimestamp(columnIndex, cal);
+        default:
+          return type == null ? rs.getObject(columnIndex) : rs.getObject(columnIndex, type);
+      }
+      // a primitive getter returns a default value for a SQL NULL
+      return rs.wasNull() ? null : value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Read)) {
+        return false;
+      }
+      final Read other = (Read) o;
+      return columnIndex == other.columnIndex && getter == other.getter && type == other.type
+          && (timeZone == null ? other.timeZone == null
+              : other.timeZone != null && timeZone.getID().equals(other.timeZone.getID()));
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(columnIndex, getter, type);
+    }
+  }
+
+  /**
+   * The getters recorded for the first row of a result set, used to read the following rows ahead.
+   */
+  static final class ReadPlan {
+
+    private final Read[] reads;
+    // the first read of each column, then the next read of the same column, -1 if none
+    private final int[] firstReads;
+    private final int[] nextReads;
+
+    ReadPlan(List<Read> recordedReads, Columns columns) {
+      final List<Read> reads = new ArrayList<>(recordedReads);
+      final boolean[] recorded = new boolean[columns.count + 1];
+      recordedReads.forEach(read -> recorded[read.columnIndex] = true);
+      // a type handler may read a column for some rows only, e.g. when another column is NULL, or with another getter
+      for (int columnIndex = 1; columnIndex <= columns.count; columnIndex++) {
+        final Read read = new Read(columnIndex, getterOf(columns.types[columnIndex - 1]), null, null);
+        if (read.getter != Getter.OBJECT && !reads.contains(read)) {
+          reads.add(read);
+        }
+        if (!recorded[columnIndex]) {
+          reads.add(new Read(columnIndex, Getter.OBJECT, null, null));
+        }
+      }
+      this.reads = reads.toArray(new Read[0]);
+      this.firstReads = new int[columns.count + 1];
+      this.nextReads = new int[this.reads.length];
+      Arrays.fill(firstReads, -1);
+      for (int i = this.reads.length - 1; i >= 0; i--) {
+        final int columnIndex = this.reads[i].columnIndex;
+        nextReads[i] = firstReads[columnIndex];
+        firstReads[columnIndex] = i;
+      }
+    }
+
+    /**
+     * Returns the getter that the type handler for a JDBC type reads a column with.
+     */
+    private static Getter getterOf(int type) {
+      switch (type) {
+        case Types.CHAR:
+        case Types.VARCHAR:
+        case Types.LONGVARCHAR:
+          return Getter.STRING;
+        case Types.NCHAR:
+        case Types.NVARCHAR:
+        case Types.LONGNVARCHAR:
+          return Getter.NSTRING;
+        case Types.BIT:
+        case Types.BOOLEAN:
+          return Getter.BOOLEAN;
+        case Types.TINYINT:
+          return Getter.BYTE;
+        case Types.SMALLINT:
+          return Getter.SHORT;
+        case Types.INTEGER:
+          return Getter.INT;
+        case Types.BIGINT:
+          return Getter.LONG;
+        case Types.REAL:
+          return Getter.FLOAT;
+        case Types.FLOAT:
+        case Types.DOUBLE:
+          return Getter.DOUBLE;
+        case Types.NUMERIC:
+        case Types.DECIMAL:
+          return Getter.BIG_DECIMAL;
+        case Types.BINARY:
+        case Types.VARBINARY:
+        case Types.LONGVARBINARY:
+          return Getter.BYTES;
+        case Types.DATE:
+          return Getter.DATE;
+        case Types.TIME:
+          return Getter.TIME;
+        case Types.TIMESTAMP:
+          return Getter.TIMESTAMP;
+        default:
+          return Getter.OBJECT;
+      }
+    }
+
+    /**
+     * Reads the current row of a result set with the recorded getters. Must be called by a single thread.
+     */
+    Object[] readRow(ResultSet rs) throws SQLException {
+      final Object[] values = new Object[reads.length];
+      for (int i = 0; i < reads.length; i++) {
+        values[i] = reads[i].readAhead(rs);
+      }
+      return values;
+    }
+
+    int indexOf(int columnIndex, Getter getter, Class<?> type, Calendar cal) {
+      if (columnIndex < 1 || columnIndex >= firstReads.length) {
+        return -1;
+      }
+      for (int i = firstReads[columnIndex]; i > -1; i = nextReads[i]) {
+        if (reads[i].matches(getter, type, cal)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    /**
+     * Answers a getter that is not in the plan from the values read for its column: a SQL NULL reads as NULL with any
+     * getter, and a value of the type that the getter returns is returned as is.
+     */
+    Object readMissed(Object[] values, int columnIndex, Getter getter, Class<?> type, Calendar cal)
+        throws SQLException {
+      if (columnIndex < 1 || columnIndex >= firstReads.length) {
+        throw new SQLException("Invalid column index: " + columnIndex);
+      }
+      final Class<?> valueType = getter == Getter.OBJECT ? type : getter.valueType;
+      for (int i = firstReads[columnIndex]; i > -1; i = nextReads[i]) {
+        final Object value = values[i];
+        if (value == null) {
+          return null;
+        }
+        // a calendar converts the value, which only the driver can do
+        if (cal == null && valueType != null && valueType.isInstance(value)) {
+          return value;
+        }
+      }
+      throw new SQLException("Column " + columnIndex + " was not read with " + getter + " for the first row and the "
+          + "values read ahead cannot be returned for it. Disable parallelMapping for this statement.");
+    }
+  }
+
+  /**
+   * The column definitions of a result set, read once and shared by all buffered chunks of rows.
+   */
+  static final class Columns implements ResultSetMetaData {
+
+    private final int count;
+    private final String[] labels;
+    private final String[] names;
+    private final int[] types;
+    private final String[] typeNames;
+    private final String[] classNames;
+    private final Map<String, Integer> indexes = new HashMap<>();
+    private final Statement statement;
+
+    Columns(ResultSet rs) throws SQLException {
+      final ResultSetMetaData source = rs.getMetaData();
+      statement = rs.getStatement();
+      count = source.getColumnCount();
+      labels = new String[count];
+      names = new String[count];
+      types = new int[count];
+      typeNames = new String[count];
+      classNames = new String[count];
+      for (int i = 0; i < count; i++) {
+        labels[i] = source.getColumnLabel(i + 1);
+        names[i] = source.getColumnName(i + 1);
+        types[i] = source.getColumnType(i + 1);
+        typeNames[i] = source.getColumnTypeName(i + 1);
+        classNames[i] = source.getColumnClassName(i + 1);
+        if (labels[i] != null) {
+          indexes.putIfAbsent(labels[i].toUpperCase(Locale.ENGLISH), i + 1);
+        }
+      }
+      for (int i = 0; i < count; i++) {
+        if (names[i] != null) {
+          indexes.putIfAbsent(names[i].toUpperCase(Locale.ENGLISH), i + 1);
+        }
+      }
+    }
+
+    /**
+     * Returns whether all columns hold values that stay valid once the cursor of the result set moves on. Locators
+     * such as LOBs and arrays are only valid while the row is current.
+     */
+    boolean isBufferable() {
+      for (int type : types) {
+        switch (type) {
+          case Types.BLOB:
+          case Types.CLOB:
+          case Types.NCLOB:
+          case Types.ARRAY:
+          case Types.STRUCT:
+          case Types.REF:
+          case Types.SQLXML:
+          case Types.DATALINK:
+          case Types.OTHER:
+            return false;
+          default:
+            break;
+        }
+      }
+      return true;
+    }
+
+    int findColumn(String label) throws SQLException {
+      final Integer index = indexes.get(label.toUpperCase(Locale.ENGLISH));
+      if (index == null) {
+        throw new SQLException("Column '" + label + "' not found.");
+      }
+      return index;
+    }
+
+    @Override
+    public int getColumnCount() throws SQLException {
+      return count;
+    }
+
+    @Override
+    public String getColumnLabel(int columnIndex) throws SQLException {
+      return labels[checkIndex(columnIndex)];
+    }
+
+    @Override
+    public String getColumnName(int columnIndex) throws SQLException {
+      return names[checkIndex(columnIndex)];
+    }
+
+    @Override
+    public int getColumnType(int columnIndex) throws SQLException {
+      return types[checkIndex(columnIndex)];
+    }
+
+    @Override
+    public String getColumnTypeName(int columnIndex) throws SQLException {
+      return typeNames[checkIndex(columnIndex)];
+    }
+
+    @Override
+    public String getColumnClassName(int columnIndex) throws SQLException {
+      return classNames[checkIndex(columnIndex)];
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> type) throws SQLException {
+      if (type.isInstance(this)) {
+        return type.cast(this);
+      }
+      throw new SQLException("Buffered columns are not a wrapper for " + type.getName() + ".");
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> type) throws SQLException {
+      return type.isInstance(this);
+    }
+
+    private int checkIndex(int columnIndex) throws SQLException {
+      if (columnIndex < 1 || columnIndex > count) {
+        throw new SQLException("Invalid column index: " + columnIndex);
+      }
+      return columnIndex - 1;
+    }
+
+    private static SQLException unsupported() {
+      return new SQLFeatureNotSupportedException("Only the column labels, names and types of buffered rows are known.");
+    }
+
+    // other column attributes are not buffered
+
+    @Override
+    public String getCatalogName(int columnIndex) throws SQLException {
+      throw unsupported();
+    }
+
+    @Override
+    public int getColumnDisplaySize(int columnIndex) throws SQLException {
+      throw unsupported();
+    }
+
+    @Override
+    public int getPrecision(int columnIndex) throws SQLException {
+      throw unsupported();
+    }
+
+    @Override
+    public int getScale(int columnIndex) throws SQLException {
+      throw unsupported();
+    }
+
+    @Override
+    public String getSchemaName(int columnIndex) throws SQLException {
+      throw unsupported();
+    }
+
+    @Override
+    public String getTableName(int columnIndex) throws SQLException {
+      throw unsupported();
+    }
+
+    @Override
+    public boolean isAutoIncrement(int columnIndex) throws SQLException {
+      throw unsupported();
+    }
+
+    @Override
+    public boolean isCaseSensitive(int columnIndex) throws SQLException {
+      throw unsupported();
+    }
+
+    @Override
+    public boolean isCurrency(int columnIndex) throws SQLException {
+      throw unsupported();
+    }
+
+    @Override
+    public boolean isDefinitelyWritable(int columnIndex) throws SQLException {
+      throw unsupported();
+    }
+
+    @Override
+    public int isNullable(int columnIndex) throws SQLException {
+      throw unsupported();
+    }
+
+    @Override
+    public boolean isReadOnly(int columnIndex) throws SQLException {
+      throw unsupported();
+    }
+
+    @Override
+    public boolean isSearchable(int columnIndex) throws SQLException {
+      throw unsupported();
+    }
+
+    @Override
+    public boolean isSigned(int columnIndex) throws SQLException {
+      throw unsupported();
+    }
+
+    @Override
+    public boolean isWritable(int columnIndex) throws SQLException {
+      throw unsupported();
+    }
+  }
+
+}
@@ -0,0 +1,80 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.resultset;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.apache.ibatis.executor.result.ResultMapException;
+import org.apache.ibatis.type.TypeHandler;
+
+/**
+ * Base class of the row mappers generated by {@link RowMapperCompiler}. A generated mapper reads the columns of the
+ * current row and calls the setters of the result object directly, in place of the reflective automatic and property
+ * mappings.
+ * <p>
+ * This class is public only because generated mappers are defined in the package of the result type. It is not meant
+ * to be used by applications.
+ *
+ * @since 3.6.0
+ */
+public abstract class CompiledRowMapper {
+
+  protected TypeHandler<?>[] typeHandlers;
+  protected String[] columns;
+  protected int[] columnIndexes;
+  protected boolean callSettersOnNulls;
+
+  void init(TypeHandler<?>[] typeHandlers, String[] columns, int[] columnIndexes, boolean callSettersOnNulls) {
+    this.typeHandlers = typeHandlers;
+    this.columns = columns;
+    this.columnIndexes = columnIndexes;
+    this.callSettersOnNulls = callSettersOnNulls;
+  }
+
+  /**
+   * Reports a failed read of the column of an assignment, in the way {@link org.apache.ibatis.type.BaseTypeHandler}
+   * reports it for reads that go through the type handler.
+   *
+   * @param assignment
+   *          the index of the assignment
+   * @param byName
+   *          whether the column was read by name
+   * @param e
+   *          the failure
+   *
+   * @return the exception to throw
+   */
+  protected ResultMapException newResultMapException(int assignment, boolean byName, Exception e) {
+    return ResultSetWrapper.newResultMapException(columns[assignment], byName ? -1 : columnIndexes[assignment], e);
+  }
+
+  /**
+   * Maps the columns of the current row to the properties of the result object.
+   *
+   * @param rs
+   *          the result set positioned on the row to map
+   * @param resultObject
+   *          the result object
+   *
+   * @return {@code true} if at least one non null value was found
+   *
+   * @throws SQLException
+   *           if a column cannot be read
+   */
+  public abstract boolean map(ResultSet rs, Object resultObject) throws SQLException;
+
+}
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2025 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 package org.apache.ibatis.executor.resultset;
 
 import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
 import java.sql.CallableStatement;
@@ -23,17 +24,24 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.text.MessageFormat;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.ibatis.annotations.AutomapConstructor;
 import org.apache.ibatis.annotations.Param;
@@ -41,14 +49,17 @@ import org.apache.ibatis.binding.MapperMethod.ParamMap;
 import org.apache.ibatis.cache.CacheKey;
 import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.cursor.defaults.DefaultCursor;
+import org.apache.ibatis.cursor.defaults.PrefetchingCursor;
 import org.apache.ibatis.executor.ErrorContext;
 import org.apache.ibatis.executor.Executor;
 import org.apache.ibatis.executor.ExecutorException;
 import org.apache.ibatis.executor.loader.ResultLoader;
 import org.apache.ibatis.executor.loader.ResultLoaderMap;
 import org.apache.ibatis.executor.parameter.ParameterHandler;
+import org.apache.ibatis.executor.result.BudgetedResultHandler;
 import org.apache.ibatis.executor.result.DefaultResultContext;
 import org.apache.ibatis.executor.result.DefaultResultHandler;
+import org.apache.ibatis.executor.result.RawResultHandler;
 import org.apache.ibatis.executor.result.ResultMapException;
 import org.apache.ibatis.mapping.BoundSql;
 import org.apache.ibatis.mapping.Discriminator;
@@ -57,10 +68,17 @@ import org.apache.ibatis.mapping.ParameterMapping;
 import org.apache.ibatis.mapping.ParameterMode;
 import org.apache.ibatis.mapping.ResultMap;
 import org.apache.ibatis.mapping.ResultMapping;
+import org.apache.ibatis.reflection.ExceptionUtil;
 import org.apache.ibatis.reflection.MetaClass;
 import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.ReflectionException;
+import org.apache.ibatis.reflection.Reflector;
 import org.apache.ibatis.reflection.ReflectorFactory;
 import org.apache.ibatis.reflection.factory.ObjectFactory;
+import org.apache.ibatis.reflection.invoker.Invoker;
+import org.apache.ibatis.reflection.invoker.PrimitiveSetter;
+import org.apache.ibatis.reflection.invoker.SetMethodInvoker;
+import org.apache.ibatis.reflection.wrapper.BeanWrapper;
 import org.apache.ibatis.session.AutoMappingBehavior;
 import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.ResultContext;
@@ -82,6 +100,8 @@ public class DefaultResultSetHandler implements ResultSetHandler {
 
   private static final Object DEFERRED = new Object();
 
+  private static final int PARALLEL_MAPPING_CHUNK_SIZE = 256;
+
   private final Executor executor;
   private final Configuration configuration;
   private final MappedStatement mappedStatement;
@@ -100,6 +120,8 @@ public class DefaultResultSetHandler implements ResultSetHandler {
   private final Map<CacheKey, Object> nestedResultObjects = new HashMap<>();
   private final Map<String, Object> ancestorObjects = new HashMap<>();
   private Object previousRowValue;
+  // row keys of recently completed parents (resultOrdered only)
+  private Map<CacheKey, Boolean> completedRowKeys;
 
   // multiple resultsets
   private final Map<String, ResultMapping> nextResultMaps = new HashMap<>();
@@ -117,11 +139,14 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     public ResultMapping propertyMapping;
   }
 
-  private static class UnMappedColumnAutoMapping {
+  static class UnMappedColumnAutoMapping {
     private final String column;
     private final String property;
     private final TypeHandler<?> typeHandler;
     private final boolean primitive;
+    // set when the value can be moved from the result set to the property without boxing
+    private Class<?> targetType;
+    private PrimitiveSetter primitiveSetter;
 
     public UnMappedColumnAutoMapping(String column, String property, TypeHandler<?> typeHandler, boolean primitive) {
       this.column = column;
@@ -190,7 +215,7 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     try {
       final String resultMapId = parameterMapping.getResultMapId();
       final ResultMap resultMap = configuration.getResultMap(resultMapId);
-      final ResultSetWrapper rsw = new ResultSetWrapper(rs, configuration);
+      final ResultSetWrapper rsw = new ResultSetWrapper(rs, configuration, mappedStatement);
       if (this.resultHandler == null) {
         final DefaultResultHandler resultHandler = new DefaultResultHandler(objectFactory);
         handleRowValues(rsw, resultMap, resultHandler, new RowBounds(), null);
@@ -260,7 +285,16 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     }
 
     ResultMap resultMap = resultMaps.get(0);
-    return new DefaultCursor<>(this, resultMap, rsw, rowBounds);
+    Cursor<E> cursor = new DefaultCursor<>(this, resultMap, rsw, rowBounds);
+    Integer prefetchSize = configuration.getCursorPrefetchSize();
+    if (prefetchSize == null || prefetchSize <= 0) {
+      return cursor;
+    }
+    if (rsw != null && mappedStatement.getFetchSize() == null && configuration.getDefaultFetchSize() == null) {
+      // let the driver fetch as many rows as the prefetch queue can hold
+      rsw.getResultSet().setFetchSize(prefetchSize);
+    }
+    return new PrefetchingCursor<>(cursor, prefetchSize);
   }
 
   private ResultSetWrapper getFirstResultSet(Statement stmt) throws SQLException {
@@ -289,7 +323,7 @@ public class DefaultResultSetHandler implements ResultSetHandler {
       throw e1 != null ? e1 : e;
     }
 
-    return rs != null ? new ResultSetWrapper(rs, configuration) : null;
+    return rs != null ? new ResultSetWrapper(rs, configuration, mappedStatement) : null;
   }
 
   private ResultSetWrapper getNextResultSet(Statement stmt) {
@@ -306,7 +340,7 @@ public class DefaultResultSetHandler implements ResultSetHandler {
         if (rs == null) {
           return getNextResultSet(stmt);
         } else {
-          return new ResultSetWrapper(rs, configuration);
+          return new ResultSetWrapper(rs, configuration, mappedStatement);
         }
       }
     } catch (Exception e) {
@@ -342,12 +376,23 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     try {
       if (parentMapping != null) {
         handleRowValues(rsw, resultMap, null, RowBounds.DEFAULT, parentMapping);
+      } else if (resultHandler instanceof RawResultHandler) {
+        // rows are read by the handler, without mapping
+        skipRows(rsw.getResultSet(), rowBounds);
+        ((RawResultHandler) resultHandler).handleResultSet(rsw, rowBounds.getLimit());
       } else if (resultHandler == null) {
-        DefaultResultHandler defaultResultHandler = new DefaultResultHandler(objectFactory);
-        handleRowValues(rsw, resultMap, defaultResultHandler, rowBounds, null);
-        multipleResults.add(defaultResultHandler.getResultList());
+        DefaultResultHandler defaultResultHandler = createDefaultResultHandler(resultMap);
+        try {
+          handleRowValuesForResultSet(rsw, resultMap, defaultResultHandler);
+          multipleResults.add(defaultResultHandler.getResultList());
+        } catch (SQLException | RuntimeException | Error e) {
+          if (defaultResultHandler instanceof BudgetedResultHandler) {
+            ((BudgetedResultHandler) defaultResultHandler).discard();
+          }
+          throw e;
+        }
       } else {
-        handleRowValues(rsw, resultMap, resultHandler, rowBounds, null);
+        handleRowValuesForResultSet(rsw, resultMap, resultHandler);
       }
     } finally {
       // issue #228 (close resultsets)
@@ -355,6 +400,32 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     }
   }
 
+  private DefaultResultHandler createDefaultResultHandler(ResultMap resultMap) {
+    Long memoryBudget = mappedStatement.getResultMemoryBudget();
+    if (memoryBudget == null) {
+      memoryBudget = configuration.getResultMemoryBudget();
+    }
+    if (memoryBudget == null || memoryBudget <= 0) {
+      return new DefaultResultHandler(objectFactory);
+    }
+    // objects of nested result maps are still being filled when they are handed to the result handler
+    boolean spillable = !resultMap.hasNestedResultMaps() && !resultMap.hasNestedQueries();
+    return new BudgetedResultHandler(objectFactory, mappedStatement.getId(), memoryBudget,
+        configuration.getResultBudgetExceededBehavior(), spillable);
+  }
+
+  private void handleRowValuesForResultSet(ResultSetWrapper rsw, ResultMap resultMap, ResultHandler<?> resultHandler)
+      throws SQLException {
+    if (mappedStatement.isParallelMapping() && canMapInParallel(resultMap)) {
+      final BufferedRowsResultSet.Columns columns = new BufferedRowsResultSet.Columns(rsw.getResultSet());
+      if (columns.isBufferable()) {
+        handleRowValuesInParallel(rsw, resultMap, resultHandler, columns);
+        return;
+      }
+    }
+    handleRowValues(rsw, resultMap, resultHandler, rowBounds, null);
+  }
+
   @SuppressWarnings("unchecked")
   private List<Object> collapseSingleResultList(List<Object> multipleResults) {
     return multipleResults.size() == 1 ? (List<Object>) multipleResults.get(0) : multipleResults;
@@ -415,6 +486,116 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     }
   }
 
+  //
+  // HANDLE ROWS FOR SIMPLE RESULTMAP IN PARALLEL
+  //
+
+  private boolean canMapInParallel(ResultMap resultMap) {
+    // nested queries and lazy loading would use the executor from several threads
+    return !resultMap.hasNestedResultMaps() && !resultMap.hasNestedQueries() && resultMap.getDiscriminator() == null
+        && !resultMap.hasResultMapsUsingConstructorCollection();
+  }
+
+  private void handleRowValuesInParallel(ResultSetWrapper rsw, ResultMap resultMap, ResultHandler<?> resultHandler,
+      BufferedRowsResultSet.Columns columns) throws SQLException {
+    final DefaultResultContext<Object> resultContext = new DefaultResultContext<>();
+    final ResultSet resultSet = rsw.getResultSet();
+    skipRows(resultSet, rowBounds);
+    if (!shouldProcessMoreRows(resultContext, rowBounds) || resultSet.isClosed() || !resultSet.next()) {
+      return;
+    }
+    // the first row is mapped on this thread, recording the getters called by the type handlers
+    final BufferedRowsResultSet recorder = BufferedRowsResultSet.recording(columns, resultSet);
+    storeObject(resultHandler, resultContext,
+        getRowValue(new ResultSetWrapper(recorder, configuration), resultMap, null, null), null, resultSet);
+    final BufferedRowsResultSet.ReadPlan readPlan = recorder.getReadPlan();
+    if (readPlan == null) {
+      // a value cannot be read ahead, e.g. a stream
+      while (shouldProcessMoreRows(resultContext, rowBounds) && !resultSet.isClosed() && resultSet.next()) {
+        storeObject(resultHandler, resultContext, getRowValue(rsw, resultMap, null, null), null, resultSet);
+      }
+      return;
+    }
+    final ForkJoinPool pool = ForkJoinPool.commonPool();
+    final int maxChunksInFlight = pool.getParallelism() * 2;
+    final Deque<Future<List<Object>>> chunksInFlight = new ArrayDeque<>();
+    final AtomicBoolean planMissed = new AtomicBoolean();
+    boolean moreRows = true;
+    try {
+      // rows are read on this thread, mapped by the pool and handed to the result handler in their original order
+      int rowsRead = 1;
+      while (shouldProcessMoreRows(resultContext, rowBounds)) {
+        while (moreRows && !planMissed.get() && chunksInFlight.size() < maxChunksInFlight) {
+          final List<Object[]> rows = new ArrayList<>(PARALLEL_MAPPING_CHUNK_SIZE);
+          while (rows.size() < PARALLEL_MAPPING_CHUNK_SIZE && rowsRead < rowBounds.getLimit() && !resultSet.isClosed()
+              && resultSet.next()) {
+            rows.add(readPlan.readRow(resultSet));
+            rowsRead++;
+          }
+          moreRows = rows.size() == PARALLEL_MAPPING_CHUNK_SIZE;
+          if (!rows.isEmpty()) {
+            chunksInFlight.add(pool.submit(() -> mapBufferedRows(resultMap, columns, readPlan, rows, planMissed)));
+          }
+        }
+        final Future<List<Object>> chunk = chunksInFlight.poll();
+        if (chunk == null) {
+          break;
+        }
+        for (Object rowValue : getMappedRows(chunk)) {
+          if (!shouldProcessMoreRows(resultContext, rowBounds)) {
+            break;
+          }
+          storeObject(resultHandler, resultContext, rowValue, null, resultSet);
+        }
+      }
+    } finally {
+      chunksInFlight.forEach(chunk -> chunk.cancel(false));
+    }
+    // a type handler read a row differently from the first one, the rows not read ahead yet are mapped on this thread
+    while (moreRows && planMissed.get() && shouldProcessMoreRows(resultContext, rowBounds)
+        && !resultSet.isClosed() && resultSet.next()) {
+      storeObject(resultHandler, resultContext, getRowValue(rsw, resultMap, null, null), null, resultSet);
+    }
+  }
+
+  private List<Object> mapBufferedRows(ResultMap resultMap, BufferedRowsResultSet.Columns columns,
+      BufferedRowsResultSet.ReadPlan readPlan, List<Object[]> rows, AtomicBoolean planMissed) throws SQLException {
+    // each chunk gets its own handler as the mapping state of a handler is not thread safe
+    final DefaultResultSetHandler handler = new DefaultResultSetHandler(executor, mappedStatement, parameterHandler,
+        null, boundSql, rowBounds);
+    final BufferedRowsResultSet bufferedRows = BufferedRowsResultSet.replaying(columns, readPlan, rows);
+    final ResultSetWrapper rsw = new ResultSetWrapper(bufferedRows, configuration);
+    final List<Object> rowValues = new ArrayList<>(rows.size());
+    while (bufferedRows.next()) {
+      rowValues.add(handler.getRowValue(rsw, resultMap, null, null));
+    }
+    if (bufferedRows.hasMissedPlan()) {
+      planMissed.set(true);
+    }
+    return rowValues;
+  }
+
+  private List<Object> getMappedRows(Future<List<Object>> chunk) throws SQLException {
+    try {
+      return chunk.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ExecutorException("Interrupted while mapping rows in parallel.", e);
+    } catch (ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof SQLException) {
+        throw (SQLException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new ExecutorException("Error mapping rows in parallel. Cause: " + cause, cause);
+    }
+  }
+
   private void storeObject(ResultHandler<?> resultHandler, DefaultResultContext<Object> resultContext, Object rowValue,
       ResultMapping parentMapping, ResultSet rs) throws SQLException {
     if (parentMapping != null) {
@@ -463,12 +644,17 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     final ResultLoaderMap lazyLoader = new ResultLoaderMap();
     Object rowValue = createResultObject(rsw, resultMap, lazyLoader, columnPrefix, parentRowKey);
     if (rowValue != null && !hasTypeHandlerForResultObject(rsw, resultMap.getType())) {
-      final MetaObject metaObject = configuration.newMetaObject(rowValue);
       boolean foundValues = this.useConstructorMappings;
-      if (shouldApplyAutomaticMappings(resultMap, false)) {
-        foundValues = applyAutomaticMappings(rsw, resultMap, metaObject, columnPrefix) || foundValues;
+      final CompiledRowMapper compiledRowMapper = getCompiledRowMapper(rsw, resultMap, rowValue, columnPrefix);
+      if (compiledRowMapper != null) {
+        foundValues = compiledRowMapper.map(rsw.getResultSet(), rowValue) || foundValues;
+      } else {
+        final MetaObject metaObject = configuration.newMetaObject(rowValue);
+        if (shouldApplyAutomaticMappings(resultMap, false)) {
+          foundValues = applyAutomaticMappings(rsw, resultMap, metaObject, columnPrefix) || foundValues;
+        }
+        foundValues = applyPropertyMappings(rsw, resultMap, metaObject, lazyLoader, columnPrefix) || foundValues;
       }
-      foundValues = applyPropertyMappings(rsw, resultMap, metaObject, lazyLoader, columnPrefix) || foundValues;
       foundValues = lazyLoader.size() > 0 || foundValues;
       rowValue = foundValues || configuration.isReturnInstanceForEmptyRow() ? rowValue : null;
     }
@@ -605,7 +791,10 @@ public class DefaultResultSetHandler implements ResultSetHandler {
               "No type handler found for '" + javaType + "' and JDBC type '" + rsw.getJdbcType(column) + "'");
         }
       }
-      return typeHandler.getResult(rs, column);
+      if (propertyMapping.isDeduplicate()) {
+        return rsw.getDeduplicatedResult(typeHandler, columnPrefix, propertyMapping.getColumn());
+      }
+      return rsw.getResult(typeHandler, columnPrefix, propertyMapping.getColumn());
     }
   }
 
@@ -627,40 +816,56 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     final String mapKey = resultMap.getId() + ":" + columnPrefix;
     List<UnMappedColumnAutoMapping> autoMapping = autoMappingsCache.get(mapKey);
     if (autoMapping == null) {
-      autoMapping = new ArrayList<>();
-      final List<String> unmappedColumnNames = rsw.getUnmappedColumnNames(resultMap, columnPrefix);
-      // Remove the entry to release the memory
-      List<String> mappedInConstructorAutoMapping = constructorAutoMappingColumns.remove(mapKey);
-      if (mappedInConstructorAutoMapping != null) {
-        unmappedColumnNames.removeAll(mappedInConstructorAutoMapping);
-      }
-      for (String columnName : unmappedColumnNames) {
-        String propertyName = columnName;
-        if (columnPrefix != null && !columnPrefix.isEmpty()) {
-          // When columnPrefix is specified,
-          // ignore columns without the prefix.
-          if (!columnName.toUpperCase(Locale.ENGLISH).startsWith(columnPrefix)) {
-            continue;
-          }
-          propertyName = columnName.substring(columnPrefix.length());
+      // Reuse the mappings built by a previous execution for the same columns
+      autoMapping = rsw.getAutoMappings(mapKey);
+      if (autoMapping == null) {
+        autoMapping = new ArrayList<>();
+        List<String> unmappedColumnNames = rsw.getUnmappedColumnNames(resultMap, columnPrefix);
+        // Remove the entry to release the memory
+        List<String> mappedInConstructorAutoMapping = constructorAutoMappingColumns.remove(mapKey);
+        if (mappedInConstructorAutoMapping != null) {
+          unmappedColumnNames = new ArrayList<>(unmappedColumnNames);
+          unmappedColumnNames.removeAll(mappedInConstructorAutoMapping);
         }
-        final String property = metaObject.findProperty(propertyName, configuration.isMapUnderscoreToCamelCase());
-        if (property != null && metaObject.hasSetter(property)) {
-          if (resultMap.getMappedProperties().contains(property)) {
-            continue;
+        boolean unknownColumns = false;
+        for (String columnName : unmappedColumnNames) {
+          String propertyName = columnName;
+          if (columnPrefix != null && !columnPrefix.isEmpty()) {
+            // When columnPrefix is specified,
+            // ignore columns without the prefix.
+            if (!columnName.toUpperCase(Locale.ENGLISH).startsWith(columnPrefix)) {
+              continue;
+            }
+            propertyName = columnName.substring(columnPrefix.length());
           }
-          final Type propertyType = metaObject.getGenericSetterType(property).getKey();
-          TypeHandler<?> typeHandler = rsw.getTypeHandler(propertyType, columnName);
-          if (typeHandler != null) {
-            autoMapping.add(new UnMappedColumnAutoMapping(columnName, property, typeHandler,
-                propertyType instanceof Class && ((Class<?>) propertyType).isPrimitive()));
+          final String property = metaObject.findProperty(propertyName, configuration.isMapUnderscoreToCamelCase());
+          if (property != null && metaObject.hasSetter(property)) {
+            if (resultMap.getMappedProperties().contains(property)) {
+              continue;
+            }
+            final Type propertyType = metaObject.getGenericSetterType(property).getKey();
+            TypeHandler<?> typeHandler = rsw.getTypeHandler(propertyType, columnName);
+            if (typeHandler != null) {
+              UnMappedColumnAutoMapping mapping = new UnMappedColumnAutoMapping(columnName, property, typeHandler,
+                  propertyType instanceof Class && ((Class<?>) propertyType).isPrimitive());
+              if (mapping.primitive && propertyType == ResultSetWrapper.getPrimitiveResultType(typeHandler)) {
+                setPrimitiveSetter(mapping, metaObject);
+              }
+              autoMapping.add(mapping);
+            } else {
+              unknownColumns = true;
+              configuration.getAutoMappingUnknownColumnBehavior().doAction(mappedStatement, columnName, property,
+                  propertyType);
+            }
           } else {
-            configuration.getAutoMappingUnknownColumnBehavior().doAction(mappedStatement, columnName, property,
-                propertyType);
+            unknownColumns = true;
+            configuration.getAutoMappingUnknownColumnBehavior().doAction(mappedStatement, columnName,
+                property != null ? property : propertyName, null);
           }
-        } else {
-          configuration.getAutoMappingUnknownColumnBehavior().doAction(mappedStatement, columnName,
-              property != null ? property : propertyName, null);
+        }
+        if (!unknownColumns) {
+          // Unknown columns must be reported on each execution
+          rsw.putAutoMappings(mapKey, autoMapping);
         }
       }
       autoMappingsCache.put(mapKey, autoMapping);
@@ -668,13 +873,25 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     return autoMapping;
   }
 
+  private void setPrimitiveSetter(UnMappedColumnAutoMapping mapping, MetaObject metaObject) {
+    if (mapping.property.indexOf('.') == -1 && metaObject.getObjectWrapper() instanceof BeanWrapper) {
+      final Class<?> targetType = metaObject.getOriginalObject().getClass();
+      mapping.primitiveSetter = reflectorFactory.findForClass(targetType).getPrimitiveSetter(mapping.property);
+      mapping.targetType = targetType;
+    }
+  }
+
   private boolean applyAutomaticMappings(ResultSetWrapper rsw, ResultMap resultMap, MetaObject metaObject,
       String columnPrefix) throws SQLException {
     List<UnMappedColumnAutoMapping> autoMapping = createAutomaticMappings(rsw, resultMap, metaObject, columnPrefix);
     boolean foundValues = false;
     if (!autoMapping.isEmpty()) {
       for (UnMappedColumnAutoMapping mapping : autoMapping) {
-        final Object value = mapping.typeHandler.getResult(rsw.getResultSet(), mapping.column);
+        if (mapping.primitiveSetter != null && mapping.targetType == metaObject.getOriginalObject().getClass()) {
+          foundValues = applyPrimitiveAutomaticMapping(rsw, mapping, metaObject.getOriginalObject()) || foundValues;
+          continue;
+        }
+        final Object value = getAutoMappedResult(rsw, mapping.typeHandler, mapping.column);
         if (value != null) {
           foundValues = true;
         }
@@ -687,6 +904,134 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     return foundValues;
   }
 
+  private Object getAutoMappedResult(ResultSetWrapper rsw, TypeHandler<?> typeHandler, String column)
+      throws SQLException {
+    if (configuration.isDeduplicateAutoMappedValues()) {
+      return rsw.getDeduplicatedResult(typeHandler, null, column);
+    }
+    return rsw.getResult(typeHandler, column);
+  }
+
+  private boolean applyPrimitiveAutomaticMapping(ResultSetWrapper rsw, UnMappedColumnAutoMapping mapping,
+      Object rowValue) throws SQLException {
+    final Class<?> primitiveType = ResultSetWrapper.getPrimitiveResultType(mapping.typeHandler);
+    try {
+      try {
+        if (primitiveType == int.class) {
+          final int value = rsw.getIntResult(mapping.typeHandler, mapping.column);
+          if (value == 0 && rsw.wasNull()) {
+            return false;
+          }
+          mapping.primitiveSetter.setInt(rowValue, value);
+        } else if (primitiveType == long.class) {
+          final long value = rsw.getLongResult(mapping.typeHandler, mapping.column);
+          if (value == 0L && rsw.wasNull()) {
+            return false;
+          }
+          mapping.primitiveSetter.setLong(rowValue, value);
+        } else {
+          final double value = rsw.getDoubleResult(mapping.typeHandler, mapping.column);
+          if (value == 0.0d && rsw.wasNull()) {
+            return false;
+          }
+          mapping.primitiveSetter.setDouble(rowValue, value);
+        }
+      } catch (IllegalAccessException | InvocationTargetException e) {
+        throw ExceptionUtil.unwrapThrowable(e);
+      }
+    } catch (SQLException | RuntimeException e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new ReflectionException("Could not set property '" + mapping.property + "' of '" + rowValue.getClass()
+          + "' Cause: " + t.toString(), t);
+    }
+    return true;
+  }
+
+  //
+  // GENERATED ROW MAPPERS
+  //
+
+  private CompiledRowMapper getCompiledRowMapper(ResultSetWrapper rsw, ResultMap resultMap, Object rowValue,
+      String columnPrefix) throws SQLException {
+    if (!configuration.isUseCompiledRowMappers() || columnPrefix != null || resultMap.hasNestedResultMaps()
+        || resultMap.hasNestedQueries() || resultMap.getDiscriminator() != null) {
+      return null;
+    }
+    final String mapKey = resultMap.getId() + ":" + rowValue.getClass().getName();
+    Optional<CompiledRowMapper> compiledRowMapper = rsw.getCompiledRowMapper(mapKey);
+    if (compiledRowMapper == null) {
+      compiledRowMapper = Optional.ofNullable(compileRowMapper(rsw, resultMap, rowValue));
+      rsw.putCompiledRowMapper(mapKey, compiledRowMapper);
+    }
+    return compiledRowMapper.orElse(null);
+  }
+
+  private CompiledRowMapper compileRowMapper(ResultSetWrapper rsw, ResultMap resultMap, Object rowValue)
+      throws SQLException {
+    if (rowValue instanceof Map || rowValue instanceof Collection
+        || configuration.getObjectWrapperFactory().hasWrapperFor(rowValue)) {
+      return null;
+    }
+    final MetaObject metaObject = configuration.newMetaObject(rowValue);
+    final Reflector reflector = reflectorFactory.findForClass(rowValue.getClass());
+    final List<RowMapperCompiler.Assignment> assignments = new ArrayList<>();
+    if (shouldApplyAutomaticMappings(resultMap, false)) {
+      final List<UnMappedColumnAutoMapping> autoMappings = createAutomaticMappings(rsw, resultMap, metaObject, null);
+      if (!autoMappings.isEmpty() && configuration.isDeduplicateAutoMappedValues()) {
+        return null;
+      }
+      for (UnMappedColumnAutoMapping mapping : autoMappings) {
+        if (!addAssignment(assignments, rsw, reflector, mapping.property, mapping.column, mapping.typeHandler)) {
+          return null;
+        }
+      }
+    }
+    final Set<String> mappedColumnNames = rsw.getMappedColumnNames(resultMap, null);
+    for (ResultMapping propertyMapping : resultMap.getPropertyResultMappings()) {
+      if (propertyMapping.isCompositeResult() || propertyMapping.getResultSet() != null
+          || JdbcType.CURSOR.equals(propertyMapping.getJdbcType())) {
+        return null;
+      }
+      final String column = propertyMapping.getColumn();
+      final String property = propertyMapping.getProperty();
+      if (column == null || property == null || !mappedColumnNames.contains(column.toUpperCase(Locale.ENGLISH))) {
+        continue;
+      }
+      if (propertyMapping.isDeduplicate() || !reflector.hasSetter(property)) {
+        return null;
+      }
+      TypeHandler<?> typeHandler = propertyMapping.getTypeHandler();
+      if (typeHandler == null) {
+        typeHandler = rsw.getTypeHandler(reflector.getGenericSetterType(property).getKey(), column);
+      }
+      if (typeHandler == null || !addAssignment(assignments, rsw, reflector, property, column, typeHandler)) {
+        return null;
+      }
+    }
+    try {
+      return RowMapperCompiler.compile(rowValue.getClass(), assignments, configuration.isCallSettersOnNulls());
+    } catch (LinkageError e) {
+      // Javassist is not available
+      return null;
+    }
+  }
+
+  private boolean addAssignment(List<RowMapperCompiler.Assignment> assignments, ResultSetWrapper rsw,
+      Reflector reflector, String property, String column, TypeHandler<?> typeHandler) {
+    if (property.indexOf('.') > -1 || property.indexOf('[') > -1 || !reflector.hasSetter(property)) {
+      return false;
+    }
+    final Invoker invoker = reflector.getSetInvoker(property);
+    final int columnIndex = rsw.getResultColumnIndex(null, column);
+    if (!SetMethodInvoker.class.equals(invoker.getClass()) || columnIndex == -1) {
+      return false;
+    }
+    assignments.add(new RowMapperCompiler.Assignment(column, columnIndex + 1, typeHandler,
+        ((SetMethodInvoker) invoker).getMethod()));
+    return true;
+  }
+
   // MULTIPLE RESULT SETS
 
   private void linkToParents(ResultSet rs, ResultMapping parentMapping, Object rowValue) throws SQLException {
@@ -825,7 +1170,8 @@ public class DefaultResultSetHandler implements ResultSetHandler {
           if (typeHandler == null) {
             typeHandler = typeHandlerRegistry.getTypeHandler(constructorMapping.getJavaType(), rsw.getJdbcType(column));
           }
-          value = typeHandler.getResult(rsw.getResultSet(), prependPrefix(column, columnPrefix));
+          value = constructorMapping.isDeduplicate() ? rsw.getDeduplicatedResult(typeHandler, columnPrefix, column)
+              : rsw.getResult(typeHandler, columnPrefix, column);
         }
       } catch (ResultMapException | SQLException e) {
         throw new ExecutorException("Could not process result for mapping: " + constructorMapping, e);
@@ -921,7 +1267,7 @@ public class DefaultResultSetHandler implements ResultSetHandler {
       Class<?> parameterType = parameterTypes[i];
       String columnName = rsw.getColumnNames().get(i);
       TypeHandler<?> typeHandler = rsw.getTypeHandler(parameterType, columnName);
-      Object value = typeHandler.getResult(rsw.getResultSet(), columnName);
+      Object value = getAutoMappedResult(rsw, typeHandler, columnName);
       constructorArgTypes.add(parameterType);
       constructorArgs.add(value);
       foundValues = value != null || foundValues;
@@ -942,11 +1288,11 @@ public class DefaultResultSetHandler implements ResultSetHandler {
         if (columnMatchesParam(columnName, paramName, columnPrefix)) {
           Class<?> paramType = param.getType();
           TypeHandler<?> typeHandler = rsw.getTypeHandler(paramType, columnName);
-          Object value = typeHandler.getResult(rsw.getResultSet(), columnName);
+          Object value = getAutoMappedResult(rsw, typeHandler, columnName);
           constructorArgTypes.add(paramType);
           constructorArgs.add(value);
           final String mapKey = resultMap.getId() + ":" + columnPrefix;
-          if (!autoMappingsCache.containsKey(mapKey)) {
+          if (!autoMappingsCache.containsKey(mapKey) && rsw.getAutoMappings(mapKey) == null) {
             constructorAutoMappingColumns.computeIfAbsent(mapKey, k -> new ArrayList<>()).add(columnName);
           }
           columnNotFound = false;
@@ -992,7 +1338,7 @@ public class DefaultResultSetHandler implements ResultSetHandler {
       columnName = rsw.getColumnNames().get(0);
     }
     final TypeHandler<?> typeHandler = rsw.getTypeHandler(resultType, columnName);
-    return typeHandler.getResult(rsw.getResultSet(), columnName);
+    return rsw.getResult(typeHandler, columnName);
   }
 
   //
@@ -1063,7 +1409,7 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     // parameterType is ignored in this case
     final String columnName = prependPrefix(resultMapping.getColumn(), columnPrefix);
     final TypeHandler<?> typeHandler = rsw.getTypeHandler(null, columnName);
-    return typeHandler.getResult(rsw.getResultSet(), columnName);
+    return rsw.getResult(typeHandler, columnName);
   }
 
   private Object prepareCompositeKeyParameter(ResultSetWrapper rsw, ResultMapping resultMapping, Class<?> parameterType,
@@ -1076,7 +1422,7 @@ public class DefaultResultSetHandler implements ResultSetHandler {
       final String columnName = prependPrefix(innerResultMapping.getColumn(), columnPrefix);
       final TypeHandler<?> typeHandler = rsw
           .getTypeHandler(metaObject.getGenericSetterType(innerResultMapping.getProperty()).getKey(), columnName);
-      final Object propValue = typeHandler.getResult(rsw.getResultSet(), columnName);
+      final Object propValue = rsw.getResult(typeHandler, columnName);
       // issue #353 & #560 do not execute nested query if key is null
       if (propValue != null) {
         metaObject.setValue(innerResultMapping.getProperty(), propValue);
@@ -1129,7 +1475,7 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     if (typeHandler == null) {
       typeHandler = typeHandlerRegistry.getTypeHandler(resultMapping.getJavaType(), rsw.getJdbcType(column));
     }
-    return typeHandler.getResult(rsw.getResultSet(), column);
+    return rsw.getResult(typeHandler, columnPrefix, resultMapping.getColumn());
   }
 
   private String prependPrefix(String columnName, String prefix) {
@@ -1162,6 +1508,9 @@ public class DefaultResultSetHandler implements ResultSetHandler {
 
       final Object partialObject = nestedResultObjects.get(rowKey);
       final boolean foundNewUniqueRow = partialObject == null;
+      if (foundNewUniqueRow && mappedStatement.isResultOrdered()) {
+        verifyRowOrder(discriminatedResultMap, rowKey);
+      }
 
       // issue #577, #542 && #101
       if (useCollectionConstructorInjection) {
@@ -1375,6 +1724,33 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     }
   }
 
+  private void verifyRowOrder(ResultMap resultMap, CacheKey rowKey) {
+    if (rowKey == CacheKey.NULL_CACHE_KEY) {
+      return;
+    }
+    if (completedRowKeys == null) {
+      final Integer checkSize = configuration.getResultOrderedCheckSize();
+      if (checkSize == null || checkSize <= 0) {
+        return;
+      }
+      completedRowKeys = new LinkedHashMap<CacheKey, Boolean>(checkSize * 4 / 3 + 1, .75F, false) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CacheKey, Boolean> eldest) {
+          return size() > checkSize;
+        }
+      };
+    }
+    // the parent of the previous rows is complete once a new unique row key is found
+    if (completedRowKeys.put(rowKey, Boolean.TRUE) != null) {
+      throw new ExecutorException("The results of mapped statement '" + mappedStatement.getId()
+          + "' are not ordered: a row of result map '" + resultMap.getId()
+          + "' reappeared after its object had been completed. Order the query by the id columns of the result map"
+          + " or remove resultOrdered from the statement.");
+    }
+  }
+
   private void verifyPendingCreationPreconditions(ResultMapping parentMapping) {
     if (parentMapping != null) {
       throw new ExecutorException(
@@ -1463,7 +1839,12 @@ public class DefaultResultSetHandler implements ResultSetHandler {
     if (notNullColumns != null && !notNullColumns.isEmpty()) {
       ResultSet rs = rsw.getResultSet();
       for (String column : notNullColumns) {
-        rs.getObject(prependPrefix(column, columnPrefix));
+        int columnIndex = rsw.getResultColumnIndex(columnPrefix, column);
+        if (columnIndex == -1) {
+          rs.getObject(prependPrefix(column, columnPrefix));
+        } else {
+          rs.getObject(columnIndex + 1);
+        }
         if (!rs.wasNull()) {
           return true;
         }
@@ -1547,7 +1928,7 @@ public class DefaultResultSetHandler implements ResultSetHandler {
           if (th == null) {
             th = ObjectTypeHandler.INSTANCE;
           }
-          final Object value = th.getResult(rsw.getResultSet(), column);
+          final Object value = rsw.getResult(th, column);
           if (value != null || configuration.isReturnInstanceForEmptyRow()) {
             cacheKey.update(column);
             cacheKey.update(value);
@@ -1571,7 +1952,9 @@ public class DefaultResultSetHandler implements ResultSetHandler {
         property = column.substring(columnPrefix.length());
       }
       if (metaType.findProperty(property, configuration.isMapUnderscoreToCamelCase()) != null) {
-        String value = rsw.getResultSet().getString(column);
+        int columnIndex = rsw.getResultColumnIndex(null, column);
+        String value = columnIndex == -1 ? rsw.getResultSet().getString(column)
+            : rsw.getResultSet().getString(columnIndex + 1);
         if (value != null) {
           cacheKey.update(column);
           cacheKey.update(value);
@@ -1583,7 +1966,9 @@ public class DefaultResultSetHandler implements ResultSetHandler {
   private void createRowKeyForMap(ResultSetWrapper rsw, CacheKey cacheKey) throws SQLException {
     List<String> columnNames = rsw.getColumnNames();
     for (String columnName : columnNames) {
-      final String value = rsw.getResultSet().getString(columnName);
+      final int columnIndex = rsw.getResultColumnIndex(null, columnName);
+      final String value = columnIndex == -1 ? rsw.getResultSet().getString(columnName)
+          : rsw.getResultSet().getString(columnIndex + 1);
       if (value != null) {
         cacheKey.update(columnName);
         cacheKey.update(value);
@@ -0,0 +1,128 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.resultset;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.ibatis.executor.resultset.DefaultResultSetHandler.UnMappedColumnAutoMapping;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.TypeHandler;
+
+/**
+ * The column layout of a result set and the mapping plans built for it: the column index, the resolved type handlers,
+ * the mapped and unmapped columns and the automatic mappings of each result map. A layout is shared by the executions
+ * of a statement that return the same columns, see {@link ResultSetLayoutCache}, so all plans are thread-safe.
+ *
+ * @since 3.6.0
+ */
+final class ResultSetLayout {
+
+  /**
+   * Stands for the {@code null} property type, which concurrent maps cannot hold.
+   */
+  static final Type NULL_TYPE = new Type() {
+    @Override
+    public String getTypeName() {
+      return "null";
+    }
+  };
+
+  final List<String> columnNames;
+  final List<String> classNames;
+  final List<JdbcType> jdbcTypes;
+  final Map<String, Integer> columnIndexes = new HashMap<>();
+  final ConcurrentMap<String, ConcurrentMap<String, Integer>> prefixedColumnIndexes = new ConcurrentHashMap<>();
+  final ConcurrentMap<String, ConcurrentMap<Type, TypeHandler<?>>> typeHandlerMap = new ConcurrentHashMap<>();
+  final ConcurrentMap<String, Set<String>> mappedColumnNamesMap = new ConcurrentHashMap<>();
+  final ConcurrentMap<String, List<String>> unMappedColumnNamesMap = new ConcurrentHashMap<>();
+  final ConcurrentMap<String, List<UnMappedColumnAutoMapping>> autoMappings = new ConcurrentHashMap<>();
+  final ConcurrentMap<String, Optional<CompiledRowMapper>> compiledRowMappers = new ConcurrentHashMap<>();
+
+  ResultSetLayout(List<String> columnNames, List<String> classNames, List<JdbcType> jdbcTypes) {
+    this.columnNames = Collections.unmodifiableList(columnNames);
+    this.classNames = Collections.unmodifiableList(classNames);
+    this.jdbcTypes = Collections.unmodifiableList(jdbcTypes);
+    for (int i = columnNames.size() - 1; i >= 0; i--) {
+      String columnName = columnNames.get(i);
+      // a column without a label can only be read by index
+      if (columnName != null) {
+        // the first of duplicated columns wins, as with ResultSet.findColumn
+        columnIndexes.put(columnName.toUpperCase(Locale.ENGLISH), i);
+      }
+    }
+  }
+
+  /**
+   * Identifies a layout by statement, the settings that affect mapping plans, the version of the type handler registry
+   * and the columns of the result set.
+   */
+  static final class Key {
+    private final String statementId;
+    private final int settings;
+    private final int typeHandlersVersion;
+    private final String[] columnNames;
+    private final String[] classNames;
+    private final int[] columnTypes;
+    private final int hashCode;
+
+    Key(String statementId, int settings, int typeHandlersVersion, String[] columnNames, String[] classNames,
+        int[] columnTypes) {
+      this.statementId = statementId;
+      this.settings = settings;
+      this.typeHandlersVersion = typeHandlersVersion;
+      this.columnNames = columnNames;
+      this.classNames = classNames;
+      this.columnTypes = columnTypes;
+      int hash = statementId.hashCode();
+      hash = 31 * hash + settings;
+      hash = 31 * hash + typeHandlersVersion;
+      hash = 31 * hash + Arrays.hashCode(columnNames);
+      hash = 31 * hash + Arrays.hashCode(classNames);
+      this.hashCode = 31 * hash + Arrays.hashCode(columnTypes);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) o;
+      return hashCode == other.hashCode && settings == other.settings
+          && typeHandlersVersion == other.typeHandlersVersion && statementId.equals(other.statementId)
+          && Arrays.equals(columnTypes, other.columnTypes) && Arrays.equals(columnNames, other.columnNames)
+          && Arrays.equals(classNames, other.classNames);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+}
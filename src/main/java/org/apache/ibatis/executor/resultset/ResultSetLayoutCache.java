@@ -0,0 +1,128 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.resultset;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Caches the column layouts of the result sets returned by mapped statements, together with the mapping plans built
+ * for them, so that repeated executions of a statement skip building these plans. Lookups do not lock. Once the cache
+ * holds more than {@code maxSize} layouts, the least recently used quarter of them is evicted in one pass; the recency
+ * is only tracked between additions of layouts, so layouts used since the last addition rank the same.
+ * <p>
+ * Layouts are keyed by the version of the type handler registry, so type handlers registered after a statement was
+ * executed are picked up by its next execution. The layouts built before are left to eviction.
+ *
+ * @since 3.6.0
+ *
+ * @see org.apache.ibatis.session.Configuration#setResultSetLayoutCacheSize(Integer)
+ */
+public final class ResultSetLayoutCache {
+
+  private final int maxSize;
+  private final ConcurrentMap<ResultSetLayout.Key, Entry> layouts = new ConcurrentHashMap<>();
+  // advanced when a layout is added only, so that a lookup does not write to a shared counter
+  private final AtomicLong clock = new AtomicLong();
+  private final AtomicBoolean evicting = new AtomicBoolean();
+
+  public ResultSetLayoutCache(int maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  ResultSetLayout getLayout(ResultSetLayout.Key key, Function<ResultSetLayout.Key, ResultSetLayout> layoutFactory) {
+    Entry entry = layouts.get(key);
+    if (entry == null) {
+      final Entry[] added = new Entry[1];
+      entry = layouts.computeIfAbsent(key, k -> added[0] = new Entry(layoutFactory.apply(k)));
+      if (entry == added[0]) {
+        // the layout added ranks before the layouts used after it
+        entry.lastUsed = clock.addAndGet(2) - 1;
+        if (layouts.size() > maxSize) {
+          evict();
+        }
+        return entry.layout;
+      }
+    }
+    final long now = clock.get();
+    if (entry.lastUsed != now) {
+      entry.lastUsed = now;
+    }
+    return entry.layout;
+  }
+
+  private void evict() {
+    if (!evicting.compareAndSet(false, true)) {
+      // another thread is evicting
+      return;
+    }
+    try {
+      final List<Map.Entry<ResultSetLayout.Key, Entry>> entries = new ArrayList<>(layouts.entrySet());
+      final int excess = entries.size() - (maxSize - maxSize / 4);
+      if (excess <= 0) {
+        return;
+      }
+      final long[] lastUsed = new long[entries.size()];
+      for (int i = 0; i < lastUsed.length; i++) {
+        lastUsed[i] = entries.get(i).getValue().lastUsed;
+      }
+      final long[] sorted = lastUsed.clone();
+      Arrays.sort(sorted);
+      final long threshold = sorted[excess - 1];
+      int evicted = 0;
+      for (int i = 0; i < lastUsed.length && evicted < excess; i++) {
+        if (lastUsed[i] <= threshold && layouts.remove(entries.get(i).getKey(), entries.get(i).getValue())) {
+          evicted++;
+        }
+      }
+    } finally {
+      evicting.set(false);
+    }
+  }
+
+  /**
+   * Returns the number of cached layouts.
+   *
+   * @return the number of cached layouts
+   */
+  public int size() {
+    return layouts.size();
+  }
+
+  /**
+   * Removes all cached layouts.
+   */
+  public void clear() {
+    layouts.clear();
+  }
+
+  private static final class Entry {
+    private final ResultSetLayout layout;
+    private volatile long lastUsed;
+
+    Entry(ResultSetLayout layout) {
+      this.layout = layout;
+    }
+  }
+
+}
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2025 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -20,19 +20,29 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.apache.ibatis.executor.result.ResultMapException;
+import org.apache.ibatis.executor.resultset.DefaultResultSetHandler.UnMappedColumnAutoMapping;
 import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.MappedStatement;
 import org.apache.ibatis.mapping.ResultMap;
 import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.DoubleResultReader;
+import org.apache.ibatis.type.IntResultReader;
 import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.LongResultReader;
 import org.apache.ibatis.type.ObjectTypeHandler;
+import org.apache.ibatis.type.ResultByColumnName;
 import org.apache.ibatis.type.TypeHandler;
 import org.apache.ibatis.type.TypeHandlerRegistry;
 
@@ -43,44 +53,108 @@ public class ResultSetWrapper {
 
   private final ResultSet resultSet;
   private final TypeHandlerRegistry typeHandlerRegistry;
-  private final List<String> columnNames = new ArrayList<>();
-  private final List<String> classNames = new ArrayList<>();
-  private final List<JdbcType> jdbcTypes = new ArrayList<>();
-  private final Map<String, Map<Type, TypeHandler<?>>> typeHandlerMap = new HashMap<>();
-  private final Map<String, Set<String>> mappedColumnNamesMap = new HashMap<>();
-  private final Map<String, List<String>> unMappedColumnNamesMap = new HashMap<>();
+  private final boolean useColumnLabel;
+  private final ResultSetLayout layout;
+  private ValueDictionary[] valueDictionaries;
+
+  private static final ClassValue<Boolean> RESULT_BY_COLUMN_NAME = new ClassValue<>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      return type.isAnnotationPresent(ResultByColumnName.class);
+    }
+  };
+
+  private static final ClassValue<Optional<Class<?>>> PRIMITIVE_RESULT_TYPE = new ClassValue<>() {
+    @Override
+    protected Optional<Class<?>> computeValue(Class<?> type) {
+      return Optional.ofNullable(resolvePrimitiveResultType(type));
+    }
+  };
 
   public ResultSetWrapper(ResultSet rs, Configuration configuration) throws SQLException {
+    this(rs, configuration, null);
+  }
+
+  /**
+   * Wraps the result set of a mapped statement. The column layout and the mapping plans built for it are shared with
+   * the previous results of the statement that had the same columns, unless the result set layout cache is disabled.
+   *
+   * @param rs
+   *          the result set
+   * @param configuration
+   *          the configuration
+   * @param mappedStatement
+   *          the mapped statement that returned the result set, may be {@code null}
+   *
+   * @throws SQLException
+   *           if the result set meta data cannot be read
+   *
+   * @see Configuration#setResultSetLayoutCacheSize(Integer)
+   * @since 3.6.0
+   */
+  public ResultSetWrapper(ResultSet rs, Configuration configuration, MappedStatement mappedStatement)
+      throws SQLException {
     this.typeHandlerRegistry = configuration.getTypeHandlerRegistry();
     this.resultSet = rs;
+    this.useColumnLabel = configuration.isUseColumnLabel();
     final ResultSetMetaData metaData = rs.getMetaData();
     final int columnCount = metaData.getColumnCount();
-    for (int i = 1; i <= columnCount; i++) {
-      columnNames.add(configuration.isUseColumnLabel() ? metaData.getColumnLabel(i) : metaData.getColumnName(i));
-      jdbcTypes.add(JdbcType.forCode(metaData.getColumnType(i)));
-      classNames.add(metaData.getColumnClassName(i));
+    final String[] columnNames = new String[columnCount];
+    final String[] classNames = new String[columnCount];
+    final int[] columnTypes = new int[columnCount];
+    for (int i = 0; i < columnCount; i++) {
+      columnNames[i] = useColumnLabel ? metaData.getColumnLabel(i + 1) : metaData.getColumnName(i + 1);
+      columnTypes[i] = metaData.getColumnType(i + 1);
+      classNames[i] = metaData.getColumnClassName(i + 1);
+    }
+    final ResultSetLayoutCache layoutCache = configuration.getResultSetLayoutCache();
+    if (layoutCache == null || mappedStatement == null) {
+      this.layout = createLayout(columnNames, classNames, columnTypes);
+    } else {
+      ResultSetLayout.Key key = new ResultSetLayout.Key(mappedStatement.getId(), getLayoutSettings(configuration),
+          typeHandlerRegistry.getVersion(), columnNames, classNames, columnTypes);
+      this.layout = layoutCache.getLayout(key, k -> createLayout(columnNames, classNames, columnTypes));
     }
   }
 
+  private static ResultSetLayout createLayout(String[] columnNames, String[] classNames, int[] columnTypes) {
+    final List<JdbcType> jdbcTypes = new ArrayList<>(columnTypes.length);
+    for (int columnType : columnTypes) {
+      jdbcTypes.add(JdbcType.forCode(columnType));
+    }
+    return new ResultSetLayout(Arrays.asList(columnNames), Arrays.asList(classNames), jdbcTypes);
+  }
+
+  // the settings that the mapping plans depend on
+  private static int getLayoutSettings(Configuration configuration) {
+    int settings = configuration.getAutoMappingBehavior().ordinal();
+    settings = settings << 1 | (configuration.isUseColumnLabel() ? 1 : 0);
+    settings = settings << 1 | (configuration.isMapUnderscoreToCamelCase() ? 1 : 0);
+    settings = settings << 1 | (configuration.isCallSettersOnNulls() ? 1 : 0);
+    settings = settings << 1 | (configuration.isArgNameBasedConstructorAutoMapping() ? 1 : 0);
+    settings = settings << 1 | (configuration.isDeduplicateAutoMappedValues() ? 1 : 0);
+    return settings << 1 | (configuration.isUseCompiledRowMappers() ? 1 : 0);
+  }
+
   public ResultSet getResultSet() {
     return resultSet;
   }
 
   public List<String> getColumnNames() {
-    return this.columnNames;
+    return layout.columnNames;
   }
 
   public List<String> getClassNames() {
-    return Collections.unmodifiableList(classNames);
+    return layout.classNames;
   }
 
   public List<JdbcType> getJdbcTypes() {
-    return jdbcTypes;
+    return layout.jdbcTypes;
   }
 
   public JdbcType getJdbcType(String columnName) {
     int columnIndex = getColumnIndex(columnName);
-    return columnIndex == -1 ? null : jdbcTypes.get(columnIndex);
+    return columnIndex == -1 ? null : layout.jdbcTypes.get(columnIndex);
   }
 
   /**
@@ -95,20 +169,22 @@ public class ResultSetWrapper {
    * @return the type handler
    */
   public TypeHandler<?> getTypeHandler(Type propertyType, String columnName) {
-    return typeHandlerMap.computeIfAbsent(columnName, k -> new HashMap<>()).computeIfAbsent(propertyType, k -> {
+    Map<Type, TypeHandler<?>> typeHandlers = layout.typeHandlerMap.computeIfAbsent(columnName,
+        k -> new ConcurrentHashMap<>());
+    return typeHandlers.computeIfAbsent(propertyType == null ? ResultSetLayout.NULL_TYPE : propertyType, t -> {
       int index = getColumnIndex(columnName);
       if (index == -1) {
         return ObjectTypeHandler.INSTANCE;
       }
 
-      JdbcType jdbcType = jdbcTypes.get(index);
-      TypeHandler<?> handler = typeHandlerRegistry.getTypeHandler(k, jdbcType, null);
+      JdbcType jdbcType = layout.jdbcTypes.get(index);
+      TypeHandler<?> handler = typeHandlerRegistry.getTypeHandler(propertyType, jdbcType, null);
       if (handler != null) {
         return handler;
       }
 
-      Class<?> javaType = resolveClass(classNames.get(index));
-      if (!(k instanceof Class && ((Class<?>) k).isAssignableFrom(javaType))) {
+      Class<?> javaType = resolveClass(layout.classNames.get(index));
+      if (!(propertyType instanceof Class && ((Class<?>) propertyType).isAssignableFrom(javaType))) {
         // Clearly incompatible
         return null;
       }
@@ -133,13 +209,225 @@ public class ResultSetWrapper {
     return null;
   }
 
-  private int getColumnIndex(String columnName) {
-    for (int i = 0; i < columnNames.size(); i++) {
-      if (columnNames.get(i).equalsIgnoreCase(columnName)) {
-        return i;
-      }
+  int getColumnIndex(String columnName) {
+    return getColumnIndex(null, columnName);
+  }
+
+  /**
+   * Returns the index of a column, ignoring case. Indexes are resolved once per column prefix and column name.
+   *
+   * @param columnPrefix
+   *          the column prefix, may be {@code null}
+   * @param columnName
+   *          the column name without the prefix
+   *
+   * @return the 0-based index, {@code -1} if the result set has no such column
+   */
+  int getColumnIndex(String columnPrefix, String columnName) {
+    if (columnName == null) {
+      return -1;
+    }
+    Map<String, Integer> indexes = layout.prefixedColumnIndexes
+        .computeIfAbsent(columnPrefix == null ? "" : columnPrefix, k -> new ConcurrentHashMap<>());
+    Integer index = indexes.get(columnName);
+    if (index == null) {
+      index = layout.columnIndexes.getOrDefault(prependPrefix(columnPrefix, columnName).toUpperCase(Locale.ENGLISH),
+          -1);
+      indexes.put(columnName, index);
+    }
+    return index;
+  }
+
+  /**
+   * Returns the index to read a column by, in place of its name.
+   * <p>
+   * JDBC drivers look up columns by label. When {@code useColumnLabel} is disabled, the column names known to this
+   * wrapper may differ from the labels, so columns are always read by name.
+   *
+   * @param columnPrefix
+   *          the column prefix, may be {@code null}
+   * @param columnName
+   *          the column name without the prefix
+   *
+   * @return the 0-based index, {@code -1} if the column must be read by name
+   */
+  int getResultColumnIndex(String columnPrefix, String columnName) {
+    return useColumnLabel ? getColumnIndex(columnPrefix, columnName) : -1;
+  }
+
+  /**
+   * Reads the value of a column with a type handler. The column is read by index unless the type handler is annotated
+   * with {@link ResultByColumnName}, the column is not found in the result set meta data or {@code useColumnLabel} is
+   * disabled.
+   *
+   * @param typeHandler
+   *          the type handler
+   * @param columnName
+   *          the column name
+   *
+   * @return the value
+   *
+   * @throws SQLException
+   *           if the column cannot be read
+   *
+   * @since 3.6.0
+   */
+  public Object getResult(TypeHandler<?> typeHandler, String columnName) throws SQLException {
+    return getResult(typeHandler, null, columnName);
+  }
+
+  /**
+   * Reads the value of a prefixed column with a type handler.
+   *
+   * @param typeHandler
+   *          the type handler
+   * @param columnPrefix
+   *          the column prefix, may be {@code null}
+   * @param columnName
+   *          the column name without the prefix
+   *
+   * @return the value
+   *
+   * @throws SQLException
+   *           if the column cannot be read
+   *
+   * @see #getResult(TypeHandler, String)
+   * @since 3.6.0
+   */
+  public Object getResult(TypeHandler<?> typeHandler, String columnPrefix, String columnName) throws SQLException {
+    int columnIndex = getResultColumnIndex(columnPrefix, columnName);
+    if (columnIndex == -1 || !isResultByColumnIndex(typeHandler)) {
+      return typeHandler.getResult(resultSet, prependPrefix(columnPrefix, columnName));
+    }
+    return typeHandler.getResult(resultSet, columnIndex + 1);
+  }
+
+  /**
+   * Reads the value of a prefixed column with a type handler, and returns the instance read first for the values of
+   * the column that are equal to it.
+   *
+   * @see ValueDictionary
+   */
+  Object getDeduplicatedResult(TypeHandler<?> typeHandler, String columnPrefix, String columnName)
+      throws SQLException {
+    Object value = getResult(typeHandler, columnPrefix, columnName);
+    if (value == null || !ValueDictionary.isDeduplicable(value)) {
+      return value;
+    }
+    int columnIndex = getColumnIndex(columnPrefix, columnName);
+    if (columnIndex == -1) {
+      return value;
+    }
+    if (valueDictionaries == null) {
+      valueDictionaries = new ValueDictionary[layout.columnNames.size()];
+    }
+    ValueDictionary dictionary = valueDictionaries[columnIndex];
+    if (dictionary == null) {
+      dictionary = new ValueDictionary();
+      valueDictionaries[columnIndex] = dictionary;
+    }
+    return dictionary.canonicalize(value);
+  }
+
+  private static String prependPrefix(String columnPrefix, String columnName) {
+    if (columnName == null || columnName.isEmpty() || columnPrefix == null || columnPrefix.isEmpty()) {
+      return columnName;
+    }
+    return columnPrefix + columnName;
+  }
+
+  static boolean isResultByColumnIndex(TypeHandler<?> typeHandler) {
+    return !RESULT_BY_COLUMN_NAME.get(typeHandler.getClass());
+  }
+
+  /**
+   * Reads the value of a column with an {@link IntResultReader}, by index under the same conditions as
+   * {@link #getResult(TypeHandler, String)}. A SQL {@code NULL} is read as {@code 0}, see {@link #wasNull()}. As with
+   * {@link BaseTypeHandler}, a failed read is reported as a {@link ResultMapException} that names the column.
+   */
+  int getIntResult(TypeHandler<?> typeHandler, String columnName) throws SQLException {
+    final int columnIndex = getPrimitiveResultColumnIndex(typeHandler, columnName);
+    try {
+      return columnIndex == -1 ? ((IntResultReader) typeHandler).getIntResult(resultSet, columnName)
+          : ((IntResultReader) typeHandler).getIntResult(resultSet, columnIndex);
+    } catch (Exception e) {
+      throw newResultMapException(columnName, columnIndex, e);
+    }
+  }
+
+  long getLongResult(TypeHandler<?> typeHandler, String columnName) throws SQLException {
+    final int columnIndex = getPrimitiveResultColumnIndex(typeHandler, columnName);
+    try {
+      return columnIndex == -1 ? ((LongResultReader) typeHandler).getLongResult(resultSet, columnName)
+          : ((LongResultReader) typeHandler).getLongResult(resultSet, columnIndex);
+    } catch (Exception e) {
+      throw newResultMapException(columnName, columnIndex, e);
+    }
+  }
+
+  double getDoubleResult(TypeHandler<?> typeHandler, String columnName) throws SQLException {
+    final int columnIndex = getPrimitiveResultColumnIndex(typeHandler, columnName);
+    try {
+      return columnIndex == -1 ? ((DoubleResultReader) typeHandler).getDoubleResult(resultSet, columnName)
+          : ((DoubleResultReader) typeHandler).getDoubleResult(resultSet, columnIndex);
+    } catch (Exception e) {
+      throw newResultMapException(columnName, columnIndex, e);
+    }
+  }
+
+  // the column index starting at 1, -1 if the column is read by name
+  private int getPrimitiveResultColumnIndex(TypeHandler<?> typeHandler, String columnName) {
+    final int columnIndex = getResultColumnIndex(null, columnName);
+    return columnIndex == -1 || !isResultByColumnIndex(typeHandler) ? -1 : columnIndex + 1;
+  }
+
+  static ResultMapException newResultMapException(String columnName, int columnIndex, Exception e) {
+    final String column = columnIndex == -1 ? "'" + columnName + "'" : "#" + columnIndex;
+    return new ResultMapException("Error attempting to get column " + column + " from result set.  Cause: " + e, e);
+  }
+
+  boolean wasNull() throws SQLException {
+    return resultSet.wasNull();
+  }
+
+  /**
+   * Returns the primitive type a type handler can read without boxing, see {@link IntResultReader},
+   * {@link LongResultReader} and {@link DoubleResultReader}.
+   *
+   * @param typeHandler
+   *          the type handler
+   *
+   * @return {@code int.class}, {@code long.class}, {@code double.class} or {@code null}
+   */
+  static Class<?> getPrimitiveResultType(TypeHandler<?> typeHandler) {
+    return PRIMITIVE_RESULT_TYPE.get(typeHandler.getClass()).orElse(null);
+  }
+
+  private static Class<?> resolvePrimitiveResultType(Class<?> handlerType) {
+    final Class<?> primitiveType;
+    final String readerMethod;
+    if (IntResultReader.class.isAssignableFrom(handlerType)) {
+      primitiveType = int.class;
+      readerMethod = "getIntResult";
+    } else if (LongResultReader.class.isAssignableFrom(handlerType)) {
+      primitiveType = long.class;
+      readerMethod = "getLongResult";
+    } else if (DoubleResultReader.class.isAssignableFrom(handlerType)) {
+      primitiveType = double.class;
+      readerMethod = "getDoubleResult";
+    } else {
+      return null;
+    }
+    try {
+      // A subclass that overrides how results are read but not how primitives are read must not read primitives
+      Class<?> readerClass = handlerType.getMethod(readerMethod, ResultSet.class, int.class).getDeclaringClass();
+      Class<?> resultClass = BaseTypeHandler.class.isAssignableFrom(handlerType)
+          ? handlerType.getMethod("getNullableResult", ResultSet.class, int.class).getDeclaringClass()
+          : handlerType.getMethod("getResult", ResultSet.class, int.class).getDeclaringClass();
+      return resultClass.isAssignableFrom(readerClass) ? primitiveType : null;
+    } catch (NoSuchMethodException e) {
+      return null;
     }
-    return -1;
   }
 
   private void loadMappedAndUnmappedColumnNames(ResultMap resultMap, String columnPrefix) throws SQLException {
@@ -147,7 +435,7 @@ public class ResultSetWrapper {
     List<String> unmappedColumnNames = new ArrayList<>();
     final String upperColumnPrefix = columnPrefix == null ? null : columnPrefix.toUpperCase(Locale.ENGLISH);
     final Set<String> mappedColumns = prependPrefixes(resultMap.getMappedColumns(), upperColumnPrefix);
-    for (String columnName : columnNames) {
+    for (String columnName : layout.columnNames) {
       final String upperColumnName = columnName.toUpperCase(Locale.ENGLISH);
       if (mappedColumns.contains(upperColumnName)) {
         mappedColumnNames.add(upperColumnName);
@@ -155,28 +443,45 @@ public class ResultSetWrapper {
         unmappedColumnNames.add(columnName);
       }
     }
-    mappedColumnNamesMap.put(getMapKey(resultMap, columnPrefix), mappedColumnNames);
-    unMappedColumnNamesMap.put(getMapKey(resultMap, columnPrefix), unmappedColumnNames);
+    unmappedColumnNames = Collections.unmodifiableList(unmappedColumnNames);
+    layout.mappedColumnNamesMap.put(getMapKey(resultMap, columnPrefix), Collections.unmodifiableSet(mappedColumnNames));
+    layout.unMappedColumnNamesMap.put(getMapKey(resultMap, columnPrefix), unmappedColumnNames);
   }
 
   public Set<String> getMappedColumnNames(ResultMap resultMap, String columnPrefix) throws SQLException {
-    Set<String> mappedColumnNames = mappedColumnNamesMap.get(getMapKey(resultMap, columnPrefix));
+    Set<String> mappedColumnNames = layout.mappedColumnNamesMap.get(getMapKey(resultMap, columnPrefix));
     if (mappedColumnNames == null) {
       loadMappedAndUnmappedColumnNames(resultMap, columnPrefix);
-      mappedColumnNames = mappedColumnNamesMap.get(getMapKey(resultMap, columnPrefix));
+      mappedColumnNames = layout.mappedColumnNamesMap.get(getMapKey(resultMap, columnPrefix));
     }
     return mappedColumnNames;
   }
 
   public List<String> getUnmappedColumnNames(ResultMap resultMap, String columnPrefix) throws SQLException {
-    List<String> unMappedColumnNames = unMappedColumnNamesMap.get(getMapKey(resultMap, columnPrefix));
+    List<String> unMappedColumnNames = layout.unMappedColumnNamesMap.get(getMapKey(resultMap, columnPrefix));
     if (unMappedColumnNames == null) {
       loadMappedAndUnmappedColumnNames(resultMap, columnPrefix);
-      unMappedColumnNames = unMappedColumnNamesMap.get(getMapKey(resultMap, columnPrefix));
+      unMappedColumnNames = layout.unMappedColumnNamesMap.get(getMapKey(resultMap, columnPrefix));
     }
     return unMappedColumnNames;
   }
 
+  List<UnMappedColumnAutoMapping> getAutoMappings(String mapKey) {
+    return layout.autoMappings.get(mapKey);
+  }
+
+  void putAutoMappings(String mapKey, List<UnMappedColumnAutoMapping> autoMappings) {
+    layout.autoMappings.putIfAbsent(mapKey, Collections.unmodifiableList(autoMappings));
+  }
+
+  Optional<CompiledRowMapper> getCompiledRowMapper(String mapKey) {
+    return layout.compiledRowMappers.get(mapKey);
+  }
+
+  void putCompiledRowMapper(String mapKey, Optional<CompiledRowMapper> compiledRowMapper) {
+    layout.compiledRowMappers.putIfAbsent(mapKey, compiledRowMapper);
+  }
+
   private String getMapKey(ResultMap resultMap, String columnPrefix) {
     return resultMap.getId() + ":" + columnPrefix;
   }
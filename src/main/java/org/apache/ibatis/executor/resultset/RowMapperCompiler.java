@@ -0,0 +1,344 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.resultset;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javassist.ClassClassPath;
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.CtNewConstructor;
+import javassist.CtNewMethod;
+import javassist.LoaderClassPath;
+
+import org.apache.ibatis.logging.Log;
+import org.apache.ibatis.logging.LogFactory;
+import org.apache.ibatis.type.BigDecimalTypeHandler;
+import org.apache.ibatis.type.BooleanTypeHandler;
+import org.apache.ibatis.type.ByteTypeHandler;
+import org.apache.ibatis.type.DoubleTypeHandler;
+import org.apache.ibatis.type.FloatTypeHandler;
+import org.apache.ibatis.type.IntegerTypeHandler;
+import org.apache.ibatis.type.LongTypeHandler;
+import org.apache.ibatis.type.ShortTypeHandler;
+import org.apache.ibatis.type.StringTypeHandler;
+import org.apache.ibatis.type.TypeHandler;
+
+/**
+ * Generates a {@link CompiledRowMapper} with Javassist for a result type and a list of column to setter assignments.
+ * Columns read by one of the built-in type handlers for numbers, booleans, strings and decimals are read with the
+ * matching {@code ResultSet} getter by index, other columns go through their type handler, by index as well unless the
+ * handler is annotated with {@link org.apache.ibatis.type.ResultByColumnName}. Primitive properties are read without
+ * boxing when their type handler implements the matching primitive reader, such as
+ * {@link org.apache.ibatis.type.IntResultReader}. Generated classes are cached per result type and assignment layout.
+ * The layout does not include the column positions: a generated mapper reads them from its {@code columnIndexes}, so
+ * statements that select the same columns in a different order share the class but not the indexes.
+ *
+ * @since 3.6.0
+ */
+final class RowMapperCompiler {
+
+  private static final Log log = LogFactory.getLog(RowMapperCompiler.class);
+
+  private static final AtomicInteger CLASS_COUNTER = new AtomicInteger();
+  private static final Class<?> NOT_COMPILABLE = Void.class;
+
+  private static final ClassValue<ConcurrentMap<String, Class<?>>> MAPPER_CLASSES = new ClassValue<>() {
+    @Override
+    protected ConcurrentMap<String, Class<?>> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  private static final Map<Class<?>, DirectRead> DIRECT_READS = new HashMap<>();
+
+  static {
+    DIRECT_READS.put(IntegerTypeHandler.class, new DirectRead("getInt", int.class, Integer.class, "0"));
+    DIRECT_READS.put(LongTypeHandler.class, new DirectRead("getLong", long.class, Long.class, "0L"));
+    DIRECT_READS.put(ShortTypeHandler.class, new DirectRead("getShort", short.class, Short.class, "0"));
+    DIRECT_READS.put(ByteTypeHandler.class, new DirectRead("getByte", byte.class, Byte.class, "0"));
+    DIRECT_READS.put(DoubleTypeHandler.class, new DirectRead("getDouble", double.class, Double.class, "0.0d"));
+    DIRECT_READS.put(FloatTypeHandler.class, new DirectRead("getFloat", float.class, Float.class, "0.0f"));
+    DIRECT_READS.put(BooleanTypeHandler.class, new DirectRead("getBoolean", boolean.class, Boolean.class, "false"));
+    DIRECT_READS.put(StringTypeHandler.class, new DirectRead("getString", String.class, String.class, null));
+    DIRECT_READS.put(BigDecimalTypeHandler.class, new DirectRead("getBigDecimal", BigDecimal.class, BigDecimal.class,
+        null));
+  }
+
+  private RowMapperCompiler() {
+    // Prevent Instantiation of Static Class
+  }
+
+  /**
+   * Creates a row mapper that applies the given assignments to instances of the given type.
+   *
+   * @param type
+   *          the result type
+   * @param assignments
+   *          the column to setter assignments in the order they must be applied
+   * @param callSettersOnNulls
+   *          whether setters of non primitive properties are called with {@code null} values
+   *
+   * @return the row mapper, {@code null} if no mapper can be generated for this type
+   */
+  static CompiledRowMapper compile(Class<?> type, List<Assignment> assignments, boolean callSettersOnNulls) {
+    if (!isCompilable(type, assignments)) {
+      return null;
+    }
+    final StringBuilder key = new StringBuilder();
+    for (Assignment assignment : assignments) {
+      key.append(assignment.setter.getName()).append('(').append(assignment.setter.getParameterTypes()[0].getName())
+          .append(')').append(readMethod(assignment)).append(';');
+    }
+    final Class<?> mapperClass = MAPPER_CLASSES.get(type).computeIfAbsent(key.toString(),
+        k -> generate(type, assignments));
+    if (mapperClass == NOT_COMPILABLE) {
+      return null;
+    }
+    try {
+      final CompiledRowMapper mapper = (CompiledRowMapper) mapperClass.getDeclaredConstructor().newInstance();
+      final TypeHandler<?>[] typeHandlers = new TypeHandler<?>[assignments.size()];
+      final String[] columns = new String[assignments.size()];
+      final int[] columnIndexes = new int[assignments.size()];
+      for (int i = 0; i < assignments.size(); i++) {
+        typeHandlers[i] = assignments.get(i).typeHandler;
+        columns[i] = assignments.get(i).column;
+        columnIndexes[i] = assignments.get(i).columnIndex;
+      }
+      mapper.init(typeHandlers, columns, columnIndexes, callSettersOnNulls);
+      return mapper;
+    } catch (ReflectiveOperationException e) {
+      log.debug("Cannot instantiate the row mapper for " + type.getName() + ". Cause: " + e);
+      return null;
+    }
+  }
+
+  private static boolean isCompilable(Class<?> type, List<Assignment> assignments) {
+    if (type.getClassLoader() == null || !Modifier.isPublic(type.getModifiers())) {
+      return false;
+    }
+    for (Assignment assignment : assignments) {
+      if (!Modifier.isPublic(assignment.setter.getModifiers())
+          || !Modifier.isPublic(assignment.setter.getDeclaringClass().getModifiers())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static String readMethod(Assignment assignment) {
+    final DirectRead directRead = directRead(assignment);
+    if (directRead != null) {
+      return directRead.getter;
+    }
+    final String byName = ResultSetWrapper.isResultByColumnIndex(assignment.typeHandler) ? "" : "ByName";
+    return (isPrimitiveRead(assignment) ? "primitiveReader" : "handler") + byName;
+  }
+
+  private static boolean isPrimitiveRead(Assignment assignment) {
+    final Class<?> parameterType = assignment.setter.getParameterTypes()[0];
+    return parameterType.isPrimitive()
+        && parameterType == ResultSetWrapper.getPrimitiveResultType(assignment.typeHandler);
+  }
+
+  private static void appendColumn(StringBuilder src, Assignment assignment, int i) {
+    if (ResultSetWrapper.isResultByColumnIndex(assignment.typeHandler)) {
+      src.append("columnIndexes[").append(i).append(']');
+    } else {
+      src.append("columns[").append(i).append(']');
+    }
+  }
+
+  private static DirectRead directRead(Assignment assignment) {
+    final DirectRead directRead = DIRECT_READS.get(assignment.typeHandler.getClass());
+    if (directRead == null) {
+      return null;
+    }
+    final Class<?> parameterType = assignment.setter.getParameterTypes()[0];
+    return parameterType.equals(directRead.type) || parameterType.isAssignableFrom(directRead.boxedType) ? directRead
+        : null;
+  }
+
+  private static Class<?> generate(Class<?> type, List<Assignment> assignments) {
+    try {
+      final ClassPool pool = new ClassPool(true);
+      pool.appendClassPath(new LoaderClassPath(type.getClassLoader()));
+      pool.appendClassPath(new ClassClassPath(CompiledRowMapper.class));
+      final CtClass ctClass = pool
+          .makeClass(type.getName() + "$$MyBatisRowMapper$" + CLASS_COUNTER.incrementAndGet());
+      ctClass.setSuperclass(pool.get(CompiledRowMapper.class.getName()));
+      ctClass.addConstructor(CtNewConstructor.defaultConstructor(ctClass));
+      ctClass.addMethod(CtNewMethod.make(source(type, assignments), ctClass));
+      final Class<?> mapperClass = ctClass.toClass(type);
+      ctClass.detach();
+      return mapperClass;
+    } catch (Exception | LinkageError e) {
+      // Javassist is missing or the result type cannot be accessed from its package
+      log.debug("Cannot generate a row mapper for " + type.getName() + ". Cause: " + e);
+      return NOT_COMPILABLE;
+    }
+  }
+
+  private static String source(Class<?> type, List<Assignment> assignments) {
+    final StringBuilder src = new StringBuilder();
+    src.append("public boolean map(java.sql.ResultSet rs, java.lang.Object resultObject)")
+        .append(" throws java.sql.SQLException {\n");
+    src.append("  ").append(typeName(type)).append(" target = (").append(typeName(type)).append(") resultObject;\n");
+    src.append("  boolean found = false;\n");
+    for (int i = 0; i < assignments.size(); i++) {
+      final Assignment assignment = assignments.get(i);
+      final Class<?> parameterType = assignment.setter.getParameterTypes()[0];
+      final String setter = "target." + assignment.setter.getName();
+      final DirectRead directRead = directRead(assignment);
+      final String value = "v" + i;
+      final String argument;
+      src.append("  {\n");
+      if (directRead == null && isPrimitiveRead(assignment)) {
+        final String primitive = parameterType.getName();
+        final String reader = Character.toUpperCase(primitive.charAt(0)) + primitive.substring(1);
+        final StringBuilder read = new StringBuilder();
+        read.append("((org.apache.ibatis.type.").append(reader).append("ResultReader) typeHandlers[").append(i)
+            .append("]).get").append(reader).append("Result(rs, ");
+        appendColumn(read, assignment, i);
+        read.append(')');
+        appendRead(src, primitive, value, read, i, !ResultSetWrapper.isResultByColumnIndex(assignment.typeHandler));
+        src.append("    if (").append(value).append(" != 0 || !rs.wasNull()) {\n");
+        argument = value;
+      } else if (directRead == null) {
+        src.append("    java.lang.Object ").append(value).append(" = typeHandlers[").append(i).append("].getResult(rs, ");
+        appendColumn(src, assignment, i);
+        src.append(");\n");
+        src.append("    if (").append(value).append(" != null) {\n");
+        if (parameterType.isPrimitive()) {
+          final String boxedType = typeName(box(parameterType));
+          argument = "((" + boxedType + ") " + value + ")." + parameterType.getName() + "Value()";
+        } else {
+          argument = "(" + typeName(parameterType) + ") " + value;
+        }
+      } else if (directRead.type.isPrimitive()) {
+        appendRead(src, directRead.type.getName(), value, directRead(directRead, i), i, false);
+        if (boolean.class.equals(directRead.type)) {
+          src.append("    if (").append(value).append(" || !rs.wasNull()) {\n");
+        } else {
+          src.append("    if (").append(value).append(" != ").append(directRead.zero).append(" || !rs.wasNull()) {\n");
+        }
+        argument = parameterType.isPrimitive() ? value
+            : typeName(directRead.boxedType) + ".valueOf(" + value + ")";
+      } else {
+        appendRead(src, typeName(directRead.type), value, directRead(directRead, i), i, false);
+        src.append("    if (").append(value).append(" != null) {\n");
+        argument = value;
+      }
+      src.append("      found = true;\n");
+      src.append("      ").append(setter).append('(').append(argument).append(");\n");
+      src.append("    }");
+      if (!parameterType.isPrimitive()) {
+        // gcode issue #377, call setter on nulls (value is not 'found')
+        src.append(" else if (callSettersOnNulls) {\n");
+        src.append("      ").append(setter).append("((").append(typeName(parameterType)).append(") null);\n");
+        src.append("    }");
+      }
+      src.append("\n  }\n");
+    }
+    src.append("  return found;\n");
+    src.append("}");
+    return src.toString();
+  }
+
+  private static CharSequence directRead(DirectRead directRead, int i) {
+    return "rs." + directRead.getter + "(columnIndexes[" + i + "])";
+  }
+
+  // reads that do not go through BaseTypeHandler.getResult report failures as it does
+  private static void appendRead(StringBuilder src, String type, String value, CharSequence read, int i,
+      boolean byName) {
+    src.append("    ").append(type).append(' ').append(value).append(";\n");
+    src.append("    try {\n");
+    src.append("      ").append(value).append(" = ").append(read).append(";\n");
+    src.append("    } catch (java.lang.Exception e) {\n");
+    src.append("      throw newResultMapException(").append(i).append(", ").append(byName).append(", e);\n");
+    src.append("    }\n");
+  }
+
+  private static String typeName(Class<?> type) {
+    return type.isArray() ? typeName(type.getComponentType()) + "[]" : type.getName();
+  }
+
+  private static Class<?> box(Class<?> primitiveType) {
+    if (int.class.equals(primitiveType)) {
+      return Integer.class;
+    }
+    if (long.class.equals(primitiveType)) {
+      return Long.class;
+    }
+    if (double.class.equals(primitiveType)) {
+      return Double.class;
+    }
+    if (float.class.equals(primitiveType)) {
+      return Float.class;
+    }
+    if (boolean.class.equals(primitiveType)) {
+      return Boolean.class;
+    }
+    if (short.class.equals(primitiveType)) {
+      return Short.class;
+    }
+    if (byte.class.equals(primitiveType)) {
+      return Byte.class;
+    }
+    return Character.class;
+  }
+
+  /**
+   * Assigns the value of a column to a property through its setter.
+   */
+  static final class Assignment {
+    private final String column;
+    private final int columnIndex;
+    private final TypeHandler<?> typeHandler;
+    private final Method setter;
+
+    Assignment(String column, int columnIndex, TypeHandler<?> typeHandler, Method setter) {
+      this.column = column;
+      this.columnIndex = columnIndex;
+      this.typeHandler = typeHandler;
+      this.setter = setter;
+    }
+  }
+
+  private static final class DirectRead {
+    private final String getter;
+    private final Class<?> type;
+    private final Class<?> boxedType;
+    private final String zero;
+
+    DirectRead(String getter, Class<?> type, Class<?> boxedType, String zero) {
+      this.getter = getter;
+      this.type = type;
+      this.boxedType = boxedType;
+      this.zero = zero;
+    }
+  }
+
+}
@@ -0,0 +1,79 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.executor.resultset;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A bounded dictionary of the values read from one column of a result set, used to return a single instance for
+ * repeated values. Only values of immutable classes are deduplicated. Once the dictionary holds {@value #MAX_SIZE}
+ * values, further distinct values are returned as they are, so that high cardinality columns cost no more than a
+ * lookup.
+ *
+ * @since 3.6.0
+ */
+final class ValueDictionary {
+
+  static final int MAX_SIZE = 1024;
+
+  private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(String.class, BigDecimal.class, BigInteger.class,
+      Long.class, Integer.class, Short.class, Byte.class, Double.class, Float.class, Boolean.class, Character.class,
+      LocalDate.class, LocalDateTime.class, LocalTime.class, Instant.class, OffsetDateTime.class, OffsetTime.class,
+      ZonedDateTime.class, Year.class, YearMonth.class, MonthDay.class, Duration.class, Period.class, UUID.class);
+
+  private final Map<Object, Object> values = new HashMap<>();
+
+  static boolean isDeduplicable(Object value) {
+    return IMMUTABLE_TYPES.contains(value.getClass());
+  }
+
+  /**
+   * Returns the instance of a value held by this dictionary.
+   *
+   * @param value
+   *          a non null value of an immutable class
+   *
+   * @return the instance equal to the value that was read first
+   */
+  Object canonicalize(Object value) {
+    Object canonical = values.get(value);
+    if (canonical != null) {
+      return canonical;
+    }
+    if (values.size() < MAX_SIZE) {
+      values.put(value, value);
+    }
+    return value;
+  }
+
+}
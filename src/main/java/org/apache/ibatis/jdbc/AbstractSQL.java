@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2024 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -593,6 +593,55 @@ public abstract class AbstractSQL<T> {
     return self;
   }
 
+  /**
+   * Apply sql phrases that provide by SQL consumer as an optional part of a template. The phrases are part of the SQL
+   * returned by {@link #toString()}, and part of the SQL rendered by the template returned by {@link #toTemplate()}
+   * only if their slot is enabled.
+   * <p>
+   * Only the parts of clauses can be optional, e.g. the conditions of a WHERE clause, not the type of the statement,
+   * DISTINCT, the limiting rows, nor the rows of a multi-row insert. A slot can be used by several optional parts.
+   *
+   * @param slot
+   *          the name of the slot that enables the phrases
+   * @param sqlConsumer
+   *          a consumer that append sql phrase to SQL instance
+   *
+   * @return a self instance
+   *
+   * @see SqlTemplate#render(String...)
+   *
+   * @since 3.6.0
+   */
+  public T optional(String slot, Consumer<T> sqlConsumer) {
+    SQLStatement statement = sql();
+    int slotIndex = statement.slotIndex(slot);
+    int[] partCounts = statement.partCounts();
+    List<Object> settings = statement.settings();
+    T self = getSelf();
+    sqlConsumer.accept(self);
+    if (!settings.equals(statement.settings())) {
+      throw new IllegalStateException("Only the parts of clauses can be optional, but slot '" + slot + "' changed "
+          + "the statement type, DISTINCT, the limiting rows or the rows to insert.");
+    }
+    statement.addOptionalParts(slotIndex, partCounts);
+    return self;
+  }
+
+  /**
+   * Returns an immutable template of the SQL built so far. The template renders the SQL with the optional parts of the
+   * enabled slots only, and keeps the SQL rendered for each combination of slots.
+   *
+   * @return a template of the SQL
+   *
+   * @see #optional(String, Consumer)
+   *
+   * @since 3.6.0
+   */
+  public SqlTemplate toTemplate() {
+    SQLStatement statement = sql().copy(-1L);
+    return new SqlTemplate(statement.slots, statement::render);
+  }
+
   @Override
   public String toString() {
     StringBuilder sb = new StringBuilder();
@@ -695,11 +744,125 @@ public abstract class AbstractSQL<T> {
     String limit;
     LimitingRowsStrategy limitingRowsStrategy = LimitingRowsStrategy.NOP;
 
+    // the names of the slots of the optional parts, and the parts added for each of them
+    List<String> slots = new ArrayList<>();
+    List<OptionalParts> optionalParts = new ArrayList<>();
+
     public SQLStatement() {
       // Prevent Synthetic Access
       valuesList.add(new ArrayList<>());
     }
 
+    int slotIndex(String slot) {
+      int index = slots.indexOf(slot);
+      if (index > -1) {
+        return index;
+      }
+      if (slots.size() == Long.SIZE) {
+        throw new IllegalStateException("A SQL can have at most " + Long.SIZE + " slots for optional parts.");
+      }
+      slots.add(slot);
+      return slots.size() - 1;
+    }
+
+    /**
+     * Returns the lists of the parts of the clauses, always in the same order.
+     */
+    private List<List<String>> partLists() {
+      List<List<String>> lists = new ArrayList<>(Arrays.asList(sets, select, tables, join, innerJoin, outerJoin,
+          leftOuterJoin, rightOuterJoin, where, having, groupBy, orderBy, columns));
+      lists.addAll(valuesList);
+      return lists;
+    }
+
+    int[] partCounts() {
+      return partLists().stream().mapToInt(List::size).toArray();
+    }
+
+    List<Object> settings() {
+      return Arrays.asList(statementType, distinct, offset, limit, limitingRowsStrategy, valuesList.size());
+    }
+
+    void addOptionalParts(int slotIndex, int[] partCounts) {
+      List<List<String>> lists = partLists();
+      for (int i = 0; i < partCounts.length; i++) {
+        if (lists.get(i).size() > partCounts[i]) {
+          optionalParts.add(new OptionalParts(slotIndex, i, partCounts[i], lists.get(i).size()));
+        }
+      }
+    }
+
+    /**
+     * Returns a copy of this statement without the optional parts of the slots that are not enabled.
+     */
+    SQLStatement copy(long enabledSlots) {
+      SQLStatement statement = new SQLStatement();
+      statement.statementType = statementType;
+      statement.distinct = distinct;
+      statement.offset = offset;
+      statement.limit = limit;
+      statement.limitingRowsStrategy = limitingRowsStrategy;
+      statement.slots = new ArrayList<>(slots);
+      statement.optionalParts = enabledSlots == -1L ? new ArrayList<>(optionalParts) : new ArrayList<>();
+      List<List<String>> lists = partLists();
+      List<List<String>> copies = new ArrayList<>(lists.size());
+      for (int i = 0; i < lists.size(); i++) {
+        List<String> parts = lists.get(i);
+        boolean[] disabled = new boolean[parts.size()];
+        for (OptionalParts optional : optionalParts) {
+          if (optional.listIndex == i && (enabledSlots & 1L << optional.slotIndex) == 0) {
+            Arrays.fill(disabled, optional.fromIndex, optional.toIndex, true);
+          }
+        }
+        List<String> copy = new ArrayList<>(parts.size());
+        for (int j = 0; j < parts.size(); j++) {
+          if (!disabled[j]) {
+            copy.add(parts.get(j));
+          }
+        }
+        if (copy.size() < parts.size()) {
+          removeDanglingConjunctions(copy);
+        }
+        copies.add(copy);
+      }
+      statement.sets = copies.get(0);
+      statement.select = copies.get(1);
+      statement.tables = copies.get(2);
+      statement.join = copies.get(3);
+      statement.innerJoin = copies.get(4);
+      statement.outerJoin = copies.get(5);
+      statement.leftOuterJoin = copies.get(6);
+      statement.rightOuterJoin = copies.get(7);
+      statement.where = copies.get(8);
+      statement.having = copies.get(9);
+      statement.groupBy = copies.get(10);
+      statement.orderBy = copies.get(11);
+      statement.columns = copies.get(12);
+      statement.valuesList = new ArrayList<>(copies.subList(13, copies.size()));
+      return statement;
+    }
+
+    /**
+     * Removes the conjunctions left first, last or doubled by the optional parts next to them.
+     */
+    private static void removeDanglingConjunctions(List<String> parts) {
+      for (int i = parts.size() - 1; i >= 0; i--) {
+        if (isConjunction(parts.get(i)) && (i == 0 || i == parts.size() - 1 || isConjunction(parts.get(i - 1)))) {
+          parts.remove(i);
+        }
+      }
+    }
+
+    private static boolean isConjunction(String part) {
+      return AND.equals(part) || OR.equals(part);
+    }
+
+    String render(long enabledSlots) {
+      StringBuilder builder = new StringBuilder();
+      copy(enabledSlots).sql(builder);
+      return builder.toString();
+    }
+
     private void sqlClause(SafeAppendable builder, String keyword, List<String> parts, String open, String close,
         String conjunction) {
       if (!parts.isEmpty()) {
@@ -805,6 +968,20 @@ public abstract class AbstractSQL<T> {
     }
   }
 
+  private static final class OptionalParts {
+    private final int slotIndex;
+    private final int listIndex;
+    private final int fromIndex;
+    private final int toIndex;
+
+    OptionalParts(int slotIndex, int listIndex, int fromIndex, int toIndex) {
+      this.slotIndex = slotIndex;
+      this.listIndex = listIndex;
+      this.fromIndex = fromIndex;
+      this.toIndex = toIndex;
+    }
+  }
+
   /**
    * Consumer for 'forEach' operation.
    *
@@ -0,0 +1,134 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.jdbc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * An immutable SQL built once with an {@link AbstractSQL}, rendered with the optional parts of the enabled slots only.
+ * The SQL rendered for a combination of slots is kept, so rendering it again costs a lookup.
+ * <p>
+ * <b>How to use:</b>
+ *
+ * <pre>{@code
+ * public class UserSqlProvider {
+ *
+ *   private static final SqlTemplate SELECT_USERS = new SQL().SELECT("id, name").FROM("users")
+ *       .optional("name", sql -> sql.WHERE("name = #{name}")).ORDER_BY("id").toTemplate();
+ *
+ *   public static String selectUsers(String name) {
+ *     return name == null ? SELECT_USERS.render() : SELECT_USERS.render("name");
+ *   }
+ *
+ * }
+ * }</pre>
+ *
+ * @since 3.6.0
+ *
+ * @see AbstractSQL#optional(String, java.util.function.Consumer)
+ * @see AbstractSQL#toTemplate()
+ */
+public final class SqlTemplate {
+
+  private static final int MAX_RENDERED_SQLS = 1024;
+
+  private static final ClassValue<AtomicReference<SqlTemplate>> templates = new ClassValue<>() {
+    @Override
+    protected AtomicReference<SqlTemplate> computeValue(Class<?> type) {
+      // captured variables are held in fields, checked once per supplier class
+      if (type.getDeclaredFields().length > 0) {
+        throw new IllegalArgumentException("The SQL supplier " + type.getName()
+            + " must not capture any variable, as its template is built once and shared by all its instances.");
+      }
+      return new AtomicReference<>();
+    }
+  };
+
+  private final List<String> slots;
+  private final LongFunction<String> renderer;
+  private final Map<Long, String> renderedSqls = new ConcurrentHashMap<>();
+
+  SqlTemplate(List<String> slots, LongFunction<String> renderer) {
+    this.slots = Collections.unmodifiableList(new ArrayList<>(slots));
+    this.renderer = renderer;
+  }
+
+  /**
+   * Returns the template of the SQL built by a supplier, which is invoked once per call site. The supplier must not
+   * capture any variable, as the template built the first time is returned for all the following calls.
+   *
+   * @param sqlSupplier
+   *          a supplier that builds the SQL, e.g. {@code () -> new SQL().SELECT("*").FROM("users")}
+   *
+   * @return the template of the SQL
+   *
+   * @throws IllegalArgumentException
+   *           if the supplier captures a variable
+   */
+  public static SqlTemplate of(Supplier<? extends AbstractSQL<?>> sqlSupplier) {
+    AtomicReference<SqlTemplate> template = templates.get(sqlSupplier.getClass());
+    SqlTemplate sqlTemplate = template.get();
+    if (sqlTemplate == null) {
+      template.compareAndSet(null, sqlSupplier.get().toTemplate());
+      sqlTemplate = template.get();
+    }
+    return sqlTemplate;
+  }
+
+  /**
+   * Returns the names of the slots of the optional parts.
+   *
+   * @return the names of the slots
+   */
+  public List<String> getSlots() {
+    return slots;
+  }
+
+  /**
+   * Renders the SQL with the optional parts of the enabled slots.
+   *
+   * @param enabledSlots
+   *          the names of the enabled slots
+   *
+   * @return the SQL
+   */
+  public String render(String... enabledSlots) {
+    long slotMask = 0L;
+    for (String slot : enabledSlots) {
+      int index = slots.indexOf(slot);
+      if (index < 0) {
+        throw new IllegalArgumentException("Unknown slot '" + slot + "'. Known slots are " + slots + ".");
+      }
+      slotMask |= 1L << index;
+    }
+    String sql = renderedSqls.get(slotMask);
+    if (sql == null) {
+      sql = renderer.apply(slotMask);
+      if (renderedSqls.size() < MAX_RENDERED_SQLS) {
+        renderedSqls.put(slotMask, sql);
+      }
+    }
+    return sql;
+  }
+
+}
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2025 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -27,6 +27,7 @@ import org.apache.ibatis.logging.Log;
 import org.apache.ibatis.logging.LogFactory;
 import org.apache.ibatis.reflection.ParamNameResolver;
 import org.apache.ibatis.scripting.LanguageDriver;
+import org.apache.ibatis.scripting.defaults.ParameterMetaDataCache;
 import org.apache.ibatis.session.Configuration;
 
 /**
@@ -59,6 +60,9 @@ public final class MappedStatement {
   private String[] resultSets;
   private ParamNameResolver paramNameResolver;
   private boolean dirtySelect;
+  private boolean parallelMapping;
+  private Long resultMemoryBudget;
+  private ParameterMetaDataCache parameterMetaDataCache;
 
   MappedStatement() {
     // constructor disabled
@@ -184,6 +188,16 @@ public final class MappedStatement {
       return this;
     }
 
+    public Builder parallelMapping(boolean parallelMapping) {
+      mappedStatement.parallelMapping = parallelMapping;
+      return this;
+    }
+
+    public Builder resultMemoryBudget(Long resultMemoryBudget) {
+      mappedStatement.resultMemoryBudget = resultMemoryBudget;
+      return this;
+    }
+
     public Builder paramNameResolver(ParamNameResolver paramNameResolver) {
       mappedStatement.paramNameResolver = paramNameResolver;
       return this;
@@ -211,6 +225,10 @@ public final class MappedStatement {
       assert mappedStatement.sqlSource != null;
       assert mappedStatement.lang != null;
       mappedStatement.resultMaps = Collections.unmodifiableList(mappedStatement.resultMaps);
+      Integer parameterMetaDataCacheSize = mappedStatement.configuration.getParameterMetaDataCacheSize();
+      if (parameterMetaDataCacheSize != null && parameterMetaDataCacheSize > 0) {
+        mappedStatement.parameterMetaDataCache = new ParameterMetaDataCache(parameterMetaDataCacheSize);
+      }
       return mappedStatement;
     }
   }
@@ -311,6 +329,39 @@ public final class MappedStatement {
     return dirtySelect;
   }
 
+  /**
+   * Returns whether rows of simple result maps are mapped to objects in parallel.
+   *
+   * @return {@code true} if rows are mapped in parallel
+   *
+   * @since 3.6.0
+   */
+  public boolean isParallelMapping() {
+    return parallelMapping;
+  }
+
+  /**
+   * Returns the estimated number of bytes that the results of this statement may hold in memory.
+   *
+   * @return the result memory budget, {@code 0} if unlimited; {@code null} to use the global setting
+   *
+   * @since 3.6.0
+   */
+  public Long getResultMemoryBudget() {
+    return resultMemoryBudget;
+  }
+
+  /**
+   * Returns the cache of the parameter JDBC types reported by the driver for this statement.
+   *
+   * @return the parameter meta data cache, {@code null} if caching is disabled
+   *
+   * @since 3.6.0
+   */
+  public ParameterMetaDataCache getParameterMetaDataCache() {
+    return parameterMetaDataCache;
+  }
+
   public ParamNameResolver getParamNameResolver() {
     return paramNameResolver;
   }
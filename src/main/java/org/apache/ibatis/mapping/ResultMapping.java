@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2025 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -44,6 +44,7 @@ public class ResultMapping {
   private String resultSet;
   private String foreignColumn;
   private boolean lazy;
+  private boolean deduplicate;
 
   ResultMapping() {
   }
@@ -88,6 +89,7 @@ public class ResultMapping {
       resultMapping.resultSet = otherMapping.resultSet;
       resultMapping.foreignColumn = otherMapping.foreignColumn;
       resultMapping.lazy = otherMapping.lazy;
+      resultMapping.deduplicate = otherMapping.deduplicate;
     }
 
     public Builder javaType(Class<?> javaType) {
@@ -150,6 +152,11 @@ public class ResultMapping {
       return this;
     }
 
+    public Builder deduplicate(boolean deduplicate) {
+      resultMapping.deduplicate = deduplicate;
+      return this;
+    }
+
     public ResultMapping build() {
       // lock down collections
       resultMapping.flags = Collections.unmodifiableList(resultMapping.flags);
@@ -261,6 +268,17 @@ public class ResultMapping {
     this.lazy = lazy;
   }
 
+  /**
+   * Returns whether repeated values of the column are replaced by a single instance within a result set.
+   *
+   * @return {@code true} if values are deduplicated
+   *
+   * @since 3.6.0
+   */
+  public boolean isDeduplicate() {
+    return deduplicate;
+  }
+
   public boolean isSimple() {
     return this.nestedResultMapId == null && this.nestedQueryId == null && this.resultSet == null;
   }
@@ -309,6 +327,7 @@ public class ResultMapping {
     sb.append(", resultSet='").append(resultSet).append('\'');
     sb.append(", foreignColumn='").append(foreignColumn).append('\'');
     sb.append(", lazy=").append(lazy);
+    sb.append(", deduplicate=").append(deduplicate);
     sb.append('}');
     return sb.toString();
   }
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2025 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -42,7 +42,9 @@ import org.apache.ibatis.reflection.invoker.AmbiguousMethodInvoker;
 import org.apache.ibatis.reflection.invoker.GetFieldInvoker;
 import org.apache.ibatis.reflection.invoker.Invoker;
 import org.apache.ibatis.reflection.invoker.MethodInvoker;
+import org.apache.ibatis.reflection.invoker.PrimitiveSetter;
 import org.apache.ibatis.reflection.invoker.SetFieldInvoker;
+import org.apache.ibatis.reflection.invoker.SetMethodInvoker;
 import org.apache.ibatis.reflection.property.PropertyNamer;
 
 /**
@@ -216,7 +218,7 @@ public class Reflector {
   }
 
   private void addSetMethod(String name, Method method) {
-    MethodInvoker invoker = new MethodInvoker(method);
+    MethodInvoker invoker = new SetMethodInvoker(method);
     setMethods.put(name, invoker);
     Type[] paramTypes = TypeParameterResolver.resolveParamTypes(method, type);
     setTypes.put(name, Map.entry(paramTypes[0], typeToClass(paramTypes[0])));
@@ -383,6 +385,25 @@ public class Reflector {
     return method;
   }
 
+  /**
+   * Gets a setter of a primitive {@code int}, {@code long} or {@code double} property that does not box the value.
+   *
+   * @param propertyName
+   *          the name of the property
+   *
+   * @return the primitive setter, {@code null} if the property is not of one of these types or its setter is ambiguous
+   *
+   * @since 3.6.0
+   */
+  public PrimitiveSetter getPrimitiveSetter(String propertyName) {
+    Invoker invoker = setMethods.get(propertyName);
+    if (!(invoker instanceof PrimitiveSetter)) {
+      return null;
+    }
+    Class<?> type = invoker.getType();
+    return type == int.class || type == long.class || type == double.class ? (PrimitiveSetter) invoker : null;
+  }
+
   public Invoker getGetInvoker(String propertyName) {
     Invoker method = getMethods.get(propertyName);
     if (method == null) {
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2024 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -22,7 +22,7 @@ import org.apache.ibatis.reflection.Reflector;
 /**
  * @author Clinton Begin
  */
-public class SetFieldInvoker implements Invoker {
+public class SetFieldInvoker implements Invoker, PrimitiveSetter {
   private final Field field;
 
   public SetFieldInvoker(Field field) {
@@ -43,6 +43,45 @@ public class SetFieldInvoker implements Invoker {
     return null;
   }
 
+  @Override
+  public void setInt(Object target, int value) throws IllegalAccessException {
+    try {
+      field.setInt(target, value);
+    } catch (IllegalAccessException e) {
+      if (!Reflector.canControlMemberAccessible()) {
+        throw e;
+      }
+      field.setAccessible(true);
+      field.setInt(target, value);
+    }
+  }
+
+  @Override
+  public void setLong(Object target, long value) throws IllegalAccessException {
+    try {
+      field.setLong(target, value);
+    } catch (IllegalAccessException e) {
+      if (!Reflector.canControlMemberAccessible()) {
+        throw e;
+      }
+      field.setAccessible(true);
+      field.setLong(target, value);
+    }
+  }
+
+  @Override
+  public void setDouble(Object target, double value) throws IllegalAccessException {
+    try {
+      field.setDouble(target, value);
+    } catch (IllegalAccessException e) {
+      if (!Reflector.canControlMemberAccessible()) {
+        throw e;
+      }
+      field.setAccessible(true);
+      field.setDouble(target, value);
+    }
+  }
+
   @Override
   public Class<?> getType() {
     return field.getType();
@@ -0,0 +1,92 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.reflection.invoker;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.apache.ibatis.reflection.Reflector;
+
+/**
+ * Invokes a setter method, and sets primitive properties through a method handle so that the value is not boxed.
+ *
+ * @since 3.6.0
+ */
+public class SetMethodInvoker extends MethodInvoker implements PrimitiveSetter {
+
+  private volatile MethodHandle primitiveSetter;
+
+  public SetMethodInvoker(Method method) {
+    super(method);
+  }
+
+  @Override
+  public void setInt(Object target, int value) throws IllegalAccessException, InvocationTargetException {
+    try {
+      getPrimitiveSetter().invokeExact(target, value);
+    } catch (IllegalAccessException | RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new InvocationTargetException(t);
+    }
+  }
+
+  @Override
+  public void setLong(Object target, long value) throws IllegalAccessException, InvocationTargetException {
+    try {
+      getPrimitiveSetter().invokeExact(target, value);
+    } catch (IllegalAccessException | RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new InvocationTargetException(t);
+    }
+  }
+
+  @Override
+  public void setDouble(Object target, double value) throws IllegalAccessException, InvocationTargetException {
+    try {
+      getPrimitiveSetter().invokeExact(target, value);
+    } catch (IllegalAccessException | RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new InvocationTargetException(t);
+    }
+  }
+
+  // a handle of type (Object, primitive)void, so that invokeExact does not box the value
+  private MethodHandle getPrimitiveSetter() throws IllegalAccessException {
+    MethodHandle handle = primitiveSetter;
+    if (handle == null) {
+      final Method method = getMethod();
+      try {
+        handle = MethodHandles.lookup().unreflect(method);
+      } catch (IllegalAccessException e) {
+        if (!Reflector.canControlMemberAccessible()) {
+          throw e;
+        }
+        method.setAccessible(true);
+        handle = MethodHandles.lookup().unreflect(method);
+      }
+      handle = handle.asType(MethodType.methodType(void.class, Object.class, getType()));
+      primitiveSetter = handle;
+    }
+    return handle;
+  }
+
+}
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2025 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -54,6 +54,8 @@ public class DefaultParameterHandler implements ParameterHandler {
   private final BoundSql boundSql;
   private final Configuration configuration;
 
+  private final ParameterMetaDataCache.ParameterTypes parameterTypes;
+
   private ParameterMetaData paramMetaData;
   private MetaObject paramMetaObject;
   private HashMap<Class<?>, MetaClass> metaClassCache = new HashMap<>();
@@ -79,6 +81,10 @@ public class DefaultParameterHandler implements ParameterHandler {
     this.typeHandlerRegistry = mappedStatement.getConfiguration().getTypeHandlerRegistry();
     this.parameterObject = parameterObject;
     this.boundSql = boundSql;
+    ParameterMetaDataCache parameterMetaDataCache = mappedStatement.getParameterMetaDataCache();
+    List<ParameterMapping> parameterMappings = boundSql.getParameterMappings();
+    this.parameterTypes = parameterMetaDataCache == null || parameterMappings == null || boundSql.getSql() == null
+        ? null : parameterMetaDataCache.getParameterTypes(boundSql.getSql(), parameterMappings.size());
   }
 
   @Override
@@ -93,9 +99,16 @@ public class DefaultParameterHandler implements ParameterHandler {
     List<ParameterMapping> parameterMappings = boundSql.getParameterMappings();
     if (parameterMappings != null) {
       ParamNameResolver paramNameResolver = mappedStatement.getParamNameResolver();
+      ParameterBindingPlan bindingPlan = getBindingPlan(ps, parameterMappings, paramNameResolver);
       for (int i = 0; i < parameterMappings.size(); i++) {
         ParameterMapping parameterMapping = parameterMappings.get(i);
         if (parameterMapping.getMode() != ParameterMode.OUT) {
+          ParameterBindingPlan.Binding binding = bindingPlan == null ? null
+              : bindingPlan.getBinding(i, parameterMapping, boundSql);
+          if (binding != null) {
+            setParameter(ps, i + 1, parameterMapping, binding);
+            continue;
+          }
           Object value;
           String propertyName = parameterMapping.getProperty();
           JdbcType jdbcType = parameterMapping.getJdbcType();
@@ -110,7 +123,9 @@ public class DefaultParameterHandler implements ParameterHandler {
             value = null;
           } else {
             Class<? extends Object> parameterClass = parameterObject.getClass();
-            TypeHandler paramTypeHandler = typeHandlerRegistry.getTypeHandler(parameterClass, actualJdbcType);
+            TypeHandler paramTypeHandler = parameterTypes == null
+                ? typeHandlerRegistry.getTypeHandler(parameterClass, actualJdbcType)
+                : parameterTypes.getTypeHandler(typeHandlerRegistry, i + 1, parameterClass, actualJdbcType);
             if (paramTypeHandler != null) {
               value = parameterObject;
               typeHandler = paramTypeHandler;
@@ -180,6 +195,62 @@ public class DefaultParameterHandler implements ParameterHandler {
     }
   }
 
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  private void setParameter(PreparedStatement ps, int paramIndex, ParameterMapping parameterMapping,
+      ParameterBindingPlan.Binding binding) {
+    Object value = binding.getValue(parameterObject);
+    JdbcType jdbcType = parameterMapping.getJdbcType();
+    TypeHandler typeHandler;
+    if (value == null) {
+      if (jdbcType == null) {
+        jdbcType = configuration.getJdbcTypeForNull();
+      }
+      typeHandler = binding.getNullTypeHandler();
+    } else {
+      typeHandler = binding.getTypeHandler();
+      if (typeHandler == null) {
+        JdbcType actualJdbcType = binding.getActualJdbcType();
+        typeHandler = typeHandlerRegistry.getTypeHandler(value.getClass(), actualJdbcType, null);
+        if (typeHandler == null) {
+          typeHandler = typeHandlerRegistry.getTypeHandler(actualJdbcType);
+        }
+        if (typeHandler == null) {
+          throw new TypeException("Could not find type handler for Java type '" + value.getClass().getTypeName()
+              + "' nor JDBC type '" + actualJdbcType + "'");
+        }
+      }
+    }
+    try {
+      typeHandler.setParameter(ps, paramIndex, value, jdbcType);
+    } catch (TypeException | SQLException e) {
+      throw new TypeException("Could not set parameters for mapping: " + parameterMapping + ". Cause: " + e, e);
+    }
+  }
+
+  private ParameterBindingPlan getBindingPlan(PreparedStatement ps, List<ParameterMapping> parameterMappings,
+      ParamNameResolver paramNameResolver) {
+    if (parameterTypes == null || parameterObject == null) {
+      return null;
+    }
+    ParameterBindingPlan bindingPlan = parameterTypes.getBindingPlan(parameterObject.getClass());
+    if (bindingPlan == null) {
+      JdbcType[] actualJdbcTypes = new JdbcType[parameterMappings.size()];
+      for (int i = 0; i < actualJdbcTypes.length; i++) {
+        ParameterMapping parameterMapping = parameterMappings.get(i);
+        JdbcType jdbcType = parameterMapping.getJdbcType();
+        actualJdbcTypes[i] = jdbcType == null && parameterMapping.getMode() != ParameterMode.OUT
+            ? getParamJdbcType(ps, i + 1) : jdbcType;
+      }
+      bindingPlan = ParameterBindingPlan.build(configuration, paramNameResolver, parameterMappings, parameterObject,
+          actualJdbcTypes);
+      if (paramMetaData != NULL_PARAM_METADATA) {
+        // a plan built without the JDBC types of a failed driver call is not kept
+        parameterTypes.setBindingPlan(bindingPlan);
+      }
+    }
+    return bindingPlan;
+  }
+
   private MetaObject getParamMetaObject() {
     if (paramMetaObject != null) {
       return paramMetaObject;
@@ -189,6 +260,17 @@ public class DefaultParameterHandler implements ParameterHandler {
   }
 
   private JdbcType getParamJdbcType(PreparedStatement ps, int paramIndex) {
+    if (parameterTypes != null) {
+      if (paramMetaData == NULL_PARAM_METADATA) {
+        return null;
+      }
+      JdbcType jdbcType = parameterTypes.getJdbcType(ps, paramIndex);
+      if (!parameterTypes.hasJdbcTypes()) {
+        // the driver failed, it is not asked again for the other parameters of this execution
+        paramMetaData = NULL_PARAM_METADATA;
+      }
+      return jdbcType;
+    }
     try {
       if (paramMetaData == null) {
         paramMetaData = ps.getParameterMetaData();
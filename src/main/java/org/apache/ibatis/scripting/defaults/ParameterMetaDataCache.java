@@ -0,0 +1,239 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.scripting.defaults;
+
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.TypeHandler;
+import org.apache.ibatis.type.TypeHandlerRegistry;
+
+/**
+ * Caches the JDBC types that the driver reports for the parameters of a statement, so that
+ * {@link PreparedStatement#getParameterMetaData()} is called once per SQL text instead of once per execution. The
+ * type handlers looked up for the parameter object with these JDBC types are cached along with them, as well as the
+ * binding plan of the last parameter object class.
+ * <p>
+ * Static statements produce a single SQL text. Dynamic statements are cached per SQL text. Lookups do not lock. Once
+ * the cache holds more than {@code maxSize} texts, the least recently used quarter of them is evicted in one pass; the
+ * recency is only tracked between additions of texts, so texts used since the last addition rank the same.
+ *
+ * @since 3.6.0
+ */
+public class ParameterMetaDataCache {
+
+  private final int maxSize;
+  private final ConcurrentMap<String, ParameterTypes> parameterTypes = new ConcurrentHashMap<>();
+  // advanced when a text is added only, so that a lookup does not write to a shared counter
+  private final AtomicLong clock = new AtomicLong();
+  private final AtomicBoolean evicting = new AtomicBoolean();
+
+  public ParameterMetaDataCache(int maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Returns the parameter types of a SQL text.
+   *
+   * @param sql
+   *          the SQL text
+   * @param parameterCount
+   *          the number of parameter mappings of the SQL text
+   *
+   * @return the parameter types
+   */
+  public ParameterTypes getParameterTypes(String sql, int parameterCount) {
+    ParameterTypes types = parameterTypes.get(sql);
+    if (types == null || types.parameterCount != parameterCount) {
+      final ParameterTypes added = new ParameterTypes(parameterCount);
+      types = parameterTypes.merge(sql, added,
+          (current, value) -> current.parameterCount == parameterCount ? current : value);
+      if (types == added) {
+        // the text added ranks before the texts used after it
+        types.lastUsed = clock.addAndGet(2) - 1;
+        if (parameterTypes.size() > maxSize) {
+          evict();
+        }
+        return types;
+      }
+    }
+    final long now = clock.get();
+    if (types.lastUsed != now) {
+      types.lastUsed = now;
+    }
+    return types;
+  }
+
+  private void evict() {
+    if (!evicting.compareAndSet(false, true)) {
+      // another thread is evicting
+      return;
+    }
+    try {
+      final List<Map.Entry<String, ParameterTypes>> entries = new ArrayList<>(parameterTypes.entrySet());
+      final int excess = entries.size() - (maxSize - maxSize / 4);
+      if (excess <= 0) {
+        return;
+      }
+      final long[] lastUsed = new long[entries.size()];
+      for (int i = 0; i < lastUsed.length; i++) {
+        lastUsed[i] = entries.get(i).getValue().lastUsed;
+      }
+      final long[] sorted = lastUsed.clone();
+      Arrays.sort(sorted);
+      final long threshold = sorted[excess - 1];
+      int evicted = 0;
+      for (int i = 0; i < lastUsed.length && evicted < excess; i++) {
+        if (lastUsed[i] <= threshold && parameterTypes.remove(entries.get(i).getKey(), entries.get(i).getValue())) {
+          evicted++;
+        }
+      }
+    } finally {
+      evicting.set(false);
+    }
+  }
+
+  /**
+   * The JDBC types and type handlers resolved for the parameters of one SQL text.
+   */
+  public static class ParameterTypes {
+
+    private final int parameterCount;
+    // null until the driver has answered, an array with null elements if it could not tell
+    private volatile JdbcType[] jdbcTypes;
+    private final AtomicReferenceArray<ResolvedTypeHandler> typeHandlers;
+    private volatile ParameterBindingPlan bindingPlan;
+    private volatile long lastUsed;
+
+    ParameterTypes(int parameterCount) {
+      this.parameterCount = parameterCount;
+      this.typeHandlers = new AtomicReferenceArray<>(parameterCount);
+    }
+
+    /**
+     * Returns the JDBC type reported by the driver for a parameter.
+     *
+     * @param ps
+     *          the prepared statement, used the first time a JDBC type is requested
+     * @param paramIndex
+     *          the parameter index, starting at 1
+     *
+     * @return the JDBC type, {@code null} if the driver cannot tell or fails, in which case it is asked again next
+     *         time unless it does not support parameter meta data
+     */
+    public JdbcType getJdbcType(PreparedStatement ps, int paramIndex) {
+      JdbcType[] types = jdbcTypes;
+      if (types == null) {
+        types = resolveJdbcTypes(ps);
+        if (types == null) {
+          // the driver failed, it is asked again by the next execution
+          return null;
+        }
+        jdbcTypes = types;
+      }
+      return paramIndex <= types.length ? types[paramIndex - 1] : null;
+    }
+
+    boolean hasJdbcTypes() {
+      return jdbcTypes != null;
+    }
+
+    private JdbcType[] resolveJdbcTypes(PreparedStatement ps) {
+      JdbcType[] types = new JdbcType[parameterCount];
+      ParameterMetaData paramMetaData;
+      try {
+        paramMetaData = ps.getParameterMetaData();
+      } catch (SQLFeatureNotSupportedException e) {
+        return types;
+      } catch (SQLException e) {
+        return null;
+      }
+      if (paramMetaData == null) {
+        return types;
+      }
+      for (int i = 0; i < parameterCount; i++) {
+        try {
+          types[i] = JdbcType.forCode(paramMetaData.getParameterType(i + 1));
+        } catch (SQLException e) {
+          // Not always resolvable
+        }
+      }
+      return types;
+    }
+
+    /**
+     * Returns the type handler registered for the class of the parameter object and the JDBC type of a parameter.
+     *
+     * @param registry
+     *          the type handler registry
+     * @param paramIndex
+     *          the parameter index, starting at 1
+     * @param parameterClass
+     *          the class of the parameter object
+     * @param jdbcType
+     *          the JDBC type of the parameter
+     *
+     * @return the type handler, {@code null} if none is registered
+     */
+    public TypeHandler<?> getTypeHandler(TypeHandlerRegistry registry, int paramIndex, Class<?> parameterClass,
+        JdbcType jdbcType) {
+      ResolvedTypeHandler resolved = typeHandlers.get(paramIndex - 1);
+      if (resolved == null || resolved.parameterClass != parameterClass || resolved.jdbcType != jdbcType) {
+        resolved = new ResolvedTypeHandler(parameterClass, jdbcType, registry.getTypeHandler(parameterClass, jdbcType));
+        typeHandlers.set(paramIndex - 1, resolved);
+      }
+      return resolved.typeHandler;
+    }
+
+    /**
+     * Returns the binding plan for a parameter object class, {@code null} if none was built for it yet. A plan built
+     * for another class is replaced when the plan for this class is set.
+     */
+    ParameterBindingPlan getBindingPlan(Class<?> parameterClass) {
+      ParameterBindingPlan plan = bindingPlan;
+      return plan != null && plan.getParameterClass() == parameterClass ? plan : null;
+    }
+
+    void setBindingPlan(ParameterBindingPlan bindingPlan) {
+      this.bindingPlan = bindingPlan;
+    }
+  }
+
+  private static final class ResolvedTypeHandler {
+    private final Class<?> parameterClass;
+    private final JdbcType jdbcType;
+    private final TypeHandler<?> typeHandler;
+
+    ResolvedTypeHandler(Class<?> parameterClass, JdbcType jdbcType, TypeHandler<?> typeHandler) {
+      this.parameterClass = parameterClass;
+      this.jdbcType = jdbcType;
+      this.typeHandler = typeHandler;
+    }
+  }
+
+}
@@ -0,0 +1,300 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.scripting.xmltags;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+import ognl.ASTAnd;
+import ognl.ASTChain;
+import ognl.ASTConst;
+import ognl.ASTEq;
+import ognl.ASTGreater;
+import ognl.ASTGreaterEq;
+import ognl.ASTLess;
+import ognl.ASTLessEq;
+import ognl.ASTMethod;
+import ognl.ASTNot;
+import ognl.ASTNotEq;
+import ognl.ASTOr;
+import ognl.ASTProperty;
+import ognl.Node;
+import ognl.Ognl;
+import ognl.OgnlException;
+import ognl.OgnlOps;
+
+import org.apache.ibatis.reflection.Reflector;
+import org.apache.ibatis.reflection.ReflectorFactory;
+import org.apache.ibatis.scripting.xmltags.DynamicContext.ContextAccessor;
+import org.apache.ibatis.scripting.xmltags.DynamicContext.ContextMap;
+
+/**
+ * An OGNL expression compiled into a tree of direct accessors. Only the subset found in most dynamic SQL tests is
+ * compiled: constants, property paths, the {@code size()}, {@code isEmpty()} and {@code length()} methods of
+ * collections, maps and strings, comparisons, {@code and}, {@code or} and {@code not}. Comparisons and truth values use
+ * {@link OgnlOps}, so that a compiled expression evaluates to the same value as OGNL would.
+ * <p>
+ * A value that cannot be resolved the way OGNL would resolve it, such as a property of a {@code null} target, makes
+ * {@link #getValue(Object)} throw an {@link UnresolvedValueException}; the caller then evaluates the expression with
+ * OGNL, which also reports the errors.
+ *
+ * @since 3.6.0
+ */
+final class CompiledExpression {
+
+  private static final ContextAccessor CONTEXT_ACCESSOR = new ContextAccessor();
+  // names that OGNL resolves to the map itself instead of an entry
+  private static final Set<String> MAP_PSEUDO_PROPERTIES = Set.of("size", "isEmpty", "keys", "keySet", "values");
+  private static final Object[] NO_ARGUMENTS = {};
+  private static final UnresolvedValueException UNRESOLVED = new UnresolvedValueException();
+
+  private final Evaluation evaluation;
+
+  private CompiledExpression(Evaluation evaluation) {
+    this.evaluation = evaluation;
+  }
+
+  /**
+   * Compiles an expression.
+   *
+   * @param expression
+   *          the OGNL expression
+   *
+   * @return the compiled expression, {@code null} if the expression is not supported or cannot be parsed
+   */
+  static CompiledExpression compile(String expression) {
+    Object node;
+    try {
+      node = Ognl.parseExpression(expression);
+    } catch (OgnlException e) {
+      return null;
+    }
+    Evaluation evaluation = compile((Node) node);
+    return evaluation == null ? null : new CompiledExpression(evaluation);
+  }
+
+  /**
+   * Evaluates the expression against a root object.
+   *
+   * @param root
+   *          the root object
+   *
+   * @return the value of the expression
+   *
+   * @throws UnresolvedValueException
+   *           if the expression must be evaluated with OGNL
+   */
+  Object getValue(Object root) {
+    return evaluation.evaluate(root, OgnlReflectorAccessor.getReflectorFactory(root));
+  }
+
+  private static Evaluation compile(Node node) {
+    if (node instanceof ASTConst) {
+      Object value = ((ASTConst) node).getValue();
+      return (root, reflectorFactory) -> value;
+    }
+    if (node instanceof ASTProperty) {
+      String name = getPropertyName((ASTProperty) node);
+      return name == null ? null : (root, reflectorFactory) -> getProperty(root, name, reflectorFactory);
+    }
+    if (node instanceof ASTChain) {
+      return compileChain(node);
+    }
+    if (node instanceof ASTNot) {
+      Evaluation operand = node.jjtGetNumChildren() == 1 ? compile(node.jjtGetChild(0)) : null;
+      if (operand == null) {
+        return null;
+      }
+      return (root, reflectorFactory) -> OgnlOps.booleanValue(operand.evaluate(root, reflectorFactory)) ? Boolean.FALSE
+          : Boolean.TRUE;
+    }
+    if (node instanceof ASTAnd || node instanceof ASTOr) {
+      return compileLogical(node, node instanceof ASTAnd);
+    }
+    if (node instanceof ASTEq) {
+      return compileComparison(node, (left, right) -> OgnlOps.equal(left, right));
+    }
+    if (node instanceof ASTNotEq) {
+      return compileComparison(node, (left, right) -> !OgnlOps.equal(left, right));
+    }
+    if (node instanceof ASTLess) {
+      return compileComparison(node, (left, right) -> OgnlOps.less(left, right));
+    }
+    if (node instanceof ASTGreater) {
+      return compileComparison(node, (left, right) -> OgnlOps.greater(left, right));
+    }
+    if (node instanceof ASTLessEq) {
+      return compileComparison(node, (left, right) -> !OgnlOps.greater(left, right));
+    }
+    if (node instanceof ASTGreaterEq) {
+      return compileComparison(node, (left, right) -> !OgnlOps.less(left, right));
+    }
+    return null;
+  }
+
+  private static Evaluation compileChain(Node chain) {
+    int length = chain.jjtGetNumChildren();
+    Evaluation head = length > 0 ? compile(chain.jjtGetChild(0)) : null;
+    if (head == null) {
+      return null;
+    }
+    Evaluation[] steps = new Evaluation[length - 1];
+    for (int i = 1; i < length; i++) {
+      Node node = chain.jjtGetChild(i);
+      if (node instanceof ASTProperty) {
+        String name = getPropertyName((ASTProperty) node);
+        if (name == null) {
+          return null;
+        }
+        steps[i - 1] = (target, reflectorFactory) -> getProperty(target, name, reflectorFactory);
+      } else if (node instanceof ASTMethod && node.jjtGetNumChildren() == 0) {
+        String methodName = ((ASTMethod) node).getMethodName();
+        if (!"size".equals(methodName) && !"isEmpty".equals(methodName) && !"length".equals(methodName)) {
+          return null;
+        }
+        steps[i - 1] = (target, reflectorFactory) -> invokeMethod(target, methodName);
+      } else {
+        return null;
+      }
+    }
+    return (root, reflectorFactory) -> {
+      Object value = head.evaluate(root, reflectorFactory);
+      for (Evaluation step : steps) {
+        value = step.evaluate(value, reflectorFactory);
+      }
+      return value;
+    };
+  }
+
+  private static Evaluation compileLogical(Node node, boolean and) {
+    int length = node.jjtGetNumChildren();
+    Evaluation[] operands = new Evaluation[length];
+    for (int i = 0; i < length; i++) {
+      operands[i] = compile(node.jjtGetChild(i));
+      if (operands[i] == null) {
+        return null;
+      }
+    }
+    // like OGNL, the value is the last operand evaluated, not necessarily a boolean
+    return (root, reflectorFactory) -> {
+      Object value = null;
+      for (int i = 0; i < length; i++) {
+        value = operands[i].evaluate(root, reflectorFactory);
+        if (i < length - 1 && OgnlOps.booleanValue(value) != and) {
+          break;
+        }
+      }
+      return value;
+    };
+  }
+
+  private static Evaluation compileComparison(Node node, Comparison comparison) {
+    if (node.jjtGetNumChildren() != 2) {
+      return null;
+    }
+    Evaluation left = compile(node.jjtGetChild(0));
+    Evaluation right = compile(node.jjtGetChild(1));
+    if (left == null || right == null) {
+      return null;
+    }
+    return (root, reflectorFactory) -> comparison.compare(left.evaluate(root, reflectorFactory),
+        right.evaluate(root, reflectorFactory)) ? Boolean.TRUE : Boolean.FALSE;
+  }
+
+  private static String getPropertyName(ASTProperty property) {
+    if (property.isIndexedAccess() || property.jjtGetNumChildren() != 1
+        || !(property.jjtGetChild(0) instanceof ASTConst)) {
+      return null;
+    }
+    Object name = ((ASTConst) property.jjtGetChild(0)).getValue();
+    return name instanceof String ? (String) name : null;
+  }
+
+  private static Object getProperty(Object target, String name, ReflectorFactory reflectorFactory) {
+    if (target instanceof ContextMap) {
+      return CONTEXT_ACCESSOR.getProperty(null, target, name);
+    }
+    if (target instanceof Map) {
+      if (MAP_PSEUDO_PROPERTIES.contains(name)) {
+        throw UNRESOLVED;
+      }
+      return ((Map<?, ?>) target).get(name);
+    }
+    if (!OgnlReflectorAccessor.isBean(target)) {
+      throw UNRESOLVED;
+    }
+    Reflector reflector = reflectorFactory.findForClass(target.getClass());
+    if (!reflector.hasGetter(name)) {
+      throw UNRESOLVED;
+    }
+    try {
+      return reflector.getGetInvoker(name).invoke(target, NO_ARGUMENTS);
+    } catch (IllegalAccessException | InvocationTargetException e) {
+      throw UNRESOLVED;
+    }
+  }
+
+  private static Object invokeMethod(Object target, String methodName) {
+    if (target instanceof Collection) {
+      Collection<?> collection = (Collection<?>) target;
+      if ("size".equals(methodName)) {
+        return collection.size();
+      }
+      if ("isEmpty".equals(methodName)) {
+        return collection.isEmpty();
+      }
+    } else if (target instanceof Map) {
+      Map<?, ?> map = (Map<?, ?>) target;
+      if ("size".equals(methodName)) {
+        return map.size();
+      }
+      if ("isEmpty".equals(methodName)) {
+        return map.isEmpty();
+      }
+    } else if (target instanceof String) {
+      String string = (String) target;
+      if ("length".equals(methodName)) {
+        return string.length();
+      }
+      if ("isEmpty".equals(methodName)) {
+        return string.isEmpty();
+      }
+    }
+    throw UNRESOLVED;
+  }
+
+  private interface Evaluation {
+    Object evaluate(Object target, ReflectorFactory reflectorFactory);
+  }
+
+  private interface Comparison {
+    boolean compare(Object left, Object right);
+  }
+
+  /**
+   * Thrown when a compiled expression cannot resolve a value the way OGNL would.
+   */
+  static final class UnresolvedValueException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    UnresolvedValueException() {
+      super(null, null, false, false);
+    }
+  }
+
+}
@@ -0,0 +1,51 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.scripting.xmltags;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An expression evaluator that compiles the common forms of dynamic SQL expressions, such as {@code name != null},
+ * {@code name != ''} or {@code list != null and list.size() > 0}, into direct accessor chains, and evaluates any other
+ * expression with OGNL. This avoids creating an OGNL context and walking the OGNL tree on each evaluation.
+ *
+ * @since 3.6.0
+ *
+ * @see CompiledExpression
+ */
+public class CompiledExpressionEvaluator extends ExpressionEvaluator {
+
+  public static final CompiledExpressionEvaluator INSTANCE = new CompiledExpressionEvaluator();
+
+  private final Map<String, Optional<CompiledExpression>> compiledExpressions = new ConcurrentHashMap<>();
+
+  @Override
+  public Object evaluate(String expression, Object parameterObject) {
+    CompiledExpression compiledExpression = compiledExpressions
+        .computeIfAbsent(expression, e -> Optional.ofNullable(CompiledExpression.compile(e))).orElse(null);
+    if (compiledExpression != null) {
+      try {
+        return compiledExpression.getValue(parameterObject);
+      } catch (RuntimeException e) {
+        // let OGNL resolve the value or report the error
+      }
+    }
+    return super.evaluate(expression, parameterObject);
+  }
+
+}
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2025 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -15,11 +15,15 @@
  */
 package org.apache.ibatis.scripting.xmltags;
 
+import java.util.AbstractMap;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.StringJoiner;
+import java.util.Set;
 
 import ognl.OgnlContext;
 import ognl.OgnlRuntime;
@@ -28,8 +32,13 @@ import ognl.PropertyAccessor;
 import org.apache.ibatis.builder.ParameterMappingTokenHandler;
 import org.apache.ibatis.mapping.ParameterMapping;
 import org.apache.ibatis.parsing.GenericTokenParser;
+import org.apache.ibatis.reflection.ExceptionUtil;
 import org.apache.ibatis.reflection.MetaObject;
 import org.apache.ibatis.reflection.ParamNameResolver;
+import org.apache.ibatis.reflection.ReflectionException;
+import org.apache.ibatis.reflection.Reflector;
+import org.apache.ibatis.reflection.ReflectorFactory;
+import org.apache.ibatis.reflection.wrapper.ObjectWrapper;
 import org.apache.ibatis.session.Configuration;
 
 /**
@@ -45,7 +54,7 @@ public class DynamicContext {
   }
 
   protected final ContextMap bindings;
-  private final StringJoiner sqlBuilder = new StringJoiner(" ");
+  private StringBuilder sqlBuilder;
 
   private final Configuration configuration;
   private final Object parameterObject;
@@ -55,6 +64,12 @@ public class DynamicContext {
 
   private GenericTokenParser tokenParser;
   private ParameterMappingTokenHandler tokenHandler;
+  // when set, the shape of the SQL is recorded while the SQL is built
+  SqlShape shape;
+  // when set, the shape of the SQL is recorded without building the SQL
+  boolean shapeOnly;
+  // the initial capacity of the SQL builder
+  int sqlLengthHint = 16;
 
   public DynamicContext(Configuration configuration, Class<?> parameterType, ParamNameResolver paramNameResolver) {
     this(configuration, null, parameterType, paramNameResolver, false);
@@ -62,13 +77,7 @@ public class DynamicContext {
 
   public DynamicContext(Configuration configuration, Object parameterObject, Class<?> parameterType,
       ParamNameResolver paramNameResolver, boolean paramExists) {
-    if (parameterObject == null || parameterObject instanceof Map) {
-      bindings = new ContextMap(null, false);
-    } else {
-      MetaObject metaObject = configuration.newMetaObject(parameterObject);
-      boolean existsTypeHandler = configuration.getTypeHandlerRegistry().hasTypeHandler(parameterObject.getClass());
-      bindings = new ContextMap(metaObject, existsTypeHandler);
-    }
+    bindings = new ContextMap(configuration, parameterObject);
     bindings.put(PARAMETER_OBJECT_KEY, parameterObject);
     bindings.put(DATABASE_ID_KEY, configuration.getDatabaseId());
     this.configuration = configuration;
@@ -78,6 +87,21 @@ public class DynamicContext {
     this.paramNameResolver = paramNameResolver;
   }
 
+  /**
+   * Creates a context scoped in another one, e.g. for an iteration of a foreach. Its bindings see the bindings of the
+   * other context, and the variables bound to it are not visible from the other context.
+   */
+  DynamicContext(DynamicContext parent) {
+    this.bindings = new ContextMap(parent.bindings);
+    this.configuration = parent.configuration;
+    this.parameterObject = parent.parameterObject;
+    this.paramExists = parent.paramExists;
+    this.parameterType = parent.parameterType;
+    this.paramNameResolver = parent.paramNameResolver;
+    this.shape = parent.shape;
+    this.shapeOnly = parent.shapeOnly;
+  }
+
   public Map<String, Object> getBindings() {
     return bindings;
   }
@@ -87,11 +111,18 @@ public class DynamicContext {
   }
 
   public void appendSql(String sql) {
-    sqlBuilder.add(sql);
+    if (!shapeOnly) {
+      if (sqlBuilder == null) {
+        sqlBuilder = new StringBuilder(sqlLengthHint);
+      } else {
+        sqlBuilder.append(' ');
+      }
+      sqlBuilder.append(sql);
+    }
   }
 
   public String getSql() {
-    return sqlBuilder.toString().trim();
+    return sqlBuilder == null ? "" : sqlBuilder.toString().trim();
   }
 
   private void initTokenParser(List<ParameterMapping> parameterMappings) {
@@ -108,8 +139,27 @@ public class DynamicContext {
   }
 
   protected String parseParam(String sql) {
-    initTokenParser(getParameterMappings());
-    return tokenParser.parse(sql);
+    if (shapeOnly) {
+      shape.addParameters(bindings, sql, null);
+      return sql;
+    }
+    List<ParameterMapping> parameterMappings = getParameterMappings();
+    int parsedParameters = parameterMappings.size();
+    initTokenParser(parameterMappings);
+    String parsedSql = tokenParser.parse(sql);
+    if (shape != null) {
+      shape.addParameters(bindings, sql, parameterMappings.subList(parsedParameters, parameterMappings.size()));
+    }
+    return parsedSql;
+  }
+
+  /**
+   * Records a decision that changes the rendered SQL, such as a branch taken, when the shape of the SQL is recorded.
+   */
+  void recordShape(Object decision) {
+    if (shape != null) {
+      shape.record(decision);
+    }
   }
 
   protected Object getParameterObject() {
@@ -128,32 +178,162 @@ public class DynamicContext {
     return paramExists;
   }
 
-  static class ContextMap extends HashMap<String, Object> {
-    private static final long serialVersionUID = 2977601501966151582L;
-    private final MetaObject parameterMetaObject;
+  /**
+   * The bindings of a context. The variables are kept in arrays, as there are few of them, and the variables of a
+   * scoped context are looked up before the ones of its parent. The properties of the parameter object are read last.
+   */
+  static class ContextMap extends AbstractMap<String, Object> {
+    private static final Object[] NO_ARGUMENTS = {};
+
+    private final ContextMap parent;
+    private final Configuration configuration;
+    // null if the parameter object is null or a map, whose entries are read by ContextAccessor
+    private final Object parameterObject;
     private final boolean fallbackParameterObject;
+    private MetaObject parameterMetaObject;
+    // the reflector of a parameter object read as a bean, null if it is not
+    private Reflector parameterReflector;
+
+    private String[] names;
+    private Object[] values;
+    private int size;
+
+    ContextMap(Configuration configuration, Object parameterObject) {
+      this.parent = null;
+      this.configuration = configuration;
+      if (parameterObject == null || parameterObject instanceof Map) {
+        this.parameterObject = null;
+        this.fallbackParameterObject = false;
+      } else {
+        this.parameterObject = parameterObject;
+        this.fallbackParameterObject = configuration.getTypeHandlerRegistry()
+            .hasTypeHandler(parameterObject.getClass());
+        if (!(parameterObject instanceof ObjectWrapper) && !(parameterObject instanceof Collection)
+            && !configuration.getObjectWrapperFactory().hasWrapperFor(parameterObject)) {
+          this.parameterReflector = configuration.getReflectorFactory().findForClass(parameterObject.getClass());
+        }
+      }
+    }
 
-    public ContextMap(MetaObject parameterMetaObject, boolean fallbackParameterObject) {
-      this.parameterMetaObject = parameterMetaObject;
-      this.fallbackParameterObject = fallbackParameterObject;
+    ContextMap(ContextMap parent) {
+      this.parent = parent;
+      this.configuration = null;
+      this.parameterObject = null;
+      this.fallbackParameterObject = false;
     }
 
     @Override
     public Object get(Object key) {
-      String strKey = (String) key;
-      if (super.containsKey(strKey)) {
-        return super.get(strKey);
+      int index = indexOf(key);
+      if (index > -1) {
+        return values[index];
       }
+      if (parent != null) {
+        return parent.get(key);
+      }
+      if (parameterObject == null) {
+        return null;
+      }
+      String name = (String) key;
+      if (parameterReflector != null && parameterReflector.hasGetter(name)) {
+        return getBeanProperty(name);
+      }
+      MetaObject metaObject = getParameterMetaObject();
+      if (fallbackParameterObject && !metaObject.hasGetter(name)) {
+        return parameterObject;
+      }
+      // issue #61 do not modify the context when reading
+      return metaObject.getValue(name);
+    }
 
-      if (parameterMetaObject == null) {
+    @Override
+    public boolean containsKey(Object key) {
+      return indexOf(key) > -1 || parent != null && parent.containsKey(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+      int index = indexOf(key);
+      if (index > -1) {
+        Object previous = values[index];
+        values[index] = value;
+        return previous;
+      }
+      if (names == null) {
+        names = new String[4];
+        values = new Object[4];
+      } else if (size == names.length) {
+        names = Arrays.copyOf(names, size * 2);
+        values = Arrays.copyOf(values, size * 2);
+      }
+      names[size] = key;
+      values[size++] = value;
+      return null;
+    }
+
+    @Override
+    public Object remove(Object key) {
+      int index = indexOf(key);
+      if (index < 0) {
         return null;
       }
+      Object previous = values[index];
+      System.arraycopy(names, index + 1, names, index, size - index - 1);
+      System.arraycopy(values, index + 1, values, index, size - index - 1);
+      names[--size] = null;
+      values[size] = null;
+      return previous;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+      Map<String, Object> variables = new LinkedHashMap<>();
+      collectVariables(variables);
+      return Collections.unmodifiableMap(variables).entrySet();
+    }
 
-      if (fallbackParameterObject && !parameterMetaObject.hasGetter(strKey)) {
-        return parameterMetaObject.getOriginalObject();
+    private void collectVariables(Map<String, Object> variables) {
+      if (parent != null) {
+        parent.collectVariables(variables);
+      }
+      for (int i = 0; i < size; i++) {
+        variables.put(names[i], values[i]);
+      }
+    }
+
+    private int indexOf(Object key) {
+      for (int i = 0; i < size; i++) {
+        if (names[i].equals(key)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    ReflectorFactory getReflectorFactory() {
+      return parent != null ? parent.getReflectorFactory() : configuration.getReflectorFactory();
+    }
+
+    private MetaObject getParameterMetaObject() {
+      if (parameterMetaObject == null) {
+        parameterMetaObject = configuration.newMetaObject(parameterObject);
+      }
+      return parameterMetaObject;
+    }
+
+    private Object getBeanProperty(String name) {
+      try {
+        try {
+          return parameterReflector.getGetInvoker(name).invoke(parameterObject, NO_ARGUMENTS);
+        } catch (Throwable t) {
+          throw ExceptionUtil.unwrapThrowable(t);
+        }
+      } catch (RuntimeException e) {
+        throw e;
+      } catch (Throwable t) {
+        throw new ReflectionException("Could not get property '" + name + "' from " + parameterObject.getClass()
+            + ".  Cause: " + t.toString(), t);
       }
-      // issue #61 do not modify the context when reading
-      return parameterMetaObject.getValue(strKey);
     }
   }
 
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2025 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -15,10 +15,18 @@
  */
 package org.apache.ibatis.scripting.xmltags;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.apache.ibatis.builder.SqlSourceBuilder;
 import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
 import org.apache.ibatis.mapping.SqlSource;
 import org.apache.ibatis.reflection.ParamNameResolver;
+import org.apache.ibatis.reflection.property.PropertyTokenizer;
+import org.apache.ibatis.scripting.xmltags.RenderedSqlCache.RenderedSql;
 import org.apache.ibatis.session.Configuration;
 
 /**
@@ -26,9 +34,18 @@ import org.apache.ibatis.session.Configuration;
  */
 public class DynamicSqlSource implements SqlSource {
 
+  private static final int MAX_COUNTED_SQL_VARIANTS = 4096;
+
   private final Configuration configuration;
   private final SqlNode rootSqlNode;
   private final ParamNameResolver paramNameResolver;
+  private final RenderedSqlCache renderedSqlCache;
+  private final Set<Integer> sqlVariants = ConcurrentHashMap.newKeySet();
+  // the length of the longest SQL rendered so far, estimated from the static texts until then
+  private volatile int sqlLengthHint;
+  // whether the shape of the last SQL was found in the cache, in which case the next SQL is looked up before it is
+  // rendered; otherwise the shape is recorded while the SQL is rendered, so that a miss costs a single pass
+  private volatile boolean lastShapeCached;
 
   public DynamicSqlSource(Configuration configuration, SqlNode rootSqlNode) {
     this(configuration, rootSqlNode, null);
@@ -38,17 +55,157 @@ public class DynamicSqlSource implements SqlSource {
     this.configuration = configuration;
     this.rootSqlNode = rootSqlNode;
     this.paramNameResolver = paramNameResolver;
+    Integer renderedSqlCacheSize = configuration.getRenderedSqlCacheSize();
+    this.renderedSqlCache = renderedSqlCacheSize != null && renderedSqlCacheSize > 0 && isShapeRecorded(rootSqlNode)
+        ? new RenderedSqlCache(configuration, renderedSqlCacheSize) : null;
+    this.sqlLengthHint = Math.max(16, estimateSqlLength(rootSqlNode));
   }
 
   @Override
   public BoundSql getBoundSql(Object parameterObject) {
+    SqlShape shape = renderedSqlCache == null ? null : new SqlShape(configuration, parameterObject, renderedSqlCache);
+    if (shape != null && lastShapeCached) {
+      // looks the SQL up before rendering it, at the cost of a second pass over the nodes if it has not been cached
+      DynamicContext context = new DynamicContext(configuration, parameterObject, null, paramNameResolver, true);
+      context.shape = shape;
+      context.shapeOnly = true;
+      rootSqlNode.apply(context);
+      RenderedSql renderedSql = renderedSqlCache.get(shape.getSignature());
+      if (renderedSql != null) {
+        BoundSql boundSql = new BoundSql(configuration, renderedSql.getSql(),
+            shape.bindParameters(renderedSql.getParameterMappings()), parameterObject);
+        setAdditionalParameters(boundSql, context.getBindings());
+        return boundSql;
+      }
+      lastShapeCached = false;
+      return render(parameterObject, shape, false);
+    }
+    return render(parameterObject, shape, true);
+  }
+
+  /**
+   * Renders the SQL and caches it for its shape, if any, which is either recorded while rendering or already recorded.
+   */
+  private BoundSql render(Object parameterObject, SqlShape shape, boolean recordShape) {
     DynamicContext context = new DynamicContext(configuration, parameterObject, null, paramNameResolver, true);
+    context.sqlLengthHint = sqlLengthHint;
+    context.shape = recordShape ? shape : null;
     rootSqlNode.apply(context);
     String sql = context.getSql();
+    if (sql.length() > sqlLengthHint) {
+      sqlLengthHint = sql.length();
+    }
     SqlSource sqlSource = SqlSourceBuilder.buildSqlSource(configuration, sql, context.getParameterMappings());
     BoundSql boundSql = sqlSource.getBoundSql(parameterObject);
-    context.getBindings().forEach(boundSql::setAdditionalParameter);
+    setAdditionalParameters(boundSql, context.getBindings());
+    // a cached SQL has been counted when it was rendered
+    if (sqlVariants.size() < MAX_COUNTED_SQL_VARIANTS) {
+      sqlVariants.add(boundSql.getSql().hashCode());
+    }
+    if (shape != null && shape.getParameterCount() == boundSql.getParameterMappings().size()) {
+      if (recordShape && renderedSqlCache.get(shape.getSignature()) != null) {
+        lastShapeCached = true;
+      } else {
+        renderedSqlCache.put(shape.getSignature(), boundSql.getSql(), boundSql.getParameterMappings());
+      }
+    }
     return boundSql;
   }
 
+  /**
+   * Sets the variables referenced by the parameter mappings as additional parameters. The other bindings, e.g. the
+   * items of a foreach, are not needed to set the parameters.
+   */
+  private static void setAdditionalParameters(BoundSql boundSql, Map<String, Object> bindings) {
+    for (ParameterMapping parameterMapping : boundSql.getParameterMappings()) {
+      String property = parameterMapping.getProperty();
+      if (property == null) {
+        continue;
+      }
+      String name = new PropertyTokenizer(property).getName();
+      if (bindings.containsKey(name) && !boundSql.getAdditionalParameters().containsKey(name)) {
+        boundSql.setAdditionalParameter(name, bindings.get(name));
+      }
+    }
+  }
+
+  /**
+   * Returns the number of distinct SQL texts rendered by this source, which grows with the number of shapes the
+   * dynamic SQL of a statement takes, e.g. with each distinct size of a {@code foreach} collection. Texts are told apart
+   * by their hash code, and counting stops at 4096.
+   *
+   * @return the number of distinct SQL texts
+   *
+   * @since 3.6.0
+   *
+   * @see ForEachPadding
+   */
+  public int getSqlVariantCount() {
+    return sqlVariants.size();
+  }
+
+  /**
+   * Returns whether all the nodes of a tree record their decisions in the shape of the SQL. Custom nodes may render
+   * SQL that does not depend on the recorded decisions only.
+   */
+  private static boolean isShapeRecorded(SqlNode node) {
+    Class<?> nodeClass = node.getClass();
+    if (nodeClass == MixedSqlNode.class) {
+      return areShapesRecorded(((MixedSqlNode) node).getContents());
+    }
+    if (nodeClass == IfSqlNode.class) {
+      return isShapeRecorded(((IfSqlNode) node).getContents());
+    }
+    if (nodeClass == ForEachSqlNode.class) {
+      return isShapeRecorded(((ForEachSqlNode) node).getContents());
+    }
+    if (nodeClass == TrimSqlNode.class || nodeClass == WhereSqlNode.class || nodeClass == SetSqlNode.class) {
+      return isShapeRecorded(((TrimSqlNode) node).getContents());
+    }
+    if (nodeClass == ChooseSqlNode.class) {
+      ChooseSqlNode chooseSqlNode = (ChooseSqlNode) node;
+      return areShapesRecorded(chooseSqlNode.getIfSqlNodes())
+          && (chooseSqlNode.getDefaultSqlNode() == null || isShapeRecorded(chooseSqlNode.getDefaultSqlNode()));
+    }
+    return nodeClass == StaticTextSqlNode.class || nodeClass == TextSqlNode.class || nodeClass == VarDeclSqlNode.class
+        || nodeClass == XMLScriptBuilder.EmptySqlNode.class;
+  }
+
+  /**
+   * Returns the length of the static texts of a tree, counting the space appended before each of them.
+   */
+  private static int estimateSqlLength(SqlNode node) {
+    Class<?> nodeClass = node.getClass();
+    if (nodeClass == StaticTextSqlNode.class) {
+      return ((StaticTextSqlNode) node).getText().length() + 1;
+    }
+    if (nodeClass == XMLScriptBuilder.EmptySqlNode.class) {
+      return ((XMLScriptBuilder.EmptySqlNode) node).getWhitespaces().length() + 1;
+    }
+    if (nodeClass == MixedSqlNode.class) {
+      return ((MixedSqlNode) node).getContents().stream().mapToInt(DynamicSqlSource::estimateSqlLength).sum();
+    }
+    if (nodeClass == IfSqlNode.class) {
+      return estimateSqlLength(((IfSqlNode) node).getContents());
+    }
+    if (nodeClass == ForEachSqlNode.class) {
+      return estimateSqlLength(((ForEachSqlNode) node).getContents());
+    }
+    if (nodeClass == TrimSqlNode.class || nodeClass == WhereSqlNode.class || nodeClass == SetSqlNode.class) {
+      return estimateSqlLength(((TrimSqlNode) node).getContents());
+    }
+    if (nodeClass == ChooseSqlNode.class) {
+      ChooseSqlNode chooseSqlNode = (ChooseSqlNode) node;
+      int length = chooseSqlNode.getIfSqlNodes().stream().mapToInt(DynamicSqlSource::estimateSqlLength).max()
+          .orElse(0);
+      return chooseSqlNode.getDefaultSqlNode() == null ? length
+          : Math.max(length, estimateSqlLength(chooseSqlNode.getDefaultSqlNode()));
+    }
+    return 0;
+  }
+
+  private static boolean areShapesRecorded(List<SqlNode> nodes) {
+    return nodes.stream().allMatch(DynamicSqlSource::isShapeRecorded);
+  }
+
 }
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2024 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -30,8 +30,24 @@ public class ExpressionEvaluator {
 
   public static final ExpressionEvaluator INSTANCE = new ExpressionEvaluator();
 
+  /**
+   * Evaluates an expression. The default implementation evaluates it with OGNL.
+   *
+   * @param expression
+   *          the expression
+   * @param parameterObject
+   *          the root object of the expression
+   *
+   * @return the value of the expression
+   *
+   * @since 3.6.0
+   */
+  public Object evaluate(String expression, Object parameterObject) {
+    return OgnlCache.getValue(expression, parameterObject);
+  }
+
   public boolean evaluateBoolean(String expression, Object parameterObject) {
-    Object value = OgnlCache.getValue(expression, parameterObject);
+    Object value = evaluate(expression, parameterObject);
     if (value instanceof Boolean) {
       return (Boolean) value;
     }
@@ -53,7 +69,7 @@ public class ExpressionEvaluator {
    * @since 3.5.9
    */
   public Iterable<?> evaluateIterable(String expression, Object parameterObject, boolean nullable) {
-    Object value = OgnlCache.getValue(expression, parameterObject);
+    Object value = evaluate(expression, parameterObject);
     if (value == null) {
       if (nullable) {
         return null;
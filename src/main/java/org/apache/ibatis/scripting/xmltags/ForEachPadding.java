@@ -0,0 +1,41 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.scripting.xmltags;
+
+/**
+ * Specifies how a {@code foreach} pads its items up to a bucket size, so that collections of different sizes render
+ * the same SQL text.
+ *
+ * @since 3.6.0
+ */
+public enum ForEachPadding {
+
+  /**
+   * Does not pad the items.
+   */
+  NONE,
+
+  /**
+   * Pads the items by repeating the last item.
+   */
+  REPEAT_LAST,
+
+  /**
+   * Pads the items with {@code null} items, which suits {@code IN} but not {@code NOT IN}: a {@code null} in the list
+   * makes {@code NOT IN} unknown for every row.
+   */
+  NULL
+}
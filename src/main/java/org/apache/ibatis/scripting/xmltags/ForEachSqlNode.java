@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2025 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -15,19 +15,59 @@
  */
 package org.apache.ibatis.scripting.xmltags;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.regex.Pattern;
 
+import org.apache.ibatis.builder.BuilderException;
+import org.apache.ibatis.builder.ParameterExpression;
+import org.apache.ibatis.builder.ParameterMappingTokenHandler;
 import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.ParameterMode;
+import org.apache.ibatis.parsing.GenericTokenParser;
+import org.apache.ibatis.scripting.xmltags.SqlShape.ParameterToken;
 import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.type.JdbcType;
 
 /**
  * @author Clinton Begin
  */
 public class ForEachSqlNode implements SqlNode {
 
-  private final ExpressionEvaluator evaluator = ExpressionEvaluator.INSTANCE;
+  private static final Pattern IN = Pattern.compile("\\bIN\\s*\\(\\s*$", Pattern.CASE_INSENSITIVE);
+  private static final Pattern NOT_IN = Pattern.compile("\\bNOT\\s+IN\\s*\\(\\s*$", Pattern.CASE_INSENSITIVE);
+  private static final Map<Class<?>, JdbcType> PAD_JDBC_TYPES = new HashMap<>();
+
+  static {
+    PAD_JDBC_TYPES.put(String.class, JdbcType.VARCHAR);
+    PAD_JDBC_TYPES.put(Boolean.class, JdbcType.BOOLEAN);
+    PAD_JDBC_TYPES.put(Byte.class, JdbcType.TINYINT);
+    PAD_JDBC_TYPES.put(Short.class, JdbcType.SMALLINT);
+    PAD_JDBC_TYPES.put(Integer.class, JdbcType.INTEGER);
+    PAD_JDBC_TYPES.put(Long.class, JdbcType.BIGINT);
+    PAD_JDBC_TYPES.put(Float.class, JdbcType.REAL);
+    PAD_JDBC_TYPES.put(Double.class, JdbcType.DOUBLE);
+    PAD_JDBC_TYPES.put(BigInteger.class, JdbcType.BIGINT);
+    PAD_JDBC_TYPES.put(BigDecimal.class, JdbcType.NUMERIC);
+    PAD_JDBC_TYPES.put(java.util.Date.class, JdbcType.TIMESTAMP);
+    PAD_JDBC_TYPES.put(java.sql.Date.class, JdbcType.DATE);
+    PAD_JDBC_TYPES.put(java.sql.Time.class, JdbcType.TIME);
+    PAD_JDBC_TYPES.put(java.sql.Timestamp.class, JdbcType.TIMESTAMP);
+    PAD_JDBC_TYPES.put(LocalDate.class, JdbcType.DATE);
+    PAD_JDBC_TYPES.put(LocalDateTime.class, JdbcType.TIMESTAMP);
+    PAD_JDBC_TYPES.put(LocalTime.class, JdbcType.TIME);
+  }
+
+  private final ExpressionEvaluator evaluator;
   private final String collectionExpression;
   private final Boolean nullable;
   private final SqlNode contents;
@@ -37,6 +77,10 @@ public class ForEachSqlNode implements SqlNode {
   private final String item;
   private final String index;
   private final Configuration configuration;
+  private final ItemBody itemBody;
+  private final ForEachPadding padding;
+  private final int[] bucketSizes;
+  private final Integer chunkSize;
 
   /**
    * @deprecated Since 3.5.9, use the
@@ -53,6 +97,64 @@ public class ForEachSqlNode implements SqlNode {
    */
   public ForEachSqlNode(Configuration configuration, SqlNode contents, String collectionExpression, Boolean nullable,
       String index, String item, String open, String close, String separator) {
+    this(configuration, contents, collectionExpression, nullable, index, item, open, close, separator,
+        ExpressionEvaluator.INSTANCE);
+  }
+
+  /**
+   * @since 3.6.0
+   */
+  public ForEachSqlNode(Configuration configuration, SqlNode contents, String collectionExpression, Boolean nullable,
+      String index, String item, String open, String close, String separator, ExpressionEvaluator evaluator) {
+    this(configuration, contents, collectionExpression, nullable, index, item, open, close, separator, evaluator,
+        ForEachPadding.NONE, null, null);
+  }
+
+  /**
+   * Creates a foreach node that pads its items up to a bucket size and splits them into chunks.
+   *
+   * @param padding
+   *          how the items are padded up to a bucket size. A {@code null} pad of a body made of a single
+   *          {@code #{item}} parameter is bound with the JDBC type of the parameter, or of the last item if none is
+   *          specified, rather than {@code jdbcTypeForNull}. Padding with {@code null} items is rejected when
+   *          {@code open} ends with {@code NOT IN (}, as {@code NOT IN} matches no row once the list holds a
+   *          {@code null}.
+   * @param bucketSizes
+   *          the ascending bucket sizes, {@code null} for the powers of two. Collections larger than the largest bucket
+   *          size are padded up to a multiple of it.
+   * @param chunkSize
+   *          the maximum number of items between {@code open} and {@code close}, {@code null} for no maximum. Larger
+   *          collections are rendered as chunks joined with {@code OR} and enclosed in parentheses, e.g.
+   *          {@code (ID IN (?, ?) OR ID IN (?))} with {@code open="ID IN ("} and {@code close=")"}. The last chunk is
+   *          padded up to a bucket size not larger than the chunk size. Chunking requires {@code open} to end with the
+   *          {@code IN (} predicate, as each chunk repeats it, and is rejected after {@code NOT IN (}, as chunks are
+   *          joined with {@code OR}.
+   *
+   * @since 3.6.0
+   */
+  public ForEachSqlNode(Configuration configuration, SqlNode contents, String collectionExpression, Boolean nullable,
+      String index, String item, String open, String close, String separator, ExpressionEvaluator evaluator,
+      ForEachPadding padding, List<Integer> bucketSizes, Integer chunkSize) {
+    if (chunkSize != null && (chunkSize <= 0 || open == null || close == null || !IN.matcher(open).find())) {
+      throw new BuilderException("The chunkSize of the foreach on '" + collectionExpression
+          + "' must be positive and requires an open that ends with the IN predicate and a close, e.g. "
+          + "open=\"ID IN (\" close=\")\".");
+    }
+    if (open != null && NOT_IN.matcher(open).find()) {
+      if (padding == ForEachPadding.NULL) {
+        throw new BuilderException("The foreach on '" + collectionExpression
+            + "' cannot pad with null items after NOT IN, which no row matches once the list holds a null. "
+            + "Use padding=\"REPEAT_LAST\" instead.");
+      }
+      if (chunkSize != null) {
+        throw new BuilderException("The foreach on '" + collectionExpression
+            + "' cannot be chunked after NOT IN, as its chunks are joined with OR.");
+      }
+    }
+    this.padding = padding == null ? ForEachPadding.NONE : padding;
+    this.bucketSizes = toBucketSizes(collectionExpression, bucketSizes);
+    this.chunkSize = chunkSize;
+    this.evaluator = evaluator;
     this.collectionExpression = collectionExpression;
     this.nullable = nullable;
     this.contents = contents;
@@ -62,20 +164,55 @@ public class ForEachSqlNode implements SqlNode {
     this.index = index;
     this.item = item;
     this.configuration = configuration;
+    this.itemBody = ItemBody.parse(contents, item);
   }
 
   @Override
   public boolean apply(DynamicContext context) {
     Map<String, Object> bindings = context.getBindings();
-    final Iterable<?> iterable = evaluator.evaluateIterable(collectionExpression, bindings,
+    Iterable<?> iterable = evaluator.evaluateIterable(collectionExpression, bindings,
         Optional.ofNullable(nullable).orElseGet(configuration::isNullableOnForEach));
     if (iterable == null || !iterable.iterator().hasNext()) {
+      context.recordShape(SqlShape.END_OF_ITERATIONS);
       return true;
     }
+    boolean chunked = false;
+    // the items from this index on are null pads
+    int padIndex = -1;
+    if (padding != ForEachPadding.NONE || chunkSize != null) {
+      List<Object> items = new ArrayList<>();
+      iterable.forEach(items::add);
+      if (padding == ForEachPadding.NULL) {
+        padIndex = items.size();
+      }
+      padItems(items);
+      chunked = chunkSize != null && items.size() > chunkSize;
+      iterable = items;
+    }
+    if (chunked) {
+      context.appendSql("(");
+    }
+    if (itemBody != null) {
+      applyItems(context, iterable, padIndex);
+    } else {
+      applyContents(context, iterable);
+    }
+    if (chunked) {
+      context.appendSql(")");
+    }
+    return true;
+  }
+
+  private void applyContents(DynamicContext context, Iterable<?> iterable) {
     boolean first = true;
     applyOpen(context);
     int i = 0;
     for (Object o : iterable) {
+      context.recordShape(SqlShape.ITERATION);
+      if (isChunkStart(i)) {
+        applyChunkSeparator(context);
+        first = true;
+      }
       DynamicContext scopedContext;
       if (first || separator == null) {
         scopedContext = new PrefixedContext(context, "");
@@ -98,8 +235,152 @@ public class ForEachSqlNode implements SqlNode {
       }
       i++;
     }
+    context.recordShape(SqlShape.END_OF_ITERATIONS);
+    applyClose(context);
+  }
+
+  SqlNode getContents() {
+    return contents;
+  }
+
+  /**
+   * Applies a body made of a single {@code #{item}} parameter without binding each item in a scoped context. The SQL
+   * is appended as the scoped contexts would append it, and the parameter mapping of an item is copied from the one
+   * built for the first item of the same class. A {@code null} pad takes the type of the last item.
+   */
+  private void applyItems(DynamicContext context, Iterable<?> iterable, int padIndex) {
+    applyOpen(context);
+    SqlShape shape = context.shape;
+    List<ParameterMapping> parameterMappings = context.shapeOnly ? null : context.getParameterMappings();
+    Map<Class<?>, ParameterMapping> itemMappings = new HashMap<>();
+    ParameterMapping padMapping = null;
+    Object lastValue = null;
+    boolean first = true;
+    int i = 0;
+    for (Object o : iterable) {
+      Object value = o instanceof Map.Entry ? ((Map.Entry<?, ?>) o).getValue() : o;
+      boolean pad = padIndex >= 0 && i >= padIndex;
+      context.recordShape(pad ? SqlShape.NULL_PAD : SqlShape.ITERATION);
+      if (isChunkStart(i++)) {
+        applyChunkSeparator(context);
+        first = true;
+      }
+      context.appendSql(first || separator == null ? "" : separator);
+      context.appendSql(itemBody.sql);
+      if (parameterMappings != null) {
+        if (!pad) {
+          parameterMappings.add(getItemMapping(context, itemMappings, value));
+          lastValue = value;
+        } else {
+          if (padMapping == null) {
+            padMapping = getPadMapping(getItemMapping(context, itemMappings, lastValue), lastValue);
+          }
+          parameterMappings.add(padMapping);
+        }
+      }
+      if (shape != null) {
+        shape.addBoundParameter(itemBody.token, value);
+      }
+      first = false;
+    }
+    context.recordShape(SqlShape.END_OF_ITERATIONS);
     applyClose(context);
-    return true;
+  }
+
+  private boolean isChunkStart(int i) {
+    return chunkSize != null && i > 0 && i % chunkSize == 0;
+  }
+
+  private void applyChunkSeparator(DynamicContext context) {
+    applyClose(context);
+    context.appendSql("OR");
+    applyOpen(context);
+  }
+
+  private void padItems(List<Object> items) {
+    int paddedSize = getPaddedSize(items.size());
+    if (paddedSize > items.size()) {
+      Object last = items.get(items.size() - 1);
+      Object pad;
+      if (padding == ForEachPadding.REPEAT_LAST) {
+        pad = last;
+      } else {
+        pad = last instanceof Map.Entry ? new AbstractMap.SimpleImmutableEntry<>(null, null) : null;
+      }
+      while (items.size() < paddedSize) {
+        items.add(pad);
+      }
+    }
+  }
+
+  private int getPaddedSize(int size) {
+    if (padding == ForEachPadding.NONE) {
+      return size;
+    }
+    if (chunkSize == null) {
+      return getBucketSize(size);
+    }
+    int remainder = size % chunkSize;
+    return remainder == 0 ? size : size - remainder + Math.min(getBucketSize(remainder), chunkSize);
+  }
+
+  private int getBucketSize(int size) {
+    if (bucketSizes == null) {
+      return size == 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+    }
+    for (int bucketSize : bucketSizes) {
+      if (bucketSize >= size) {
+        return bucketSize;
+      }
+    }
+    int largestBucketSize = bucketSizes[bucketSizes.length - 1];
+    return (size + largestBucketSize - 1) / largestBucketSize * largestBucketSize;
+  }
+
+  private static int[] toBucketSizes(String collectionExpression, List<Integer> bucketSizes) {
+    if (bucketSizes == null || bucketSizes.isEmpty()) {
+      return null;
+    }
+    int[] sizes = new int[bucketSizes.size()];
+    for (int i = 0; i < sizes.length; i++) {
+      sizes[i] = bucketSizes.get(i);
+      if (sizes[i] <= 0 || i > 0 && sizes[i] <= sizes[i - 1]) {
+        throw new BuilderException("The bucketSizes of the foreach on '" + collectionExpression
+            + "' must be positive and ascending, but were " + bucketSizes + ".");
+      }
+    }
+    return sizes;
+  }
+
+  private ParameterMapping getItemMapping(DynamicContext context, Map<Class<?>, ParameterMapping> itemMappings,
+      Object value) {
+    Class<?> valueClass = value == null ? null : value.getClass();
+    ParameterMapping itemMapping = itemMappings.get(valueClass);
+    if (itemMapping != null) {
+      return itemMapping.hasValue() ? SqlShape.copy(configuration, itemMapping, value) : itemMapping;
+    }
+    Map<String, Object> itemBindings = new HashMap<>();
+    itemBindings.put(item, value);
+    ParameterMappingTokenHandler tokenHandler = new ParameterMappingTokenHandler(new ArrayList<>(), configuration,
+        context.getParameterObject(), context.getParameterType(), itemBindings, context.getParamNameResolver(),
+        context.isParamExists());
+    tokenHandler.handleToken(itemBody.content);
+    itemMapping = tokenHandler.getParameterMappings().get(0);
+    itemMappings.put(valueClass, itemMapping);
+    return itemMapping;
+  }
+
+  /**
+   * Returns the mapping of a {@code null} pad, bound with the JDBC type of the item mapping or else of the last item.
+   */
+  private ParameterMapping getPadMapping(ParameterMapping itemMapping, Object lastValue) {
+    JdbcType jdbcType = itemMapping.getJdbcType();
+    if (jdbcType == null && lastValue != null) {
+      jdbcType = PAD_JDBC_TYPES.get(lastValue.getClass());
+    }
+    return new ParameterMapping.Builder(configuration, itemMapping.getProperty(), itemMapping.getTypeHandler())
+        .javaType(itemMapping.getJavaType()).jdbcType(jdbcType).numericScale(itemMapping.getNumericScale())
+        .jdbcTypeName(itemMapping.getJdbcTypeName()).value(null).build();
   }
 
   private void applyIndex(DynamicContext context, Object o) {
@@ -126,18 +407,61 @@ public class ForEachSqlNode implements SqlNode {
     }
   }
 
+  /**
+   * A body made of a static text with a single {@code #{item}} parameter.
+   */
+  private static final class ItemBody {
+    private final String sql;
+    private final String content;
+    private final ParameterToken token;
+
+    private ItemBody(String sql, String content, ParameterToken token) {
+      this.sql = sql;
+      this.content = content;
+      this.token = token;
+    }
+
+    static ItemBody parse(SqlNode contents, String item) {
+      SqlNode node = contents;
+      if (node != null && node.getClass() == MixedSqlNode.class && ((MixedSqlNode) node).getContents().size() == 1) {
+        node = ((MixedSqlNode) node).getContents().get(0);
+      }
+      if (item == null || node == null || node.getClass() != StaticTextSqlNode.class) {
+        return null;
+      }
+      List<String> tokens = new ArrayList<>();
+      String sql = new GenericTokenParser("#{", "}", content -> {
+        tokens.add(content);
+        return "?";
+      }).parse(((StaticTextSqlNode) node).getText());
+      if (tokens.size() != 1) {
+        return null;
+      }
+      ParameterExpression expression;
+      try {
+        expression = new ParameterExpression(tokens.get(0));
+      } catch (RuntimeException e) {
+        // reported when the body is applied
+        return null;
+      }
+      String mode = expression.get("mode");
+      if (!item.equals(expression.get("property")) || mode != null && !ParameterMode.IN.name().equals(mode)) {
+        return null;
+      }
+      return new ItemBody(sql, tokens.get(0), new ParameterToken(expression));
+    }
+  }
+
   private class PrefixedContext extends DynamicContext {
     private final DynamicContext delegate;
     private final String prefix;
     private boolean prefixApplied;
 
     public PrefixedContext(DynamicContext delegate, String prefix) {
-      super(configuration, delegate.getParameterObject(), delegate.getParameterType(), delegate.getParamNameResolver(),
-          delegate.isParamExists());
+      super(delegate);
       this.delegate = delegate;
       this.prefix = prefix;
       this.prefixApplied = false;
-      this.bindings.putAll(delegate.getBindings());
     }
 
     public boolean isPrefixApplied() {
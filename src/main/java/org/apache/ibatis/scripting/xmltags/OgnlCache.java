@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2024 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -21,11 +21,13 @@ import java.util.concurrent.ConcurrentHashMap;
 import ognl.Ognl;
 import ognl.OgnlContext;
 import ognl.OgnlException;
+import ognl.OgnlRuntime;
 
 import org.apache.ibatis.builder.BuilderException;
 
 /**
- * Caches OGNL parsed expressions.
+ * Caches OGNL parsed expressions. The properties of beans are read with the reflectors of the configuration, see
+ * {@link OgnlReflectorAccessor}.
  *
  * @author Eduardo Macarron
  *
@@ -37,6 +39,10 @@ public final class OgnlCache {
   private static final OgnlClassResolver CLASS_RESOLVER = new OgnlClassResolver();
   private static final Map<String, Object> expressionCache = new ConcurrentHashMap<>();
 
+  static {
+    OgnlRuntime.setPropertyAccessor(Object.class, new OgnlReflectorAccessor());
+  }
+
   private OgnlCache() {
     // Prevent Instantiation of Static Class
   }
@@ -44,6 +50,7 @@ public final class OgnlCache {
   public static Object getValue(String expression, Object root) {
     try {
       OgnlContext context = Ognl.createDefaultContext(root, MEMBER_ACCESS, CLASS_RESOLVER, null);
+      context.put(OgnlReflectorAccessor.REFLECTOR_FACTORY_KEY, OgnlReflectorAccessor.getReflectorFactory(root));
       return Ognl.getValue(parseExpression(expression), context, root);
     } catch (OgnlException e) {
       throw new BuilderException("Error evaluating expression '" + expression + "'. Cause: " + e, e);
@@ -0,0 +1,86 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.scripting.xmltags;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Collection;
+import java.util.Map;
+
+import ognl.ObjectPropertyAccessor;
+import ognl.OgnlContext;
+import ognl.OgnlException;
+
+import org.apache.ibatis.reflection.DefaultReflectorFactory;
+import org.apache.ibatis.reflection.Reflector;
+import org.apache.ibatis.reflection.ReflectorFactory;
+import org.apache.ibatis.scripting.xmltags.DynamicContext.ContextMap;
+
+/**
+ * Reads the properties of beans with the cached invokers of a {@link Reflector}, instead of the reflective lookups of
+ * OGNL. The reflector factory of the configuration is used when the expression is evaluated against the bindings of a
+ * dynamic context, so that expressions and parameter bindings share the same reflectors.
+ * <p>
+ * JDK types, collections, maps and arrays, as well as properties that the reflector does not know, are read by OGNL.
+ * Properties are always written by OGNL, which converts the values to the property types.
+ *
+ * @since 3.6.0
+ */
+class OgnlReflectorAccessor extends ObjectPropertyAccessor {
+
+  static final String REFLECTOR_FACTORY_KEY = OgnlReflectorAccessor.class.getName() + ".reflectorFactory";
+  // used when an expression is not evaluated against the bindings of a dynamic context
+  static final ReflectorFactory DEFAULT_REFLECTOR_FACTORY = new DefaultReflectorFactory();
+  private static final Object[] NO_ARGUMENTS = {};
+
+  @Override
+  public Object getProperty(OgnlContext context, Object target, Object name) throws OgnlException {
+    if (!(name instanceof String) || !isBean(target)) {
+      return super.getProperty(context, target, name);
+    }
+    ReflectorFactory reflectorFactory = context == null ? null : (ReflectorFactory) context.get(REFLECTOR_FACTORY_KEY);
+    Reflector reflector = (reflectorFactory == null ? DEFAULT_REFLECTOR_FACTORY : reflectorFactory)
+        .findForClass(target.getClass());
+    String property = (String) name;
+    if (!reflector.hasGetter(property)) {
+      return super.getProperty(context, target, name);
+    }
+    try {
+      return reflector.getGetInvoker(property).invoke(target, NO_ARGUMENTS);
+    } catch (InvocationTargetException e) {
+      throw new OgnlException(property, e.getTargetException());
+    } catch (Exception e) {
+      // e.g. an ambiguous getter, OGNL resolves or reports it
+      return super.getProperty(context, target, name);
+    }
+  }
+
+  /**
+   * Returns the reflector factory to read the beans of an expression evaluated against a root object.
+   */
+  static ReflectorFactory getReflectorFactory(Object root) {
+    return root instanceof ContextMap ? ((ContextMap) root).getReflectorFactory() : DEFAULT_REFLECTOR_FACTORY;
+  }
+
+  /**
+   * Returns whether a target is read with a reflector. OGNL has its own accessors for collections, maps, arrays and
+   * many JDK types.
+   */
+  static boolean isBean(Object target) {
+    return target != null && !(target instanceof Collection) && !(target instanceof Map)
+        && !target.getClass().isArray() && !target.getClass().getName().startsWith("java.");
+  }
+
+}
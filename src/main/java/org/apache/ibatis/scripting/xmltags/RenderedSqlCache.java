@@ -0,0 +1,104 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.scripting.xmltags;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.scripting.xmltags.SqlShape.ParameterToken;
+import org.apache.ibatis.session.Configuration;
+
+/**
+ * Caches the SQL and the parameter mappings rendered by a dynamic SQL source per {@link SqlShape} signature, along
+ * with the {@code #{}} parameters of the SQL fragments. The least recently used entries are evicted once the cache
+ * holds {@code maxSize} of them. The cached parameter mappings hold no value.
+ *
+ * @since 3.6.0
+ */
+final class RenderedSqlCache {
+
+  private static final int MIN_PARAMETER_TOKENS_SIZE = 256;
+
+  private final Configuration configuration;
+  private final Map<List<Object>, RenderedSql> renderedSqls;
+  private final Map<String, ParameterToken[]> parameterTokens;
+
+  RenderedSqlCache(Configuration configuration, int maxSize) {
+    this.configuration = configuration;
+    this.renderedSqls = newLruMap(maxSize);
+    this.parameterTokens = newLruMap(Math.max(maxSize, MIN_PARAMETER_TOKENS_SIZE));
+  }
+
+  private static <K, V> Map<K, V> newLruMap(int maxSize) {
+    return new LinkedHashMap<>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        return size() > maxSize;
+      }
+    };
+  }
+
+  RenderedSql get(List<Object> signature) {
+    synchronized (renderedSqls) {
+      return renderedSqls.get(signature);
+    }
+  }
+
+  void put(List<Object> signature, String sql, List<ParameterMapping> parameterMappings) {
+    List<ParameterMapping> mappings = new ArrayList<>(parameterMappings.size());
+    for (ParameterMapping parameterMapping : parameterMappings) {
+      mappings.add(SqlShape.copyWithoutValue(configuration, parameterMapping));
+    }
+    synchronized (renderedSqls) {
+      renderedSqls.put(signature, new RenderedSql(sql, mappings));
+    }
+  }
+
+  ParameterToken[] getParameterTokens(String sql) {
+    synchronized (parameterTokens) {
+      ParameterToken[] tokens = parameterTokens.get(sql);
+      if (tokens == null) {
+        tokens = SqlShape.parseParameterTokens(sql);
+        parameterTokens.put(sql, tokens);
+      }
+      return tokens;
+    }
+  }
+
+  static final class RenderedSql {
+    private final String sql;
+    private final List<ParameterMapping> parameterMappings;
+
+    RenderedSql(String sql, List<ParameterMapping> parameterMappings) {
+      this.sql = sql;
+      this.parameterMappings = parameterMappings;
+    }
+
+    String getSql() {
+      return sql;
+    }
+
+    List<ParameterMapping> getParameterMappings() {
+      return parameterMappings;
+    }
+  }
+
+}
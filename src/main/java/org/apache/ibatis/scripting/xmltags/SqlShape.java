@@ -0,0 +1,182 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.scripting.xmltags;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.builder.BuilderException;
+import org.apache.ibatis.builder.ParameterExpression;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.ParameterMode;
+import org.apache.ibatis.parsing.GenericTokenParser;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.property.PropertyTokenizer;
+import org.apache.ibatis.session.Configuration;
+
+/**
+ * The shape of a dynamic SQL recorded while its nodes are applied: the branches taken, the iterations of each
+ * {@code foreach}, the values of the {@code ${}} tokens and the java types of the {@code #{}} parameters whose type
+ * depends on a bound value. Two applications with the same signature render the same SQL and the same parameter
+ * mappings, apart from the parameter values, which are collected along with the signature.
+ *
+ * @since 3.6.0
+ *
+ * @see RenderedSqlCache
+ */
+final class SqlShape {
+
+  static final Object ITERATION = new Marker("ITERATION");
+  static final Object END_OF_ITERATIONS = new Marker("END_OF_ITERATIONS");
+  static final Object NULL_PAD = new Marker("NULL_PAD");
+  private static final Object UNBOUND = new Marker("UNBOUND");
+  private static final Object NO_VALUE = new Marker("NO_VALUE");
+
+  private final Configuration configuration;
+  private final Object parameterObject;
+  private final RenderedSqlCache cache;
+  private final List<Object> signature = new ArrayList<>();
+  private final List<Object> values = new ArrayList<>();
+
+  SqlShape(Configuration configuration, Object parameterObject, RenderedSqlCache cache) {
+    this.configuration = configuration;
+    this.parameterObject = parameterObject;
+    this.cache = cache;
+    signature.add(parameterObject == null ? null : parameterObject.getClass());
+  }
+
+  List<Object> getSignature() {
+    return signature;
+  }
+
+  int getParameterCount() {
+    return values.size();
+  }
+
+  void record(Object decision) {
+    signature.add(decision);
+  }
+
+  /**
+   * Collects the values of the {@code #{}} parameters of a SQL fragment, the same way
+   * {@link org.apache.ibatis.builder.ParameterMappingTokenHandler} does when it builds the parameter mappings, or from
+   * the parameter mappings built for the fragment, if any.
+   */
+  void addParameters(Map<String, Object> bindings, String sql, List<ParameterMapping> parameterMappings) {
+    ParameterToken[] tokens = cache.getParameterTokens(sql);
+    if (tokens.length == 0) {
+      return;
+    }
+    MetaObject metaParameters = configuration.newMetaObject(bindings);
+    for (int i = 0; i < tokens.length; i++) {
+      ParameterToken token = tokens[i];
+      boolean bound = metaParameters.hasGetter(token.name);
+      signature.add(bound && !token.javaTypeSpecified ? metaParameters.getGetterType(token.property) : UNBOUND);
+      if (parameterMappings != null) {
+        ParameterMapping parameterMapping = parameterMappings.get(i);
+        values.add(parameterMapping.hasValue() ? parameterMapping.getValue() : NO_VALUE);
+      } else if (token.out) {
+        values.add(NO_VALUE);
+      } else if (bound) {
+        values.add(metaParameters.getValue(token.property));
+      } else if (parameterObject == null) {
+        values.add(null);
+      } else if (configuration.getTypeHandlerRegistry().hasTypeHandler(parameterObject.getClass())) {
+        values.add(parameterObject);
+      } else {
+        values.add(configuration.newMetaObject(parameterObject).getValue(token.property));
+      }
+    }
+  }
+
+  /**
+   * Collects the value of a {@code #{}} parameter that refers to a simple name bound to a value, such as the item of a
+   * {@code foreach}.
+   */
+  void addBoundParameter(ParameterToken token, Object value) {
+    signature.add(token.javaTypeSpecified ? UNBOUND : value == null ? Object.class : value.getClass());
+    values.add(token.out ? NO_VALUE : value);
+  }
+
+  /**
+   * Returns copies of the parameter mappings of a rendered SQL with the collected values.
+   */
+  List<ParameterMapping> bindParameters(List<ParameterMapping> parameterMappings) {
+    List<ParameterMapping> boundMappings = new ArrayList<>(parameterMappings.size());
+    for (int i = 0; i < parameterMappings.size(); i++) {
+      boundMappings.add(copy(configuration, parameterMappings.get(i), values.get(i)));
+    }
+    return boundMappings;
+  }
+
+  static ParameterMapping copy(Configuration configuration, ParameterMapping parameterMapping, Object value) {
+    ParameterMapping.Builder builder = new ParameterMapping.Builder(configuration, parameterMapping.getProperty(),
+        parameterMapping.getTypeHandler()).mode(parameterMapping.getMode()).javaType(parameterMapping.getJavaType())
+        .jdbcType(parameterMapping.getJdbcType()).numericScale(parameterMapping.getNumericScale())
+        .resultMapId(parameterMapping.getResultMapId()).jdbcTypeName(parameterMapping.getJdbcTypeName())
+        .expression(parameterMapping.getExpression());
+    if (value != NO_VALUE) {
+      builder.value(value);
+    }
+    return builder.build();
+  }
+
+  static ParameterMapping copyWithoutValue(Configuration configuration, ParameterMapping parameterMapping) {
+    return copy(configuration, parameterMapping, NO_VALUE);
+  }
+
+  static ParameterToken[] parseParameterTokens(String sql) {
+    List<ParameterToken> tokens = new ArrayList<>();
+    new GenericTokenParser("#{", "}", content -> {
+      tokens.add(new ParameterToken(new ParameterExpression(content)));
+      return "?";
+    }).parse(sql);
+    return tokens.toArray(new ParameterToken[0]);
+  }
+
+  static final class ParameterToken {
+    private final String property;
+    private final String name;
+    private final boolean javaTypeSpecified;
+    private final boolean out;
+
+    ParameterToken(Map<String, String> expression) {
+      // the same checks as ParameterMappingTokenHandler
+      if (expression.containsKey("expression")) {
+        throw new BuilderException("Expression based parameters are not supported yet");
+      }
+      this.property = expression.get("property");
+      this.name = new PropertyTokenizer(property).getName();
+      this.javaTypeSpecified = expression.get("javaType") != null;
+      this.out = ParameterMode.OUT.name().equals(expression.get("mode"));
+    }
+  }
+
+  private static final class Marker {
+    private final String name;
+
+    Marker(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+  }
+
+}
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2025 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -65,7 +65,9 @@ public class TextSqlNode implements SqlNode {
       }
       Object value = OgnlCache.getValue(content, context.getBindings());
       // issue #274 return "" instead of "null"
-      return value == null ? "" : String.valueOf(value);
+      String text = value == null ? "" : String.valueOf(value);
+      context.recordShape(text);
+      return text;
     }
   }
 
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2022 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -22,15 +22,24 @@ public class VarDeclSqlNode implements SqlNode {
 
   private final String name;
   private final String expression;
+  private final ExpressionEvaluator evaluator;
 
   public VarDeclSqlNode(String name, String exp) {
+    this(name, exp, ExpressionEvaluator.INSTANCE);
+  }
+
+  /**
+   * @since 3.6.0
+   */
+  public VarDeclSqlNode(String name, String exp, ExpressionEvaluator evaluator) {
     this.name = name;
     this.expression = exp;
+    this.evaluator = evaluator;
   }
 
   @Override
   public boolean apply(DynamicContext context) {
-    final Object value = OgnlCache.getValue(expression, context.getBindings());
+    final Object value = evaluator.evaluate(expression, context.getBindings());
     context.bind(name, value);
     return true;
   }
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2025 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -48,10 +48,24 @@ public class XMLLanguageDriver implements LanguageDriver {
   @Override
   public SqlSource createSqlSource(Configuration configuration, XNode script, Class<?> parameterType,
       ParamNameResolver paramNameResolver) {
-    XMLScriptBuilder builder = new XMLScriptBuilder(configuration, script, parameterType, paramNameResolver);
+    XMLScriptBuilder builder = new XMLScriptBuilder(configuration, script, parameterType, paramNameResolver,
+        getExpressionEvaluator());
     return builder.parseScriptNode();
   }
 
+  /**
+   * Returns the evaluator of the {@code test}, {@code collection} and {@code value} expressions of the dynamic SQL
+   * elements. The default evaluator compiles the common forms of expressions and evaluates the others with OGNL.
+   * Override this method to use another evaluator.
+   *
+   * @return the expression evaluator
+   *
+   * @since 3.6.0
+   */
+  protected ExpressionEvaluator getExpressionEvaluator() {
+    return CompiledExpressionEvaluator.INSTANCE;
+  }
+
   @Override
   public SqlSource createSqlSource(Configuration configuration, String script, Class<?> parameterType) {
     return createSqlSource(configuration, script, parameterType, null);
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2025 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -19,10 +19,12 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.StringTokenizer;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.ibatis.builder.BaseBuilder;
 import org.apache.ibatis.builder.BuilderException;
+import org.apache.ibatis.builder.SqlSourceBuilder;
 import org.apache.ibatis.mapping.SqlSource;
 import org.apache.ibatis.parsing.XNode;
 import org.apache.ibatis.reflection.ParamNameResolver;
@@ -40,8 +42,11 @@ public class XMLScriptBuilder extends BaseBuilder {
   private boolean isDynamic;
   private final Class<?> parameterType;
   private final ParamNameResolver paramNameResolver;
+  private final ExpressionEvaluator evaluator;
   private final Map<String, NodeHandler> nodeHandlerMap = new HashMap<>();
   private static final Map<String, SqlNode> emptyNodeCache = new ConcurrentHashMap<>();
+  // nodes inside trim, where and set append their SQL without a separating space
+  private boolean insideTrim;
 
   public XMLScriptBuilder(Configuration configuration, XNode context) {
     this(configuration, context, null);
@@ -53,10 +58,19 @@ public class XMLScriptBuilder extends BaseBuilder {
 
   public XMLScriptBuilder(Configuration configuration, XNode context, Class<?> parameterType,
       ParamNameResolver paramNameResolver) {
+    this(configuration, context, parameterType, paramNameResolver, ExpressionEvaluator.INSTANCE);
+  }
+
+  /**
+   * @since 3.6.0
+   */
+  public XMLScriptBuilder(Configuration configuration, XNode context, Class<?> parameterType,
+      ParamNameResolver paramNameResolver, ExpressionEvaluator evaluator) {
     super(configuration);
     this.context = context;
     this.parameterType = parameterType;
     this.paramNameResolver = paramNameResolver;
+    this.evaluator = evaluator;
     initNodeHandlerMap();
   }
 
@@ -84,6 +98,7 @@ public class XMLScriptBuilder extends BaseBuilder {
   }
 
   protected MixedSqlNode parseDynamicTags(XNode node) {
+    boolean shrinkWhitespaces = configuration.isShrinkWhitespacesInSql();
     List<SqlNode> contents = new ArrayList<>();
     NodeList children = node.getNode().getChildNodes();
     for (int i = 0; i < children.getLength(); i++) {
@@ -91,6 +106,13 @@ public class XMLScriptBuilder extends BaseBuilder {
       if (child.getNode().getNodeType() == Node.CDATA_SECTION_NODE || child.getNode().getNodeType() == Node.TEXT_NODE) {
         String data = child.getStringBody("");
         if (data.trim().isEmpty()) {
+          if (shrinkWhitespaces) {
+            // outside of a trim the appended SQL is separated by a space anyway
+            if (!insideTrim) {
+              continue;
+            }
+            data = " ";
+          }
           contents.add(emptyNodeCache.computeIfAbsent(data, EmptySqlNode::new));
           continue;
         }
@@ -99,7 +121,7 @@ public class XMLScriptBuilder extends BaseBuilder {
           contents.add(textSqlNode);
           isDynamic = true;
         } else {
-          contents.add(new StaticTextSqlNode(data));
+          contents.add(new StaticTextSqlNode(shrinkWhitespaces ? shrinkWhitespaces(data) : data));
         }
       } else if (child.getNode().getNodeType() == Node.ELEMENT_NODE) { // issue #628
         String nodeName = child.getNode().getNodeName();
@@ -111,14 +133,133 @@ public class XMLScriptBuilder extends BaseBuilder {
         isDynamic = true;
       }
     }
-    return new MixedSqlNode(contents);
+    return new MixedSqlNode(foldStaticTexts(contents));
+  }
+
+  /**
+   * Parses the contents of a trim, where or set element. The whitespaces at both ends are removed here, as the trimmed
+   * SQL would not contain them anyway.
+   */
+  private MixedSqlNode parseTrimmedTags(XNode node) {
+    boolean outerInsideTrim = insideTrim;
+    insideTrim = true;
+    List<SqlNode> contents;
+    try {
+      contents = parseDynamicTags(node).getContents();
+    } finally {
+      insideTrim = outerInsideTrim;
+    }
+    int from = 0;
+    int to = contents.size();
+    while (from < to && contents.get(from) instanceof EmptySqlNode) {
+      from++;
+    }
+    while (to > from && contents.get(to - 1) instanceof EmptySqlNode) {
+      to--;
+    }
+    List<SqlNode> trimmed = new ArrayList<>(contents.subList(from, to));
+    if (!trimmed.isEmpty()) {
+      SqlNode first = trimmed.get(0);
+      if (first.getClass() == StaticTextSqlNode.class) {
+        String text = ((StaticTextSqlNode) first).getText();
+        trimmed.set(0, new StaticTextSqlNode(text.substring(leadingWhitespaces(text))));
+      }
+      SqlNode last = trimmed.get(trimmed.size() - 1);
+      if (last.getClass() == StaticTextSqlNode.class) {
+        String text = ((StaticTextSqlNode) last).getText();
+        trimmed.set(trimmed.size() - 1,
+            new StaticTextSqlNode(text.substring(0, text.length() - trailingWhitespaces(text))));
+      }
+    }
+    return new MixedSqlNode(trimmed);
+  }
+
+  /**
+   * Merges adjacent static texts into one, so that they are parsed and appended at once.
+   */
+  private List<SqlNode> foldStaticTexts(List<SqlNode> contents) {
+    List<SqlNode> folded = new ArrayList<>(contents.size());
+    for (SqlNode node : contents) {
+      int last = folded.size() - 1;
+      if (last >= 0 && node.getClass() == StaticTextSqlNode.class
+          && folded.get(last).getClass() == StaticTextSqlNode.class) {
+        String text = foldTexts(((StaticTextSqlNode) folded.get(last)).getText(), ((StaticTextSqlNode) node).getText());
+        if (text != null) {
+          folded.set(last, new StaticTextSqlNode(text));
+          continue;
+        }
+      }
+      folded.add(node);
+    }
+    return folded;
+  }
+
+  /**
+   * Returns the text that two adjacent static texts append, {@code null} if the merged text would not be parsed as
+   * both texts are, e.g. when the first one ends with an unclosed parameter.
+   */
+  private String foldTexts(String left, String right) {
+    int open = left.lastIndexOf("#{");
+    if (open > -1 && left.indexOf('}', open) < 0) {
+      return null;
+    }
+    if (!insideTrim) {
+      return left + " " + right;
+    }
+    if (left.endsWith("#") && right.startsWith("{") || left.endsWith("\\") && right.startsWith("#{")) {
+      return null;
+    }
+    return left + right;
+  }
+
+  /**
+   * Replaces each run of whitespaces with a single space, as {@link SqlSourceBuilder#removeExtraWhitespaces(String)}
+   * does with the rendered SQL. Outside of a trim the text is trimmed too, as a space separates it from the rest of the
+   * SQL anyway.
+   */
+  private String shrinkWhitespaces(String text) {
+    StringBuilder builder = new StringBuilder(text.length());
+    StringTokenizer tokenizer = new StringTokenizer(text);
+    boolean leading = !insideTrim || !isWhitespace(text.charAt(0));
+    while (tokenizer.hasMoreTokens()) {
+      if (!leading) {
+        builder.append(' ');
+      }
+      builder.append(tokenizer.nextToken());
+      leading = false;
+    }
+    if (insideTrim && isWhitespace(text.charAt(text.length() - 1))) {
+      builder.append(' ');
+    }
+    return builder.toString();
+  }
+
+  private static boolean isWhitespace(char c) {
+    // the delimiters of a StringTokenizer
+    return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f';
+  }
+
+  private static int leadingWhitespaces(String text) {
+    int count = 0;
+    while (count < text.length() && text.charAt(count) <= ' ') {
+      count++;
+    }
+    return count;
+  }
+
+  private static int trailingWhitespaces(String text) {
+    int count = 0;
+    while (count < text.length() && text.charAt(text.length() - 1 - count) <= ' ') {
+      count++;
+    }
+    return count;
   }
 
   private interface NodeHandler {
     void handleNode(XNode nodeToHandle, List<SqlNode> targetContents);
   }
 
-  private static class BindHandler implements NodeHandler {
+  private class BindHandler implements NodeHandler {
     public BindHandler() {
       // Prevent Synthetic Access
     }
@@ -127,7 +268,7 @@ public class XMLScriptBuilder extends BaseBuilder {
     public void handleNode(XNode nodeToHandle, List<SqlNode> targetContents) {
       final String name = nodeToHandle.getStringAttribute("name");
       final String expression = nodeToHandle.getStringAttribute("value");
-      final VarDeclSqlNode node = new VarDeclSqlNode(name, expression);
+      final VarDeclSqlNode node = new VarDeclSqlNode(name, expression, evaluator);
       targetContents.add(node);
     }
   }
@@ -139,7 +280,7 @@ public class XMLScriptBuilder extends BaseBuilder {
 
     @Override
     public void handleNode(XNode nodeToHandle, List<SqlNode> targetContents) {
-      MixedSqlNode mixedSqlNode = parseDynamicTags(nodeToHandle);
+      MixedSqlNode mixedSqlNode = parseTrimmedTags(nodeToHandle);
       String prefix = nodeToHandle.getStringAttribute("prefix");
       String prefixOverrides = nodeToHandle.getStringAttribute("prefixOverrides");
       String suffix = nodeToHandle.getStringAttribute("suffix");
@@ -156,7 +297,7 @@ public class XMLScriptBuilder extends BaseBuilder {
 
     @Override
     public void handleNode(XNode nodeToHandle, List<SqlNode> targetContents) {
-      MixedSqlNode mixedSqlNode = parseDynamicTags(nodeToHandle);
+      MixedSqlNode mixedSqlNode = parseTrimmedTags(nodeToHandle);
       WhereSqlNode where = new WhereSqlNode(configuration, mixedSqlNode);
       targetContents.add(where);
     }
@@ -169,7 +310,7 @@ public class XMLScriptBuilder extends BaseBuilder {
 
     @Override
     public void handleNode(XNode nodeToHandle, List<SqlNode> targetContents) {
-      MixedSqlNode mixedSqlNode = parseDynamicTags(nodeToHandle);
+      MixedSqlNode mixedSqlNode = parseTrimmedTags(nodeToHandle);
       SetSqlNode set = new SetSqlNode(configuration, mixedSqlNode);
       targetContents.add(set);
     }
@@ -190,10 +331,28 @@ public class XMLScriptBuilder extends BaseBuilder {
       String open = nodeToHandle.getStringAttribute("open");
       String close = nodeToHandle.getStringAttribute("close");
       String separator = nodeToHandle.getStringAttribute("separator");
+      ForEachPadding padding = nodeToHandle.getEnumAttribute(ForEachPadding.class, "padding", ForEachPadding.NONE);
+      List<Integer> bucketSizes = parseBucketSizes(nodeToHandle.getStringAttribute("bucketSizes"));
+      Integer chunkSize = nodeToHandle.getIntAttribute("chunkSize");
       ForEachSqlNode forEachSqlNode = new ForEachSqlNode(configuration, mixedSqlNode, collection, nullable, index, item,
-          open, close, separator);
+          open, close, separator, evaluator, padding, bucketSizes, chunkSize);
       targetContents.add(forEachSqlNode);
     }
+
+    private List<Integer> parseBucketSizes(String bucketSizes) {
+      if (bucketSizes == null) {
+        return null;
+      }
+      List<Integer> sizes = new ArrayList<>();
+      for (String size : bucketSizes.split(",")) {
+        try {
+          sizes.add(Integer.valueOf(size.trim()));
+        } catch (NumberFormatException e) {
+          throw new BuilderException("Invalid foreach bucketSizes '" + bucketSizes + "'. Cause: " + e, e);
+        }
+      }
+      return sizes;
+    }
   }
 
   private class IfHandler implements NodeHandler {
@@ -205,7 +364,7 @@ public class XMLScriptBuilder extends BaseBuilder {
     public void handleNode(XNode nodeToHandle, List<SqlNode> targetContents) {
       MixedSqlNode mixedSqlNode = parseDynamicTags(nodeToHandle);
       String test = nodeToHandle.getStringAttribute("test");
-      IfSqlNode ifSqlNode = new IfSqlNode(mixedSqlNode, test);
+      IfSqlNode ifSqlNode = new IfSqlNode(mixedSqlNode, test, evaluator);
       targetContents.add(ifSqlNode);
     }
   }
@@ -264,7 +423,7 @@ public class XMLScriptBuilder extends BaseBuilder {
     }
   }
 
-  private static class EmptySqlNode implements SqlNode {
+  static class EmptySqlNode implements SqlNode {
     private final String whitespaces;
 
     public EmptySqlNode(String whitespaces) {
@@ -272,6 +431,10 @@ public class XMLScriptBuilder extends BaseBuilder {
       this.whitespaces = whitespaces;
     }
 
+    String getWhitespaces() {
+      return whitespaces;
+    }
+
     @Override
     public boolean apply(DynamicContext context) {
       context.appendSql(whitespaces);
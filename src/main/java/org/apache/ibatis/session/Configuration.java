@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2025 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -56,6 +56,7 @@ import org.apache.ibatis.executor.loader.javassist.JavassistProxyFactory;
 import org.apache.ibatis.executor.parameter.ParameterHandler;
 import org.apache.ibatis.executor.resultset.DefaultResultSetHandler;
 import org.apache.ibatis.executor.resultset.ResultSetHandler;
+import org.apache.ibatis.executor.resultset.ResultSetLayoutCache;
 import org.apache.ibatis.executor.statement.RoutingStatementHandler;
 import org.apache.ibatis.executor.statement.StatementHandler;
 import org.apache.ibatis.io.VFS;
@@ -74,6 +75,8 @@ import org.apache.ibatis.mapping.MappedStatement;
 import org.apache.ibatis.mapping.ParameterMap;
 import org.apache.ibatis.mapping.ResultMap;
 import org.apache.ibatis.mapping.ResultSetType;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.mapping.StatementType;
 import org.apache.ibatis.mapping.VendorDatabaseIdProvider;
 import org.apache.ibatis.parsing.XNode;
 import org.apache.ibatis.plugin.Interceptor;
@@ -117,6 +120,8 @@ public class Configuration {
   protected boolean shrinkWhitespacesInSql;
   protected boolean nullableOnForEach;
   protected boolean argNameBasedConstructorAutoMapping;
+  protected boolean useCompiledRowMappers;
+  protected boolean deduplicateAutoMappedValues;
 
   protected String logPrefix;
   protected Class<? extends Log> logImpl;
@@ -128,6 +133,15 @@ public class Configuration {
       Arrays.asList("equals", "clone", "hashCode", "toString"));
   protected Integer defaultStatementTimeout;
   protected Integer defaultFetchSize;
+  protected Integer cursorPrefetchSize;
+  protected Integer resultOrderedCheckSize;
+  protected Integer parameterMetaDataCacheSize = 256;
+  protected Integer renderedSqlCacheSize = 64;
+  protected Integer resultSetLayoutCacheSize = 256;
+  protected ResultSetLayoutCache resultSetLayoutCache = new ResultSetLayoutCache(256);
+  protected Long resultMemoryBudget;
+  protected ResultBudgetExceededBehavior resultBudgetExceededBehavior = ResultBudgetExceededBehavior.FAIL;
+  protected PaginationDialect paginationDialect = PaginationDialect.NONE;
   protected ResultSetType defaultResultSetType;
   protected ExecutorType defaultExecutorType = ExecutorType.SIMPLE;
   protected AutoMappingBehavior autoMappingBehavior = AutoMappingBehavior.PARTIAL;
@@ -341,6 +355,63 @@ public class Configuration {
     this.argNameBasedConstructorAutoMapping = argNameBasedConstructorAutoMapping;
   }
 
+  /**
+   * Returns whether rows of simple result maps are mapped by generated code instead of reflection.
+   * <p>
+   * Default is {@code false}.
+   *
+   * @return If generated row mappers are used, set to {@code true}
+   *
+   * @since 3.6.0
+   */
+  public boolean isUseCompiledRowMappers() {
+    return useCompiledRowMappers;
+  }
+
+  /**
+   * Sets whether rows of simple result maps are mapped by generated code instead of reflection. When enabled, a mapper
+   * class is generated with Javassist for each result map, result type and column layout. It reads the columns and
+   * calls the setters of the result object directly. Result maps with nested result maps, nested queries,
+   * discriminators or nested properties keep using the reflective mapping.
+   *
+   * @param useCompiledRowMappers
+   *          if generated row mappers are used, set to {@code true}
+   *
+   * @since 3.6.0
+   */
+  public void setUseCompiledRowMappers(boolean useCompiledRowMappers) {
+    this.useCompiledRowMappers = useCompiledRowMappers;
+  }
+
+  /**
+   * Returns whether repeated values of automatically mapped columns are replaced by a single instance within a result
+   * set.
+   * <p>
+   * Default is {@code false}.
+   *
+   * @return If values of automatically mapped columns are deduplicated, set to {@code true}
+   *
+   * @since 3.6.0
+   */
+  public boolean isDeduplicateAutoMappedValues() {
+    return deduplicateAutoMappedValues;
+  }
+
+  /**
+   * Sets whether repeated values of automatically mapped columns are replaced by a single instance within a result set.
+   * Each result set keeps a bounded dictionary of the immutable values read per column, such as strings, numbers and
+   * {@code java.time} values, so that large results with few distinct values share their instances. Use the
+   * {@code deduplicate} attribute of a result mapping to deduplicate an explicitly mapped property.
+   *
+   * @param deduplicateAutoMappedValues
+   *          if values of automatically mapped columns are deduplicated, set to {@code true}
+   *
+   * @since 3.6.0
+   */
+  public void setDeduplicateAutoMappedValues(boolean deduplicateAutoMappedValues) {
+    this.deduplicateAutoMappedValues = deduplicateAutoMappedValues;
+  }
+
   public String getDatabaseId() {
     return databaseId;
   }
@@ -534,6 +605,245 @@ public class Configuration {
     this.defaultFetchSize = defaultFetchSize;
   }
 
+  /**
+   * Gets the number of items a cursor fetches ahead on a background thread.
+   *
+   * @return the cursor prefetch size, {@code null} if prefetching is disabled
+   *
+   * @since 3.6.0
+   */
+  public Integer getCursorPrefetchSize() {
+    return cursorPrefetchSize;
+  }
+
+  /**
+   * Sets the number of items a cursor fetches ahead on a background thread. When set to a positive value, cursors map
+   * rows on a producer thread and hand them over through a queue of this size, and the fetch size of the result set
+   * defaults to the same value.
+   * <p>
+   * Default is {@code null} (prefetching is disabled).
+   *
+   * @param cursorPrefetchSize
+   *          the cursor prefetch size
+   *
+   * @since 3.6.0
+   */
+  public void setCursorPrefetchSize(Integer cursorPrefetchSize) {
+    this.cursorPrefetchSize = cursorPrefetchSize;
+  }
+
+  /**
+   * Gets the number of completed parent rows that are remembered to verify the order of nested results.
+   *
+   * @return the result ordered check size, {@code null} if the check is disabled
+   *
+   * @since 3.6.0
+   */
+  public Integer getResultOrderedCheckSize() {
+    return resultOrderedCheckSize;
+  }
+
+  /**
+   * Sets the number of completed parent rows that are remembered to verify the order of nested results. Statements
+   * with {@code resultOrdered=true} emit a parent object and drop the state kept for it as soon as the parent row key
+   * changes, so cursors and result handlers over joins run in bounded memory. When this check is enabled, a parent row
+   * key that reappears after its object has been emitted causes an {@link org.apache.ibatis.executor.ExecutorException}
+   * instead of silently splitting that parent into several objects.
+   * <p>
+   * Default is {@code null} (the check is disabled).
+   *
+   * @param resultOrderedCheckSize
+   *          the result ordered check size
+   *
+   * @since 3.6.0
+   */
+  public void setResultOrderedCheckSize(Integer resultOrderedCheckSize) {
+    this.resultOrderedCheckSize = resultOrderedCheckSize;
+  }
+
+  /**
+   * Gets the maximum number of SQL texts per statement whose parameter JDBC types are cached.
+   *
+   * @return the parameter meta data cache size, {@code null} or {@code 0} if caching is disabled
+   *
+   * @since 3.6.0
+   */
+  public Integer getParameterMetaDataCacheSize() {
+    return parameterMetaDataCacheSize;
+  }
+
+  /**
+   * Sets the maximum number of SQL texts per statement whose parameter JDBC types are cached. When a parameter mapping
+   * does not specify a {@code jdbcType}, the JDBC type reported by
+   * {@link java.sql.PreparedStatement#getParameterMetaData()} is used. With caching enabled, the driver is asked once
+   * per statement and SQL text instead of on every execution. The value applies to statements added after it is set.
+   * <p>
+   * Default is {@code 256}. Set {@code 0} to ask the driver on every execution.
+   *
+   * @param parameterMetaDataCacheSize
+   *          the parameter meta data cache size
+   *
+   * @since 3.6.0
+   */
+  public void setParameterMetaDataCacheSize(Integer parameterMetaDataCacheSize) {
+    this.parameterMetaDataCacheSize = parameterMetaDataCacheSize;
+  }
+
+  /**
+   * Gets the maximum number of SQL shapes per dynamic SQL statement whose rendered SQL is cached.
+   *
+   * @return the rendered SQL cache size, {@code null} or {@code 0} if caching is disabled
+   *
+   * @since 3.6.0
+   */
+  public Integer getRenderedSqlCacheSize() {
+    return renderedSqlCacheSize;
+  }
+
+  /**
+   * Sets the maximum number of SQL shapes per dynamic SQL statement whose rendered SQL is cached. The shape of a
+   * dynamic SQL is made of the branches taken, the number of {@code foreach} iterations and the values of the
+   * {@code ${}} tokens. With caching enabled, a statement applied with a known shape only evaluates its expressions
+   * and collects its parameter values, instead of building the SQL and parsing its parameters again. The value applies
+   * to statements added after it is set.
+   * <p>
+   * Default is {@code 64}. Set {@code 0} to render the SQL on every execution.
+   *
+   * @param renderedSqlCacheSize
+   *          the rendered SQL cache size
+   *
+   * @since 3.6.0
+   */
+  public void setRenderedSqlCacheSize(Integer renderedSqlCacheSize) {
+    this.renderedSqlCacheSize = renderedSqlCacheSize;
+  }
+
+  /**
+   * Gets the maximum number of result set layouts that are cached.
+   *
+   * @return the result set layout cache size, {@code null} or {@code 0} if caching is disabled
+   *
+   * @since 3.6.0
+   */
+  public Integer getResultSetLayoutCacheSize() {
+    return resultSetLayoutCacheSize;
+  }
+
+  /**
+   * Sets the maximum number of result set layouts that are cached. A layout is the list of columns returned by a
+   * statement, along with the column indexes, type handlers and automatic mappings resolved for it. With caching
+   * enabled, these are resolved once per statement and list of columns instead of on every execution; only the result
+   * set meta data is still read to recognize the columns. Setting this value discards the cached layouts.
+   * <p>
+   * Default is {@code 256}. Set {@code 0} to resolve them on every execution.
+   *
+   * @param resultSetLayoutCacheSize
+   *          the result set layout cache size
+   *
+   * @since 3.6.0
+   */
+  public void setResultSetLayoutCacheSize(Integer resultSetLayoutCacheSize) {
+    this.resultSetLayoutCacheSize = resultSetLayoutCacheSize;
+    this.resultSetLayoutCache = resultSetLayoutCacheSize != null && resultSetLayoutCacheSize > 0
+        ? new ResultSetLayoutCache(resultSetLayoutCacheSize) : null;
+  }
+
+  /**
+   * Gets the cache of result set layouts.
+   *
+   * @return the result set layout cache, {@code null} if caching is disabled
+   *
+   * @since 3.6.0
+   */
+  public ResultSetLayoutCache getResultSetLayoutCache() {
+    return resultSetLayoutCache;
+  }
+
+  /**
+   * Gets the estimated number of bytes that the results of a list query may hold in memory.
+   *
+   * @return the result memory budget, {@code null} or {@code 0} if unlimited
+   *
+   * @since 3.6.0
+   */
+  public Long getResultMemoryBudget() {
+    return resultMemoryBudget;
+  }
+
+  /**
+   * Sets the estimated number of bytes that the results of a list query may hold in memory. The size of each row is
+   * estimated while it is mapped; once the total exceeds the budget, the {@link #getResultBudgetExceededBehavior()
+   * result budget exceeded behavior} applies. The budget applies to each result set of a statement, and does not apply
+   * to cursors or result handlers. It can be overridden per statement. Results of nested result maps are estimated
+   * again once all rows are mapped, as their nested objects are still being filled while the rows are mapped.
+   * <p>
+   * Default is {@code null} (unlimited).
+   *
+   * @param resultMemoryBudget
+   *          the result memory budget in bytes
+   *
+   * @since 3.6.0
+   */
+  public void setResultMemoryBudget(Long resultMemoryBudget) {
+    this.resultMemoryBudget = resultMemoryBudget;
+  }
+
+  /**
+   * Gets the behavior when the results of a list query exceed the result memory budget.
+   *
+   * @return the result budget exceeded behavior
+   *
+   * @since 3.6.0
+   */
+  public ResultBudgetExceededBehavior getResultBudgetExceededBehavior() {
+    return resultBudgetExceededBehavior;
+  }
+
+  /**
+   * Sets the behavior when the results of a list query exceed the result memory budget.
+   * <p>
+   * Default is {@link ResultBudgetExceededBehavior#FAIL}.
+   *
+   * @param resultBudgetExceededBehavior
+   *          the result budget exceeded behavior
+   *
+   * @since 3.6.0
+   */
+  public void setResultBudgetExceededBehavior(ResultBudgetExceededBehavior resultBudgetExceededBehavior) {
+    this.resultBudgetExceededBehavior = resultBudgetExceededBehavior;
+  }
+
+  /**
+   * Gets the dialect used to apply row bounds in the database.
+   *
+   * @return the pagination dialect
+   *
+   * @since 3.6.0
+   */
+  public PaginationDialect getPaginationDialect() {
+    return paginationDialect;
+  }
+
+  /**
+   * Sets the dialect used to apply row bounds in the database. When a prepared select statement is executed with row
+   * bounds, its SQL is rewritten so that the database skips the rows before the offset and stops after the limit,
+   * instead of sending them to be skipped on the client. Statements rewritten by a plugin that intercepts the
+   * executor are not affected as long as it passes {@link RowBounds#DEFAULT} on.
+   * <p>
+   * Statements with nested result maps are not rewritten, as their row bounds count the parent objects rather than
+   * the rows, nor are statements that already limit or lock their rows, e.g. with {@code FOR UPDATE}.
+   * <p>
+   * Default is {@link PaginationDialect#NONE}.
+   *
+   * @param paginationDialect
+   *          the pagination dialect
+   *
+   * @since 3.6.0
+   */
+  public void setPaginationDialect(PaginationDialect paginationDialect) {
+    this.paginationDialect = paginationDialect;
+  }
+
   /**
    * Gets the default result set type.
    *
@@ -723,6 +1033,15 @@ public class Configuration {
 
   public StatementHandler newStatementHandler(Executor executor, MappedStatement mappedStatement,
       Object parameterObject, RowBounds rowBounds, ResultHandler resultHandler, BoundSql boundSql) {
+    if (paginationDialect != null && paginationDialect != PaginationDialect.NONE && boundSql != null
+        && rowBounds != null && mappedStatement.getSqlCommandType() == SqlCommandType.SELECT
+        && mappedStatement.getStatementType() == StatementType.PREPARED && !mappedStatement.hasNestedResultMaps()) {
+      BoundSql paginatedSql = paginationDialect.paginate(this, boundSql, rowBounds);
+      if (paginatedSql != null) {
+        boundSql = paginatedSql;
+        rowBounds = RowBounds.DEFAULT;
+      }
+    }
     StatementHandler statementHandler = new RoutingStatementHandler(executor, mappedStatement, parameterObject,
         rowBounds, resultHandler, boundSql);
     return (StatementHandler) interceptorChain.pluginAll(statementHandler);
@@ -0,0 +1,221 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.session;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
+
+/**
+ * Specify how the row bounds of a query are applied. Without a pagination dialect, the driver returns all the rows and
+ * the rows before the offset are skipped on the client. With a pagination dialect, the SQL of prepared select
+ * statements is rewritten so that the database skips them, and the offset and the limit are bound as parameters.
+ * <p>
+ * Statements that already limit or lock their rows, e.g. with {@code LIMIT}, {@code FETCH} or {@code FOR UPDATE}, are
+ * not rewritten, as the clauses would not be valid after them, and their row bounds are applied on the client.
+ *
+ * @since 3.6.0
+ *
+ * @see Configuration#setPaginationDialect(PaginationDialect)
+ */
+public enum PaginationDialect {
+
+  /**
+   * Skips the rows before the offset on the client.
+   */
+  NONE,
+
+  /**
+   * Resolves the dialect from the database id, see {@link #forDatabaseId(String)}. Databases that are not recognized
+   * skip the rows on the client.
+   */
+  AUTO,
+
+  /**
+   * Appends {@code LIMIT ? OFFSET ?}, as supported by MySQL, MariaDB, PostgreSQL, H2, HSQLDB and SQLite.
+   */
+  LIMIT_OFFSET,
+
+  /**
+   * Appends {@code OFFSET ? ROWS FETCH NEXT ? ROWS ONLY}, as supported by Derby, DB2, Oracle 12c and SQL Server 2012
+   * or later. SQL Server only accepts it after an {@code ORDER BY} clause.
+   */
+  OFFSET_FETCH,
+
+  /**
+   * Wraps the statement in sub-queries that filter on the Oracle {@code ROWNUM} pseudo-column. The results have an
+   * additional {@code ROWNUM_} column when the offset is not zero.
+   */
+  ROWNUM;
+
+  /**
+   * Returns the dialect of a database id. The id is matched against well known product names, so both the names
+   * returned by {@link org.apache.ibatis.mapping.VendorDatabaseIdProvider} and the usual aliases are recognized.
+   *
+   * @param databaseId
+   *          the database id, may be {@code null}
+   *
+   * @return the dialect, {@link #NONE} if the database is not recognized
+   */
+  public static PaginationDialect forDatabaseId(String databaseId) {
+    if (databaseId == null) {
+      return NONE;
+    }
+    String id = databaseId.toLowerCase(Locale.ENGLISH);
+    if (id.contains("oracle")) {
+      return ROWNUM;
+    }
+    if (id.contains("mysql") || id.contains("mariadb") || id.contains("postgres") || id.startsWith("h2")
+        || id.contains("hsql") || id.contains("sqlite")) {
+      return LIMIT_OFFSET;
+    }
+    if (id.contains("derby") || id.contains("db2")) {
+      return OFFSET_FETCH;
+    }
+    return NONE;
+  }
+
+  /**
+   * Rewrites a bound SQL so that the database applies the row bounds. The rows of the rewritten SQL must not be
+   * skipped nor limited again on the client.
+   *
+   * @param configuration
+   *          the configuration, its database id resolves the {@link #AUTO} dialect
+   * @param boundSql
+   *          the bound SQL of a select statement
+   * @param rowBounds
+   *          the row bounds
+   *
+   * @return the rewritten bound SQL, {@code null} if the row bounds are to be applied on the client, e.g. when the SQL
+   *         already limits or locks its rows
+   */
+  public BoundSql paginate(Configuration configuration, BoundSql boundSql, RowBounds rowBounds) {
+    PaginationDialect dialect = this == AUTO ? forDatabaseId(configuration.getDatabaseId()) : this;
+    int offset = Math.max(rowBounds.getOffset(), RowBounds.NO_ROW_OFFSET);
+    int limit = rowBounds.getLimit();
+    boolean hasLimit = limit != RowBounds.NO_ROW_LIMIT;
+    if (dialect == NONE || offset == RowBounds.NO_ROW_OFFSET && !hasLimit) {
+      return null;
+    }
+    String sql = trimSql(boundSql.getSql());
+    if (limitsOrLocksRows(sql)) {
+      return null;
+    }
+    StringBuilder builder = new StringBuilder(sql.length() + 96);
+    List<Object> values = new ArrayList<>(2);
+    switch (dialect) {
+      case LIMIT_OFFSET:
+        builder.append(sql).append(" LIMIT ?");
+        values.add(limit);
+        if (offset > 0) {
+          builder.append(" OFFSET ?");
+          values.add(offset);
+        }
+        break;
+      case OFFSET_FETCH:
+        builder.append(sql).append(" OFFSET ? ROWS");
+        values.add(offset);
+        if (hasLimit) {
+          builder.append(" FETCH NEXT ? ROWS ONLY");
+          values.add(limit);
+        }
+        break;
+      default:
+        if (offset == 0) {
+          builder.append("SELECT * FROM (").append(sql).append(") WHERE ROWNUM <= ?");
+          values.add(limit);
+        } else {
+          builder.append("SELECT * FROM (SELECT PAGINATED_.*, ROWNUM ROWNUM_ FROM (").append(sql)
+              .append(") PAGINATED_");
+          if (hasLimit) {
+            builder.append(" WHERE ROWNUM <= ?");
+            values.add((long) offset + limit);
+          }
+          builder.append(") WHERE ROWNUM_ > ?");
+          values.add(offset);
+        }
+        break;
+    }
+    List<ParameterMapping> parameterMappings = new ArrayList<>(boundSql.getParameterMappings().size() + 2);
+    parameterMappings.addAll(boundSql.getParameterMappings());
+    for (Object value : values) {
+      parameterMappings.add(
+          new ParameterMapping.Builder(configuration, "_rowBounds", value.getClass()).value(value).build());
+    }
+    BoundSql paginatedSql = new BoundSql(configuration, builder.toString(), parameterMappings,
+        boundSql.getParameterObject());
+    paginatedSql.getAdditionalParameters().putAll(boundSql.getAdditionalParameters());
+    return paginatedSql;
+  }
+
+  /**
+   * Returns whether the outermost query of a SQL has a clause that limits or locks its rows. Literals, quoted
+   * identifiers, comments and parenthesized sub-queries are skipped.
+   */
+  private static boolean limitsOrLocksRows(String sql) {
+    int depth = 0;
+    String previousWord = null;
+    int i = 0;
+    while (i < sql.length()) {
+      char c = sql.charAt(i);
+      if (c == '\'' || c == '"' || c == '`') {
+        int end = sql.indexOf(c, i + 1);
+        i = end < 0 ? sql.length() : end + 1;
+      } else if (c == '-' && sql.startsWith("--", i)) {
+        int end = sql.indexOf('\n', i);
+        i = end < 0 ? sql.length() : end + 1;
+      } else if (c == '/' && sql.startsWith("/*", i)) {
+        int end = sql.indexOf("*/", i + 2);
+        i = end < 0 ? sql.length() : end + 2;
+      } else if (c == '(') {
+        depth++;
+        i++;
+      } else if (c == ')') {
+        depth--;
+        i++;
+      } else if (Character.isJavaIdentifierStart(c)) {
+        int start = i;
+        while (i < sql.length() && Character.isJavaIdentifierPart(sql.charAt(i))) {
+          i++;
+        }
+        if (depth == 0) {
+          String word = sql.substring(start, i).toUpperCase(Locale.ENGLISH);
+          if ("LIMIT".equals(word) || "OFFSET".equals(word) || "FETCH".equals(word) || "TOP".equals(word)
+              || "LOCK".equals(word) || "FOR".equals(previousWord) && ("UPDATE".equals(word) || "SHARE".equals(word)
+                  || "NO".equals(word) || "KEY".equals(word) || "READ".equals(word))) {
+            return true;
+          }
+          previousWord = word;
+        }
+      } else {
+        i++;
+      }
+    }
+    return false;
+  }
+
+  private static String trimSql(String sql) {
+    int end = sql.length();
+    while (end > 0 && (sql.charAt(end - 1) <= ' ' || sql.charAt(end - 1) == ';')) {
+      end--;
+    }
+    return sql.substring(0, end);
+  }
+
+}
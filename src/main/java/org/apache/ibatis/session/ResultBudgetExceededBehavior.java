@@ -0,0 +1,42 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.session;
+
+/**
+ * Specify the behavior when the results of a list query exceed the result memory budget.
+ *
+ * @since 3.6.0
+ *
+ * @see Configuration#setResultMemoryBudget(Long)
+ */
+public enum ResultBudgetExceededBehavior {
+
+  /**
+   * Fails the query with an {@link org.apache.ibatis.executor.ExecutorException}.
+   */
+  FAIL,
+
+  /**
+   * Serializes the rows to a temporary file and returns a read-only list backed by that file. Rows must be
+   * {@link java.io.Serializable}, and the result map must not have nested result maps or nested queries.
+   * <p>
+   * Each call to {@code get} deserializes a new copy of the row, so {@code list.get(0) != list.get(0)} and changes
+   * made to a row are not kept. A spilled list is not put in the second level cache, as a cache that serializes it
+   * would copy all rows onto the heap.
+   */
+  SPILL
+
+}
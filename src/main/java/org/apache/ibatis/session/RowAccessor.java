@@ -0,0 +1,80 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.session;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import org.apache.ibatis.type.JdbcType;
+
+/**
+ * Reads the columns of the current row of a query. Columns are indexed from 0 in the order of the select list.
+ * <p>
+ * The primitive getters read the column as the matching {@code ResultSet} getter does: a SQL {@code NULL} is read as
+ * {@code 0} or {@code false}, see {@link #wasNull()}. The object getters read the column with the type handler
+ * registered for the requested type, or for the Java type of the column.
+ *
+ * @since 3.6.0
+ *
+ * @see RowHandler
+ */
+public interface RowAccessor {
+
+  int getColumnCount();
+
+  List<String> getColumnNames();
+
+  String getColumnName(int column);
+
+  JdbcType getJdbcType(int column);
+
+  /**
+   * Returns the number of the current row within the rows handled so far, starting at 1.
+   *
+   * @return the row number
+   */
+  int getRowNumber();
+
+  int getInt(int column) throws SQLException;
+
+  long getLong(int column) throws SQLException;
+
+  double getDouble(int column) throws SQLException;
+
+  boolean getBoolean(int column) throws SQLException;
+
+  String getString(int column) throws SQLException;
+
+  Object getObject(int column) throws SQLException;
+
+  <T> T getObject(int column, Class<T> type) throws SQLException;
+
+  /**
+   * Returns whether the last column read was SQL {@code NULL}.
+   *
+   * @return {@code true} if the last column read was SQL {@code NULL}
+   *
+   * @throws SQLException
+   *           if the result set cannot be accessed
+   */
+  boolean wasNull() throws SQLException;
+
+  /**
+   * Stops reading rows once the current row is handled.
+   */
+  void stop();
+
+}
@@ -0,0 +1,41 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.session;
+
+import java.sql.SQLException;
+
+/**
+ * Receives the rows of a query as they are read, without mapping them to objects.
+ *
+ * @since 3.6.0
+ *
+ * @see SqlSession#selectRows(String, Object, RowHandler)
+ */
+@FunctionalInterface
+public interface RowHandler {
+
+  /**
+   * Handles the current row. The accessor is reused for all rows of a result set and must not be kept.
+   *
+   * @param row
+   *          the accessor of the current row
+   *
+   * @throws SQLException
+   *           if a column cannot be read
+   */
+  void handleRow(RowAccessor row) throws SQLException;
+
+}
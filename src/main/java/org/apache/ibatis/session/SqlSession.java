@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2023 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -19,9 +19,14 @@ import java.io.Closeable;
 import java.sql.Connection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Flow;
 
 import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.cursor.defaults.CursorPublisher;
 import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.result.ColumnarResult;
+import org.apache.ibatis.executor.result.ColumnarResultHandler;
+import org.apache.ibatis.executor.result.RowStreamResultHandler;
 
 /**
  * The primary Java interface for working with MyBatis. Through this interface you can execute commands, get mappers and
@@ -198,6 +203,335 @@ public interface SqlSession extends Closeable {
    */
   <T> Cursor<T> selectCursor(String statement, Object parameter, RowBounds rowBounds);
 
+  /**
+   * A Publisher offers the same results as a Cursor, except the rows are mapped as the subscriber requests them. The
+   * statement is executed when the first item is requested and the underlying cursor is closed once all items have
+   * been emitted, an error occurs or the subscription is cancelled.
+   *
+   * @param <T>
+   *          the returned publisher element type.
+   * @param statement
+   *          Unique identifier matching the statement to use.
+   *
+   * @return Publisher of mapped objects
+   *
+   * @since 3.6.0
+   */
+  default <T> Flow.Publisher<T> selectPublisher(String statement) {
+    return selectPublisher(statement, null);
+  }
+
+  /**
+   * A Publisher offers the same results as a Cursor, except the rows are mapped as the subscriber requests them. The
+   * statement is executed when the first item is requested and the underlying cursor is closed once all items have
+   * been emitted, an error occurs or the subscription is cancelled.
+   *
+   * @param <T>
+   *          the returned publisher element type.
+   * @param statement
+   *          Unique identifier matching the statement to use.
+   * @param parameter
+   *          A parameter object to pass to the statement.
+   *
+   * @return Publisher of mapped objects
+   *
+   * @since 3.6.0
+   */
+  default <T> Flow.Publisher<T> selectPublisher(String statement, Object parameter) {
+    return selectPublisher(statement, parameter, RowBounds.DEFAULT);
+  }
+
+  /**
+   * A Publisher offers the same results as a Cursor, except the rows are mapped as the subscriber requests them. The
+   * statement is executed when the first item is requested and the underlying cursor is closed once all items have
+   * been emitted, an error occurs or the subscription is cancelled.
+   *
+   * @param <T>
+   *          the returned publisher element type.
+   * @param statement
+   *          Unique identifier matching the statement to use.
+   * @param parameter
+   *          A parameter object to pass to the statement.
+   * @param rowBounds
+   *          Bounds to limit object retrieval
+   *
+   * @return Publisher of mapped objects
+   *
+   * @since 3.6.0
+   */
+  default <T> Flow.Publisher<T> selectPublisher(String statement, Object parameter, RowBounds rowBounds) {
+    return new CursorPublisher<>(() -> selectCursor(statement, parameter, rowBounds));
+  }
+
+  /**
+   * Retrieve the first column of all rows as an array of {@code long}, without mapping the rows to objects. A SQL
+   * {@code NULL} is read as {@code 0}. The rows are neither read from nor stored in the local or second level cache.
+   *
+   * @param statement
+   *          Unique identifier matching the statement to use.
+   *
+   * @return the values of the first column
+   *
+   * @since 3.6.0
+   */
+  default long[] selectLongs(String statement) {
+    return selectLongs(statement, null);
+  }
+
+  /**
+   * Retrieve the first column of all rows as an array of {@code long}, without mapping the rows to objects. A SQL
+   * {@code NULL} is read as {@code 0}. The rows are neither read from nor stored in the local or second level cache.
+   *
+   * @param statement
+   *          Unique identifier matching the statement to use.
+   * @param parameter
+   *          A parameter object to pass to the statement.
+   *
+   * @return the values of the first column
+   *
+   * @since 3.6.0
+   */
+  default long[] selectLongs(String statement, Object parameter) {
+    return selectLongs(statement, parameter, RowBounds.DEFAULT);
+  }
+
+  /**
+   * Retrieve the first column of all rows as an array of {@code long}, without mapping the rows to objects. A SQL
+   * {@code NULL} is read as {@code 0}. The rows are neither read from nor stored in the local or second level cache.
+   *
+   * @param statement
+   *          Unique identifier matching the statement to use.
+   * @param parameter
+   *          A parameter object to pass to the statement.
+   * @param rowBounds
+   *          Bounds to limit object retrieval
+   *
+   * @return the values of the first column
+   *
+   * @since 3.6.0
+   */
+  default long[] selectLongs(String statement, Object parameter, RowBounds rowBounds) {
+    ColumnarResultHandler handler = new ColumnarResultHandler(long.class);
+    select(statement, parameter, rowBounds, handler);
+    ColumnarResult result = handler.getResult();
+    return result.getColumnCount() == 0 ? new long[0] : result.getLongs(0);
+  }
+
+  /**
+   * Retrieve the first column of all rows as an array of {@code int}, without mapping the rows to objects. A SQL
+   * {@code NULL} is read as {@code 0}. The rows are neither read from nor stored in the local or second level cache.
+   *
+   * @param statement
+   *          Unique identifier matching the statement to use.
+   *
+   * @return the values of the first column
+   *
+   * @since 3.6.0
+   */
+  default int[] selectInts(String statement) {
+    return selectInts(statement, null);
+  }
+
+  /**
+   * Retrieve the first column of all rows as an array of {@code int}, without mapping the rows to objects. A SQL
+   * {@code NULL} is read as {@code 0}. The rows are neither read from nor stored in the local or second level cache.
+   *
+   * @param statement
+   *          Unique identifier matching the statement to use.
+   * @param parameter
+   *          A parameter object to pass to the statement.
+   *
+   * @return the values of the first column
+   *
+   * @since 3.6.0
+   */
+  default int[] selectInts(String statement, Object parameter) {
+    return selectInts(statement, parameter, RowBounds.DEFAULT);
+  }
+
+  /**
+   * Retrieve the first column of all rows as an array of {@code int}, without mapping the rows to objects. A SQL
+   * {@code NULL} is read as {@code 0}. The rows are neither read from nor stored in the local or second level cache.
+   *
+   * @param statement
+   *          Unique identifier matching the statement to use.
+   * @param parameter
+   *          A parameter object to pass to the statement.
+   * @param rowBounds
+   *          Bounds to limit object retrieval
+   *
+   * @return the values of the first column
+   *
+   * @since 3.6.0
+   */
+  default int[] selectInts(String statement, Object parameter, RowBounds rowBounds) {
+    ColumnarResultHandler handler = new ColumnarResultHandler(int.class);
+    select(statement, parameter, rowBounds, handler);
+    ColumnarResult result = handler.getResult();
+    return result.getColumnCount() == 0 ? new int[0] : result.getInts(0);
+  }
+
+  /**
+   * Retrieve the first column of all rows as an array of {@code double}, without mapping the rows to objects. A SQL
+   * {@code NULL} is read as {@code 0}. The rows are neither read from nor stored in the local or second level cache.
+   *
+   * @param statement
+   *          Unique identifier matching the statement to use.
+   *
+   * @return the values of the first column
+   *
+   * @since 3.6.0
+   */
+  default double[] selectDoubles(String statement) {
+    return selectDoubles(statement, null);
+  }
+
+  /**
+   * Retrieve the first column of all rows as an array of {@code double}, without mapping the rows to objects. A SQL
+   * {@code NULL} is read as {@code 0}. The rows are neither read from nor stored in the local or second level cache.
+   *
+   * @param statement
+   *          Unique identifier matching the statement to use.
+   * @param parameter
+   *          A parameter object to pass to the statement.
+   *
+   * @return the values of the first column
+   *
+   * @since 3.6.0
+   */
+  default double[] selectDoubles(String statement, Object parameter) {
+    return selectDoubles(statement, parameter, RowBounds.DEFAULT);
+  }
+
+  /**
+   * Retrieve the first column of all rows as an array of {@code double}, without mapping the rows to objects. A SQL
+   * {@code NULL} is read as {@code 0}. The rows are neither read from nor stored in the local or second level cache.
+   *
+   * @param statement
+   *          Unique identifier matching the statement to use.
+   * @param parameter
+   *          A parameter object to pass to the statement.
+   * @param rowBounds
+   *          Bounds to limit object retrieval
+   *
+   * @return the values of the first column
+   *
+   * @since 3.6.0
+   */
+  default double[] selectDoubles(String statement, Object parameter, RowBounds rowBounds) {
+    ColumnarResultHandler handler = new ColumnarResultHandler(double.class);
+    select(statement, parameter, rowBounds, handler);
+    ColumnarResult result = handler.getResult();
+    return result.getColumnCount() == 0 ? new double[0] : result.getDoubles(0);
+  }
+
+  /**
+   * Retrieve all rows column by column, without mapping them to objects. Numeric columns are stored in primitive
+   * arrays, see {@link ColumnarResultHandler}. The rows are neither read from nor stored in the local or second level
+   * cache.
+   *
+   * @param statement
+   *          Unique identifier matching the statement to use.
+   *
+   * @return the columns of the rows
+   *
+   * @since 3.6.0
+   */
+  default ColumnarResult selectColumns(String statement) {
+    return selectColumns(statement, null);
+  }
+
+  /**
+   * Retrieve all rows column by column, without mapping them to objects. Numeric columns are stored in primitive
+   * arrays, see {@link ColumnarResultHandler}. The rows are neither read from nor stored in the local or second level
+   * cache.
+   *
+   * @param statement
+   *          Unique identifier matching the statement to use.
+   * @param parameter
+   *          A parameter object to pass to the statement.
+   *
+   * @return the columns of the rows
+   *
+   * @since 3.6.0
+   */
+  default ColumnarResult selectColumns(String statement, Object parameter) {
+    return selectColumns(statement, parameter, RowBounds.DEFAULT);
+  }
+
+  /**
+   * Retrieve all rows column by column, without mapping them to objects. Numeric columns are stored in primitive
+   * arrays, see {@link ColumnarResultHandler}. The rows are neither read from nor stored in the local or second level
+   * cache.
+   *
+   * @param statement
+   *          Unique identifier matching the statement to use.
+   * @param parameter
+   *          A parameter object to pass to the statement.
+   * @param rowBounds
+   *          Bounds to limit object retrieval
+   *
+   * @return the columns of the rows
+   *
+   * @since 3.6.0
+   */
+  default ColumnarResult selectColumns(String statement, Object parameter, RowBounds rowBounds) {
+    ColumnarResultHandler handler = new ColumnarResultHandler();
+    select(statement, parameter, rowBounds, handler);
+    return handler.getResult();
+  }
+
+  /**
+   * Pass the rows of the statement to a {@code RowHandler} as they are read, without mapping them to objects. The same
+   * {@link RowAccessor} is passed for all rows of a result set.
+   *
+   * @param statement
+   *          Unique identifier matching the statement to use.
+   * @param handler
+   *          RowHandler that will handle each retrieved row
+   *
+   * @since 3.6.0
+   */
+  default void selectRows(String statement, RowHandler handler) {
+    selectRows(statement, null, handler);
+  }
+
+  /**
+   * Pass the rows of the statement to a {@code RowHandler} as they are read, without mapping them to objects. The same
+   * {@link RowAccessor} is passed for all rows of a result set.
+   *
+   * @param statement
+   *          Unique identifier matching the statement to use.
+   * @param parameter
+   *          A parameter object to pass to the statement.
+   * @param handler
+   *          RowHandler that will handle each retrieved row
+   *
+   * @since 3.6.0
+   */
+  default void selectRows(String statement, Object parameter, RowHandler handler) {
+    selectRows(statement, parameter, RowBounds.DEFAULT, handler);
+  }
+
+  /**
+   * Pass the rows of the statement to a {@code RowHandler} as they are read, without mapping them to objects. The same
+   * {@link RowAccessor} is passed for all rows of a result set.
+   *
+   * @param statement
+   *          Unique identifier matching the statement to use.
+   * @param parameter
+   *          A parameter object to pass to the statement.
+   * @param rowBounds
+   *          RowBound instance to limit the query results
+   * @param handler
+   *          RowHandler that will handle each retrieved row
+   *
+   * @since 3.6.0
+   */
+  default void selectRows(String statement, Object parameter, RowBounds rowBounds, RowHandler handler) {
+    select(statement, parameter, rowBounds, new RowStreamResultHandler(handler));
+  }
+
   /**
    * Retrieve a single row mapped from the statement key and parameter using a {@code ResultHandler}.
    *
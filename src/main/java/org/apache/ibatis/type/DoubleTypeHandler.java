@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2025 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -23,7 +23,7 @@ import java.sql.SQLException;
 /**
  * @author Clinton Begin
  */
-public class DoubleTypeHandler extends BaseTypeHandler<Double> {
+public class DoubleTypeHandler extends BaseTypeHandler<Double> implements DoubleResultReader {
   public static final DoubleTypeHandler INSTANCE = new DoubleTypeHandler();
 
   @Override
@@ -44,6 +44,16 @@ public class DoubleTypeHandler extends BaseTypeHandler<Double> {
     return result == 0 && rs.wasNull() ? null : result;
   }
 
+  @Override
+  public double getDoubleResult(ResultSet rs, String columnName) throws SQLException {
+    return rs.getDouble(columnName);
+  }
+
+  @Override
+  public double getDoubleResult(ResultSet rs, int columnIndex) throws SQLException {
+    return rs.getDouble(columnIndex);
+  }
+
   @Override
   public Double getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
     double result = cs.getDouble(columnIndex);
@@ -0,0 +1,62 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.type;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * A type handler that can also read a column as a primitive {@code int}, without boxing the value.
+ * <p>
+ * As with {@link ResultSet#getInt(int)}, a SQL {@code NULL} is read as {@code 0}; callers tell it apart from a
+ * stored {@code 0} with {@link ResultSet#wasNull()}. Other values must be read as
+ * {@link TypeHandler#getResult(ResultSet, int)} reads them.
+ *
+ * @since 3.6.0
+ */
+public interface IntResultReader {
+
+  /**
+   * Reads a column as a primitive value.
+   *
+   * @param rs
+   *          the result set
+   * @param columnIndex
+   *          the column index, starting at 1
+   *
+   * @return the value, {@code 0} if it is SQL {@code NULL}
+   *
+   * @throws SQLException
+   *           if the column cannot be read
+   */
+  int getIntResult(ResultSet rs, int columnIndex) throws SQLException;
+
+  /**
+   * Reads a column as a primitive value.
+   *
+   * @param rs
+   *          the result set
+   * @param columnName
+   *          the column label
+   *
+   * @return the value, {@code 0} if it is SQL {@code NULL}
+   *
+   * @throws SQLException
+   *           if the column cannot be read
+   */
+  int getIntResult(ResultSet rs, String columnName) throws SQLException;
+
+}
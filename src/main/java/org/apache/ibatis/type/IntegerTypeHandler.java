@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2025 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -23,7 +23,7 @@ import java.sql.SQLException;
 /**
  * @author Clinton Begin
  */
-public class IntegerTypeHandler extends BaseTypeHandler<Integer> {
+public class IntegerTypeHandler extends BaseTypeHandler<Integer> implements IntResultReader {
   public static final IntegerTypeHandler INSTANCE = new IntegerTypeHandler();
 
   @Override
@@ -44,6 +44,16 @@ public class IntegerTypeHandler extends BaseTypeHandler<Integer> {
     return result == 0 && rs.wasNull() ? null : result;
   }
 
+  @Override
+  public int getIntResult(ResultSet rs, String columnName) throws SQLException {
+    return rs.getInt(columnName);
+  }
+
+  @Override
+  public int getIntResult(ResultSet rs, int columnIndex) throws SQLException {
+    return rs.getInt(columnIndex);
+  }
+
   @Override
   public Integer getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
     int result = cs.getInt(columnIndex);
@@ -0,0 +1,200 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.type;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.sql.Blob;
+import java.sql.SQLException;
+
+/**
+ * The content of a BLOB that is not read into a byte array when the row is mapped. Depending on the
+ * {@link LobFetchMode} of the type handler, the content stays in the database until it is accessed or is spilled to a
+ * memory-mapped temporary file. Small contents are kept in memory.
+ * <p>
+ * A {@code LazyBlob} can also be bound as a parameter, in which case the content is streamed to the driver.
+ *
+ * @since 3.6.0
+ *
+ * @see LazyBlobTypeHandler
+ */
+public final class LazyBlob {
+
+  private final long length;
+  private final byte[] bytes;
+  private final ByteBuffer buffer;
+  private final Blob locator;
+  private InputStream stream;
+
+  private LazyBlob(long length, byte[] bytes, ByteBuffer buffer, Blob locator, InputStream stream) {
+    this.length = length;
+    this.bytes = bytes;
+    this.buffer = buffer;
+    this.locator = locator;
+    this.stream = stream;
+  }
+
+  /**
+   * Creates a blob holding a byte array.
+   *
+   * @param bytes
+   *          the content
+   *
+   * @return the blob
+   */
+  public static LazyBlob of(byte[] bytes) {
+    return new LazyBlob(bytes.length, bytes, null, null, null);
+  }
+
+  /**
+   * Creates a blob whose content is read from a stream when it is bound as a parameter. The stream can only be read
+   * once.
+   *
+   * @param in
+   *          the content
+   * @param length
+   *          the number of bytes of the stream, or {@code -1} if unknown
+   *
+   * @return the blob
+   */
+  public static LazyBlob of(InputStream in, long length) {
+    return new LazyBlob(length, null, null, null, in);
+  }
+
+  static LazyBlob ofBuffer(ByteBuffer buffer) {
+    return new LazyBlob(buffer.capacity(), null, buffer, null, null);
+  }
+
+  static LazyBlob ofLocator(Blob blob) throws SQLException {
+    return new LazyBlob(blob.length(), null, null, blob, null);
+  }
+
+  /**
+   * Returns the number of bytes of the content.
+   *
+   * @return the length, {@code -1} if the blob was created from a stream of unknown length
+   */
+  public long length() {
+    return length;
+  }
+
+  /**
+   * Returns whether the content has been spilled to a temporary file.
+   *
+   * @return {@code true} if the content is memory-mapped
+   */
+  public boolean isSpilled() {
+    return buffer != null;
+  }
+
+  /**
+   * Returns a stream of the content. Each call returns a new stream, except for a blob created from a stream.
+   *
+   * @return the content
+   */
+  public InputStream getInputStream() {
+    if (bytes != null) {
+      return new ByteArrayInputStream(bytes);
+    }
+    if (buffer != null) {
+      return new ByteBufferInputStream(buffer.duplicate());
+    }
+    if (locator != null) {
+      try {
+        return locator.getBinaryStream();
+      } catch (SQLException e) {
+        throw new TypeException("Error reading the content of a BLOB.  Cause: " + e, e);
+      }
+    }
+    InputStream in = stream;
+    if (in == null) {
+      throw new IllegalStateException("The stream of this blob has already been read.");
+    }
+    stream = null;
+    return in;
+  }
+
+  /**
+   * Reads the whole content into a byte array.
+   *
+   * @return the content
+   */
+  public byte[] getBytes() {
+    if (bytes != null) {
+      return bytes.clone();
+    }
+    if (buffer != null) {
+      byte[] content = new byte[buffer.capacity()];
+      buffer.duplicate().get(content);
+      return content;
+    }
+    if (locator != null) {
+      try {
+        return locator.getBytes(1, (int) length);
+      } catch (SQLException e) {
+        throw new TypeException("Error reading the content of a BLOB.  Cause: " + e, e);
+      }
+    }
+    try (InputStream in = getInputStream()) {
+      return in.readAllBytes();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static final class ByteBufferInputStream extends InputStream {
+
+    private final ByteBuffer buffer;
+
+    ByteBufferInputStream(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+      return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+      if (len == 0) {
+        return 0;
+      }
+      if (!buffer.hasRemaining()) {
+        return -1;
+      }
+      int count = Math.min(len, buffer.remaining());
+      buffer.get(b, off, count);
+      return count;
+    }
+
+    @Override
+    public long skip(long n) {
+      int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+      buffer.position(buffer.position() + count);
+      return count;
+    }
+
+    @Override
+    public int available() {
+      return buffer.remaining();
+    }
+  }
+
+}
@@ -0,0 +1,113 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.type;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.CallableStatement;
+import java.sql.Blob;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * The {@link TypeHandler} for {@link LazyBlob}. By default the content of a column is spilled to a memory-mapped
+ * temporary file when it is larger than {@value #DEFAULT_SPILL_THRESHOLD} bytes, and read into memory otherwise. Use
+ * {@link LocatorBlobTypeHandler} as the type handler of a property to read the content from the database on first access
+ * instead.
+ * <p>
+ * At most 1024 spilled LOBs, of all handlers, are held at a time. Each one keeps a memory mapping and its disk space
+ * until it is garbage collected. Beyond that, content is read into memory whatever its length.
+ *
+ * @since 3.6.0
+ *
+ * @see LobFetchMode
+ */
+public class LazyBlobTypeHandler extends BaseTypeHandler<LazyBlob> {
+
+  public static final int DEFAULT_SPILL_THRESHOLD = 64 * 1024;
+
+  private final LobFetchMode fetchMode;
+  private final int spillThreshold;
+
+  public LazyBlobTypeHandler() {
+    this(LobFetchMode.SPILL, DEFAULT_SPILL_THRESHOLD);
+  }
+
+  /**
+   * @param fetchMode
+   *          how the content of a column is fetched
+   * @param spillThreshold
+   *          the length in bytes above which the content is spilled to a temporary file in {@link LobFetchMode#SPILL}
+   *          mode
+   */
+  public LazyBlobTypeHandler(LobFetchMode fetchMode, int spillThreshold) {
+    this.fetchMode = fetchMode;
+    this.spillThreshold = spillThreshold;
+  }
+
+  @Override
+  public void setNonNullParameter(PreparedStatement ps, int i, LazyBlob parameter, JdbcType jdbcType)
+      throws SQLException {
+    long length = parameter.length();
+    if (length < 0) {
+      ps.setBinaryStream(i, parameter.getInputStream());
+    } else {
+      ps.setBinaryStream(i, parameter.getInputStream(), length);
+    }
+  }
+
+  @Override
+  public LazyBlob getNullableResult(ResultSet rs, String columnName) throws SQLException {
+    return toLazyBlob(rs.getBlob(columnName));
+  }
+
+  @Override
+  public LazyBlob getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+    return toLazyBlob(rs.getBlob(columnIndex));
+  }
+
+  @Override
+  public LazyBlob getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+    return toLazyBlob(cs.getBlob(columnIndex));
+  }
+
+  private LazyBlob toLazyBlob(Blob lob) throws SQLException {
+    if (lob == null) {
+      return null;
+    }
+    if (fetchMode == LobFetchMode.LOCATOR) {
+      return LazyBlob.ofLocator(lob);
+    }
+    long length = lob.length();
+    if (length <= spillThreshold || !LobSpillFile.reserve()) {
+      return LazyBlob.of(lob.getBytes(1, (int) length));
+    }
+    final InputStream stream;
+    try {
+      stream = lob.getBinaryStream();
+    } catch (SQLException | RuntimeException e) {
+      LobSpillFile.release();
+      throw e;
+    }
+    try (InputStream in = stream) {
+      return LazyBlob.ofBuffer(LobSpillFile.spill(in));
+    } catch (IOException e) {
+      throw new TypeException("Could not spill a BLOB to a temporary file.  Cause: " + e, e);
+    }
+  }
+
+}
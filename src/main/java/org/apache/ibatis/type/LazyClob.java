@@ -0,0 +1,192 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.type;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+import java.sql.Clob;
+import java.sql.SQLException;
+
+/**
+ * The content of a CLOB or NCLOB that is not read into a string when the row is mapped. Depending on the
+ * {@link LobFetchMode} of the type handler, the content stays in the database until it is accessed or is spilled to a
+ * memory-mapped temporary file. Small contents are kept in memory.
+ * <p>
+ * A {@code LazyClob} can also be bound as a parameter, in which case the content is streamed to the driver.
+ *
+ * @since 3.6.0
+ *
+ * @see LazyClobTypeHandler
+ */
+public final class LazyClob {
+
+  private final long length;
+  private final String string;
+  private final CharBuffer buffer;
+  private final Clob locator;
+  private Reader reader;
+
+  private LazyClob(long length, String string, CharBuffer buffer, Clob locator, Reader reader) {
+    this.length = length;
+    this.string = string;
+    this.buffer = buffer;
+    this.locator = locator;
+    this.reader = reader;
+  }
+
+  /**
+   * Creates a clob holding a string.
+   *
+   * @param string
+   *          the content
+   *
+   * @return the clob
+   */
+  public static LazyClob of(String string) {
+    return new LazyClob(string.length(), string, null, null, null);
+  }
+
+  /**
+   * Creates a clob whose content is read from a reader when it is bound as a parameter. The reader can only be read
+   * once.
+   *
+   * @param reader
+   *          the content
+   * @param length
+   *          the number of characters of the reader, or {@code -1} if unknown
+   *
+   * @return the clob
+   */
+  public static LazyClob of(Reader reader, long length) {
+    return new LazyClob(length, null, null, null, reader);
+  }
+
+  static LazyClob ofBuffer(CharBuffer buffer) {
+    return new LazyClob(buffer.capacity(), null, buffer, null, null);
+  }
+
+  static LazyClob ofLocator(Clob clob) throws SQLException {
+    return new LazyClob(clob.length(), null, null, clob, null);
+  }
+
+  /**
+   * Returns the number of characters of the content.
+   *
+   * @return the length, {@code -1} if the clob was created from a reader of unknown length
+   */
+  public long length() {
+    return length;
+  }
+
+  /**
+   * Returns whether the content has been spilled to a temporary file.
+   *
+   * @return {@code true} if the content is memory-mapped
+   */
+  public boolean isSpilled() {
+    return buffer != null;
+  }
+
+  /**
+   * Returns a reader of the content. Each call returns a new reader, except for a clob created from a reader.
+   *
+   * @return the content
+   */
+  public Reader getReader() {
+    if (string != null) {
+      return new StringReader(string);
+    }
+    if (buffer != null) {
+      return new CharBufferReader(buffer.duplicate());
+    }
+    if (locator != null) {
+      try {
+        return locator.getCharacterStream();
+      } catch (SQLException e) {
+        throw new TypeException("Error reading the content of a CLOB.  Cause: " + e, e);
+      }
+    }
+    Reader in = reader;
+    if (in == null) {
+      throw new IllegalStateException("The reader of this clob has already been read.");
+    }
+    reader = null;
+    return in;
+  }
+
+  /**
+   * Reads the whole content into a string.
+   *
+   * @return the content
+   */
+  public String getString() {
+    if (string != null) {
+      return string;
+    }
+    if (buffer != null) {
+      return buffer.duplicate().toString();
+    }
+    if (locator != null) {
+      try {
+        return locator.getSubString(1, (int) length);
+      } catch (SQLException e) {
+        throw new TypeException("Error reading the content of a CLOB.  Cause: " + e, e);
+      }
+    }
+    StringBuilder builder = new StringBuilder();
+    char[] chars = new char[8192];
+    try (Reader in = getReader()) {
+      int read;
+      while ((read = in.read(chars)) != -1) {
+        builder.append(chars, 0, read);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return builder.toString();
+  }
+
+  private static final class CharBufferReader extends Reader {
+
+    private final CharBuffer buffer;
+
+    CharBufferReader(CharBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) {
+      if (len == 0) {
+        return 0;
+      }
+      if (!buffer.hasRemaining()) {
+        return -1;
+      }
+      int count = Math.min(len, buffer.remaining());
+      buffer.get(cbuf, off, count);
+      return count;
+    }
+
+    @Override
+    public void close() {
+      // Nothing to release, the mapping is released with the buffer
+    }
+  }
+
+}
@@ -0,0 +1,113 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.type;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * The {@link TypeHandler} for {@link LazyClob}. By default the content of a column is spilled to a memory-mapped
+ * temporary file when it is larger than {@value #DEFAULT_SPILL_THRESHOLD} characters, and read into memory otherwise. Use
+ * {@link LocatorClobTypeHandler} as the type handler of a property to read the content from the database on first access
+ * instead.
+ * <p>
+ * At most 1024 spilled LOBs, of all handlers, are held at a time. Each one keeps a memory mapping and its disk space
+ * until it is garbage collected. Beyond that, content is read into memory whatever its length.
+ *
+ * @since 3.6.0
+ *
+ * @see LobFetchMode
+ */
+public class LazyClobTypeHandler extends BaseTypeHandler<LazyClob> {
+
+  public static final int DEFAULT_SPILL_THRESHOLD = 64 * 1024;
+
+  private final LobFetchMode fetchMode;
+  private final int spillThreshold;
+
+  public LazyClobTypeHandler() {
+    this(LobFetchMode.SPILL, DEFAULT_SPILL_THRESHOLD);
+  }
+
+  /**
+   * @param fetchMode
+   *          how the content of a column is fetched
+   * @param spillThreshold
+   *          the length in characters above which the content is spilled to a temporary file in {@link LobFetchMode#SPILL}
+   *          mode
+   */
+  public LazyClobTypeHandler(LobFetchMode fetchMode, int spillThreshold) {
+    this.fetchMode = fetchMode;
+    this.spillThreshold = spillThreshold;
+  }
+
+  @Override
+  public void setNonNullParameter(PreparedStatement ps, int i, LazyClob parameter, JdbcType jdbcType)
+      throws SQLException {
+    long length = parameter.length();
+    if (length < 0) {
+      ps.setCharacterStream(i, parameter.getReader());
+    } else {
+      ps.setCharacterStream(i, parameter.getReader(), length);
+    }
+  }
+
+  @Override
+  public LazyClob getNullableResult(ResultSet rs, String columnName) throws SQLException {
+    return toLazyClob(rs.getClob(columnName));
+  }
+
+  @Override
+  public LazyClob getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+    return toLazyClob(rs.getClob(columnIndex));
+  }
+
+  @Override
+  public LazyClob getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+    return toLazyClob(cs.getClob(columnIndex));
+  }
+
+  private LazyClob toLazyClob(Clob lob) throws SQLException {
+    if (lob == null) {
+      return null;
+    }
+    if (fetchMode == LobFetchMode.LOCATOR) {
+      return LazyClob.ofLocator(lob);
+    }
+    long length = lob.length();
+    if (length <= spillThreshold || !LobSpillFile.reserve()) {
+      return LazyClob.of(lob.getSubString(1, (int) length));
+    }
+    final Reader reader;
+    try {
+      reader = lob.getCharacterStream();
+    } catch (SQLException | RuntimeException e) {
+      LobSpillFile.release();
+      throw e;
+    }
+    try (Reader in = reader) {
+      return LazyClob.ofBuffer(LobSpillFile.spill(in));
+    } catch (IOException e) {
+      throw new TypeException("Could not spill a CLOB to a temporary file.  Cause: " + e, e);
+    }
+  }
+
+}
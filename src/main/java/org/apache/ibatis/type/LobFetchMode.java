@@ -0,0 +1,37 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.type;
+
+/**
+ * How {@link LazyBlobTypeHandler} and {@link LazyClobTypeHandler} fetch the content of a LOB column.
+ *
+ * @since 3.6.0
+ */
+public enum LobFetchMode {
+
+  /**
+   * Keeps the LOB returned by the driver and reads its content on first access. The content can only be read while the
+   * result set or the transaction that returned it is open, which suits cursors and result handlers.
+   */
+  LOCATOR,
+
+  /**
+   * Copies the content to a temporary file that is memory-mapped, so that it remains readable once the cursor has moved
+   * on without being held on the heap. Small LOBs are kept in memory instead.
+   */
+  SPILL
+
+}
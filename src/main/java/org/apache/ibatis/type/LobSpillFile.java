@@ -0,0 +1,166 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.type;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Copies LOB content to temporary files and maps them into memory. The file is deleted as soon as it is mapped, or on
+ * exit where an open mapping prevents that.
+ * <p>
+ * Each spilled LOB holds a memory mapping and its disk space until its buffer is garbage collected. At most
+ * {@value #MAX_MAPPINGS} of them are held at a time, so that a large result does not exhaust the mappings allowed per
+ * process ({@code vm.max_map_count} on Linux) or the temporary directory. Callers {@link #reserve() reserve} a mapping
+ * before spilling and read the content into memory when none is left.
+ *
+ * @since 3.6.0
+ */
+final class LobSpillFile {
+
+  static final int MAX_MAPPINGS = 1024;
+
+  private static final String PREFIX = "mybatis-lob";
+  private static final int CHUNK_SIZE = 8192;
+  private static final AtomicInteger MAPPINGS = new AtomicInteger();
+  private static final Cleaner CLEANER = Cleaner.create();
+
+  private LobSpillFile() {
+    // Prevent Instantiation of Static Class
+  }
+
+  /**
+   * Reserves one of the {@value #MAX_MAPPINGS} mappings. A successful reservation must be followed by a call to one of
+   * the {@code spill} methods, which release it once the mapped buffer is garbage collected, or when spilling fails.
+   * A caller that fails before calling them must {@link #release()} it.
+   *
+   * @return {@code false} if all mappings are in use
+   */
+  static boolean reserve() {
+    if (MAPPINGS.incrementAndGet() > MAX_MAPPINGS) {
+      MAPPINGS.decrementAndGet();
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Releases a reservation that was not passed to a {@code spill} method.
+   */
+  static void release() {
+    MAPPINGS.decrementAndGet();
+  }
+
+  static int getMappings() {
+    return MAPPINGS.get();
+  }
+
+  static ByteBuffer spill(InputStream in) throws IOException {
+    Path file = null;
+    ByteBuffer buffer;
+    try {
+      file = Files.createTempFile(PREFIX, null);
+      buffer = copy(in, file);
+    } catch (IOException | RuntimeException | Error e) {
+      MAPPINGS.decrementAndGet();
+      throw e;
+    } finally {
+      delete(file);
+    }
+    return track(buffer);
+  }
+
+  static CharBuffer spill(Reader reader) throws IOException {
+    Path file = null;
+    ByteBuffer buffer;
+    try {
+      file = Files.createTempFile(PREFIX, null);
+      buffer = copy(reader, file);
+    } catch (IOException | RuntimeException | Error e) {
+      MAPPINGS.decrementAndGet();
+      throw e;
+    } finally {
+      delete(file);
+    }
+    // the char view keeps the mapped buffer reachable
+    return track(buffer).asCharBuffer();
+  }
+
+  private static ByteBuffer copy(InputStream in, Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      ReadableByteChannel source = Channels.newChannel(in);
+      long size = 0;
+      long transferred;
+      while ((transferred = channel.transferFrom(source, size, CHUNK_SIZE)) > 0) {
+        size += transferred;
+      }
+      return map(channel, size);
+    }
+  }
+
+  private static ByteBuffer copy(Reader reader, Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      char[] chars = new char[CHUNK_SIZE];
+      ByteBuffer bytes = ByteBuffer.allocate(CHUNK_SIZE * 2);
+      int read;
+      while ((read = reader.read(chars)) != -1) {
+        bytes.clear();
+        bytes.asCharBuffer().put(chars, 0, read);
+        bytes.limit(read * 2);
+        while (bytes.hasRemaining()) {
+          channel.write(bytes);
+        }
+      }
+      return map(channel, channel.size());
+    }
+  }
+
+  private static ByteBuffer map(FileChannel channel, long size) throws IOException {
+    if (size > Integer.MAX_VALUE) {
+      throw new IOException("A LOB of " + size + " bytes is too large to be mapped into memory.");
+    }
+    return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+  }
+
+  // releases the reserved mapping once the buffer is unmapped
+  private static ByteBuffer track(ByteBuffer buffer) {
+    CLEANER.register(buffer, MAPPINGS::decrementAndGet);
+    return buffer;
+  }
+
+  private static void delete(Path file) {
+    if (file == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      file.toFile().deleteOnExit();
+    }
+  }
+
+}
@@ -0,0 +1,31 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.type;
+
+/**
+ * The {@link TypeHandler} for {@link LazyBlob} in {@link LobFetchMode#LOCATOR} mode. The content of a column is read from
+ * the database on first access, so it must be read before the result set or the transaction is closed. Set it as the
+ * type handler of a property, for example {@code typeHandler="org.apache.ibatis.type.LocatorBlobTypeHandler"}.
+ *
+ * @since 3.6.0
+ */
+public class LocatorBlobTypeHandler extends LazyBlobTypeHandler {
+
+  public LocatorBlobTypeHandler() {
+    super(LobFetchMode.LOCATOR, 0);
+  }
+
+}
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2025 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -23,7 +23,7 @@ import java.sql.SQLException;
 /**
  * @author Clinton Begin
  */
-public class LongTypeHandler extends BaseTypeHandler<Long> {
+public class LongTypeHandler extends BaseTypeHandler<Long> implements LongResultReader {
   public static final LongTypeHandler INSTANCE = new LongTypeHandler();
 
   @Override
@@ -43,6 +43,16 @@ public class LongTypeHandler extends BaseTypeHandler<Long> {
     return result == 0 && rs.wasNull() ? null : result;
   }
 
+  @Override
+  public long getLongResult(ResultSet rs, String columnName) throws SQLException {
+    return rs.getLong(columnName);
+  }
+
+  @Override
+  public long getLongResult(ResultSet rs, int columnIndex) throws SQLException {
+    return rs.getLong(columnIndex);
+  }
+
   @Override
   public Long getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
     long result = cs.getLong(columnIndex);
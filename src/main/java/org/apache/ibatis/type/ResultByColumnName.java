@@ -0,0 +1,46 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.type;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The annotation that specify a {@link TypeHandler} must read results by column name.
+ * <p>
+ * When mapping results, MyBatis resolves the index of each column once per result set and calls
+ * {@link TypeHandler#getResult(java.sql.ResultSet, int)}. Type handlers that only implement
+ * {@link TypeHandler#getResult(java.sql.ResultSet, String)} can opt out with this annotation.
+ * <p>
+ * <b>How to use:</b>
+ *
+ * <pre>
+ * &#064;ResultByColumnName
+ * public class LegacyTypeHandler implements TypeHandler&lt;String&gt; {
+ *   // ...
+ * }
+ * </pre>
+ *
+ * @since 3.6.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ResultByColumnName {
+}
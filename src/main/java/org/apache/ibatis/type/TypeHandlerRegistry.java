@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2025 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -46,6 +46,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.ibatis.binding.MapperMethod.ParamMap;
 import org.apache.ibatis.io.ResolverUtil;
@@ -63,6 +64,7 @@ public final class TypeHandlerRegistry {
   private final Map<Type, Map<JdbcType, TypeHandler<?>>> typeHandlerMap = new ConcurrentHashMap<>();
   private final ConcurrentHashMap<Type, Constructor<?>> smartHandlers = new ConcurrentHashMap<>();
   private final Map<Class<?>, TypeHandler<?>> allTypeHandlersMap = new HashMap<>();
+  private final AtomicInteger version = new AtomicInteger();
 
   private static final Map<JdbcType, TypeHandler<?>> NULL_TYPE_HANDLER_MAP = Collections.emptyMap();
 
@@ -102,6 +104,8 @@ public final class TypeHandlerRegistry {
     register(BigInteger.class, null, new BigIntegerTypeHandler());
     register(BigDecimal.class, null, BigDecimalTypeHandler.INSTANCE);
     register(InputStream.class, null, new BlobInputStreamTypeHandler());
+    register(LazyBlob.class, null, new LazyBlobTypeHandler());
+    register(LazyClob.class, null, new LazyClobTypeHandler());
     register(Byte[].class, null, new ByteObjectArrayTypeHandler());
     register(byte[].class, null, ByteArrayTypeHandler.INSTANCE);
     register(Date.class, null, DateTypeHandler.INSTANCE);
@@ -180,6 +184,19 @@ public final class TypeHandlerRegistry {
    */
   public void setDefaultEnumTypeHandler(@SuppressWarnings("rawtypes") Class<? extends TypeHandler> typeHandler) {
     this.defaultEnumTypeHandler = typeHandler;
+    version.incrementAndGet();
+  }
+
+  /**
+   * Returns a number that changes whenever a type handler is registered, so that callers that cache resolved type
+   * handlers can tell that their entries may be stale.
+   *
+   * @return the current version of this registry
+   *
+   * @since 3.6.0
+   */
+  public int getVersion() {
+    return version.get();
   }
 
   public boolean hasTypeHandler(Type javaType) {
@@ -364,6 +381,7 @@ public final class TypeHandlerRegistry {
 
   public void register(JdbcType mappedJdbcType, TypeHandler<?> handler) {
     jdbcTypeHandlerMap.put(mappedJdbcType, handler);
+    version.incrementAndGet();
   }
 
   //
@@ -426,6 +444,7 @@ public final class TypeHandlerRegistry {
     }
 
     allTypeHandlersMap.put(handler.getClass(), handler);
+    version.incrementAndGet();
   }
 
   //
@@ -468,6 +487,7 @@ public final class TypeHandlerRegistry {
         for (Type javaType : mappedJavaTypes) {
           smartHandlers.computeIfAbsent(javaType, k -> constructor);
         }
+        version.incrementAndGet();
         return;
       }
     }
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2025 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -28,4 +28,11 @@ class SqlSourceBuilderTest {
     String shrankWhitespacesInSql = "SELECT * FROM user WHERE user_id = 1";
     Assertions.assertEquals(shrankWhitespacesInSql, actual);
   }
+
+  @Test
+  void shouldKeepSqlWithoutExtraWhitespaces() {
+    String sql = "SELECT * FROM user WHERE user_id = 1";
+    Assertions.assertSame(sql, SqlSourceBuilder.removeExtraWhitespaces(sql));
+    Assertions.assertEquals("SELECT * FROM user", SqlSourceBuilder.removeExtraWhitespaces("SELECT *  FROM user "));
+  }
 }
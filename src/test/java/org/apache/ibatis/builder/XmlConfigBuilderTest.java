@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2025 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -60,6 +60,8 @@ import org.apache.ibatis.session.AutoMappingUnknownColumnBehavior;
 import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.LocalCacheScope;
+import org.apache.ibatis.session.PaginationDialect;
+import org.apache.ibatis.session.ResultBudgetExceededBehavior;
 import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
 import org.apache.ibatis.type.BaseTypeHandler;
 import org.apache.ibatis.type.EnumOrdinalTypeHandler;
@@ -91,6 +93,14 @@ class XmlConfigBuilderTest {
       assertThat(config.getDefaultExecutorType()).isEqualTo(ExecutorType.SIMPLE);
       assertNull(config.getDefaultStatementTimeout());
       assertNull(config.getDefaultFetchSize());
+      assertNull(config.getCursorPrefetchSize());
+      assertNull(config.getResultOrderedCheckSize());
+      assertThat(config.getParameterMetaDataCacheSize()).isEqualTo(256);
+      assertThat(config.getRenderedSqlCacheSize()).isEqualTo(64);
+      assertThat(config.getResultSetLayoutCacheSize()).isEqualTo(256);
+      assertNull(config.getResultMemoryBudget());
+      assertThat(config.getResultBudgetExceededBehavior()).isEqualTo(ResultBudgetExceededBehavior.FAIL);
+      assertThat(config.getPaginationDialect()).isEqualTo(PaginationDialect.NONE);
       assertNull(config.getDefaultResultSetType());
       assertThat(config.isMapUnderscoreToCamelCase()).isFalse();
       assertThat(config.isSafeRowBoundsEnabled()).isFalse();
@@ -110,6 +120,8 @@ class XmlConfigBuilderTest {
       assertThat(config.isArgNameBasedConstructorAutoMapping()).isFalse();
       assertThat(config.getDefaultSqlProviderType()).isNull();
       assertThat(config.isNullableOnForEach()).isFalse();
+      assertThat(config.isUseCompiledRowMappers()).isFalse();
+      assertThat(config.isDeduplicateAutoMappedValues()).isFalse();
     }
   }
 
@@ -197,6 +209,15 @@ class XmlConfigBuilderTest {
       assertThat(config.getDefaultExecutorType()).isEqualTo(ExecutorType.BATCH);
       assertThat(config.getDefaultStatementTimeout()).isEqualTo(10);
       assertThat(config.getDefaultFetchSize()).isEqualTo(100);
+      assertThat(config.getCursorPrefetchSize()).isEqualTo(50);
+      assertThat(config.getResultOrderedCheckSize()).isEqualTo(100);
+      assertThat(config.getParameterMetaDataCacheSize()).isZero();
+      assertThat(config.getRenderedSqlCacheSize()).isEqualTo(16);
+      assertThat(config.getResultSetLayoutCacheSize()).isEqualTo(64);
+      assertThat(config.getResultMemoryBudget()).isEqualTo(1048576L);
+      assertThat(config.getResultBudgetExceededBehavior()).isEqualTo(ResultBudgetExceededBehavior.SPILL);
+      assertThat(config.getPaginationDialect()).isEqualTo(PaginationDialect.AUTO);
+      assertThat(config.getResultSetLayoutCache()).isNotNull();
       assertThat(config.getDefaultResultSetType()).isEqualTo(ResultSetType.SCROLL_INSENSITIVE);
       assertThat(config.isMapUnderscoreToCamelCase()).isTrue();
       assertThat(config.isSafeRowBoundsEnabled()).isTrue();
@@ -215,6 +236,8 @@ class XmlConfigBuilderTest {
       assertThat(config.isArgNameBasedConstructorAutoMapping()).isTrue();
       assertThat(config.getDefaultSqlProviderType().getName()).isEqualTo(MySqlProvider.class.getName());
       assertThat(config.isNullableOnForEach()).isTrue();
+      assertThat(config.isUseCompiledRowMappers()).isTrue();
+      assertThat(config.isDeduplicateAutoMappedValues()).isTrue();
 
       assertThat(config.getTypeAliasRegistry().getTypeAliases().get("blogauthor")).isEqualTo(Author.class);
       assertThat(config.getTypeAliasRegistry().getTypeAliases().get("blog")).isEqualTo(Blog.class);
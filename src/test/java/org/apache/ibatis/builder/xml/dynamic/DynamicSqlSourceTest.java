@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2025 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -16,22 +16,29 @@
 package org.apache.ibatis.builder.xml.dynamic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.IOException;
 import java.io.Reader;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.ibatis.BaseDataTest;
+import org.apache.ibatis.builder.BuilderException;
 import org.apache.ibatis.io.Resources;
 import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
 import org.apache.ibatis.scripting.xmltags.ChooseSqlNode;
 import org.apache.ibatis.scripting.xmltags.DynamicSqlSource;
+import org.apache.ibatis.scripting.xmltags.ExpressionEvaluator;
+import org.apache.ibatis.scripting.xmltags.ForEachPadding;
 import org.apache.ibatis.scripting.xmltags.ForEachSqlNode;
 import org.apache.ibatis.scripting.xmltags.IfSqlNode;
 import org.apache.ibatis.scripting.xmltags.MixedSqlNode;
@@ -39,10 +46,12 @@ import org.apache.ibatis.scripting.xmltags.SetSqlNode;
 import org.apache.ibatis.scripting.xmltags.SqlNode;
 import org.apache.ibatis.scripting.xmltags.StaticTextSqlNode;
 import org.apache.ibatis.scripting.xmltags.TextSqlNode;
+import org.apache.ibatis.scripting.xmltags.VarDeclSqlNode;
 import org.apache.ibatis.scripting.xmltags.WhereSqlNode;
 import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.type.JdbcType;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -397,6 +406,275 @@ class DynamicSqlSourceTest extends BaseDataTest {
     }
   }
 
+  @Test
+  void shouldRenderTheSameSqlForRepeatedShapes() {
+    Configuration cachedConfig = new Configuration();
+    Configuration uncachedConfig = new Configuration();
+    uncachedConfig.setRenderedSqlCacheSize(0);
+    DynamicSqlSource cachedSource = new DynamicSqlSource(cachedConfig, searchSqlNode(cachedConfig));
+    DynamicSqlSource uncachedSource = new DynamicSqlSource(uncachedConfig, searchSqlNode(uncachedConfig));
+    List<Map<String, Object>> parameters = new ArrayList<>();
+    parameters.add(searchParameter("a", Arrays.asList(1, 2), "ID"));
+    parameters.add(searchParameter("b", Arrays.asList(3, 4), "ID"));
+    parameters.add(searchParameter(null, Arrays.asList(5, 6, 7), "ID"));
+    parameters.add(searchParameter("c", Arrays.asList(8L, 9L), "ID"));
+    parameters.add(searchParameter("d", new ArrayList<>(), "NAME"));
+    parameters.add(searchParameter(null, null, "ID"));
+    for (int i = 0; i < 2; i++) {
+      for (Map<String, Object> parameter : parameters) {
+        assertBoundSqlEquals(uncachedSource.getBoundSql(parameter), cachedSource.getBoundSql(parameter));
+      }
+    }
+  }
+
+  @Test
+  void shouldEvaluateTheNodesOnceWhenTheShapeIsNotCached() {
+    Configuration cachedConfig = new Configuration();
+    cachedConfig.setRenderedSqlCacheSize(1);
+    Configuration uncachedConfig = new Configuration();
+    uncachedConfig.setRenderedSqlCacheSize(0);
+    DynamicSqlSource cachedSource = new DynamicSqlSource(cachedConfig, countingSqlNode());
+    DynamicSqlSource uncachedSource = new DynamicSqlSource(uncachedConfig, countingSqlNode());
+    CountingBean cachedBean = new CountingBean();
+    CountingBean uncachedBean = new CountingBean();
+    // more shapes than cached SQLs
+    for (int i = 0; i < 10; i++) {
+      cachedBean.name = i % 2 == 0 ? "a" : null;
+      uncachedBean.name = cachedBean.name;
+      assertBoundSqlEquals(uncachedSource.getBoundSql(uncachedBean), cachedSource.getBoundSql(cachedBean));
+    }
+    assertEquals(uncachedBean.getterCalls, cachedBean.getterCalls);
+    // a single shape
+    for (int i = 0; i < 10; i++) {
+      assertBoundSqlEquals(uncachedSource.getBoundSql(uncachedBean), cachedSource.getBoundSql(cachedBean));
+    }
+    assertEquals(uncachedBean.getterCalls, cachedBean.getterCalls);
+  }
+
+  private SqlNode countingSqlNode() {
+    return mixedContents(new StaticTextSqlNode("SELECT * FROM BLOG"), new IfSqlNode(
+        mixedContents(new StaticTextSqlNode("WHERE NAME = #{name}")), "name != null"));
+  }
+
+  public static class CountingBean {
+    private String name;
+    private int getterCalls;
+
+    public String getName() {
+      getterCalls++;
+      return name;
+    }
+  }
+
+  @Test
+  void shouldRenderCustomNodesEveryTime() {
+    List<String> texts = new ArrayList<>(Arrays.asList("ID = #{id}", "NAME = #{id}"));
+    SqlNode customNode = context -> {
+      context.appendSql(texts.remove(0));
+      return true;
+    };
+    DynamicSqlSource source = new DynamicSqlSource(new Configuration(),
+        mixedContents(new StaticTextSqlNode("SELECT * FROM BLOG WHERE"), customNode));
+    Map<String, Object> parameter = new HashMap<>();
+    parameter.put("id", 1);
+    assertEquals("SELECT * FROM BLOG WHERE ID = #{id}", source.getBoundSql(parameter).getSql());
+    assertEquals("SELECT * FROM BLOG WHERE NAME = #{id}", source.getBoundSql(parameter).getSql());
+  }
+
+  @Test
+  void shouldExpandSimpleForEachItemsLikeScopedContexts() {
+    Configuration config = new Configuration();
+    config.setRenderedSqlCacheSize(0);
+    List<Object> items = Arrays.asList(1, 2L, null, "a", 3);
+    Map<String, Object> parameter = new HashMap<>();
+    parameter.put("list", items);
+    parameter.put("array", new int[] { 1, 2, 3 });
+    parameter.put("map", Map.of("k", "v"));
+    for (String collection : Arrays.asList("list", "array", "map")) {
+      for (String separator : Arrays.asList(",", null)) {
+        for (String body : Arrays.asList("#{item}", " #{item, jdbcType=VARCHAR} ")) {
+          DynamicSqlSource expected = new DynamicSqlSource(config,
+              forEachSqlNode(config, new TextSqlNode(body), collection, null, separator));
+          DynamicSqlSource actual = new DynamicSqlSource(config,
+              forEachSqlNode(config, new StaticTextSqlNode(body), collection, null, separator));
+          assertBoundSqlEquals(expected.getBoundSql(parameter), actual.getBoundSql(parameter));
+        }
+      }
+    }
+  }
+
+  @Test
+  void shouldExpandSimpleForEachItemsOfKnownShapes() {
+    Configuration cachedConfig = new Configuration();
+    Configuration uncachedConfig = new Configuration();
+    uncachedConfig.setRenderedSqlCacheSize(0);
+    DynamicSqlSource cachedSource = new DynamicSqlSource(cachedConfig,
+        forEachSqlNode(cachedConfig, new StaticTextSqlNode("#{item}"), "list", null, ","));
+    DynamicSqlSource uncachedSource = new DynamicSqlSource(uncachedConfig,
+        forEachSqlNode(uncachedConfig, new TextSqlNode("#{item}"), "list", null, ","));
+    for (List<?> items : Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3, 4), Arrays.asList(5L, null),
+        Arrays.asList(6L, null), Arrays.asList(7, 8, 9))) {
+      Map<String, Object> parameter = new HashMap<>();
+      parameter.put("list", items);
+      assertBoundSqlEquals(uncachedSource.getBoundSql(parameter), cachedSource.getBoundSql(parameter));
+    }
+  }
+
+  @Test
+  void shouldApplyNullableOnSimpleForEachItems() {
+    Configuration config = new Configuration();
+    Map<String, Object> parameter = new HashMap<>();
+    parameter.put("list", null);
+    DynamicSqlSource nullable = new DynamicSqlSource(config,
+        forEachSqlNode(config, new StaticTextSqlNode("#{item}"), "list", true, ","));
+    assertEquals("SELECT * FROM BLOG WHERE ID = 0", nullable.getBoundSql(parameter).getSql());
+    config.setNullableOnForEach(true);
+    DynamicSqlSource nullableOnForEach = new DynamicSqlSource(config,
+        forEachSqlNode(config, new StaticTextSqlNode("#{item}"), "list", null, ","));
+    assertEquals("SELECT * FROM BLOG WHERE ID = 0", nullableOnForEach.getBoundSql(parameter).getSql());
+    config.setNullableOnForEach(false);
+    DynamicSqlSource notNullable = new DynamicSqlSource(config,
+        forEachSqlNode(config, new StaticTextSqlNode("#{item}"), "list", null, ","));
+    assertThrows(BuilderException.class, () -> notNullable.getBoundSql(parameter));
+  }
+
+  @Test
+  void shouldPadAndChunkForEachItems() {
+    Configuration config = new Configuration();
+    Map<String, Object> parameter = new HashMap<>();
+    parameter.put("list", Arrays.asList(1, 2, 3, 4, 5, 6, 7));
+    DynamicSqlSource source = new DynamicSqlSource(config,
+        new ForEachSqlNode(config, mixedContents(new StaticTextSqlNode("#{item}")), "list", null, null, "item",
+            "ID IN (", ")", ",", ExpressionEvaluator.INSTANCE, ForEachPadding.REPEAT_LAST, null, 4));
+    BoundSql boundSql = source.getBoundSql(parameter);
+    assertEquals("( ID IN (  ? , ? , ? , ? ) OR ID IN (  ? , ? , ? , ? ) )", boundSql.getSql());
+    assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 7),
+        boundSql.getParameterMappings().stream().map(ParameterMapping::getValue).collect(Collectors.toList()));
+    assertEquals(1, source.getSqlVariantCount());
+  }
+
+  @Test
+  void shouldBindNullPadsWithTheJdbcTypeOfTheItems() {
+    Configuration config = new Configuration();
+    Map<String, Object> parameter = new HashMap<>();
+    parameter.put("list", Arrays.asList(1L, 2L, 3L));
+    DynamicSqlSource source = new DynamicSqlSource(config,
+        new ForEachSqlNode(config, mixedContents(new StaticTextSqlNode("#{item}")), "list", null, null, "item",
+            "ID IN (", ")", ",", ExpressionEvaluator.INSTANCE, ForEachPadding.NULL, null, null));
+    // rendered, then served from the cache
+    for (int i = 0; i < 2; i++) {
+      List<ParameterMapping> parameterMappings = source.getBoundSql(parameter).getParameterMappings();
+      assertEquals(Arrays.asList(1L, 2L, 3L, null),
+          parameterMappings.stream().map(ParameterMapping::getValue).collect(Collectors.toList()));
+      assertEquals(Arrays.asList(null, null, null, JdbcType.BIGINT),
+          parameterMappings.stream().map(ParameterMapping::getJdbcType).collect(Collectors.toList()));
+    }
+    source = new DynamicSqlSource(config,
+        new ForEachSqlNode(config, mixedContents(new StaticTextSqlNode("#{item,jdbcType=NUMERIC}")), "list", null,
+            null, "item", "ID IN (", ")", ",", ExpressionEvaluator.INSTANCE, ForEachPadding.NULL, null, null));
+    assertEquals(JdbcType.NUMERIC, source.getBoundSql(parameter).getParameterMappings().get(3).getJdbcType());
+  }
+
+  @Test
+  void shouldRejectNullPaddingAndChunkingAfterNotIn() {
+    Configuration config = new Configuration();
+    SqlNode body = mixedContents(new StaticTextSqlNode("#{item}"));
+    assertThrows(BuilderException.class, () -> new ForEachSqlNode(config, body, "list", null, null, "item",
+        "ID NOT IN (", ")", ",", ExpressionEvaluator.INSTANCE, ForEachPadding.NULL, null, null));
+    assertThrows(BuilderException.class, () -> new ForEachSqlNode(config, body, "list", null, null, "item",
+        "id not in(", ")", ",", ExpressionEvaluator.INSTANCE, ForEachPadding.REPEAT_LAST, null, 10));
+    new ForEachSqlNode(config, body, "list", null, null, "item", "ID NOT IN (", ")", ",", ExpressionEvaluator.INSTANCE,
+        ForEachPadding.REPEAT_LAST, null, null);
+  }
+
+  @Test
+  void shouldRejectInvalidForEachBuckets() {
+    Configuration config = new Configuration();
+    SqlNode body = mixedContents(new StaticTextSqlNode("#{item}"));
+    assertThrows(BuilderException.class, () -> new ForEachSqlNode(config, body, "list", null, null, "item", null, null,
+        ",", ExpressionEvaluator.INSTANCE, ForEachPadding.NONE, null, 10));
+    // ID IN <foreach open="(" close=")"> would render ID IN ( ( ?, ? ) OR ( ? ) )
+    assertThrows(BuilderException.class, () -> new ForEachSqlNode(config, body, "list", null, null, "item", "(", ")",
+        ",", ExpressionEvaluator.INSTANCE, ForEachPadding.NONE, null, 2));
+    assertThrows(BuilderException.class, () -> new ForEachSqlNode(config, body, "list", null, null, "item", "(", ")",
+        ",", ExpressionEvaluator.INSTANCE, ForEachPadding.NULL, Arrays.asList(10, 5), null));
+  }
+
+  @Test
+  void shouldScopeVariablesBoundInNestedContexts() {
+    Configuration config = new Configuration();
+    Map<String, Object> parameter = new HashMap<>();
+    parameter.put("username", "jim");
+    DynamicSqlSource source = new DynamicSqlSource(config,
+        mixedContents(new VarDeclSqlNode("prefix", "username + '%'"), new StaticTextSqlNode("SELECT * FROM AUTHOR"),
+            new WhereSqlNode(config,
+                mixedContents(new VarDeclSqlNode("pattern", "prefix + '@%'"),
+                    new IfSqlNode(mixedContents(new StaticTextSqlNode("AND email LIKE #{pattern}")),
+                        "pattern != null"))),
+            new IfSqlNode(mixedContents(new StaticTextSqlNode("AND unscoped")), "pattern != null"),
+            new StaticTextSqlNode("ORDER BY username")));
+    BoundSql boundSql = source.getBoundSql(parameter);
+    assertEquals("SELECT * FROM AUTHOR WHERE  email LIKE ? ORDER BY username", boundSql.getSql());
+    assertEquals("jim%@%", boundSql.getParameterMappings().get(0).getValue());
+  }
+
+  @Test
+  void shouldSetOnlyReferencedVariablesAsAdditionalParameters() {
+    Configuration config = new Configuration();
+    Map<String, Object> parameter = new HashMap<>();
+    parameter.put("name", "jim");
+    parameter.put("ids", Arrays.asList(1, 2));
+    DynamicSqlSource source = new DynamicSqlSource(config,
+        mixedContents(new VarDeclSqlNode("pattern", "name + '%'"), new VarDeclSqlNode("unused", "name"),
+            new StaticTextSqlNode("SELECT * FROM AUTHOR WHERE username LIKE #{pattern}"),
+            new ForEachSqlNode(config, mixedContents(new StaticTextSqlNode("#{item}")), "ids", null, "item",
+                "AND id IN (", ")", ",")));
+    BoundSql boundSql = source.getBoundSql(parameter);
+    assertEquals(Collections.singleton("pattern"), boundSql.getAdditionalParameters().keySet());
+    assertEquals("jim%", boundSql.getAdditionalParameter("pattern"));
+  }
+
+  private SqlNode forEachSqlNode(Configuration configuration, SqlNode body, String collection, Boolean nullable,
+      String separator) {
+    return mixedContents(new StaticTextSqlNode("SELECT * FROM BLOG WHERE ID = 0"),
+        new ForEachSqlNode(configuration, mixedContents(body), collection, nullable, "index", "item", "OR ID IN (",
+            ")", separator));
+  }
+
+  private SqlNode searchSqlNode(Configuration configuration) {
+    return mixedContents(new StaticTextSqlNode("SELECT * FROM BLOG"),
+        new WhereSqlNode(configuration,
+            mixedContents(new IfSqlNode(mixedContents(new StaticTextSqlNode("AND NAME = #{name}")), "name != null"),
+                new IfSqlNode(new ForEachSqlNode(configuration, mixedContents(new TextSqlNode("#{item}")), "ids",
+                    true, "index", "item", "AND ID IN (", ")", ","), "ids != null and ids.size() > 0"))),
+        new TextSqlNode("ORDER BY ${order}"));
+  }
+
+  private Map<String, Object> searchParameter(String name, List<?> ids, String order) {
+    Map<String, Object> parameter = new HashMap<>();
+    parameter.put("name", name);
+    parameter.put("ids", ids);
+    parameter.put("order", order);
+    return parameter;
+  }
+
+  private void assertBoundSqlEquals(BoundSql expected, BoundSql actual) {
+    assertEquals(expected.getSql(), actual.getSql());
+    assertEquals(expected.getParameterMappings().size(), actual.getParameterMappings().size());
+    for (int i = 0; i < expected.getParameterMappings().size(); i++) {
+      ParameterMapping expectedMapping = expected.getParameterMappings().get(i);
+      ParameterMapping actualMapping = actual.getParameterMappings().get(i);
+      assertEquals(expectedMapping.getProperty(), actualMapping.getProperty());
+      assertEquals(expectedMapping.getJavaType(), actualMapping.getJavaType());
+      assertEquals(typeHandlerClass(expectedMapping), typeHandlerClass(actualMapping));
+      assertEquals(expectedMapping.getValue(), actualMapping.getValue());
+    }
+  }
+
+  private Class<?> typeHandlerClass(ParameterMapping parameterMapping) {
+    return parameterMapping.getTypeHandler() == null ? null : parameterMapping.getTypeHandler().getClass();
+  }
+
   @MethodSource
   @ParameterizedTest
   void testShrinkWhitespacesInSql(SqlNode input, boolean shrinkWhitespaces, String expected) {
@@ -0,0 +1,234 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.cursor.defaults;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.Test;
+
+class CursorPublisherTest {
+
+  @Test
+  void shouldNotOpenCursorBeforeFirstRequest() {
+    AtomicInteger opened = new AtomicInteger();
+    CursorPublisher<Integer> publisher = new CursorPublisher<>(() -> {
+      opened.incrementAndGet();
+      return new ListCursor<>(Arrays.asList(1, 2));
+    });
+    RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+    publisher.subscribe(subscriber);
+    assertThat(opened.get()).isZero();
+
+    subscriber.subscription.request(1);
+    assertThat(opened.get()).isEqualTo(1);
+    assertThat(subscriber.items).containsExactly(1);
+  }
+
+  @Test
+  void shouldEmitOnlyRequestedItems() {
+    ListCursor<Integer> cursor = new ListCursor<>(Arrays.asList(1, 2, 3, 4, 5));
+    RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+    new CursorPublisher<>(() -> cursor).subscribe(subscriber);
+
+    subscriber.subscription.request(2);
+    assertThat(subscriber.items).containsExactly(1, 2);
+    assertThat(cursor.fetched.get()).isEqualTo(2);
+
+    subscriber.subscription.request(2);
+    assertThat(subscriber.items).containsExactly(1, 2, 3, 4);
+    assertThat(subscriber.completed).isFalse();
+
+    subscriber.subscription.request(1);
+    assertThat(subscriber.items).containsExactly(1, 2, 3, 4, 5);
+    assertThat(subscriber.completed).isFalse();
+
+    subscriber.subscription.request(1);
+    assertThat(subscriber.completed).isTrue();
+    assertThat(cursor.closeCount.get()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldHandleReentrantRequests() {
+    ListCursor<Integer> cursor = new ListCursor<>(Arrays.asList(1, 2, 3));
+    RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<Integer>() {
+      @Override
+      public void onNext(Integer item) {
+        super.onNext(item);
+        subscription.request(1);
+      }
+    };
+    new CursorPublisher<>(() -> cursor).subscribe(subscriber);
+    subscriber.subscription.request(1);
+    assertThat(subscriber.items).containsExactly(1, 2, 3);
+    assertThat(subscriber.completed).isTrue();
+  }
+
+  @Test
+  void shouldCloseCursorOnCancel() {
+    ListCursor<Integer> cursor = new ListCursor<>(Arrays.asList(1, 2, 3));
+    RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+    new CursorPublisher<>(() -> cursor).subscribe(subscriber);
+    subscriber.subscription.request(1);
+    subscriber.subscription.cancel();
+    subscriber.subscription.request(5);
+    subscriber.subscription.cancel();
+
+    assertThat(subscriber.items).containsExactly(1);
+    assertThat(subscriber.completed).isFalse();
+    assertThat(subscriber.error).isNull();
+    assertThat(cursor.closeCount.get()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldSignalErrorAndCloseCursor() {
+    ListCursor<Integer> cursor = new ListCursor<>(Arrays.asList(1, 2, 3));
+    cursor.failAt = 1;
+    RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+    new CursorPublisher<>(() -> cursor).subscribe(subscriber);
+    subscriber.subscription.request(Long.MAX_VALUE);
+
+    assertThat(subscriber.items).containsExactly(1);
+    assertThat(subscriber.error).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+    assertThat(cursor.closeCount.get()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldCancelWhenSubscriberThrows() {
+    ListCursor<Integer> cursor = new ListCursor<>(Arrays.asList(1, 2, 3));
+    RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<Integer>() {
+      @Override
+      public void onNext(Integer item) {
+        super.onNext(item);
+        throw new IllegalStateException("subscriber failed");
+      }
+    };
+    new CursorPublisher<>(() -> cursor).subscribe(subscriber);
+    subscriber.subscription.request(Long.MAX_VALUE);
+    subscriber.subscription.request(1);
+
+    assertThat(subscriber.items).containsExactly(1);
+    assertThat(subscriber.error).isNull();
+    assertThat(subscriber.completed).isFalse();
+    assertThat(cursor.closeCount.get()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldRejectNonPositiveRequest() {
+    ListCursor<Integer> cursor = new ListCursor<>(Arrays.asList(1, 2, 3));
+    RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+    new CursorPublisher<>(() -> cursor).subscribe(subscriber);
+    subscriber.subscription.request(1);
+    subscriber.subscription.request(0);
+
+    assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+    assertThat(cursor.closeCount.get()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldRejectSecondSubscriber() {
+    CursorPublisher<Integer> publisher = new CursorPublisher<>(() -> new ListCursor<>(Arrays.asList(1)));
+    publisher.subscribe(new RecordingSubscriber<>());
+    RecordingSubscriber<Integer> second = new RecordingSubscriber<>();
+    publisher.subscribe(second);
+
+    assertThat(second.subscription).isNotNull();
+    assertThat(second.error).isInstanceOf(IllegalStateException.class);
+  }
+
+  private static class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+    protected Flow.Subscription subscription;
+    private final List<T> items = new ArrayList<>();
+    private Throwable error;
+    private boolean completed;
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(T item) {
+      items.add(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      this.error = throwable;
+    }
+
+    @Override
+    public void onComplete() {
+      this.completed = true;
+    }
+  }
+
+  private static class ListCursor<T> implements Cursor<T> {
+    private final List<T> items;
+    private final AtomicInteger closeCount = new AtomicInteger();
+    private final AtomicInteger fetched = new AtomicInteger();
+    private int failAt = -1;
+
+    ListCursor(List<T> items) {
+      this.items = items;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return closeCount.get() == 0;
+    }
+
+    @Override
+    public boolean isConsumed() {
+      return fetched.get() == items.size();
+    }
+
+    @Override
+    public int getCurrentIndex() {
+      return fetched.get() - 1;
+    }
+
+    @Override
+    public void close() {
+      closeCount.incrementAndGet();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+      return new Iterator<T>() {
+        @Override
+        public boolean hasNext() {
+          if (fetched.get() == failAt) {
+            throw new IllegalStateException("boom");
+          }
+          return fetched.get() < items.size();
+        }
+
+        @Override
+        public T next() {
+          return items.get(fetched.getAndIncrement());
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.cursor.defaults;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.executor.ExecutorException;
+import org.junit.jupiter.api.Test;
+
+class PrefetchingCursorTest {
+
+  @Test
+  void shouldReturnItemsInOrder() {
+    ListCursor<Integer> source = new ListCursor<>(Arrays.asList(1, 2, 3, 4, 5, 6, 7));
+    try (Cursor<Integer> cursor = new PrefetchingCursor<>(source, 2)) {
+      assertThat(cursor.stream().collect(Collectors.toList())).containsExactly(1, 2, 3, 4, 5, 6, 7);
+      assertThat(cursor.isConsumed()).isTrue();
+      assertThat(cursor.getCurrentIndex()).isEqualTo(6);
+    }
+    assertThat(source.closeCount.get()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldPropagateProducerException() {
+    ListCursor<Integer> source = new ListCursor<>(Arrays.asList(1, 2, 3));
+    source.failAt = 2;
+    Cursor<Integer> cursor = new PrefetchingCursor<>(source, 10);
+    Iterator<Integer> iterator = cursor.iterator();
+    assertThat(iterator.next()).isEqualTo(1);
+    assertThat(iterator.next()).isEqualTo(2);
+    assertThatThrownBy(iterator::hasNext).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+    assertThat(cursor.isOpen()).isFalse();
+    assertThat(source.closeCount.get()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldWrapCheckedProducerException() {
+    ListCursor<Integer> source = new ListCursor<>(Arrays.asList(1, 2, 3));
+    source.failAt = 0;
+    source.checkedFailure = true;
+    Cursor<Integer> cursor = new PrefetchingCursor<>(source, 10);
+    Iterator<Integer> iterator = cursor.iterator();
+    assertThatThrownBy(iterator::hasNext).isInstanceOf(ExecutorException.class)
+        .hasCauseInstanceOf(Exception.class);
+  }
+
+  @Test
+  void shouldStopProducerOnEarlyClose() throws Exception {
+    ListCursor<Integer> source = new ListCursor<>(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+    Cursor<Integer> cursor = new PrefetchingCursor<>(source, 1);
+    Iterator<Integer> iterator = cursor.iterator();
+    assertThat(iterator.next()).isEqualTo(1);
+    // wait until the producer is blocked on the full queue
+    source.blocked.await();
+    cursor.close();
+    assertThat(source.closeCount.get()).isEqualTo(1);
+    assertThat(source.fetched.get()).isLessThan(10);
+    assertThat(iterator.hasNext()).isFalse();
+    assertThat(cursor.isConsumed()).isFalse();
+  }
+
+  @Test
+  void shouldCloseDelegateWhenClosedBeforeIteration() {
+    ListCursor<Integer> source = new ListCursor<>(Arrays.asList(1, 2));
+    Cursor<Integer> cursor = new PrefetchingCursor<>(source, 1);
+    cursor.close();
+    assertThat(source.closeCount.get()).isEqualTo(1);
+    assertThatThrownBy(cursor::iterator).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void shouldWaitForProducerBlockedInDriverWithoutInterruptingIt() throws Exception {
+    CountDownLatch reading = new CountDownLatch(1);
+    CountDownLatch readDone = new CountDownLatch(1);
+    AtomicBoolean producerInterrupted = new AtomicBoolean();
+    ListCursor<Integer> source = new ListCursor<>(Arrays.asList(1, 2)) {
+      @Override
+      public Iterator<Integer> iterator() {
+        return new Iterator<Integer>() {
+          @Override
+          public boolean hasNext() {
+            reading.countDown();
+            // like a driver read that completes later
+            try {
+              readDone.await();
+            } catch (InterruptedException e) {
+              producerInterrupted.set(true);
+            }
+            return true;
+          }
+
+          @Override
+          public Integer next() {
+            return 1;
+          }
+        };
+      }
+    };
+    Cursor<Integer> cursor = new PrefetchingCursor<>(source, 1);
+    cursor.iterator();
+    reading.await();
+    Thread closer = new Thread(cursor::close);
+    closer.start();
+    closer.join(200);
+    // the underlying cursor is not closed under the running producer
+    assertThat(closer.isAlive()).isTrue();
+    assertThat(source.closeCount.get()).isZero();
+    readDone.countDown();
+    closer.join(5000);
+    assertThat(closer.isAlive()).isFalse();
+    assertThat(source.closeCount.get()).isEqualTo(1);
+    assertThat(producerInterrupted.get()).isFalse();
+  }
+
+  private static class ListCursor<T> implements Cursor<T> {
+    private final List<T> items;
+    private final AtomicInteger closeCount = new AtomicInteger();
+    private final AtomicInteger fetched = new AtomicInteger();
+    private final CountDownLatch blocked = new CountDownLatch(1);
+    private volatile int failAt = -1;
+    private volatile boolean checkedFailure;
+
+    ListCursor(List<T> items) {
+      this.items = items;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return closeCount.get() == 0;
+    }
+
+    @Override
+    public boolean isConsumed() {
+      return fetched.get() == items.size();
+    }
+
+    @Override
+    public int getCurrentIndex() {
+      return fetched.get() - 1;
+    }
+
+    @Override
+    public void close() {
+      closeCount.incrementAndGet();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+      return new Iterator<T>() {
+        @Override
+        public boolean hasNext() {
+          if (fetched.get() == failAt) {
+            if (checkedFailure) {
+              sneakyThrow(new Exception("checked boom"));
+            }
+            throw new IllegalStateException("boom");
+          }
+          return fetched.get() < items.size();
+        }
+
+        @Override
+        public T next() {
+          T item = items.get(fetched.getAndIncrement());
+          if (fetched.get() > 2) {
+            blocked.countDown();
+          }
+          return item;
+        }
+      };
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <E extends Throwable> void sneakyThrow(Throwable e) throws E {
+    throw (E) e;
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class SqlTemplateTest {
+
+  private static final AtomicInteger builds = new AtomicInteger();
+
+  @Test
+  void shouldRenderOptionalPartsOfEnabledSlots() {
+    SqlTemplate template = new SQL().SELECT("P.ID, P.NAME").FROM("PERSON P")
+        .optional("department", sql -> sql.INNER_JOIN("DEPARTMENT D on D.ID = P.DEPARTMENT_ID"))
+        .optional("name", sql -> sql.WHERE("P.NAME like #{name}"))
+        .optional("department", sql -> sql.WHERE("D.NAME = #{department}")).ORDER_BY("P.ID").toTemplate();
+
+    assertThat(template.getSlots()).containsExactly("department", "name");
+    assertThat(template.render())
+        .isEqualTo(new SQL().SELECT("P.ID, P.NAME").FROM("PERSON P").ORDER_BY("P.ID").toString());
+    assertThat(template.render("name")).isEqualTo(new SQL().SELECT("P.ID, P.NAME").FROM("PERSON P")
+        .WHERE("P.NAME like #{name}").ORDER_BY("P.ID").toString());
+    assertThat(template.render("department", "name"))
+        .isEqualTo(new SQL().SELECT("P.ID, P.NAME").FROM("PERSON P")
+            .INNER_JOIN("DEPARTMENT D on D.ID = P.DEPARTMENT_ID").WHERE("P.NAME like #{name}")
+            .WHERE("D.NAME = #{department}").ORDER_BY("P.ID").toString());
+    assertThat(template.render("name")).isSameAs(template.render("name"));
+  }
+
+  @Test
+  void shouldRenderNestedOptionalParts() {
+    SqlTemplate template = new SQL().UPDATE("PERSON").SET("NAME = #{name}")
+        .optional("email", sql -> sql.SET("EMAIL = #{email}").optional("verified", s -> s.SET("VERIFIED = true")))
+        .WHERE("ID = #{id}").toTemplate();
+
+    assertThat(template.render("verified"))
+        .isEqualTo(new SQL().UPDATE("PERSON").SET("NAME = #{name}").WHERE("ID = #{id}").toString());
+    assertThat(template.render("email")).isEqualTo(
+        new SQL().UPDATE("PERSON").SET("NAME = #{name}", "EMAIL = #{email}").WHERE("ID = #{id}").toString());
+    assertThat(template.render("email", "verified")).isEqualTo(new SQL().UPDATE("PERSON")
+        .SET("NAME = #{name}", "EMAIL = #{email}", "VERIFIED = true").WHERE("ID = #{id}").toString());
+  }
+
+  @Test
+  void shouldDropConjunctionsNextToDisabledParts() {
+    SqlTemplate leading = new SQL().SELECT("*").FROM("PERSON").optional("a", s -> s.WHERE("A = 1")).OR()
+        .WHERE("B = 2").toTemplate();
+    assertThat(leading.render()).isEqualTo(new SQL().SELECT("*").FROM("PERSON").WHERE("B = 2").toString());
+    assertThat(leading.render("a"))
+        .isEqualTo(new SQL().SELECT("*").FROM("PERSON").WHERE("A = 1").OR().WHERE("B = 2").toString());
+
+    SqlTemplate trailing = new SQL().SELECT("*").FROM("PERSON").WHERE("A = 1").OR()
+        .optional("b", s -> s.WHERE("B = 2")).toTemplate();
+    assertThat(trailing.render()).isEqualTo(new SQL().SELECT("*").FROM("PERSON").WHERE("A = 1").toString());
+
+    SqlTemplate doubled = new SQL().SELECT("*").FROM("PERSON").WHERE("A = 1").OR()
+        .optional("b", s -> s.WHERE("B = 2")).OR().WHERE("C = 3").toTemplate();
+    assertThat(doubled.render())
+        .isEqualTo(new SQL().SELECT("*").FROM("PERSON").WHERE("A = 1").OR().WHERE("C = 3").toString());
+  }
+
+  @Test
+  void shouldBuildOptionalPartsWithToString() {
+    SQL sql = new SQL().SELECT("*").FROM("PERSON").optional("name", s -> s.WHERE("NAME = #{name}"));
+    assertThat(sql.toString()).isEqualTo(new SQL().SELECT("*").FROM("PERSON").WHERE("NAME = #{name}").toString());
+  }
+
+  @Test
+  void shouldNotChangeTemplateWhenBuilderChanges() {
+    SQL sql = new SQL().SELECT("*").FROM("PERSON");
+    SqlTemplate template = sql.toTemplate();
+    sql.WHERE("ID = #{id}");
+    assertThat(template.render()).isEqualTo(new SQL().SELECT("*").FROM("PERSON").toString());
+  }
+
+  @Test
+  void shouldKeepTemplatePerCallSite() {
+    builds.set(0);
+    SqlTemplate first = personTemplate();
+    SqlTemplate second = personTemplate();
+    assertThat(second).isSameAs(first);
+    assertThat(builds.get()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldRejectCapturingSupplier() {
+    String table = "PERSON";
+    assertThatThrownBy(() -> SqlTemplate.of(() -> new SQL().SELECT("*").FROM(table)))
+        .isInstanceOf(IllegalArgumentException.class).hasMessageContaining("must not capture any variable");
+  }
+
+  @Test
+  void shouldRejectUnknownSlot() {
+    SqlTemplate template = new SQL().SELECT("*").FROM("PERSON").optional("name", s -> s.WHERE("NAME = #{name}"))
+        .toTemplate();
+    assertThatThrownBy(() -> template.render("id")).isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Unknown slot 'id'. Known slots are [name].");
+  }
+
+  @Test
+  void shouldRejectOptionalLimitingRows() {
+    SQL sql = new SQL().SELECT("*").FROM("PERSON");
+    assertThatThrownBy(() -> sql.optional("limit", s -> s.LIMIT(10))).isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("slot 'limit'");
+  }
+
+  private static SqlTemplate personTemplate() {
+    return SqlTemplate.of(() -> {
+      builds.incrementAndGet();
+      return new SQL().SELECT("*").FROM("PERSON");
+    });
+  }
+
+}
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2025 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -20,7 +20,9 @@ import static com.googlecode.catchexception.apis.BDDCatchException.when;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.Serializable;
@@ -31,6 +33,7 @@ import java.util.List;
 import java.util.Map.Entry;
 
 import org.apache.ibatis.reflection.invoker.Invoker;
+import org.apache.ibatis.reflection.invoker.PrimitiveSetter;
 import org.apache.ibatis.type.TypeReference;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -406,4 +409,51 @@ class ReflectorTest {
     assertEquals(Foo.class, setter.getRawType());
     assertArrayEquals(new Type[] { String.class }, setter.getActualTypeArguments());
   }
+
+  @Test
+  void shouldSetPrimitivesWithoutBoxing() throws Exception {
+    @SuppressWarnings("unused")
+    class Bean {
+      private int count;
+      private long total;
+      private double ratio;
+      private Integer boxed;
+
+      public int getCount() {
+        return count;
+      }
+
+      public void setCount(int count) {
+        this.count = count * 2;
+      }
+    }
+    ReflectorFactory reflectorFactory = new DefaultReflectorFactory();
+    Reflector reflector = reflectorFactory.findForClass(Bean.class);
+    Bean bean = new Bean();
+    reflector.getPrimitiveSetter("count").setInt(bean, 2);
+    reflector.getPrimitiveSetter("total").setLong(bean, 3L);
+    reflector.getPrimitiveSetter("ratio").setDouble(bean, 0.5d);
+    assertEquals(4, bean.count);
+    assertEquals(3L, bean.total);
+    assertEquals(0.5d, bean.ratio);
+    assertNull(reflector.getPrimitiveSetter("boxed"));
+    assertNull(reflector.getPrimitiveSetter("unknown"));
+    assertFalse(reflector.getGetInvoker("count") instanceof PrimitiveSetter);
+    assertFalse(reflector.getGetInvoker("total") instanceof PrimitiveSetter);
+  }
+
+  @Test
+  void shouldNotSetPrimitivesThroughAmbiguousSetters() {
+    @SuppressWarnings("unused")
+    class Bean {
+      public void setCount(int count) {
+      }
+
+      public void setCount(String count) {
+      }
+    }
+    ReflectorFactory reflectorFactory = new DefaultReflectorFactory();
+    Reflector reflector = reflectorFactory.findForClass(Bean.class);
+    assertNull(reflector.getPrimitiveSetter("count"));
+  }
 }
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2025 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -15,21 +15,27 @@
  */
 package org.apache.ibatis.scripting.defaults;
 
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.sql.ParameterMetaData;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 
+import org.apache.ibatis.binding.MapperMethod.ParamMap;
 import org.apache.ibatis.builder.StaticSqlSource;
 import org.apache.ibatis.domain.blog.Author;
 import org.apache.ibatis.domain.blog.Section;
@@ -306,4 +312,168 @@ class DefaultParameterHandlerTest {
 
     verify(mockConfig).newMetaObject(parameterObject);
   }
+
+  @Test
+  void parameterMetaDataIsFetchedOncePerSql() throws SQLException {
+    Configuration config = new Configuration();
+    MappedStatement mappedStatement = new MappedStatement.Builder(config, "testSelect",
+        new StaticSqlSource(config, "some select statement"), SqlCommandType.SELECT).build();
+    PreparedStatement ps = executeTwice(mappedStatement, "select * from author where id = ?");
+    PreparedStatement other = executeTwice(mappedStatement, "select * from author where id = ? and 1 = 1");
+
+    verify(ps, times(1)).getParameterMetaData();
+    verify(ps, times(2)).setInt(1, 1);
+    verify(other, times(1)).getParameterMetaData();
+  }
+
+  @Test
+  void parameterMetaDataIsFetchedOnEveryExecutionWhenCacheIsDisabled() throws SQLException {
+    Configuration config = new Configuration();
+    config.setParameterMetaDataCacheSize(0);
+    MappedStatement mappedStatement = new MappedStatement.Builder(config, "testSelect",
+        new StaticSqlSource(config, "some select statement"), SqlCommandType.SELECT).build();
+    PreparedStatement ps = executeTwice(mappedStatement, "select * from author where id = ?");
+
+    verify(ps, times(2)).getParameterMetaData();
+    verify(ps, times(2)).setInt(1, 1);
+  }
+
+  @Test
+  void parameterMetaDataIsFetchedAgainAfterFailure() throws SQLException {
+    Configuration config = new Configuration();
+    MappedStatement mappedStatement = new MappedStatement.Builder(config, "testSelect",
+        new StaticSqlSource(config, "some select statement"), SqlCommandType.SELECT).build();
+    PreparedStatement ps = mock(PreparedStatement.class);
+    ParameterMetaData pmd = mock(ParameterMetaData.class);
+    when(pmd.getParameterType(1)).thenReturn(Types.INTEGER);
+    when(ps.getParameterMetaData()).thenThrow(new SQLException("connection reset")).thenReturn(pmd);
+    for (int i = 0; i < 3; i++) {
+      BoundSql boundSql = new BoundSql(config, "select * from author where id = ?",
+          List.of(new ParameterMapping.Builder(config, "id", Object.class).build()), 1);
+      new DefaultParameterHandler(mappedStatement, 1, boundSql).setParameters(ps);
+    }
+
+    verify(ps, times(2)).getParameterMetaData();
+    verify(ps, times(3)).setInt(1, 1);
+  }
+
+  @Test
+  void unsupportedParameterMetaDataIsNotFetchedAgain() throws SQLException {
+    Configuration config = new Configuration();
+    MappedStatement mappedStatement = new MappedStatement.Builder(config, "testSelect",
+        new StaticSqlSource(config, "some select statement"), SqlCommandType.SELECT).build();
+    PreparedStatement ps = mock(PreparedStatement.class);
+    when(ps.getParameterMetaData()).thenThrow(new SQLFeatureNotSupportedException());
+    for (int i = 0; i < 2; i++) {
+      BoundSql boundSql = new BoundSql(config, "select * from author where id = ?",
+          List.of(new ParameterMapping.Builder(config, "id", Object.class).build()), 1);
+      new DefaultParameterHandler(mappedStatement, 1, boundSql).setParameters(ps);
+    }
+
+    verify(ps, times(1)).getParameterMetaData();
+    verify(ps, times(2)).setInt(1, 1);
+  }
+
+  private PreparedStatement executeTwice(MappedStatement mappedStatement, String sql) throws SQLException {
+    Configuration config = mappedStatement.getConfiguration();
+    PreparedStatement ps = mock(PreparedStatement.class);
+    ParameterMetaData pmd = mock(ParameterMetaData.class);
+    when(pmd.getParameterType(1)).thenReturn(Types.INTEGER);
+    when(ps.getParameterMetaData()).thenReturn(pmd);
+    for (int i = 0; i < 2; i++) {
+      BoundSql boundSql = new BoundSql(config, sql,
+          List.of(new ParameterMapping.Builder(config, "id", Object.class).build()), 1);
+      new DefaultParameterHandler(mappedStatement, 1, boundSql).setParameters(ps);
+    }
+    return ps;
+  }
+
+  @Test
+  void bindingPlanIsReusedForSameParameterClass() throws SQLException {
+    Configuration config = new Configuration();
+    TypeHandlerRegistry registry = config.getTypeHandlerRegistry();
+    MappedStatement mappedStatement = new MappedStatement.Builder(config, "testInsert",
+        new StaticSqlSource(config, "some insert statement"), SqlCommandType.INSERT).build();
+    String sql = "insert into author (id, username, bio) values (?, ?, ?)";
+    List<ParameterMapping> parameterMappings = List.of(
+        new ParameterMapping.Builder(config, "id", registry.getTypeHandler(int.class)).build(),
+        new ParameterMapping.Builder(config, "username", registry.getTypeHandler(String.class)).build(),
+        new ParameterMapping.Builder(config, "bio", Object.class).jdbcType(JdbcType.VARCHAR).build());
+    ParameterMetaDataCache.ParameterTypes parameterTypes = mappedStatement.getParameterMetaDataCache()
+        .getParameterTypes(sql, parameterMappings.size());
+
+    Author first = new Author(1, "jim", "******", "jim@ibatis.apache.org", "Something", Section.NEWS);
+    PreparedStatement ps = mock(PreparedStatement.class);
+    new DefaultParameterHandler(mappedStatement, first, new BoundSql(config, sql, parameterMappings, first))
+        .setParameters(ps);
+    ParameterBindingPlan bindingPlan = parameterTypes.getBindingPlan(Author.class);
+    assertNotNull(bindingPlan);
+
+    Author second = new Author(2, "sally", "******", "sally@ibatis.apache.org", null, Section.NEWS);
+    new DefaultParameterHandler(mappedStatement, second, new BoundSql(config, sql, parameterMappings, second))
+        .setParameters(ps);
+    assertSame(bindingPlan, parameterTypes.getBindingPlan(Author.class));
+
+    verify(ps).setInt(1, 1);
+    verify(ps).setString(2, "jim");
+    verify(ps).setString(3, "Something");
+    verify(ps).setInt(1, 2);
+    verify(ps).setString(2, "sally");
+    verify(ps).setNull(3, JdbcType.VARCHAR.TYPE_CODE);
+  }
+
+  @Test
+  void bindingPlanIsReplacedForOtherParameterClass() throws SQLException {
+    Configuration config = new Configuration();
+    TypeHandlerRegistry registry = config.getTypeHandlerRegistry();
+    MappedStatement mappedStatement = new MappedStatement.Builder(config, "testSelect",
+        new StaticSqlSource(config, "some select statement"), SqlCommandType.SELECT).build();
+    String sql = "select * from author where id = ?";
+    List<ParameterMapping> parameterMappings = List
+        .of(new ParameterMapping.Builder(config, "id", registry.getTypeHandler(int.class)).build());
+    ParameterMetaDataCache.ParameterTypes parameterTypes = mappedStatement.getParameterMetaDataCache()
+        .getParameterTypes(sql, parameterMappings.size());
+
+    Author author = new Author(1, "jim", "******", "jim@ibatis.apache.org", "Something", Section.NEWS);
+    PreparedStatement ps = mock(PreparedStatement.class);
+    new DefaultParameterHandler(mappedStatement, author, new BoundSql(config, sql, parameterMappings, author))
+        .setParameters(ps);
+
+    ParamMap<Object> paramMap = new ParamMap<>();
+    paramMap.put("id", 2);
+    new DefaultParameterHandler(mappedStatement, paramMap, new BoundSql(config, sql, parameterMappings, paramMap))
+        .setParameters(ps);
+    assertNull(parameterTypes.getBindingPlan(Author.class));
+    assertNotNull(parameterTypes.getBindingPlan(ParamMap.class));
+
+    verify(ps).setInt(1, 1);
+    verify(ps).setInt(1, 2);
+  }
+
+  @Test
+  void bindingPlanIsNotUsedForOtherMappingsOfSameSql() throws SQLException {
+    Configuration config = new Configuration();
+    TypeHandlerRegistry registry = config.getTypeHandlerRegistry();
+    MappedStatement mappedStatement = new MappedStatement.Builder(config, "testSelect",
+        new StaticSqlSource(config, "some select statement"), SqlCommandType.SELECT).build();
+    String sql = "select * from author where username = ?";
+    Author author = new Author(1, "jim", "******", "jim@ibatis.apache.org", "Something", Section.NEWS);
+
+    PreparedStatement ps = mock(PreparedStatement.class);
+    new DefaultParameterHandler(mappedStatement, author, new BoundSql(config, sql,
+        List.of(new ParameterMapping.Builder(config, "username", registry.getTypeHandler(String.class)).build()),
+        author)).setParameters(ps);
+    new DefaultParameterHandler(mappedStatement, author, new BoundSql(config, sql,
+        List.of(new ParameterMapping.Builder(config, "email", registry.getTypeHandler(String.class)).build()),
+        author)).setParameters(ps);
+    BoundSql boundSql = new BoundSql(config, sql,
+        List.of(new ParameterMapping.Builder(config, "username", registry.getTypeHandler(String.class)).build()),
+        author);
+    boundSql.setAdditionalParameter("username", "sally");
+    new DefaultParameterHandler(mappedStatement, author, boundSql).setParameters(ps);
+
+    verify(ps).setString(1, "jim");
+    verify(ps).setString(1, "jim@ibatis.apache.org");
+    verify(ps).setString(1, "sally");
+  }
 }
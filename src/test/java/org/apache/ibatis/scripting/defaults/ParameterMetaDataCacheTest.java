@@ -0,0 +1,58 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.scripting.defaults;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class ParameterMetaDataCacheTest {
+
+  @Test
+  void shouldReturnSameTypesForSameSql() {
+    ParameterMetaDataCache cache = new ParameterMetaDataCache(4);
+    ParameterMetaDataCache.ParameterTypes types = cache.getParameterTypes("select ?", 1);
+    assertThat(cache.getParameterTypes("select ?", 1)).isSameAs(types);
+    assertThat(cache.getParameterTypes("select ?", 2)).isNotSameAs(types);
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedSql() {
+    ParameterMetaDataCache cache = new ParameterMetaDataCache(2);
+    ParameterMetaDataCache.ParameterTypes first = cache.getParameterTypes("select 1", 0);
+    ParameterMetaDataCache.ParameterTypes second = cache.getParameterTypes("select 2", 0);
+    assertThat(cache.getParameterTypes("select 1", 0)).isSameAs(first);
+    cache.getParameterTypes("select 3", 0);
+
+    assertThat(cache.getParameterTypes("select 1", 0)).isSameAs(first);
+    assertThat(cache.getParameterTypes("select 2", 0)).isNotSameAs(second);
+  }
+
+  @Test
+  void shouldEvictInBatches() {
+    ParameterMetaDataCache cache = new ParameterMetaDataCache(8);
+    ParameterMetaDataCache.ParameterTypes[] types = new ParameterMetaDataCache.ParameterTypes[9];
+    for (int i = 0; i < types.length; i++) {
+      types[i] = cache.getParameterTypes("select " + i, 0);
+    }
+
+    // a quarter of the texts is evicted once the cache is full, the oldest first
+    for (int i = 8; i >= 0; i--) {
+      assertThat(cache.getParameterTypes("select " + i, 0) == types[i]).isEqualTo(i >= 3);
+    }
+  }
+
+}
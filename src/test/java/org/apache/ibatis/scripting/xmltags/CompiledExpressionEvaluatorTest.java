@@ -0,0 +1,120 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.scripting.xmltags;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.ibatis.builder.BuilderException;
+import org.apache.ibatis.domain.blog.Author;
+import org.apache.ibatis.domain.blog.Section;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CompiledExpressionEvaluatorTest {
+
+  private static final String[] EXPRESSIONS = { "name != null", "name != ''", "name != null and name != ''",
+      "name == 'cbegin'", "list != null and list.size() > 0", "list == null or list.isEmpty()", "!active", "not active",
+      "id > 1", "id >= 1", "id lt 2", "id <= 0", "id == 1", "status != ''", "status == 0", "flag == 'AB'",
+      "author.username != null", "author.id gt 0", "map.key == 'value'", "name.length() > 3", "id and name",
+      "id or name", "missing == null", "map.size == 1", "array.length > 0", "nothing.username == null" };
+
+  @ParameterizedTest
+  @ValueSource(strings = { "name != null", "name != ''", "list != null and list.size() > 0", "!active", "id >= 1",
+      "author.username != null", "map.key == 'value'", "name.length() > 3", "id and name" })
+  void shouldCompileCommonExpressions(String expression) {
+    assertNotNull(CompiledExpression.compile(expression));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = { "id + 1 > 2", "list[0] != null", "name.trim() != ''", "@java.lang.Math@max(id, 1) > 0",
+      "name in {'a', 'b'}", "#this != null", "id == " })
+  void shouldNotCompileOtherExpressions(String expression) {
+    assertNull(CompiledExpression.compile(expression));
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = { true, false })
+  void shouldEvaluateLikeOgnl(boolean populated) {
+    Map<String, Object> parameter = new HashMap<>();
+    if (populated) {
+      parameter.put("name", "cbegin");
+      parameter.put("list", Arrays.asList(1, 2));
+      parameter.put("active", Boolean.TRUE);
+      parameter.put("id", 1);
+      parameter.put("status", 0);
+      parameter.put("flag", "AB");
+      parameter.put("author", new Author(1, "cbegin", "******", "cbegin@apache.org", "N/A", Section.NEWS));
+      parameter.put("map", Collections.singletonMap("key", "value"));
+      parameter.put("array", new int[] { 1 });
+    } else {
+      parameter.put("name", "");
+      parameter.put("list", Collections.emptyList());
+      parameter.put("active", Boolean.FALSE);
+      parameter.put("id", 0);
+      parameter.put("status", "");
+      parameter.put("flag", "B");
+      parameter.put("author", new Author(0, null, null, null, null, null));
+      parameter.put("map", Collections.emptyMap());
+      parameter.put("array", new int[0]);
+    }
+    DynamicContext context = new DynamicContext(new Configuration(), parameter, null, null, true);
+    for (String expression : EXPRESSIONS) {
+      assertEquals(OgnlCache.getValue(expression, context.getBindings()),
+          CompiledExpressionEvaluator.INSTANCE.evaluate(expression, context.getBindings()), expression);
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = { "username != null", "id > 0", "favouriteSection == null" })
+  void shouldEvaluateBeanProperties(String expression) {
+    Author author = new Author(1, "cbegin", "******", "cbegin@apache.org", "N/A", Section.NEWS);
+    assertEquals(OgnlCache.getValue(expression, author),
+        CompiledExpressionEvaluator.INSTANCE.evaluate(expression, author));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = { "unknown != null", "username.unknown != null" })
+  void shouldReportErrorsLikeOgnl(String expression) {
+    Author root = new Author(1, "cbegin", "******", "cbegin@apache.org", "N/A", Section.NEWS);
+    BuilderException expected = assertThrows(BuilderException.class, () -> OgnlCache.getValue(expression, root));
+    BuilderException actual = assertThrows(BuilderException.class,
+        () -> CompiledExpressionEvaluator.INSTANCE.evaluateBoolean(expression, root));
+    assertEquals(expected.getMessage(), actual.getMessage());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = { "list", "array", "map" })
+  void shouldEvaluateIterables(String expression) {
+    Map<String, Object> parameter = new HashMap<>();
+    parameter.put("list", List.of(1, 2));
+    parameter.put("array", new int[] { 1, 2 });
+    parameter.put("map", Map.of("a", 1, "b", 2));
+    Iterable<?> iterable = CompiledExpressionEvaluator.INSTANCE.evaluateIterable(expression, parameter, false);
+    assertTrue(iterable.iterator().hasNext());
+  }
+
+}
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2024 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -17,17 +17,29 @@ package org.apache.ibatis.scripting.xmltags;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Type;
 
 import java.sql.Date;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.stream.IntStream;
 
+import org.apache.ibatis.builder.BuilderException;
+import org.apache.ibatis.domain.blog.Author;
+import org.apache.ibatis.domain.blog.Section;
+import org.apache.ibatis.reflection.DefaultReflectorFactory;
+import org.apache.ibatis.reflection.Reflector;
+import org.apache.ibatis.session.Configuration;
 import org.junit.jupiter.api.Test;
 
 class OgnlCacheTest {
@@ -56,4 +68,54 @@ class OgnlCacheTest {
     context.put("d2", Date.valueOf("2022-01-02"));
     assertEquals(-1, OgnlCache.getValue("d1.compareTo(d2)", context));
   }
+
+  @Test
+  void shouldReadBeanPropertiesWithReflectorsOfConfiguration() {
+    Set<Type> reflectedTypes = ConcurrentHashMap.newKeySet();
+    Configuration configuration = new Configuration();
+    configuration.setReflectorFactory(new DefaultReflectorFactory() {
+      @Override
+      public Reflector findForClass(Type type) {
+        reflectedTypes.add(type);
+        return super.findForClass(type);
+      }
+    });
+    Map<String, Object> parameter = new HashMap<>();
+    parameter.put("author", new Author(1, "cbegin", "******", "cbegin@apache.org", "N/A", Section.NEWS));
+    DynamicContext context = new DynamicContext(configuration, parameter, null, null, true);
+    assertEquals("cbegin", OgnlCache.getValue("author.username", context.getBindings()));
+    assertEquals(Boolean.TRUE,
+        CompiledExpressionEvaluator.INSTANCE.evaluate("author.username != null", context.getBindings()));
+    assertEquals(Set.of(Author.class), reflectedTypes);
+  }
+
+  @Test
+  void shouldReportExceptionsThrownByGetters() {
+    BuilderException e = assertThrows(BuilderException.class, () -> OgnlCache.getValue("failing", new Item()));
+    assertTrue(e.getMessage().contains("java.lang.IllegalStateException: failed"), e.getMessage());
+  }
+
+  @Test
+  void shouldConvertValuesWrittenToBeanProperties() {
+    Item item = new Item();
+    OgnlCache.getValue("id = \"3\"", item);
+    assertEquals(3, item.getId());
+    assertEquals(3, OgnlCache.getValue("id", item));
+  }
+
+  public static class Item {
+    private int id;
+
+    public int getId() {
+      return id;
+    }
+
+    public void setId(int id) {
+      this.id = id;
+    }
+
+    public String getFailing() {
+      throw new IllegalStateException("failed");
+    }
+  }
 }
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2025 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -19,8 +19,13 @@ package org.apache.ibatis.scripting.xmltags;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.apache.ibatis.builder.BuilderException;
+import org.apache.ibatis.mapping.BoundSql;
 import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.parsing.XNode;
 import org.apache.ibatis.parsing.XPathParser;
 import org.apache.ibatis.session.Configuration;
 import org.junit.jupiter.api.Test;
@@ -44,6 +49,63 @@ class XMLScriptBuilderTest {
         .containsPattern("(?m)^\\s*select \\* from user\\s+WHERE\\s+id = 1\\s+and id > 0\\s*$");
   }
 
+  @Test
+  void shouldFoldAdjacentStaticTexts() throws Exception {
+    String xml = "<script>select * from user where id <![CDATA[<]]> #{id}</script>";
+    XNode script = new XPathParser(xml).evalNode("/script");
+    MixedSqlNode rootSqlNode = new XMLScriptBuilder(new Configuration(), script).parseDynamicTags(script);
+    assertThat(rootSqlNode.getContents()).hasSize(1);
+    BoundSql boundSql = new DynamicSqlSource(new Configuration(), rootSqlNode).getBoundSql(1);
+    assertThat(boundSql.getSql()).isEqualTo("select * from user where id  <  ?");
+    assertThat(boundSql.getParameterMappings()).hasSize(1);
+  }
+
+  @Test
+  void shouldFoldStaticTextsWithoutSpaceInsideTrim() throws Exception {
+    String xml = "<script>select * from user<where> and id<![CDATA[<]]>#{id} </where></script>";
+    SqlSource sqlSource = new XMLScriptBuilder(new Configuration(), new XPathParser(xml).evalNode("/script"))
+        .parseScriptNode();
+    assertThat(sqlSource.getBoundSql(1).getSql()).isEqualTo("select * from user WHERE  id<?");
+  }
+
+  @Test
+  void shouldNotFoldStaticTextsIntoParameter() throws Exception {
+    String xml = "<script>select * from user<where>name = '#<![CDATA[{id}']]></where></script>";
+    BoundSql boundSql = new XMLScriptBuilder(new Configuration(), new XPathParser(xml).evalNode("/script"))
+        .parseScriptNode().getBoundSql(1);
+    assertThat(boundSql.getSql()).isEqualTo("select * from user WHERE name = '#{id}'");
+    assertThat(boundSql.getParameterMappings()).isEmpty();
+  }
+
+  @Test
+  void shouldShrinkWhitespacesWhileParsing() throws Exception {
+    String xml = """
+        <script>
+          select *
+            from user
+          <where>
+            <if test="id != null">
+              and id =  #{id}
+            </if>
+            <if test="name != null">
+              and name
+                = #{name}
+            </if>
+          </where>
+        </script>
+        """;
+    Configuration configuration = new Configuration();
+    configuration.setShrinkWhitespacesInSql(true);
+    XNode script = new XPathParser(xml).evalNode("/script");
+    MixedSqlNode rootSqlNode = new XMLScriptBuilder(configuration, script).parseDynamicTags(script);
+    assertThat(((StaticTextSqlNode) rootSqlNode.getContents().get(0)).getText()).isEqualTo("select * from user");
+    Map<String, Object> parameter = new HashMap<>();
+    parameter.put("id", 1);
+    parameter.put("name", "a");
+    assertThat(new DynamicSqlSource(configuration, rootSqlNode).getBoundSql(parameter).getSql())
+        .isEqualTo("select * from user WHERE id = ? and name = ?");
+  }
+
   @Test
   void shouldThrowIfUnknownElementFound() {
     String xml = """
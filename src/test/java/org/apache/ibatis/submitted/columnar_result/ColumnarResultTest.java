@@ -0,0 +1,135 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.columnar_result;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.Reader;
+import java.math.BigDecimal;
+
+import org.apache.ibatis.BaseDataTest;
+import org.apache.ibatis.executor.result.ColumnarResult;
+import org.apache.ibatis.executor.result.ColumnarResultHandler;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class ColumnarResultTest {
+
+  private static SqlSessionFactory sqlSessionFactory;
+
+  @BeforeAll
+  static void setUp() throws Exception {
+    try (Reader reader = Resources
+        .getResourceAsReader("org/apache/ibatis/submitted/columnar_result/mybatis-config.xml")) {
+      sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+    }
+    BaseDataTest.runScript(sqlSessionFactory.getConfiguration().getEnvironment().getDataSource(),
+        "org/apache/ibatis/submitted/columnar_result/CreateDB.sql");
+  }
+
+  @Test
+  void shouldSelectPrimitiveArrays() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      long[] ids = mapper.selectIds();
+      assertThat(ids).hasSize(5001).startsWith(1L, 2L, 3L).endsWith(5000L, 5001L);
+      assertThat(mapper.selectQuantities(new RowBounds(8, 4))).containsExactly(9, 0, 1, 2);
+      assertThat(mapper.selectAmounts(3L)).containsExactly(0.5d, 1.0d, 1.5d);
+    }
+  }
+
+  @Test
+  void shouldReadNullAsZero() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      int[] quantities = sqlSession.selectInts("org.apache.ibatis.submitted.columnar_result.Mapper.selectQuantities",
+          null, new RowBounds(4999, 10));
+      assertThat(quantities).containsExactly(0, 0);
+    }
+  }
+
+  @Test
+  void shouldNotReadNullAsZeroIntoPrimitiveArrayOfMapper() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      assertThatThrownBy(() -> mapper.selectQuantities(new RowBounds(4999, 10)))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Test
+  void shouldNotLeaveEmptyListInLocalCache() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      assertThat(sqlSession.selectLongs("org.apache.ibatis.submitted.columnar_result.Mapper.selectIds")).hasSize(5001);
+      assertThat(sqlSession.<Long> selectList("org.apache.ibatis.submitted.columnar_result.Mapper.selectIds"))
+          .hasSize(5001);
+    }
+  }
+
+  @Test
+  void shouldSelectColumns() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      ColumnarResult orders = sqlSession.getMapper(Mapper.class).selectOrders();
+      assertThat(orders.getRowCount()).isEqualTo(5001);
+      assertThat(orders.getColumnNames()).containsExactly("ID", "QTY", "AMOUNT", "CUSTOMER");
+      assertThat(orders.getColumnType(0)).isEqualTo(long.class);
+      assertThat(orders.getColumnType(1)).isEqualTo(int.class);
+      assertThat(orders.getColumnType(2)).isEqualTo(double.class);
+      assertThat(orders.getColumnType(3)).isEqualTo(Object.class);
+      assertThat(orders.getLongs("id")[4999]).isEqualTo(5000L);
+      assertThat(orders.getInts("qty")[4999]).isZero();
+      assertThat(orders.getDoubles("amount")[4999]).isEqualTo(2500.0d);
+      assertThat(orders.getObjects("customer")[4999]).isEqualTo("customer2");
+      assertThat(orders.isNull(1, 4999)).isFalse();
+      assertThat(orders.isNull(1, 5000)).isTrue();
+      assertThat(orders.isNull(3, 5000)).isTrue();
+      assertThat(orders.getObjects(1)[5000]).isNull();
+      assertThat(orders.getObjects(1)[4998]).isEqualTo(9);
+      assertThatThrownBy(() -> orders.getLongs("qty")).isInstanceOf(IllegalStateException.class);
+      assertThatThrownBy(() -> orders.getColumnIndex("unknown")).isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Test
+  void shouldSelectColumnsWithGivenTypes() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      ColumnarResultHandler handler = new ColumnarResultHandler(int.class, BigDecimal.class);
+      sqlSession.select("org.apache.ibatis.submitted.columnar_result.Mapper.selectOrders", null, new RowBounds(0, 2),
+          handler);
+      ColumnarResult orders = handler.getResult();
+      assertThat(orders.getInts(0)).containsExactly(1, 2);
+      assertThat(orders.getObjects(1)).containsExactly(BigDecimal.ONE, new BigDecimal("2"));
+      assertThat(orders.getDoubles(2)).containsExactly(0.5d, 1.0d);
+    }
+  }
+
+  @Test
+  void shouldSelectLongsFromSession() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      long[] ids = sqlSession.selectLongs("org.apache.ibatis.submitted.columnar_result.Mapper.selectIds");
+      assertThat(ids).hasSize(5001);
+      ColumnarResult orders = sqlSession.selectColumns("org.apache.ibatis.submitted.columnar_result.Mapper.selectIds",
+          null, new RowBounds(5000, 1));
+      assertThat(orders.getLongs(0)).containsExactly(5001L);
+    }
+  }
+
+}
@@ -0,0 +1,114 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.compiled_row_mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Function;
+
+import org.apache.ibatis.BaseDataTest;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class CompiledRowMapperTest {
+
+  private static SqlSessionFactory sqlSessionFactory;
+
+  @BeforeAll
+  static void setUp() throws Exception {
+    try (Reader reader = Resources
+        .getResourceAsReader("org/apache/ibatis/submitted/compiled_row_mapper/mybatis-config.xml")) {
+      sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+    }
+    BaseDataTest.runScript(sqlSessionFactory.getConfiguration().getEnvironment().getDataSource(),
+        "org/apache/ibatis/submitted/compiled_row_mapper/CreateDB.sql");
+  }
+
+  @Test
+  void shouldMapResultMapWithGeneratedMapper() {
+    List<Account> accounts = assertSameResults(Mapper::selectWithResultMap);
+    assertThat(accounts).hasSize(3);
+
+    Account alice = accounts.get(0);
+    assertThat(alice.getName()).isEqualTo("Alice");
+    assertThat(alice.getBalance()).isEqualTo(1000L);
+    assertThat(alice.getRate()).isEqualTo(new BigDecimal("1.25"));
+    assertThat(alice.getRank()).isEqualTo(1);
+    assertThat(alice.isEnabled()).isTrue();
+    assertThat(alice.getStatus()).isEqualTo(Status.ACTIVE);
+    assertThat(alice.getOpened()).isEqualTo(LocalDate.of(2024, 1, 1));
+
+    Account empty = accounts.get(1);
+    assertThat(empty.getName()).isNull();
+    assertThat(empty.getBalance()).isZero();
+    assertThat(empty.getStatus()).isNull();
+
+    Account carol = accounts.get(2);
+    assertThat(carol.isEnabled()).isFalse();
+    assertThat(carol.getStatus()).isEqualTo(Status.NEW);
+  }
+
+  @Test
+  void shouldMapAutoMappedColumnsWithGeneratedMapper() {
+    assertThat(assertSameResults(Mapper::selectWithAutoMapping)).hasSize(3);
+  }
+
+  @Test
+  void shouldMapPartialResultMapWithGeneratedMapper() {
+    List<Account> accounts = assertSameResults(Mapper::selectWithPartialResultMap);
+    assertThat(accounts).extracting(Account::getStatus).containsExactly(Status.ACTIVE, null, Status.NEW);
+  }
+
+  @Test
+  void shouldReadColumnsAtTheirPositionWhenTheSameSettersAreMappedFromAnotherLayout() {
+    List<Account> accounts = assertSameResults(Mapper::selectNameAndOpened);
+    assertThat(accounts).extracting(Account::getName).containsExactly("Alice", null, "Carol");
+
+    accounts = assertSameResults(Mapper::selectNameAndOpenedAfterOtherColumns);
+    assertThat(accounts).extracting(Account::getName).containsExactly("Alice", null, "Carol");
+    assertThat(accounts).extracting(Account::getOpened).containsExactly(LocalDate.of(2024, 1, 1), null,
+        LocalDate.of(2024, 3, 1));
+    assertThat(accounts).extracting(Account::getBalance).containsOnly(0L);
+  }
+
+  private List<Account> assertSameResults(Function<Mapper, List<Account>> query) {
+    List<Account> expected;
+    List<Account> actual;
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      sqlSession.getConfiguration().setUseCompiledRowMappers(false);
+      expected = query.apply(sqlSession.getMapper(Mapper.class));
+    }
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      sqlSession.getConfiguration().setUseCompiledRowMappers(true);
+      actual = query.apply(sqlSession.getMapper(Mapper.class));
+    } finally {
+      sqlSessionFactory.getConfiguration().setUseCompiledRowMappers(false);
+    }
+    assertThat(actual).isEqualTo(expected);
+    assertThat(expected.get(0).getMappedBy()).doesNotContain("$$MyBatisRowMapper$");
+    assertThat(actual.get(0).getMappedBy()).contains("$$MyBatisRowMapper$");
+    return actual;
+  }
+
+}
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2024 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -20,6 +20,7 @@ import java.util.Iterator;
 
 import org.apache.ibatis.BaseDataTest;
 import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.executor.ExecutorException;
 import org.apache.ibatis.io.Resources;
 import org.apache.ibatis.session.RowBounds;
 import org.apache.ibatis.session.SqlSession;
@@ -106,4 +107,52 @@ class CursorNestedTest {
       Assertions.assertTrue(usersCursor.isConsumed());
     }
   }
+
+  @Test
+  void shouldStreamOrderedResultsWithOrderCheck() {
+    sqlSessionFactory.getConfiguration().setResultOrderedCheckSize(1);
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      Cursor<User> usersCursor = mapper.getAllUsers();
+      int count = 0;
+      for (User user : usersCursor) {
+        Assertions.assertEquals("User" + ++count, user.getName());
+      }
+      Assertions.assertEquals(4, count);
+    } finally {
+      sqlSessionFactory.getConfiguration().setResultOrderedCheckSize(null);
+    }
+  }
+
+  @Test
+  void shouldFailFastWhenResultsAreNotOrdered() {
+    sqlSessionFactory.getConfiguration().setResultOrderedCheckSize(10);
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      Cursor<User> usersCursor = mapper.getAllUsersOrderedByGroup();
+      Iterator<User> iterator = usersCursor.iterator();
+      ExecutorException e = Assertions.assertThrows(ExecutorException.class, () -> {
+        while (iterator.hasNext()) {
+          iterator.next();
+        }
+      });
+      Assertions.assertTrue(e.getMessage().contains("are not ordered"));
+    } finally {
+      sqlSessionFactory.getConfiguration().setResultOrderedCheckSize(null);
+    }
+  }
+
+  @Test
+  void shouldNotCheckOrderByDefault() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      int count = 0;
+      for (User user : mapper.getAllUsersOrderedByGroup()) {
+        Assertions.assertNotNull(user.getName());
+        count++;
+      }
+      // each change of the parent row key emits a new object
+      Assertions.assertTrue(count > 4);
+    }
+  }
 }
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2022 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -15,12 +15,21 @@
  */
 package org.apache.ibatis.submitted.cursor_simple;
 
+import java.util.concurrent.Flow;
+
 import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.RowBounds;
 
 public interface AnnotationMapper {
 
   @Select("select * from users order by id")
   Cursor<User> getAllUsers();
 
+  @Select("select * from users order by id")
+  Flow.Publisher<User> getAllUsersPublisher();
+
+  @Select("select * from users order by id")
+  Flow.Publisher<User> getUsersPublisher(RowBounds rowBounds);
+
 }
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2025 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -17,12 +17,17 @@ package org.apache.ibatis.submitted.cursor_simple;
 
 import java.io.Reader;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.Flow;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.ibatis.BaseDataTest;
 import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.cursor.defaults.PrefetchingCursor;
 import org.apache.ibatis.io.Resources;
 import org.apache.ibatis.session.RowBounds;
 import org.apache.ibatis.session.SqlSession;
@@ -468,4 +473,178 @@ class CursorSimpleTest {
       Assertions.assertTrue(cursor.isConsumed());
     }
   }
+
+  @Test
+  void shouldStreamAllUsers() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      Cursor<User> usersCursor = mapper.getAllUsers();
+      List<String> names = usersCursor.stream().map(User::getName).collect(Collectors.toList());
+      Assertions.assertEquals(Arrays.asList("User1", "User2", "User3", "User4", "User5"), names);
+      Assertions.assertTrue(usersCursor.isConsumed());
+    }
+  }
+
+  @Test
+  void shouldCloseCursorWhenStreamIsClosed() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      Cursor<User> usersCursor = mapper.getAllUsers();
+      try (Stream<User> users = usersCursor.stream()) {
+        Assertions.assertEquals("User1", users.findFirst().map(User::getName).orElse(null));
+        Assertions.assertTrue(usersCursor.isOpen());
+      }
+      Assertions.assertFalse(usersCursor.isOpen());
+      Assertions.assertFalse(usersCursor.isConsumed());
+    }
+  }
+
+  @Test
+  void shouldPrefetchAllUsers() {
+    sqlSessionFactory.getConfiguration().setCursorPrefetchSize(2);
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      Cursor<User> usersCursor = mapper.getAllUsers();
+      Assertions.assertTrue(usersCursor instanceof PrefetchingCursor);
+      Assertions.assertFalse(usersCursor.isOpen());
+      Assertions.assertEquals(-1, usersCursor.getCurrentIndex());
+
+      List<String> names = new ArrayList<>();
+      for (User user : usersCursor) {
+        names.add(user.getName());
+        Assertions.assertEquals(names.size() - 1, usersCursor.getCurrentIndex());
+      }
+      Assertions.assertEquals(Arrays.asList("User1", "User2", "User3", "User4", "User5"), names);
+      Assertions.assertFalse(usersCursor.isOpen());
+      Assertions.assertTrue(usersCursor.isConsumed());
+    } finally {
+      sqlSessionFactory.getConfiguration().setCursorPrefetchSize(null);
+    }
+  }
+
+  @Test
+  void shouldPrefetchWithRowBoundsAndNullItems() {
+    sqlSessionFactory.getConfiguration().setCursorPrefetchSize(1);
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      Cursor<User> cursor = mapper.getNullUsers(new RowBounds(1, 2));
+      Iterator<User> iterator = cursor.iterator();
+
+      Assertions.assertEquals("Kate", iterator.next().getName());
+      Assertions.assertEquals(1, cursor.getCurrentIndex());
+      Assertions.assertTrue(iterator.hasNext());
+      Assertions.assertNull(iterator.next());
+      Assertions.assertEquals(2, cursor.getCurrentIndex());
+      Assertions.assertFalse(iterator.hasNext());
+      Assertions.assertTrue(cursor.isConsumed());
+    } finally {
+      sqlSessionFactory.getConfiguration().setCursorPrefetchSize(null);
+    }
+  }
+
+  @Test
+  void shouldClosePrefetchingCursorOnEarlyTermination() {
+    sqlSessionFactory.getConfiguration().setCursorPrefetchSize(1);
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      Cursor<User> usersCursor = mapper.getAllUsers();
+      try (Stream<User> users = usersCursor.stream()) {
+        Assertions.assertEquals(Arrays.asList("User1", "User2"),
+            users.limit(2).map(User::getName).collect(Collectors.toList()));
+      }
+      Assertions.assertFalse(usersCursor.isOpen());
+      Assertions.assertFalse(usersCursor.isConsumed());
+
+      // the session is still usable once the cursor has been closed
+      Assertions.assertEquals(5, mapper.getAllUsers().stream().count());
+    } finally {
+      sqlSessionFactory.getConfiguration().setCursorPrefetchSize(null);
+    }
+  }
+
+  @Test
+  void shouldPublishUsersOnDemand() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      if (!sqlSession.getConfiguration().hasMapper(AnnotationMapper.class)) {
+        sqlSession.getConfiguration().addMapper(AnnotationMapper.class);
+      }
+      AnnotationMapper mapper = sqlSession.getMapper(AnnotationMapper.class);
+      Flow.Publisher<User> publisher = mapper.getAllUsersPublisher();
+      RecordingSubscriber<User> subscriber = new RecordingSubscriber<>();
+      publisher.subscribe(subscriber);
+      Assertions.assertTrue(subscriber.items.isEmpty());
+
+      subscriber.subscription.request(2);
+      Assertions.assertEquals(Arrays.asList("User1", "User2"),
+          subscriber.items.stream().map(User::getName).collect(Collectors.toList()));
+      Assertions.assertFalse(subscriber.completed);
+
+      subscriber.subscription.request(Long.MAX_VALUE);
+      Assertions.assertEquals(Arrays.asList("User1", "User2", "User3", "User4", "User5"),
+          subscriber.items.stream().map(User::getName).collect(Collectors.toList()));
+      Assertions.assertTrue(subscriber.completed);
+      Assertions.assertNull(subscriber.error);
+    }
+  }
+
+  @Test
+  void shouldPublishUsersWithRowBounds() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      if (!sqlSession.getConfiguration().hasMapper(AnnotationMapper.class)) {
+        sqlSession.getConfiguration().addMapper(AnnotationMapper.class);
+      }
+      AnnotationMapper mapper = sqlSession.getMapper(AnnotationMapper.class);
+      RecordingSubscriber<User> subscriber = new RecordingSubscriber<>();
+      mapper.getUsersPublisher(new RowBounds(1, 2)).subscribe(subscriber);
+      subscriber.subscription.request(10);
+      Assertions.assertEquals(Arrays.asList("User2", "User3"),
+          subscriber.items.stream().map(User::getName).collect(Collectors.toList()));
+      Assertions.assertTrue(subscriber.completed);
+    }
+  }
+
+  @Test
+  void shouldReleaseStatementWhenPublisherIsCancelled() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      RecordingSubscriber<User> subscriber = new RecordingSubscriber<>();
+      sqlSession.<User> selectPublisher("org.apache.ibatis.submitted.cursor_simple.Mapper.getAllUsers")
+          .subscribe(subscriber);
+      subscriber.subscription.request(1);
+      subscriber.subscription.cancel();
+      subscriber.subscription.request(1);
+      Assertions.assertEquals(1, subscriber.items.size());
+      Assertions.assertFalse(subscriber.completed);
+
+      // the session is still usable once the publisher has been cancelled
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      Assertions.assertEquals(5, mapper.getAllUsers().stream().count());
+    }
+  }
+
+  private static class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+    private final List<T> items = new ArrayList<>();
+    private Flow.Subscription subscription;
+    private Throwable error;
+    private boolean completed;
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(T item) {
+      items.add(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      this.error = throwable;
+    }
+
+    @Override
+    public void onComplete() {
+      this.completed = true;
+    }
+  }
 }
@@ -0,0 +1,87 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.foreach_bucketing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.Reader;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.ibatis.BaseDataTest;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.scripting.xmltags.DynamicSqlSource;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class ForEachBucketingTest {
+
+  private static SqlSessionFactory sqlSessionFactory;
+
+  @BeforeAll
+  static void setUp() throws Exception {
+    try (Reader reader = Resources
+        .getResourceAsReader("org/apache/ibatis/submitted/foreach_bucketing/mybatis-config.xml")) {
+      sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+    }
+    BaseDataTest.runScript(sqlSessionFactory.getConfiguration().getEnvironment().getDataSource(),
+        "org/apache/ibatis/submitted/foreach_bucketing/CreateDB.sql");
+  }
+
+  @Test
+  void shouldPadAndChunkItems() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      for (int size = 1; size <= 10; size++) {
+        List<Integer> ids = ids(size);
+        assertThat(mapper.selectIdsPadded(ids)).isEqualTo(ids);
+        assertThat(mapper.selectIds(ids)).isEqualTo(ids);
+      }
+    }
+    // 1, 2, 4 items in one chunk, then 4 + 1, 2, 4 and 8 + 1, 2
+    assertThat(getSqlVariantCount("selectIdsPadded")).isEqualTo(8);
+    assertThat(getSqlVariantCount("selectIds")).isEqualTo(10);
+  }
+
+  @Test
+  void shouldPadItemsWithNulls() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      for (int size = 1; size <= 12; size++) {
+        List<Integer> ids = ids(size);
+        assertThat(mapper.selectNamesNullPadded(ids))
+            .isEqualTo(ids.stream().map(id -> "item" + id).collect(Collectors.toList()));
+      }
+    }
+    // 5, 10 and 20 items
+    assertThat(getSqlVariantCount("selectNamesNullPadded")).isEqualTo(3);
+  }
+
+  private static List<Integer> ids(int size) {
+    return IntStream.rangeClosed(1, size).boxed().collect(Collectors.toList());
+  }
+
+  private static int getSqlVariantCount(String statement) {
+    return ((DynamicSqlSource) sqlSessionFactory.getConfiguration()
+        .getMappedStatement("org.apache.ibatis.submitted.foreach_bucketing.Mapper." + statement).getSqlSource())
+        .getSqlVariantCount();
+  }
+
+}
@@ -0,0 +1,73 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.parallel_mapping;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Result;
+import org.apache.ibatis.annotations.ResultMap;
+import org.apache.ibatis.annotations.Results;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+public interface Mapper {
+
+  List<Item> selectAll();
+
+  List<Item> selectAllInParallel();
+
+  List<Item> selectAllInParallelWithAutoMapping();
+
+  @Select("select * from items order by id")
+  @ResultMap("itemResult")
+  @Options(parallelMapping = true)
+  List<Item> selectInParallel(RowBounds rowBounds);
+
+  @Select("select * from items order by id")
+  @ResultMap("itemResult")
+  @Options(parallelMapping = true)
+  void selectInParallelWithHandler(ResultHandler<Item> handler);
+
+  @Select("select * from events order by id")
+  @Results(id = "eventResult", value = { @Result(column = "id", property = "id", id = true),
+      @Result(column = "code", property = "code", typeHandler = UuidTypeHandler.class),
+      @Result(column = "created", property = "created", typeHandler = TokyoTimestampTypeHandler.class) })
+  List<Event> selectEvents();
+
+  @Select("select * from events order by id")
+  @ResultMap("eventResult")
+  @Options(parallelMapping = true)
+  List<Event> selectEventsInParallel();
+
+  @Select("select * from items order by id")
+  @Results({ @Result(column = "id", property = "id", id = true),
+      @Result(column = "name", property = "name", typeHandler = StreamedStringTypeHandler.class) })
+  @Options(parallelMapping = true)
+  List<Item> selectWithStreamedNamesInParallel();
+
+  @Select("select * from items order by id")
+  @Results(id = "nameOrPriceResult", value = { @Result(column = "id", property = "id", id = true),
+      @Result(column = "name", property = "name", typeHandler = NameOrPriceTypeHandler.class) })
+  List<Item> selectWithNamesOrPrices();
+
+  @Select("select * from items order by id")
+  @ResultMap("nameOrPriceResult")
+  @Options(parallelMapping = true)
+  List<Item> selectWithNamesOrPricesInParallel();
+
+}
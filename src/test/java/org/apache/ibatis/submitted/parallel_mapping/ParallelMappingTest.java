@@ -0,0 +1,139 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.parallel_mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.Reader;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.ibatis.BaseDataTest;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class ParallelMappingTest {
+
+  private static SqlSessionFactory sqlSessionFactory;
+
+  @BeforeAll
+  static void setUp() throws Exception {
+    try (Reader reader = Resources
+        .getResourceAsReader("org/apache/ibatis/submitted/parallel_mapping/mybatis-config.xml")) {
+      sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+    }
+    BaseDataTest.runScript(sqlSessionFactory.getConfiguration().getEnvironment().getDataSource(),
+        "org/apache/ibatis/submitted/parallel_mapping/CreateDB.sql");
+  }
+
+  @Test
+  void shouldMapRowsInParallelInOrder() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      assertThat(sqlSession.getConfiguration()
+          .getMappedStatement("org.apache.ibatis.submitted.parallel_mapping.Mapper.selectAllInParallel")
+          .isParallelMapping()).isTrue();
+      List<Item> expected = mapper.selectAll();
+      assertThat(expected).hasSize(2000);
+      assertThat(expected.get(6).getName()).isNull();
+
+      sqlSession.clearCache();
+      assertThat(mapper.selectAllInParallel()).isEqualTo(expected);
+      sqlSession.clearCache();
+      assertThat(mapper.selectAllInParallelWithAutoMapping()).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  void shouldApplyRowBounds() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      List<Item> items = mapper.selectInParallel(new RowBounds(250, 300));
+      assertThat(items).hasSize(300);
+      assertThat(items.get(0).getId()).isEqualTo(251);
+      assertThat(items.get(299).getId()).isEqualTo(550);
+    }
+  }
+
+  @Test
+  void shouldStopWhenResultHandlerStops() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      List<Integer> ids = new ArrayList<>();
+      mapper.selectInParallelWithHandler(context -> {
+        ids.add(context.getResultObject().getId());
+        if (ids.size() == 600) {
+          context.stop();
+        }
+      });
+      assertThat(ids).hasSize(600);
+      assertThat(ids.get(599)).isEqualTo(600);
+    }
+  }
+
+  @Test
+  void shouldReadValuesWithGettersOfTypeHandlers() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      List<Event> expected = mapper.selectEvents();
+      assertThat(expected).hasSize(500);
+      assertThat(expected.get(0).getCode()).isNotNull();
+      // the calendar of the type handler applies
+      assertThat(expected.get(0).getCreated()).isEqualTo(LocalDateTime.of(2024, 1, 1, 10, 1)
+          .atZone(TokyoTimestampTypeHandler.TOKYO.toZoneId()).withZoneSameInstant(ZoneId.systemDefault())
+          .toLocalDateTime());
+
+      TokyoTimestampTypeHandler.threads.clear();
+      assertThat(mapper.selectEventsInParallel()).isEqualTo(expected);
+      assertThat(TokyoTimestampTypeHandler.threads).anyMatch(name -> name.contains("ForkJoinPool"));
+    }
+  }
+
+  @Test
+  void shouldMapRowsOnReadingThreadWhenValuesCannotBeReadAhead() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      List<Item> items = mapper.selectWithStreamedNamesInParallel();
+      assertThat(items).hasSize(2000);
+      assertThat(items.get(0).getName()).isEqualTo("Item1");
+      assertThat(items.get(6).getName()).isNull();
+      assertThat(items.get(1999).getName()).isEqualTo("Item2000");
+    }
+  }
+
+  @Test
+  void shouldMapRowsThatAreReadWithOtherGettersThanTheFirstRow() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      List<Item> expected = mapper.selectWithNamesOrPrices();
+      assertThat(expected).hasSize(2000);
+      assertThat(expected.get(0).getName()).isEqualTo("Item1");
+      assertThat(expected.get(6).getName()).isEqualTo("Item priced 8.75");
+      assertThat(expected.get(13).getName()).startsWith("Item priced 17.50 since 2024-01-01 10:14");
+
+      sqlSession.clearCache();
+      assertThat(mapper.selectWithNamesOrPricesInParallel()).isEqualTo(expected);
+    }
+  }
+
+}
@@ -0,0 +1,65 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.parallel_mapping;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Calendar;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+
+/**
+ * Reads timestamps stored in Tokyo time, and records the threads that read them.
+ */
+public class TokyoTimestampTypeHandler extends BaseTypeHandler<LocalDateTime> {
+
+  static final TimeZone TOKYO = TimeZone.getTimeZone("Asia/Tokyo");
+  static final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+  @Override
+  public void setNonNullParameter(PreparedStatement ps, int i, LocalDateTime parameter, JdbcType jdbcType)
+      throws SQLException {
+    ps.setTimestamp(i, Timestamp.valueOf(parameter), Calendar.getInstance(TOKYO));
+  }
+
+  @Override
+  public LocalDateTime getNullableResult(ResultSet rs, String columnName) throws SQLException {
+    return toLocalDateTime(rs.getTimestamp(columnName, Calendar.getInstance(TOKYO)));
+  }
+
+  @Override
+  public LocalDateTime getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+    return toLocalDateTime(rs.getTimestamp(columnIndex, Calendar.getInstance(TOKYO)));
+  }
+
+  @Override
+  public LocalDateTime getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+    return toLocalDateTime(cs.getTimestamp(columnIndex, Calendar.getInstance(TOKYO)));
+  }
+
+  private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+    threads.add(Thread.currentThread().getName());
+    return timestamp == null ? null : timestamp.toLocalDateTime();
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.primitive_result_reader;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.ibatis.type.IntegerTypeHandler;
+
+public class CountingIntegerTypeHandler extends IntegerTypeHandler {
+
+  static final AtomicInteger primitiveReads = new AtomicInteger();
+
+  @Override
+  public int getIntResult(ResultSet rs, int columnIndex) throws SQLException {
+    primitiveReads.incrementAndGet();
+    return super.getIntResult(rs, columnIndex);
+  }
+
+  @Override
+  public int getIntResult(ResultSet rs, String columnName) throws SQLException {
+    primitiveReads.incrementAndGet();
+    return super.getIntResult(rs, columnName);
+  }
+}
@@ -0,0 +1,36 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.primitive_result_reader;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Result;
+import org.apache.ibatis.annotations.Results;
+import org.apache.ibatis.annotations.Select;
+
+public interface Mapper {
+
+  @Select("select id, cnt, total, ratio from measures order by id")
+  List<Measure> getMeasures();
+
+  @Select("select id, 'many' as cnt from measures order by id")
+  List<Measure> getMeasuresWithTextCount();
+
+  @Results({ @Result(property = "doubled", column = "cnt", typeHandler = DoublingIntegerTypeHandler.class) })
+  @Select("select id, cnt from measures order by id")
+  List<Measure> getDoubledMeasures();
+
+}
@@ -0,0 +1,91 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.primitive_result_reader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.Reader;
+import java.util.List;
+
+import org.apache.ibatis.BaseDataTest;
+import org.apache.ibatis.executor.result.ResultMapException;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class PrimitiveResultReaderTest {
+
+  private static SqlSessionFactory sqlSessionFactory;
+
+  @BeforeAll
+  static void setUp() throws Exception {
+    try (Reader reader = Resources
+        .getResourceAsReader("org/apache/ibatis/submitted/primitive_result_reader/mybatis-config.xml")) {
+      sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+    }
+    BaseDataTest.runScript(sqlSessionFactory.getConfiguration().getEnvironment().getDataSource(),
+        "org/apache/ibatis/submitted/primitive_result_reader/CreateDB.sql");
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = { false, true })
+  void shouldReadPrimitivesWithoutBoxing(boolean useCompiledRowMappers) {
+    sqlSessionFactory.getConfiguration().setUseCompiledRowMappers(useCompiledRowMappers);
+    CountingIntegerTypeHandler.primitiveReads.set(0);
+    List<Measure> measures;
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      measures = sqlSession.getMapper(Mapper.class).getMeasures();
+    } finally {
+      sqlSessionFactory.getConfiguration().setUseCompiledRowMappers(false);
+    }
+    assertThat(measures).extracting(Measure::getCnt).containsExactly(10, -1, 0);
+    assertThat(measures).extracting(Measure::getTotal).containsExactly(100L, -1L, 0L);
+    assertThat(measures).extracting(Measure::getRatio).containsExactly(0.5d, -1.0d, 0.0d);
+    assertThat(CountingIntegerTypeHandler.primitiveReads).hasValue(3);
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = { false, true })
+  void shouldNotReadPrimitivesWithHandlerOverridingResults(boolean useCompiledRowMappers) {
+    sqlSessionFactory.getConfiguration().setUseCompiledRowMappers(useCompiledRowMappers);
+    List<Measure> measures;
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      measures = sqlSession.getMapper(Mapper.class).getDoubledMeasures();
+    } finally {
+      sqlSessionFactory.getConfiguration().setUseCompiledRowMappers(false);
+    }
+    assertThat(measures).extracting(Measure::getDoubled).containsExactly(20, -1, 0);
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = { false, true })
+  void shouldReportTheColumnOfAFailedPrimitiveRead(boolean useCompiledRowMappers) {
+    sqlSessionFactory.getConfiguration().setUseCompiledRowMappers(useCompiledRowMappers);
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      assertThatThrownBy(mapper::getMeasuresWithTextCount).cause().isInstanceOf(ResultMapException.class)
+          .hasMessageStartingWith("Error attempting to get column #2 from result set.");
+    } finally {
+      sqlSessionFactory.getConfiguration().setUseCompiledRowMappers(false);
+    }
+  }
+
+}
@@ -0,0 +1,48 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.result_memory_budget;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Select;
+
+public interface Mapper {
+
+  @Select("select id, customer from orders order by id")
+  List<Order> selectOrders();
+
+  @Select("select id, customer from orders order by id")
+  @Options(resultMemoryBudget = 0)
+  List<Order> selectOrdersWithoutBudget();
+
+  @Select("select id, customer from orders where id <= 10 order by id")
+  List<Order> selectFewOrders();
+
+  @Select("select customer as name from orders order by id")
+  List<Customer> selectCustomers();
+
+  List<Order> selectOrdersWithSmallBudget();
+
+  List<Order> selectOrdersWithLines();
+
+  List<Order> selectOneOrderWithAllLines();
+
+  @Select("select case when id < 900 then cast(id as varchar(10)) else 'none' end as id, customer from orders"
+      + " order by id")
+  List<Order> selectOrdersFailingAfterSpill();
+
+}
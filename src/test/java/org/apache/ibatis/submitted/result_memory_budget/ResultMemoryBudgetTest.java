@@ -0,0 +1,174 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.result_memory_budget;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.apache.ibatis.BaseDataTest;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.executor.result.SpilledResultList;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultBudgetExceededBehavior;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class ResultMemoryBudgetTest {
+
+  private static SqlSessionFactory sqlSessionFactory;
+
+  @BeforeAll
+  static void setUp() throws Exception {
+    try (Reader reader = Resources
+        .getResourceAsReader("org/apache/ibatis/submitted/result_memory_budget/mybatis-config.xml")) {
+      sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+    }
+    BaseDataTest.runScript(sqlSessionFactory.getConfiguration().getEnvironment().getDataSource(),
+        "org/apache/ibatis/submitted/result_memory_budget/CreateDB.sql");
+  }
+
+  @AfterEach
+  void restoreBehavior() {
+    sqlSessionFactory.getConfiguration().setResultBudgetExceededBehavior(ResultBudgetExceededBehavior.SPILL);
+  }
+
+  @Test
+  void shouldSpillResultsExceedingBudget() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      List<Order> spilled = mapper.selectOrders();
+      List<Order> inMemory = mapper.selectOrdersWithoutBudget();
+      assertThat(spilled).isInstanceOf(SpilledResultList.class).hasSize(1000);
+      assertThat(inMemory).isInstanceOf(ArrayList.class).hasSize(1000);
+      for (int i = 0; i < inMemory.size(); i++) {
+        Order order = spilled.get(i);
+        assertThat(order.getId()).isEqualTo(inMemory.get(i).getId());
+        assertThat(order.getCustomer()).isEqualTo(inMemory.get(i).getCustomer());
+      }
+      assertThat(spilled.get(999).getCustomer()).isEqualTo("customer1000");
+      assertThatThrownBy(() -> spilled.add(new Order())).isInstanceOf(UnsupportedOperationException.class);
+    }
+  }
+
+  @Test
+  void shouldNotPutSpilledResultsInSecondLevelCache() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      CachedMapper mapper = sqlSession.getMapper(CachedMapper.class);
+      assertThat(mapper.selectOrders()).isInstanceOf(SpilledResultList.class);
+      assertThat(mapper.selectFewOrders()).isInstanceOf(ArrayList.class);
+    }
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      CachedMapper mapper = sqlSession.getMapper(CachedMapper.class);
+      // queried again rather than read from the cache as an ArrayList
+      List<Order> spilled = mapper.selectOrders();
+      assertThat(spilled).isInstanceOf(SpilledResultList.class).hasSize(1000);
+      // each access reads a new copy of the row
+      assertThat(spilled.get(0)).isNotSameAs(spilled.get(0));
+      assertThat(mapper.selectFewOrders()).hasSize(10);
+    }
+  }
+
+  @Test
+  void shouldKeepResultsWithinBudgetInMemory() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      List<Order> orders = sqlSession.getMapper(Mapper.class).selectFewOrders();
+      assertThat(orders).isInstanceOf(ArrayList.class).hasSize(10);
+    }
+  }
+
+  @Test
+  void shouldFailWhenBudgetIsExceeded() {
+    Configuration configuration = sqlSessionFactory.getConfiguration();
+    configuration.setResultBudgetExceededBehavior(ResultBudgetExceededBehavior.FAIL);
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      assertThatThrownBy(mapper::selectOrdersWithSmallBudget).isInstanceOf(PersistenceException.class)
+          .hasMessageContaining("The results of statement '" + Mapper.class.getName()
+              + ".selectOrdersWithSmallBudget' exceed the result memory budget of 2000 bytes");
+      assertThat(mapper.selectOrdersWithoutBudget()).hasSize(1000);
+    }
+  }
+
+  @Test
+  void shouldFailToSpillNonSerializableResults() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      assertThatThrownBy(mapper::selectCustomers).isInstanceOf(PersistenceException.class)
+          .hasMessageContaining(Customer.class.getName() + " is not serializable");
+    }
+  }
+
+  @Test
+  void shouldFailToSpillNestedResults() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      assertThatThrownBy(mapper::selectOrdersWithLines).isInstanceOf(PersistenceException.class)
+          .hasMessageContaining("cannot be spilled to disk because the result map has nested result maps");
+    }
+  }
+
+  @Test
+  void shouldEstimateNestedResultsOnceFilled() {
+    Configuration configuration = sqlSessionFactory.getConfiguration();
+    configuration.setResultBudgetExceededBehavior(ResultBudgetExceededBehavior.FAIL);
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      assertThatThrownBy(mapper::selectOneOrderWithAllLines).isInstanceOf(PersistenceException.class)
+          .hasMessageContaining("exceed the result memory budget of 10000 bytes after 1 rows");
+    }
+  }
+
+  @Test
+  void shouldDeleteSpillFileWhenMappingFails() throws IOException {
+    long openSpillFiles = countOpenSpillFiles();
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      assertThatThrownBy(mapper::selectOrdersFailingAfterSpill).isInstanceOf(PersistenceException.class)
+          .hasMessageContaining("Error attempting to get column");
+    }
+    assertThat(countOpenSpillFiles()).isEqualTo(openSpillFiles);
+  }
+
+  private static long countOpenSpillFiles() throws IOException {
+    Path fds = Paths.get("/proc/self/fd");
+    assumeTrue(Files.isDirectory(fds), "needs /proc to list open files");
+    try (Stream<Path> files = Files.list(fds)) {
+      return files.filter(fd -> {
+        try {
+          return Files.readSymbolicLink(fd).toString().contains("mybatis-results");
+        } catch (IOException e) {
+          return false;
+        }
+      }).count();
+    }
+  }
+
+}
@@ -0,0 +1,201 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.result_set_layout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.Reader;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.apache.ibatis.BaseDataTest;
+import org.apache.ibatis.executor.resultset.ResultSetLayoutCache;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ResultSetLayoutCacheTest {
+
+  private static SqlSessionFactory sqlSessionFactory;
+
+  @BeforeAll
+  static void setUp() throws Exception {
+    try (Reader reader = Resources
+        .getResourceAsReader("org/apache/ibatis/submitted/result_set_layout/mybatis-config.xml")) {
+      sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+    }
+    BaseDataTest.runScript(sqlSessionFactory.getConfiguration().getEnvironment().getDataSource(),
+        "org/apache/ibatis/submitted/result_set_layout/CreateDB.sql");
+  }
+
+  @BeforeEach
+  void resetCache() {
+    sqlSessionFactory.getConfiguration().setResultSetLayoutCacheSize(256);
+  }
+
+  @Test
+  void shouldReuseLayoutAcrossExecutions() {
+    ResultSetLayoutCache layoutCache = sqlSessionFactory.getConfiguration().getResultSetLayoutCache();
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      assertUsers(sqlSession.getMapper(Mapper.class).getUsers());
+    }
+    assertThat(layoutCache.size()).isEqualTo(1);
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      assertUsers(sqlSession.getMapper(Mapper.class).getUsers());
+    }
+    assertThat(layoutCache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldCacheLayoutPerColumns() {
+    ResultSetLayoutCache layoutCache = sqlSessionFactory.getConfiguration().getResultSetLayoutCache();
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      assertUsers(mapper.getUsersWithColumns("id, name, user_role"));
+      List<User> users = mapper.getUsersWithColumns("id, user_role as name");
+      assertThat(users).extracting(User::getName).containsExactly("admin", null);
+      assertThat(users).extracting(User::getUserRole).containsOnlyNulls();
+    }
+    assertThat(layoutCache.size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldNotShareLayoutAcrossSettings() {
+    Configuration configuration = sqlSessionFactory.getConfiguration();
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      assertUsers(sqlSession.getMapper(Mapper.class).getUsers());
+      sqlSession.clearCache();
+      configuration.setMapUnderscoreToCamelCase(false);
+      List<User> users = sqlSession.getMapper(Mapper.class).getUsers();
+      assertThat(users).extracting(User::getUserRole).containsOnlyNulls();
+    } finally {
+      configuration.setMapUnderscoreToCamelCase(true);
+    }
+    assertThat(configuration.getResultSetLayoutCache().size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedLayouts() {
+    sqlSessionFactory.getConfiguration().setResultSetLayoutCacheSize(2);
+    ResultSetLayoutCache layoutCache = sqlSessionFactory.getConfiguration().getResultSetLayoutCache();
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      mapper.getUsersWithColumns("id");
+      mapper.getUsersWithColumns("id, name");
+      mapper.getUsersWithColumns("id, name, user_role");
+      assertThat(layoutCache.size()).isEqualTo(2);
+      assertUsers(mapper.getUsersWithColumns("id, name, user_role"));
+    }
+    assertThat(layoutCache.size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedQuarterAtOnce() {
+    sqlSessionFactory.getConfiguration().setResultSetLayoutCacheSize(8);
+    ResultSetLayoutCache layoutCache = sqlSessionFactory.getConfiguration().getResultSetLayoutCache();
+    String[] columns = { "id", "name", "user_role", "id, name", "name, id", "id, user_role", "user_role, id",
+        "name, user_role", "user_role, name" };
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      for (int i = 0; i < 8; i++) {
+        mapper.getUsersWithColumns(columns[i]);
+      }
+      assertThat(layoutCache.size()).isEqualTo(8);
+      mapper.getUsersWithColumns(columns[8]);
+      assertThat(layoutCache.size()).isEqualTo(6);
+      sqlSession.clearCache();
+      mapper.getUsersWithColumns(columns[0]);
+      assertThat(layoutCache.size()).isEqualTo(7);
+      // the layouts kept are used again
+      sqlSession.clearCache();
+      mapper.getUsersWithColumns(columns[8]);
+      mapper.getUsersWithColumns(columns[3]);
+      assertThat(layoutCache.size()).isEqualTo(7);
+    }
+  }
+
+  @Test
+  void shouldPickUpTypeHandlersRegisteredAfterExecution() throws Exception {
+    SqlSessionFactory factory;
+    try (Reader reader = Resources
+        .getResourceAsReader("org/apache/ibatis/submitted/result_set_layout/mybatis-config.xml")) {
+      factory = new SqlSessionFactoryBuilder().build(reader);
+    }
+    try (SqlSession sqlSession = factory.openSession()) {
+      assertUsers(sqlSession.getMapper(Mapper.class).getUsers());
+    }
+    factory.getConfiguration().getTypeHandlerRegistry().register(String.class, JdbcType.VARCHAR,
+        new UpperCaseTypeHandler());
+    try (SqlSession sqlSession = factory.openSession()) {
+      List<User> users = sqlSession.getMapper(Mapper.class).getUsers();
+      assertThat(users).extracting(User::getName).containsExactly("USER1", "USER2");
+    }
+    assertThat(factory.getConfiguration().getResultSetLayoutCache().size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldMapWithoutCache() {
+    sqlSessionFactory.getConfiguration().setResultSetLayoutCacheSize(0);
+    assertThat(sqlSessionFactory.getConfiguration().getResultSetLayoutCache()).isNull();
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      assertUsers(sqlSession.getMapper(Mapper.class).getUsers());
+    }
+  }
+
+  private void assertUsers(List<User> users) {
+    assertThat(users).extracting(User::getId).containsExactly(1, 2);
+    assertThat(users).extracting(User::getName).containsExactly("User1", "User2");
+    assertThat(users).extracting(User::getUserRole).containsExactly("admin", null);
+  }
+
+  public static class UpperCaseTypeHandler extends BaseTypeHandler<String> {
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, String parameter, JdbcType jdbcType)
+        throws SQLException {
+      ps.setString(i, parameter);
+    }
+
+    @Override
+    public String getNullableResult(ResultSet rs, String columnName) throws SQLException {
+      String value = rs.getString(columnName);
+      return value == null ? null : value.toUpperCase();
+    }
+
+    @Override
+    public String getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+      String value = rs.getString(columnIndex);
+      return value == null ? null : value.toUpperCase();
+    }
+
+    @Override
+    public String getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+      String value = cs.getString(columnIndex);
+      return value == null ? null : value.toUpperCase();
+    }
+  }
+
+}
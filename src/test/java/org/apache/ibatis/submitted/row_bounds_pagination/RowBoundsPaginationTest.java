@@ -0,0 +1,193 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.row_bounds_pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.Reader;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.ibatis.BaseDataTest;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.PaginationDialect;
+import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RowBoundsPaginationTest {
+
+  private static SqlSessionFactory sqlSessionFactory;
+  private static final List<String> executedSqls = new ArrayList<>();
+
+  @BeforeAll
+  static void setUp() throws Exception {
+    try (Reader reader = Resources
+        .getResourceAsReader("org/apache/ibatis/submitted/row_bounds_pagination/mybatis-config.xml")) {
+      sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+    }
+    sqlSessionFactory.getConfiguration().addInterceptor(new SqlRecorder());
+    BaseDataTest.runScript(sqlSessionFactory.getConfiguration().getEnvironment().getDataSource(),
+        "org/apache/ibatis/submitted/row_bounds_pagination/CreateDB.sql");
+  }
+
+  @BeforeEach
+  void resetDialect() {
+    sqlSessionFactory.getConfiguration().setPaginationDialect(PaginationDialect.AUTO);
+    executedSqls.clear();
+  }
+
+  @Test
+  void shouldResolveDialectFromDatabaseId() {
+    assertThat(sqlSessionFactory.getConfiguration().getDatabaseId()).isEqualTo("hsqldb");
+    assertThat(selectIds(5, new RowBounds(3, 4))).isEqualTo(ids(9, 12));
+    assertThat(executedSqls).containsExactly("select id from items where id > ? order by id LIMIT ? OFFSET ?");
+  }
+
+  @Test
+  void shouldApplyOffsetOrLimitOnly() {
+    assertThat(selectIds(5, new RowBounds(12, RowBounds.NO_ROW_LIMIT))).isEqualTo(ids(18, 20));
+    assertThat(selectIds(5, new RowBounds(0, 2))).isEqualTo(ids(6, 7));
+    assertThat(selectIds(5, new RowBounds(20, 5))).isEmpty();
+    assertThat(executedSqls).containsExactly(
+        "select id from items where id > ? order by id LIMIT ? OFFSET ?",
+        "select id from items where id > ? order by id LIMIT ?",
+        "select id from items where id > ? order by id LIMIT ? OFFSET ?");
+  }
+
+  @Test
+  void shouldFetchNextRows() {
+    sqlSessionFactory.getConfiguration().setPaginationDialect(PaginationDialect.OFFSET_FETCH);
+    assertThat(selectIds(0, new RowBounds(10, 5))).isEqualTo(ids(11, 15));
+    assertThat(selectIds(0, new RowBounds(15, RowBounds.NO_ROW_LIMIT))).isEqualTo(ids(16, 20));
+    assertThat(executedSqls).containsExactly(
+        "select id from items where id > ? order by id OFFSET ? ROWS FETCH NEXT ? ROWS ONLY",
+        "select id from items where id > ? order by id OFFSET ? ROWS");
+  }
+
+  @Test
+  void shouldSkipRowsOnClientWithoutDialect() {
+    sqlSessionFactory.getConfiguration().setPaginationDialect(PaginationDialect.NONE);
+    assertThat(selectIds(5, new RowBounds(3, 4))).isEqualTo(ids(9, 12));
+    assertThat(selectIds(5, RowBounds.DEFAULT)).isEqualTo(ids(6, 20));
+    assertThat(executedSqls).containsExactly("select id from items where id > ? order by id;",
+        "select id from items where id > ? order by id;");
+  }
+
+  @Test
+  void shouldNotRewriteStatementsWithoutRowBounds() {
+    assertThat(selectIds(5, RowBounds.DEFAULT)).isEqualTo(ids(6, 20));
+    assertThat(executedSqls).containsExactly("select id from items where id > ? order by id;");
+  }
+
+  @Test
+  void shouldWrapStatementInRownumFilters() {
+    Configuration configuration = sqlSessionFactory.getConfiguration();
+    BoundSql boundSql = new BoundSql(configuration, "select id from items order by id", new ArrayList<>(), null);
+    BoundSql firstPage = PaginationDialect.ROWNUM.paginate(configuration, boundSql, new RowBounds(0, 10));
+    assertThat(firstPage.getSql()).isEqualTo("SELECT * FROM (select id from items order by id) WHERE ROWNUM <= ?");
+    assertThat(firstPage.getParameterMappings()).extracting(mapping -> mapping.getValue()).containsExactly(10);
+    BoundSql nextPage = PaginationDialect.ROWNUM.paginate(configuration, boundSql, new RowBounds(20, 10));
+    assertThat(nextPage.getSql()).isEqualTo("SELECT * FROM (SELECT PAGINATED_.*, ROWNUM ROWNUM_ FROM"
+        + " (select id from items order by id) PAGINATED_ WHERE ROWNUM <= ?) WHERE ROWNUM_ > ?");
+    assertThat(nextPage.getParameterMappings()).extracting(mapping -> mapping.getValue()).containsExactly(30L, 20);
+  }
+
+  @Test
+  void shouldSkipRowsOnClientForStatementsLimitingRows() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      assertThat(sqlSession.getMapper(Mapper.class).selectFirstTenIds(0, new RowBounds(3, 4))).isEqualTo(ids(4, 7));
+    }
+    assertThat(executedSqls).containsExactly("select id from items where id > ? order by id limit 10");
+  }
+
+  @Test
+  void shouldNotRewriteStatementsLimitingOrLockingRows() {
+    Configuration configuration = sqlSessionFactory.getConfiguration();
+    RowBounds rowBounds = new RowBounds(10, 5);
+    for (String sql : Arrays.asList("select id from items order by id limit 10",
+        "select id from items order by id offset 5 rows fetch next 10 rows only", "select id from items for update",
+        "select id from items where id = ? for share", "select id from items lock in share mode")) {
+      BoundSql boundSql = new BoundSql(configuration, sql, new ArrayList<>(), null);
+      assertThat(PaginationDialect.LIMIT_OFFSET.paginate(configuration, boundSql, rowBounds)).as(sql).isNull();
+      assertThat(PaginationDialect.ROWNUM.paginate(configuration, boundSql, rowBounds)).as(sql).isNull();
+    }
+    for (String sql : Arrays.asList("select id from items where id in (select id from items limit 5)",
+        "select 'for update' from items", "select id \"limit\" from items -- limit\n",
+        "select id from items /* for update */")) {
+      BoundSql boundSql = new BoundSql(configuration, sql, new ArrayList<>(), null);
+      assertThat(PaginationDialect.LIMIT_OFFSET.paginate(configuration, boundSql, rowBounds)).as(sql).isNotNull();
+    }
+  }
+
+  @Test
+  void shouldNotRewriteStatementsWithNestedResultMaps() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      List<Item> items = sqlSession.getMapper(Mapper.class).selectItems(5, new RowBounds(0, 4));
+      assertThat(items).extracting(Item::getId).containsExactly(6, 7, 8, 9);
+      assertThat(items.get(0).getTags()).containsExactly("even", "tag6");
+    }
+    assertThat(executedSqls)
+        .containsExactly("select i.id, t.tag from items i join tags t on t.item_id = i.id where i.id > ?"
+            + " order by i.id, t.tag");
+  }
+
+  @Test
+  void shouldResolveWellKnownDatabases() {
+    assertThat(PaginationDialect.forDatabaseId("PostgreSQL")).isEqualTo(PaginationDialect.LIMIT_OFFSET);
+    assertThat(PaginationDialect.forDatabaseId("mysql")).isEqualTo(PaginationDialect.LIMIT_OFFSET);
+    assertThat(PaginationDialect.forDatabaseId("Oracle")).isEqualTo(PaginationDialect.ROWNUM);
+    assertThat(PaginationDialect.forDatabaseId("Apache Derby")).isEqualTo(PaginationDialect.OFFSET_FETCH);
+    assertThat(PaginationDialect.forDatabaseId("Microsoft SQL Server")).isEqualTo(PaginationDialect.NONE);
+    assertThat(PaginationDialect.forDatabaseId(null)).isEqualTo(PaginationDialect.NONE);
+  }
+
+  private static List<Integer> selectIds(int minId, RowBounds rowBounds) {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      return sqlSession.getMapper(Mapper.class).selectIds(minId, rowBounds);
+    }
+  }
+
+  private static List<Integer> ids(int from, int to) {
+    return IntStream.rangeClosed(from, to).boxed().collect(Collectors.toList());
+  }
+
+  @Intercepts(@Signature(type = StatementHandler.class, method = "prepare", args = { Connection.class,
+      Integer.class }))
+  public static class SqlRecorder implements Interceptor {
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+      executedSqls.add(((StatementHandler) invocation.getTarget()).getBoundSql().getSql());
+      return invocation.proceed();
+    }
+  }
+
+}
@@ -0,0 +1,110 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.row_stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.ibatis.BaseDataTest;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.session.RowAccessor;
+import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.type.JdbcType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class RowStreamTest {
+
+  private static SqlSessionFactory sqlSessionFactory;
+
+  @BeforeAll
+  static void setUp() throws Exception {
+    try (Reader reader = Resources.getResourceAsReader("org/apache/ibatis/submitted/row_stream/mybatis-config.xml")) {
+      sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+    }
+    BaseDataTest.runScript(sqlSessionFactory.getConfiguration().getEnvironment().getDataSource(),
+        "org/apache/ibatis/submitted/row_stream/CreateDB.sql");
+  }
+
+  @Test
+  void shouldStreamRowsThroughMapper() {
+    List<String> lines = new ArrayList<>();
+    List<RowAccessor> accessors = new ArrayList<>();
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      sqlSession.getMapper(Mapper.class).exportProducts(2, row -> {
+        accessors.add(row);
+        assertThat(row.getColumnNames()).containsExactly("ID", "NAME", "PRICE", "RELEASED");
+        assertThat(row.getJdbcType(2)).isEqualTo(JdbcType.DECIMAL);
+        int id = row.getInt(0);
+        String name = row.getString(1);
+        BigDecimal price = (BigDecimal) row.getObject(2);
+        LocalDate released = row.getObject(3, LocalDate.class);
+        lines.add(row.getRowNumber() + ":" + id + "," + name + "," + price + "," + released);
+      });
+    }
+    assertThat(lines).containsExactly("1:2,Saw,19.50,null", "2:3,null,null,2024-03-01");
+    assertThat(accessors).hasSize(2);
+    assertThat(accessors.get(0)).isSameAs(accessors.get(1));
+  }
+
+  @Test
+  void shouldReadColumnAsTypeRequestedForEachRow() {
+    List<Object> values = new ArrayList<>();
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      sqlSession.getMapper(Mapper.class).exportProducts(1, row -> {
+        values.add(row.getObject(0, Integer.class));
+        values.add(row.getRowNumber() == 2 ? row.getObject(0, String.class) : row.getObject(0, Long.class));
+        values.add(row.getObject(0, Long.class));
+      });
+    }
+    assertThat(values).containsExactly(1, 1L, 1L, 2, "2", 2L, 3, 3L, 3L);
+  }
+
+  @Test
+  void shouldReportNulls() {
+    List<Boolean> nulls = new ArrayList<>();
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      sqlSession.selectRows("org.apache.ibatis.submitted.row_stream.Mapper.exportProducts", 1, row -> {
+        row.getDouble(2);
+        nulls.add(row.wasNull());
+      });
+    }
+    assertThat(nulls).containsExactly(false, false, true);
+  }
+
+  @Test
+  void shouldApplyRowBoundsAndStop() {
+    List<Integer> ids = new ArrayList<>();
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      mapper.exportNames(new RowBounds(1, 5), row -> ids.add(row.getInt(0)));
+      mapper.exportNames(RowBounds.DEFAULT, row -> {
+        ids.add(row.getInt(0));
+        row.stop();
+      });
+    }
+    assertThat(ids).containsExactly(2, 3, 1);
+  }
+
+}
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2024 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -28,6 +28,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.ibatis.BaseDataTest;
 import org.apache.ibatis.annotations.DeleteProvider;
@@ -37,6 +38,7 @@ import org.apache.ibatis.annotations.SelectProvider;
 import org.apache.ibatis.annotations.UpdateProvider;
 import org.apache.ibatis.binding.MapperMethod;
 import org.apache.ibatis.builder.BuilderException;
+import org.apache.ibatis.builder.annotation.CacheableSql;
 import org.apache.ibatis.builder.annotation.ProviderContext;
 import org.apache.ibatis.builder.annotation.ProviderSqlSource;
 import org.apache.ibatis.io.Resources;
@@ -59,6 +61,7 @@ class SqlProviderTest {
       sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
       sqlSessionFactory.getConfiguration().addMapper(StaticMethodSqlProviderMapper.class);
       sqlSessionFactory.getConfiguration().addMapper(DatabaseIdMapper.class);
+      sqlSessionFactory.getConfiguration().addMapper(CacheableSqlMapper.class);
     }
     // populate in-memory database
     BaseDataTest.runScript(sqlSessionFactory.getConfiguration().getEnvironment().getDataSource(),
@@ -299,6 +302,20 @@ class SqlProviderTest {
     }
   }
 
+  @Test
+  void keyMethodNotFound() throws NoSuchMethodException {
+    try {
+      Class<?> mapperType = ErrorMapper.class;
+      Method mapperMethod = mapperType.getMethod("keyMethodNotFound", int.class);
+      new ProviderSqlSource(new Configuration(), mapperMethod.getAnnotation(SelectProvider.class), mapperType,
+          mapperMethod);
+      fail();
+    } catch (BuilderException e) {
+      assertTrue(e.getMessage().contains(
+          "Error creating SqlSource for SqlProvider. Key method 'keyMethod' with the parameter types of SqlProvider method (org.apache.ibatis.submitted.sqlprovider.SqlProviderTest$ErrorSqlBuilder.keyMethodNotFound) not found in SqlProvider 'org.apache.ibatis.submitted.sqlprovider.SqlProviderTest$ErrorSqlBuilder'."));
+    }
+  }
+
   @Test
   @SuppressWarnings("deprecation")
   void notSqlProvider() throws NoSuchMethodException {
@@ -725,6 +742,66 @@ class SqlProviderTest {
 
   }
 
+  @Test
+  void shouldInvokeCacheableProviderOnce() throws NoSuchMethodException {
+    Class<?> mapperType = CacheableSqlMapper.class;
+    Method mapperMethod = mapperType.getMethod("selectAll");
+    ProviderSqlSource sqlSource = new ProviderSqlSource(new Configuration(),
+        mapperMethod.getAnnotation(SelectProvider.class), mapperType, mapperMethod);
+    CacheableSqlMapper.SqlProvider.invocations.set(0);
+    assertEquals("select * from users order by id", sqlSource.getBoundSql(null).getSql());
+    assertEquals("select * from users order by id", sqlSource.getBoundSql(null).getSql());
+    assertEquals(1, CacheableSqlMapper.SqlProvider.invocations.get());
+  }
+
+  @Test
+  void shouldInvokeCacheableProviderOncePerKey() {
+    CacheableSqlMapper.SqlProvider.invocations.set(0);
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      CacheableSqlMapper mapper = sqlSession.getMapper(CacheableSqlMapper.class);
+      assertEquals("User1", mapper.selectByName("User1").get(0).getName());
+      assertEquals("User2", mapper.selectByName("User2").get(0).getName());
+      assertTrue(mapper.selectByName(null).isEmpty());
+      assertTrue(mapper.selectByName(null).isEmpty());
+    }
+    assertEquals(2, CacheableSqlMapper.SqlProvider.invocations.get());
+  }
+
+  public interface CacheableSqlMapper {
+
+    @SelectProvider(type = SqlProvider.class, method = "selectAll")
+    List<User> selectAll();
+
+    @SelectProvider(type = SqlProvider.class, method = "selectByName")
+    List<User> selectByName(String name);
+
+    final class SqlProvider {
+
+      static final AtomicInteger invocations = new AtomicInteger();
+
+      @CacheableSql
+      public static String selectAll() {
+        invocations.incrementAndGet();
+        return "select * from users order by id";
+      }
+
+      @CacheableSql(key = "selectByNameKey")
+      public static String selectByName(String name) {
+        invocations.incrementAndGet();
+        return "select * from users where " + (name == null ? "name is null" : "name = #{name}");
+      }
+
+      public static Object selectByNameKey(String name) {
+        return name == null;
+      }
+
+      private SqlProvider() {
+      }
+
+    }
+
+  }
+
   public interface ErrorMapper {
     @SelectProvider(type = ErrorSqlBuilder.class, method = "methodNotFound")
     void methodNotFound();
@@ -750,6 +827,9 @@ class SqlProviderTest {
     @DeleteProvider(type = ErrorSqlBuilder.class, method = "invalidArgumentsCombination")
     void invalidArgumentsCombination(String value);
 
+    @SelectProvider(type = ErrorSqlBuilder.class, method = "keyMethodNotFound")
+    void keyMethodNotFound(int value);
+
   }
 
   @SuppressWarnings("unused")
@@ -782,6 +862,15 @@ class SqlProviderTest {
         String unnecessaryArgument) {
       return "";
     }
+
+    @CacheableSql(key = "keyMethod")
+    public String keyMethodNotFound(int value) {
+      return "";
+    }
+
+    public Object keyMethod(String value) {
+      return value;
+    }
   }
 
   public interface StaticMethodSqlProviderMapper {
@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2025 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -27,8 +27,10 @@ import java.util.stream.Stream;
 
 import org.apache.ibatis.type.BaseTypeHandler;
 import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.ResultByColumnName;
 import org.assertj.core.util.Arrays;
 
+@ResultByColumnName
 public class CsvTypeHandler extends BaseTypeHandler<Object> {
   private final Type type;
 
@@ -0,0 +1,60 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.value_deduplication;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Arg;
+import org.apache.ibatis.annotations.ConstructorArgs;
+import org.apache.ibatis.annotations.Result;
+import org.apache.ibatis.annotations.Results;
+import org.apache.ibatis.annotations.Select;
+
+public interface Mapper {
+
+  List<Payment> selectPayments();
+
+  @Select("select * from payments order by id")
+  @Results({ @Result(column = "status", property = "status", deduplicate = true) })
+  List<Payment> selectPaymentsWithAnnotation();
+
+  @Select("select * from payments order by id")
+  List<Payment> selectPaymentsWithAutoMapping();
+
+  @Select("select status, currency from payments order by id")
+  @ConstructorArgs({ @Arg(column = "status", javaType = String.class, deduplicate = true),
+      @Arg(column = "currency", javaType = String.class) })
+  List<Status> selectStatuses();
+
+  class Status {
+    private final String status;
+    private final String currency;
+
+    public Status(String status, String currency) {
+      this.status = status;
+      this.currency = currency;
+    }
+
+    public String getStatus() {
+      return status;
+    }
+
+    public String getCurrency() {
+      return currency;
+    }
+  }
+
+}
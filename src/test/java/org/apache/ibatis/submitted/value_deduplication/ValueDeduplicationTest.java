@@ -0,0 +1,107 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.submitted.value_deduplication;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.Reader;
+import java.util.List;
+
+import org.apache.ibatis.BaseDataTest;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class ValueDeduplicationTest {
+
+  private static SqlSessionFactory sqlSessionFactory;
+
+  @BeforeAll
+  static void setUp() throws Exception {
+    try (Reader reader = Resources
+        .getResourceAsReader("org/apache/ibatis/submitted/value_deduplication/mybatis-config.xml")) {
+      sqlSessionFactory = new SqlSessionFactoryBuilder().build(reader);
+    }
+    BaseDataTest.runScript(sqlSessionFactory.getConfiguration().getEnvironment().getDataSource(),
+        "org/apache/ibatis/submitted/value_deduplication/CreateDB.sql");
+  }
+
+  @AfterEach
+  void resetSettings() {
+    sqlSessionFactory.getConfiguration().setDeduplicateAutoMappedValues(false);
+    sqlSessionFactory.getConfiguration().setUseCompiledRowMappers(false);
+  }
+
+  @Test
+  void shouldDeduplicateMappedProperties() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      List<Payment> payments = sqlSession.getMapper(Mapper.class).selectPayments();
+      assertThat(payments).hasSize(100);
+      Payment first = payments.get(0);
+      // rows 1 and 61 have the same values in every column
+      Payment same = payments.get(60);
+      assertThat(same.getStatus()).isEqualTo(first.getStatus()).isSameAs(first.getStatus());
+      assertThat(same.getCurrency()).isSameAs(first.getCurrency());
+      assertThat(same.getAmount()).isEqualTo(first.getAmount()).isSameAs(first.getAmount());
+      assertThat(same.getPaid()).isEqualTo(first.getPaid()).isSameAs(first.getPaid());
+      assertThat(same.getReference()).isEqualTo(first.getReference()).isNotSameAs(first.getReference());
+      assertThat(payments.stream().map(Payment::getStatus).distinct()).hasSize(3);
+    }
+  }
+
+  @Test
+  void shouldDeduplicateWithCompiledRowMappersEnabled() {
+    sqlSessionFactory.getConfiguration().setUseCompiledRowMappers(true);
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      List<Payment> payments = sqlSession.getMapper(Mapper.class).selectPayments();
+      assertThat(payments.get(60).getStatus()).isSameAs(payments.get(0).getStatus());
+    }
+  }
+
+  @Test
+  void shouldDeduplicateAnnotatedProperties() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      List<Payment> payments = mapper.selectPaymentsWithAnnotation();
+      assertThat(payments.get(60).getStatus()).isSameAs(payments.get(0).getStatus());
+      assertThat(payments.get(60).getCurrency()).isNotSameAs(payments.get(0).getCurrency());
+
+      List<Mapper.Status> statuses = mapper.selectStatuses();
+      assertThat(statuses.get(60).getStatus()).isSameAs(statuses.get(0).getStatus());
+      assertThat(statuses.get(60).getCurrency()).isNotSameAs(statuses.get(0).getCurrency());
+    }
+  }
+
+  @Test
+  void shouldDeduplicateAutoMappedColumns() {
+    try (SqlSession sqlSession = sqlSessionFactory.openSession()) {
+      Mapper mapper = sqlSession.getMapper(Mapper.class);
+      List<Payment> payments = mapper.selectPaymentsWithAutoMapping();
+      assertThat(payments.get(60).getReference()).isNotSameAs(payments.get(0).getReference());
+
+      sqlSession.clearCache();
+      sqlSessionFactory.getConfiguration().setDeduplicateAutoMappedValues(true);
+      payments = mapper.selectPaymentsWithAutoMapping();
+      assertThat(payments.get(60).getReference()).isSameAs(payments.get(0).getReference());
+      assertThat(payments.get(60).getAmount()).isSameAs(payments.get(0).getAmount());
+    }
+  }
+
+}
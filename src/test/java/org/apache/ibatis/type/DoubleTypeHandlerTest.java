@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2022 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -81,4 +81,13 @@ class DoubleTypeHandlerTest extends BaseTypeHandlerTest {
     assertNull(TYPE_HANDLER.getResult(cs, 1));
   }
 
+  @Test
+  void shouldGetDoubleResultFromResultSet() throws Exception {
+    DoubleResultReader reader = new DoubleTypeHandler();
+    when(rs.getDouble("column")).thenReturn(100d);
+    when(rs.getDouble(1)).thenReturn(0d);
+    assertEquals(100d, reader.getDoubleResult(rs, "column"));
+    assertEquals(0d, reader.getDoubleResult(rs, 1));
+  }
+
 }
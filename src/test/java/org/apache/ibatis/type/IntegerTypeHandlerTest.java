@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2022 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -81,4 +81,13 @@ class IntegerTypeHandlerTest extends BaseTypeHandlerTest {
     assertNull(TYPE_HANDLER.getResult(cs, 1));
   }
 
+  @Test
+  void shouldGetIntResultFromResultSet() throws Exception {
+    IntResultReader reader = new IntegerTypeHandler();
+    when(rs.getInt("column")).thenReturn(100);
+    when(rs.getInt(1)).thenReturn(0);
+    assertEquals(100, reader.getIntResult(rs, "column"));
+    assertEquals(0, reader.getIntResult(rs, 1));
+  }
+
 }
@@ -0,0 +1,266 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.type;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.sql.Blob;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.BaseDataTest;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Result;
+import org.apache.ibatis.annotations.Results;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.TransactionFactory;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+class LazyBlobTypeHandlerTest extends BaseTypeHandlerTest {
+
+  private static final TypeHandler<LazyBlob> TYPE_HANDLER = new LazyBlobTypeHandler();
+
+  private static SqlSessionFactory sqlSessionFactory;
+
+  @Mock
+  protected Blob blob;
+
+  @BeforeAll
+  static void setupSqlSessionFactory() throws Exception {
+    DataSource dataSource = BaseDataTest.createUnpooledDataSource("org/apache/ibatis/type/jdbc.properties");
+    TransactionFactory transactionFactory = new JdbcTransactionFactory();
+    Environment environment = new Environment("Production", transactionFactory, dataSource);
+    Configuration configuration = new Configuration(environment);
+    configuration.addMapper(Mapper.class);
+    sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+
+    BaseDataTest.runScript(sqlSessionFactory.getConfiguration().getEnvironment().getDataSource(),
+        "org/apache/ibatis/type/LazyLobTypeHandlerTest.sql");
+  }
+
+  @Override
+  @Test
+  public void shouldSetParameter() throws Exception {
+    InputStream in = new ByteArrayInputStream("Hello".getBytes());
+    TYPE_HANDLER.setParameter(ps, 1, LazyBlob.of(in, 5), null);
+    verify(ps).setBinaryStream(1, in, 5L);
+  }
+
+  @Test
+  void shouldSetParameterOfUnknownLength() throws Exception {
+    InputStream in = new ByteArrayInputStream("Hello".getBytes());
+    TYPE_HANDLER.setParameter(ps, 1, LazyBlob.of(in, -1), null);
+    verify(ps).setBinaryStream(1, in);
+  }
+
+  @Override
+  @Test
+  public void shouldGetResultFromResultSetByName() throws Exception {
+    when(rs.getBlob("column")).thenReturn(blob);
+    when(blob.length()).thenReturn(5L);
+    when(blob.getBytes(1, 5)).thenReturn("Hello".getBytes());
+    LazyBlob result = TYPE_HANDLER.getResult(rs, "column");
+    assertThat(result.isSpilled()).isFalse();
+    assertThat(result.getBytes()).isEqualTo("Hello".getBytes());
+  }
+
+  @Override
+  @Test
+  public void shouldGetResultNullFromResultSetByName() throws Exception {
+    when(rs.getBlob("column")).thenReturn(null);
+    assertThat(TYPE_HANDLER.getResult(rs, "column")).isNull();
+  }
+
+  @Override
+  @Test
+  public void shouldGetResultFromResultSetByPosition() throws Exception {
+    byte[] content = content(LazyBlobTypeHandler.DEFAULT_SPILL_THRESHOLD + 1);
+    when(rs.getBlob(1)).thenReturn(blob);
+    when(blob.length()).thenReturn((long) content.length);
+    when(blob.getBinaryStream()).thenReturn(new ByteArrayInputStream(content));
+    LazyBlob result = TYPE_HANDLER.getResult(rs, 1);
+    assertThat(result.isSpilled()).isTrue();
+    assertThat(result.length()).isEqualTo(content.length);
+    assertThat(result.getBytes()).isEqualTo(content);
+    try (InputStream in = result.getInputStream()) {
+      assertThat(in.readAllBytes()).isEqualTo(content);
+    }
+  }
+
+  @Test
+  void shouldReleaseReservedMappingWhenStreamCannotBeOpened() throws Exception {
+    TypeHandler<LazyBlob> handler = new LazyBlobTypeHandler(LobFetchMode.SPILL, 0);
+    when(rs.getBlob(1)).thenReturn(blob);
+    when(blob.length()).thenReturn(5L);
+    when(blob.getBinaryStream()).thenThrow(new SQLException("locator expired"));
+    int mappings = LobSpillFile.getMappings();
+    for (int i = 0; i < 3; i++) {
+      assertThatThrownBy(() -> handler.getResult(rs, 1)).hasRootCauseMessage("locator expired");
+    }
+    assertThat(LobSpillFile.getMappings()).isLessThanOrEqualTo(mappings);
+  }
+
+  @Test
+  void shouldReadIntoMemoryWhenTooManyLobsAreSpilled() throws Exception {
+    TypeHandler<LazyBlob> handler = new LazyBlobTypeHandler(LobFetchMode.SPILL, 0);
+    byte[] content = "Hello".getBytes();
+    when(rs.getBlob(1)).thenReturn(blob);
+    when(blob.length()).thenReturn(5L);
+    when(blob.getBinaryStream()).thenAnswer(invocation -> new ByteArrayInputStream(content));
+    when(blob.getBytes(1, 5)).thenReturn(content);
+    List<LazyBlob> spilled = new ArrayList<>();
+    LazyBlob result;
+    while ((result = handler.getResult(rs, 1)).isSpilled()) {
+      spilled.add(result);
+      assertThat(spilled).hasSizeLessThanOrEqualTo(LobSpillFile.MAX_MAPPINGS);
+    }
+    assertThat(LobSpillFile.getMappings()).isEqualTo(LobSpillFile.MAX_MAPPINGS);
+    assertThat(result.getBytes()).isEqualTo(content);
+
+    // the mappings are released once the spilled LOBs are garbage collected
+    spilled.clear();
+    long deadline = System.currentTimeMillis() + 10000;
+    while (LobSpillFile.getMappings() == LobSpillFile.MAX_MAPPINGS && System.currentTimeMillis() < deadline) {
+      System.gc();
+      Thread.sleep(10);
+    }
+    assertThat(LobSpillFile.getMappings()).isLessThan(LobSpillFile.MAX_MAPPINGS);
+  }
+
+  @Override
+  @Test
+  public void shouldGetResultNullFromResultSetByPosition() throws Exception {
+    when(rs.getBlob(1)).thenReturn(null);
+    assertThat(TYPE_HANDLER.getResult(rs, 1)).isNull();
+  }
+
+  @Override
+  @Test
+  public void shouldGetResultFromCallableStatement() throws Exception {
+    when(cs.getBlob(1)).thenReturn(blob);
+    when(blob.length()).thenReturn(5L);
+    when(blob.getBytes(1, 5)).thenReturn("Hello".getBytes());
+    assertThat(TYPE_HANDLER.getResult(cs, 1).getBytes()).isEqualTo("Hello".getBytes());
+  }
+
+  @Override
+  @Test
+  public void shouldGetResultNullFromCallableStatement() throws Exception {
+    when(cs.getBlob(1)).thenReturn(null);
+    assertThat(TYPE_HANDLER.getResult(cs, 1)).isNull();
+  }
+
+  @Test
+  void shouldReadLocatorOnFirstAccess() throws Exception {
+    when(rs.getBlob(1)).thenReturn(blob);
+    when(blob.length()).thenReturn(5L);
+    LazyBlob result = new LocatorBlobTypeHandler().getResult(rs, 1);
+    assertThat(result.length()).isEqualTo(5);
+    when(blob.getBytes(1, 5)).thenReturn("Hello".getBytes());
+    assertThat(result.getBytes()).isEqualTo("Hello".getBytes());
+  }
+
+  @Test
+  void shouldReadStreamOnlyOnce() throws Exception {
+    LazyBlob blob = LazyBlob.of(new ByteArrayInputStream("Hello".getBytes()), -1);
+    assertThat(blob.getBytes()).isEqualTo("Hello".getBytes());
+    assertThatThrownBy(blob::getInputStream).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void integrationTest() throws Exception {
+    byte[] large = content(LazyBlobTypeHandler.DEFAULT_SPILL_THRESHOLD * 2);
+    try (SqlSession session = sqlSessionFactory.openSession()) {
+      Mapper mapper = session.getMapper(Mapper.class);
+      mapper.insert(1, LazyBlob.of("Hello".getBytes()));
+      mapper.insert(2, LazyBlob.of(new ByteArrayInputStream(large), large.length));
+      session.commit();
+
+      List<LobContent> contents = mapper.findAll();
+      assertThat(contents).hasSize(2);
+      assertThat(contents.get(0).getContent().isSpilled()).isFalse();
+      assertThat(contents.get(0).getContent().getBytes()).isEqualTo("Hello".getBytes());
+      assertThat(contents.get(1).getContent().isSpilled()).isTrue();
+      assertThat(contents.get(1).getContent().getBytes()).isEqualTo(large);
+
+      LobContent content = mapper.findOneByLocator(2);
+      assertThat(content.getContent().isSpilled()).isFalse();
+      try (InputStream in = content.getContent().getInputStream()) {
+        assertThat(in.readAllBytes()).isEqualTo(large);
+      }
+    }
+  }
+
+  private static byte[] content(int length) {
+    byte[] content = new byte[length];
+    for (int i = 0; i < length; i++) {
+      content[i] = (byte) i;
+    }
+    return content;
+  }
+
+  interface Mapper {
+    @Select("SELECT ID, CONTENT FROM TEST_LAZY_LOB ORDER BY ID")
+    List<LobContent> findAll();
+
+    @Results({ @Result(property = "id", column = "ID", id = true),
+        @Result(property = "content", column = "CONTENT", typeHandler = LocatorBlobTypeHandler.class) })
+    @Select("SELECT ID, CONTENT FROM TEST_LAZY_LOB WHERE ID = #{id}")
+    LobContent findOneByLocator(int id);
+
+    @Insert("INSERT INTO TEST_LAZY_LOB (ID, CONTENT) VALUES(#{id}, #{content})")
+    void insert(@Param("id") int id, @Param("content") LazyBlob content);
+  }
+
+  static class LobContent {
+    private int id;
+    private LazyBlob content;
+
+    public int getId() {
+      return id;
+    }
+
+    public void setId(int id) {
+      this.id = id;
+    }
+
+    public LazyBlob getContent() {
+      return content;
+    }
+
+    public void setContent(LazyBlob content) {
+      this.content = content;
+    }
+  }
+
+}
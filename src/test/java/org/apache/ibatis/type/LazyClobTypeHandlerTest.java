@@ -0,0 +1,238 @@
+/*
+ *    Copyright 2009-2026 the original author or authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package org.apache.ibatis.type;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.BufferedReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.BaseDataTest;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Result;
+import org.apache.ibatis.annotations.Results;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.TransactionFactory;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+class LazyClobTypeHandlerTest extends BaseTypeHandlerTest {
+
+  private static final TypeHandler<LazyClob> TYPE_HANDLER = new LazyClobTypeHandler();
+
+  private static SqlSessionFactory sqlSessionFactory;
+
+  @Mock
+  protected Clob clob;
+
+  @BeforeAll
+  static void setupSqlSessionFactory() throws Exception {
+    DataSource dataSource = BaseDataTest.createUnpooledDataSource("org/apache/ibatis/type/jdbc.properties");
+    TransactionFactory transactionFactory = new JdbcTransactionFactory();
+    Environment environment = new Environment("Production", transactionFactory, dataSource);
+    Configuration configuration = new Configuration(environment);
+    configuration.addMapper(Mapper.class);
+    sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+
+    BaseDataTest.runScript(sqlSessionFactory.getConfiguration().getEnvironment().getDataSource(),
+        "org/apache/ibatis/type/LazyLobTypeHandlerTest.sql");
+  }
+
+  @Override
+  @Test
+  public void shouldSetParameter() throws Exception {
+    Reader reader = new StringReader("Hello");
+    TYPE_HANDLER.setParameter(ps, 1, LazyClob.of(reader, 5), null);
+    verify(ps).setCharacterStream(1, reader, 5L);
+  }
+
+  @Test
+  void shouldSetParameterOfUnknownLength() throws Exception {
+    Reader reader = new StringReader("Hello");
+    TYPE_HANDLER.setParameter(ps, 1, LazyClob.of(reader, -1), null);
+    verify(ps).setCharacterStream(1, reader);
+  }
+
+  @Override
+  @Test
+  public void shouldGetResultFromResultSetByName() throws Exception {
+    when(rs.getClob("column")).thenReturn(clob);
+    when(clob.length()).thenReturn(5L);
+    when(clob.getSubString(1, 5)).thenReturn("Hello");
+    LazyClob result = TYPE_HANDLER.getResult(rs, "column");
+    assertThat(result.isSpilled()).isFalse();
+    assertThat(result.getString()).isEqualTo("Hello");
+  }
+
+  @Override
+  @Test
+  public void shouldGetResultNullFromResultSetByName() throws Exception {
+    when(rs.getClob("column")).thenReturn(null);
+    assertThat(TYPE_HANDLER.getResult(rs, "column")).isNull();
+  }
+
+  @Test
+  void shouldReleaseReservedMappingWhenStreamCannotBeOpened() throws Exception {
+    TypeHandler<LazyClob> handler = new LazyClobTypeHandler(LobFetchMode.SPILL, 0);
+    when(rs.getClob(1)).thenReturn(clob);
+    when(clob.length()).thenReturn(5L);
+    when(clob.getCharacterStream()).thenThrow(new SQLException("locator expired"));
+    int mappings = LobSpillFile.getMappings();
+    for (int i = 0; i < 3; i++) {
+      assertThatThrownBy(() -> handler.getResult(rs, 1)).hasRootCauseMessage("locator expired");
+    }
+    assertThat(LobSpillFile.getMappings()).isLessThanOrEqualTo(mappings);
+  }
+
+  @Override
+  @Test
+  public void shouldGetResultFromResultSetByPosition() throws Exception {
+    String content = content(LazyClobTypeHandler.DEFAULT_SPILL_THRESHOLD + 1);
+    when(rs.getClob(1)).thenReturn(clob);
+    when(clob.length()).thenReturn((long) content.length());
+    when(clob.getCharacterStream()).thenReturn(new StringReader(content));
+    LazyClob result = TYPE_HANDLER.getResult(rs, 1);
+    assertThat(result.isSpilled()).isTrue();
+    assertThat(result.length()).isEqualTo(content.length());
+    assertThat(result.getString()).isEqualTo(content);
+    try (BufferedReader reader = new BufferedReader(result.getReader())) {
+      assertThat(reader.lines().collect(Collectors.joining("\n"))).isEqualTo(content);
+    }
+  }
+
+  @Override
+  @Test
+  public void shouldGetResultNullFromResultSetByPosition() throws Exception {
+    when(rs.getClob(1)).thenReturn(null);
+    assertThat(TYPE_HANDLER.getResult(rs, 1)).isNull();
+  }
+
+  @Override
+  @Test
+  public void shouldGetResultFromCallableStatement() throws Exception {
+    when(cs.getClob(1)).thenReturn(clob);
+    when(clob.length()).thenReturn(5L);
+    when(clob.getSubString(1, 5)).thenReturn("Hello");
+    assertThat(TYPE_HANDLER.getResult(cs, 1).getString()).isEqualTo("Hello");
+  }
+
+  @Override
+  @Test
+  public void shouldGetResultNullFromCallableStatement() throws Exception {
+    when(cs.getClob(1)).thenReturn(null);
+    assertThat(TYPE_HANDLER.getResult(cs, 1)).isNull();
+  }
+
+  @Test
+  void shouldReadLocatorOnFirstAccess() throws Exception {
+    when(rs.getClob(1)).thenReturn(clob);
+    when(clob.length()).thenReturn(5L);
+    LazyClob result = new LocatorClobTypeHandler().getResult(rs, 1);
+    assertThat(result.length()).isEqualTo(5);
+    when(clob.getSubString(1, 5)).thenReturn("Hello");
+    assertThat(result.getString()).isEqualTo("Hello");
+  }
+
+  @Test
+  void shouldReadReaderOnlyOnce() {
+    LazyClob clob = LazyClob.of(new StringReader("Hello"), -1);
+    assertThat(clob.getString()).isEqualTo("Hello");
+    assertThatThrownBy(clob::getReader).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void integrationTest() {
+    String large = content(LazyClobTypeHandler.DEFAULT_SPILL_THRESHOLD * 2);
+    try (SqlSession session = sqlSessionFactory.openSession()) {
+      Mapper mapper = session.getMapper(Mapper.class);
+      mapper.insert(1, LazyClob.of("Hello"));
+      mapper.insert(2, LazyClob.of(new StringReader(large), large.length()));
+      session.commit();
+
+      List<LobText> texts = mapper.findAll();
+      assertThat(texts).hasSize(2);
+      assertThat(texts.get(0).getText().isSpilled()).isFalse();
+      assertThat(texts.get(0).getText().getString()).isEqualTo("Hello");
+      assertThat(texts.get(1).getText().isSpilled()).isTrue();
+      assertThat(texts.get(1).getText().getString()).isEqualTo(large);
+
+      LobText text = mapper.findOneByLocator(2);
+      assertThat(text.getText().isSpilled()).isFalse();
+      assertThat(text.getText().getString()).isEqualTo(large);
+    }
+  }
+
+  private static String content(int length) {
+    StringBuilder builder = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      builder.append((char) ('a' + i % 26));
+    }
+    return builder.toString();
+  }
+
+  interface Mapper {
+    @Select("SELECT ID, TEXT FROM TEST_LAZY_LOB ORDER BY ID")
+    List<LobText> findAll();
+
+    @Results({ @Result(property = "id", column = "ID", id = true),
+        @Result(property = "text", column = "TEXT", typeHandler = LocatorClobTypeHandler.class) })
+    @Select("SELECT ID, TEXT FROM TEST_LAZY_LOB WHERE ID = #{id}")
+    LobText findOneByLocator(int id);
+
+    @Insert("INSERT INTO TEST_LAZY_LOB (ID, TEXT) VALUES(#{id}, #{text})")
+    void insert(@Param("id") int id, @Param("text") LazyClob text);
+  }
+
+  static class LobText {
+    private int id;
+    private LazyClob text;
+
+    public int getId() {
+      return id;
+    }
+
+    public void setId(int id) {
+      this.id = id;
+    }
+
+    public LazyClob getText() {
+      return text;
+    }
+
+    public void setText(LazyClob text) {
+      this.text = text;
+    }
+  }
+
+}
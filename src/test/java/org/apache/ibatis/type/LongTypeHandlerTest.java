@@ -1,5 +1,5 @@
 /*
- *    Copyright 2009-2022 the original author or authors.
+ *    Copyright 2009-2026 the original author or authors.
  *
  *    Licensed under the Apache License, Version 2.0 (the "License");
  *    you may not use this file except in compliance with the License.
@@ -81,4 +81,13 @@ class LongTypeHandlerTest extends BaseTypeHandlerTest {
     assertNull(TYPE_HANDLER.getResult(cs, 1));
   }
 
+  @Test
+  void shouldGetLongResultFromResultSet() throws Exception {
+    LongResultReader reader = new LongTypeHandler();
+    when(rs.getLong("column")).thenReturn(100L);
+    when(rs.getLong(1)).thenReturn(0L);
+    assertEquals(100L, reader.getLongResult(rs, "column"));
+    assertEquals(0L, reader.getLongResult(rs, 1));
+  }
+
 }
@@ -0,0 +1,28 @@
+--
+--    Copyright 2009-2026 the original author or authors.
+--
+--    Licensed under the Apache License, Version 2.0 (the "License");
+--    you may not use this file except in compliance with the License.
+--    You may obtain a copy of the License at
+--
+--       https://www.apache.org/licenses/LICENSE-2.0
+--
+--    Unless required by applicable law or agreed to in writing, software
+--    distributed under the License is distributed on an "AS IS" BASIS,
+--    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+--    See the License for the specific language governing permissions and
+--    limitations under the License.
+--
+
+drop table orders if exists;
+
+create table orders (
+  id bigint,
+  qty int,
+  amount double,
+  customer varchar(20)
+);
+
+insert into orders (id, qty, amount, customer)
+  select n, mod(n, 10), n * 0.5, 'customer' || mod(n, 3) from unnest(sequence_array(1, 5000, 1)) as t(n);
+insert into orders values (5001, null, null, null);
@@ -0,0 +1,32 @@
+--
+--    Copyright 2009-2026 the original author or authors.
+--
+--    Licensed under the Apache License, Version 2.0 (the "License");
+--    you may not use this file except in compliance with the License.
+--    You may obtain a copy of the License at
+--
+--       https://www.apache.org/licenses/LICENSE-2.0
+--
+--    Unless required by applicable law or agreed to in writing, software
+--    distributed under the License is distributed on an "AS IS" BASIS,
+--    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+--    See the License for the specific language governing permissions and
+--    limitations under the License.
+--
+
+drop table accounts if exists;
+
+create table accounts (
+  id int,
+  name varchar(20),
+  balance bigint,
+  rate decimal(5,2),
+  rank int,
+  enabled boolean,
+  status int,
+  opened date
+);
+
+insert into accounts values (1, 'Alice', 1000, 1.25, 1, true, 1, '2024-01-01');
+insert into accounts values (2, null, null, null, null, null, null, null);
+insert into accounts values (3, 'Carol', 0, 0.00, 0, false, 0, '2024-03-01');
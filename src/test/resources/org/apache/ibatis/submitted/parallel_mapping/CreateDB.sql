@@ -0,0 +1,49 @@
+--
+--    Copyright 2009-2026 the original author or authors.
+--
+--    Licensed under the Apache License, Version 2.0 (the "License");
+--    you may not use this file except in compliance with the License.
+--    You may obtain a copy of the License at
+--
+--       https://www.apache.org/licenses/LICENSE-2.0
+--
+--    Unless required by applicable law or agreed to in writing, software
+--    distributed under the License is distributed on an "AS IS" BASIS,
+--    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+--    See the License for the specific language governing permissions and
+--    limitations under the License.
+--
+
+drop table items if exists;
+
+create table items (
+  id int,
+  name varchar(20),
+  price decimal(10,2),
+  score double,
+  active boolean,
+  created timestamp,
+  day date
+);
+
+insert into items
+select n,
+  case when mod(n, 7) = 0 then null else 'Item' || n end,
+  n * 1.25,
+  n / 3.0e0,
+  case when mod(n, 2) = 0 then true else false end,
+  timestamp '2024-01-01 10:00:00' + n minute,
+  date '2024-01-01' + mod(n, 365) day
+from unnest(sequence_array(1, 2000, 1)) as t(n);
+
+drop table events if exists;
+
+create table events (
+  id int,
+  code uuid,
+  created timestamp
+);
+
+insert into events
+select n, uuid(), timestamp '2024-01-01 10:00:00' + n minute
+from unnest(sequence_array(1, 500, 1)) as t(n);
@@ -0,0 +1,33 @@
+--
+--    Copyright 2009-2026 the original author or authors.
+--
+--    Licensed under the Apache License, Version 2.0 (the "License");
+--    you may not use this file except in compliance with the License.
+--    You may obtain a copy of the License at
+--
+--       https://www.apache.org/licenses/LICENSE-2.0
+--
+--    Unless required by applicable law or agreed to in writing, software
+--    distributed under the License is distributed on an "AS IS" BASIS,
+--    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+--    See the License for the specific language governing permissions and
+--    limitations under the License.
+--
+
+drop table lines if exists;
+drop table orders if exists;
+
+create table orders (
+  id int,
+  customer varchar(20)
+);
+
+create table lines (
+  order_id int,
+  product varchar(20)
+);
+
+insert into orders (id, customer)
+  select n, 'customer' || n from unnest(sequence_array(1, 1000, 1)) as t(n);
+insert into lines (order_id, product)
+  select mod(n, 1000) + 1, 'product' || n from unnest(sequence_array(1, 2000, 1)) as t(n);
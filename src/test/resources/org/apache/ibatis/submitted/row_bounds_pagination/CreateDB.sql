@@ -0,0 +1,37 @@
+--
+--    Copyright 2009-2026 the original author or authors.
+--
+--    Licensed under the Apache License, Version 2.0 (the "License");
+--    you may not use this file except in compliance with the License.
+--    You may obtain a copy of the License at
+--
+--       https://www.apache.org/licenses/LICENSE-2.0
+--
+--    Unless required by applicable law or agreed to in writing, software
+--    distributed under the License is distributed on an "AS IS" BASIS,
+--    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+--    See the License for the specific language governing permissions and
+--    limitations under the License.
+--
+
+drop table tags if exists;
+drop table items if exists;
+
+create table items (
+  id int,
+  name varchar(20)
+);
+
+insert into items (id, name)
+  select n, 'item' || n
+  from unnest(sequence_array(1, 20, 1)) as t(n);
+
+create table tags (
+  item_id int,
+  tag varchar(20)
+);
+
+insert into tags (item_id, tag)
+  select id, 'even' from items where mod(id, 2) = 0
+  union all select id, 'odd' from items where mod(id, 2) = 1
+  union all select id, 'tag' || id from items;
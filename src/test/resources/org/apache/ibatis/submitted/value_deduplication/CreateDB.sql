@@ -0,0 +1,31 @@
+--
+--    Copyright 2009-2026 the original author or authors.
+--
+--    Licensed under the Apache License, Version 2.0 (the "License");
+--    you may not use this file except in compliance with the License.
+--    You may obtain a copy of the License at
+--
+--       https://www.apache.org/licenses/LICENSE-2.0
+--
+--    Unless required by applicable law or agreed to in writing, software
+--    distributed under the License is distributed on an "AS IS" BASIS,
+--    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+--    See the License for the specific language governing permissions and
+--    limitations under the License.
+--
+
+drop table payments if exists;
+
+create table payments (
+  id int,
+  status varchar(10),
+  currency varchar(3),
+  amount decimal(10,2),
+  paid date,
+  reference varchar(20)
+);
+
+insert into payments (id, status, currency, amount, paid, reference)
+  select n, 'S' || mod(n, 3), 'EU' || mod(n, 2), mod(n, 4) * 1.5, dateadd('day', mod(n, 5), date '2026-01-01'),
+    'R' || mod(n, 3)
+  from unnest(sequence_array(1, 100, 1)) as t(n);